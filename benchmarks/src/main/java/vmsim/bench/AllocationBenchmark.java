@@ -0,0 +1,108 @@
+/*
+* File: AllocationBenchmark.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: JMH benchmark of the heap bytes each policy allocates per reference
+* in a headless run, read from the JVM's per-thread allocation counter and
+* reported next to the score as bytesPerReference, so no profiler is needed.
+* With the primitive ReferenceTrace the engine itself allocates nothing per
+* reference, so anything beyond the arrays each reset allocates points at
+* the policy's own bookkeeping. The reference string has the distribution of
+* the menu's generated ones, 10 pages uniformly, e.g.
+*   java -jar benchmarks/target/benchmarks.jar AllocationBenchmark -p frames=4
+*/
+
+package vmsim.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import vmsim.ReplacementPolicy;
+import vmsim.SimulationResult;
+import vmsim.Simulator;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceTrace;
+
+// AllocationBenchmark class
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllocationBenchmark {
+  private static final int LENGTH = 1 << 20; // references per invocation
+
+  @Param({"fifo", "opt", "lru", "lfu", "clock", "clock-pro", "arc", "2q", "lirs", "nru", "esc", "lfu-aging", "aging",
+      "w-tinylfu"})
+  private String policy;
+
+  @Param({"4"})
+  private int frames;
+
+  private ReferenceTrace trace;
+  private ReplacementPolicy replacementPolicy;
+
+  // setup method: builds the reference string and the policy once per trial
+  @Setup(Level.Trial)
+  public void setup() {
+    trace = Workloads.create("uniform10", LENGTH, 10);
+    replacementPolicy = Policies.create(policy, trace);
+  } // end of method
+
+  // simulate method: runs the whole reference string, counting the bytes it allocates
+  @Benchmark
+  @OperationsPerInvocation(LENGTH)
+  public SimulationResult simulate(Allocation allocation) {
+    long before = allocation.allocatedBytes();
+    SimulationResult result = Simulator.run(replacementPolicy, trace, frames);
+    allocation.add(allocation.allocatedBytes() - before, LENGTH);
+    return result;
+  } // end of method
+
+  // Allocation class: bytes allocated and references simulated in one iteration
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Allocation {
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private long bytes;
+    private long references;
+
+    // reset method: starts counting afresh for every iteration
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+      references = 0;
+    } // end of method
+
+    // bytesPerReference method: the counter JMH reports, heap bytes allocated per reference
+    public double bytesPerReference() {
+      return references == 0 ? 0 : (double) bytes / references;
+    } // end of method
+
+    // allocatedBytes method: returns the bytes the current thread has allocated so far
+    long allocatedBytes() {
+      return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    } // end of method
+
+    // add method: counts the bytes allocated by one invocation of references references
+    void add(long allocated, long invocationReferences) {
+      bytes += allocated;
+      references += invocationReferences;
+    } // end of method
+  } // end of class
+} // end of class
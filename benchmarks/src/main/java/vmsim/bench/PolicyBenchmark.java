@@ -0,0 +1,74 @@
+/*
+* File: PolicyBenchmark.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: JMH benchmark of every policy's per-reference cost in the headless
+* engine. One operation is one reference, so the score is references per
+* second; run with -prof gc for the allocation rate (gc.alloc.rate.norm is then
+* bytes per reference, well under one byte from the arrays each reset
+* allocates, and anything more is a per-reference allocation). Each invocation resets the
+* policy and runs the whole reference string, so fills, hits and evictions are
+* all included. OPT's next-use index is built once per trial, as the engine is
+* timed and not the precomputation.
+*/
+
+package vmsim.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import vmsim.ReplacementPolicy;
+import vmsim.SimulationResult;
+import vmsim.Simulator;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceTrace;
+
+// PolicyBenchmark class
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyBenchmark {
+  private static final int LENGTH = 1 << 20; // references per invocation
+  private static final int PAGE_SPACE = 8192; // pages of the uniform, zipf and loop workloads
+
+  @Param({"fifo", "opt", "lru", "lfu", "clock", "clock-pro", "arc", "2q", "lirs", "nru", "esc", "lfu-aging", "aging",
+      "w-tinylfu"})
+  private String policy;
+
+  @Param({"uniform10", "uniform", "zipf", "loop"})
+  private String workload;
+
+  @Param({"4", "64", "4096"})
+  private int frames;
+
+  private ReferenceTrace trace;
+  private ReplacementPolicy replacementPolicy;
+
+  // setup method: builds the reference string and the policy once per trial
+  @Setup(Level.Trial)
+  public void setup() {
+    trace = Workloads.create(workload, LENGTH, PAGE_SPACE);
+    replacementPolicy = Policies.create(policy, trace);
+  } // end of method
+
+  // simulate method: runs the whole reference string, one operation per reference
+  @Benchmark
+  @OperationsPerInvocation(LENGTH)
+  public SimulationResult simulate() {
+    return Simulator.run(replacementPolicy, trace, frames);
+  } // end of method
+} // end of class
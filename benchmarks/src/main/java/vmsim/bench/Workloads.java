@@ -0,0 +1,47 @@
+/*
+* File: Workloads.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Builds the reference strings the benchmarks run on. Every workload
+* is generated from a fixed seed so runs are comparable with each other:
+*   uniform10 - uniform over 10 pages, like the menu's generated strings
+*   uniform   - uniform over the whole page space, no locality at all
+*   zipf      - Zipfian (s = 1) over the page space, a few very hot pages
+*   loop      - the page space referenced in order, over and over
+* All but uniform10 come from the simulator's workload generators.
+*/
+
+package vmsim.bench;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+import vmsim.trace.ReferenceTrace;
+import vmsim.workload.Workload;
+
+// Workloads class
+public final class Workloads {
+  private static final long SEED = 42;
+
+  // Workloads constructor: static utility, not instantiated
+  private Workloads() {
+  } // end of method
+
+  // create method: returns a reference string of the named workload
+  public static ReferenceTrace create(String workload, int length, int pageSpace) {
+    if (workload.equals("uniform10")) {
+      Random r = new Random(SEED);
+      ReferenceTrace.Builder trace = new ReferenceTrace.Builder(length);
+      for (int i = 0; i < length; i++) {
+        trace.add(r.nextInt(10));
+      } // end of for
+      return trace.build();
+    } // end of if
+    try {
+      return ReferenceTrace.readAll(Workload.parse(workload + ":pages=" + pageSpace).open(length, SEED));
+    } // end of try
+    catch (IOException e) { // generators do no I/O
+      throw new UncheckedIOException(e);
+    } // end of catch
+  } // end of method
+} // end of class
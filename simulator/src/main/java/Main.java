@@ -0,0 +1,252 @@
+/*
+* File: Main.java
+* Author: John Kucera
+* Date: 2/26/2021
+* Purpose: This Java program is designed to implement a demand paging virtual Memory
+* simulator. It generates a menu that allows the user to input a reference string or
+* randomly generate. Then, the user can simulate different algorithms on that
+* reference string, such as FIFO, OPT, LRU, and LFU. The simulations are
+* output as diagrams in the console. Given command line arguments, it instead
+* runs the simulations headless to completion (see vmsim.cli.BatchRunner).
+*/
+
+// importing necessary Java classes
+import java.io.IOException;
+import java.util.Random;
+import java.util.Scanner;
+import vmsim.DiagramObserver;
+import vmsim.ReplacementPolicy;
+import vmsim.Simulator;
+import vmsim.cli.BatchRunner;
+import vmsim.policy.FifoPolicy;
+import vmsim.policy.LfuPolicy;
+import vmsim.policy.LruPolicy;
+import vmsim.policy.OptPolicy;
+import vmsim.trace.ReferenceTrace;
+
+// Main class
+public class Main {
+  Scanner input = new Scanner(System.in);
+
+  // Main constructor, loops through menu
+  public Main() {
+    int menuSelection = 0;
+    ReferenceTrace referenceString = ReferenceTrace.empty();
+    
+    // Print welcome message
+    System.out.println("\n****** Welcome to the Demand Paging Virtual Memory Simulator! ******");
+
+    // Loop menu after each task
+    while (true) {
+      try {
+        // Print menu, scan in user selection
+        System.out.print("\n0 - Exit\n" +
+                        "1 - Read reference string\n" +
+                        "2 - Generate reference string\n" +
+                        "3 - Display current reference string\n" +
+                        "4 - Simulate FIFO\n" +
+                        "5 - Simulate OPT\n" +
+                        "6 - Simulate LRU\n" +
+                        "7 - Simulate LFU\n" +
+                        "Select option:\n\n");
+        menuSelection = Integer.parseInt(input.nextLine().trim());
+        
+        // Perform task based on user selection
+        switch (menuSelection) {
+          // 0: Exit
+          case 0:
+            input.close();
+            System.out.println("\nExiting program.");
+            System.exit(0);
+          
+          // 1: Read reference string
+          case 1:
+            referenceString = readReferenceString();
+            break;
+
+          // 2: Generate reference string
+          case 2:
+            referenceString = generateReferenceString();
+            break;
+
+          // 3: Display current reference string
+          case 3:
+            // Check for reference string
+            if (referenceString.isEmpty()) {
+              System.out.println("\nNo reference string has been set. Please try again.");
+            } // end of if
+            else {
+              System.out.println("\nCurrent reference string: " + referenceString);
+            } // end of else
+            break;
+
+          // 4: Simulate FIFO
+          case 4:
+            // Check for reference string
+            if (referenceString.isEmpty()) {
+              System.out.println("\nNo reference string has been set. Please try again.");
+            } // end of if
+            else {
+              simulate(new FifoPolicy(), "FIFO (First In, First Out)", referenceString);
+            } // end of else
+            break;
+          
+          // 5: Simulate OPT
+          case 5:
+            // Check for reference string
+            if (referenceString.isEmpty()) {
+              System.out.println("\nNo reference string has been set. Please try again.");
+            } // end of if
+            else {
+              simulate(new OptPolicy(referenceString), "OPT (Optimal Page-Replacement)", referenceString);
+            } // end of else
+            break;
+          
+          // 6: Simulate LRU
+          case 6:
+            // Check for reference string
+            if (referenceString.isEmpty()) {
+              System.out.println("\nNo reference string has been set. Please try again.");
+            } // end of if
+            else {
+              simulate(new LruPolicy(), "LRU (Least Recently Used)", referenceString);
+            } // end of else
+            break;
+          
+          // 7: Simulate LFU
+          case 7:
+            // Check for reference string
+            if (referenceString.isEmpty()) {
+              System.out.println("\nNo reference string has been set. Please try again.");
+            } // end of if
+            else {
+              simulate(new LfuPolicy(), "LFU (Least Frequently Used)", referenceString);
+            } // end of else
+            break;
+          
+          // Invalid Input
+          default:
+            System.out.println("\nInvalid input. Only integers 0 to 7 are accepted. Please try again.");
+            break;
+        } // end of switch
+      } // end of try
+      catch (NumberFormatException e) {
+        System.out.println("\nInvalid input. Only integers 0 to 7 are accepted. Please try again.");
+      } // end of catch
+    } // end of while
+  } // end of method
+
+  // readReferenceString method: for Option 1
+  private ReferenceTrace readReferenceString() {
+    // Variable Initialization
+    ReferenceTrace.Builder newString = new ReferenceTrace.Builder();
+    int length = 0;
+    int i = 0;
+    int referenceValue = 0;
+
+    while (true) {
+      try {
+        // Prompt for length of reference string, must be positive
+        System.out.println("\nEnter the length of the new reference string: \n");
+        length = Integer.parseInt(input.nextLine().trim());
+        if (length <= 0) {
+          System.out.println("\nInvalid input. Only positive integers are accepted. Please try again.");
+        } // end of if
+
+        // Prompt for values to be input one at a time
+        else {
+          while (i < length) {
+            try {
+              System.out.println("\nEnter a value into the reference string one at a time: " + "\n");
+              referenceValue = Integer.parseInt(input.nextLine().trim());
+              
+              // Add input value into reference string IF it is valid
+              if (0 <= referenceValue && referenceValue <= 9) {
+                newString.add(referenceValue);
+                i++;
+                System.out.println("\nCurrent reading of reference string: " + newString);
+              } // end of if
+              else {
+                System.out.println("\nInvalid input. Only integers 0 to 9 are accepted. Please try again.");
+              } // end of else
+            } // end of try
+            catch (NumberFormatException e) { // error for string value
+              System.out.println("\nInvalid input. Only integers 0 to 9 are accepted. Please try again.");
+            } // end of catch
+          } // end of while
+          return newString.build();
+        } // end of else
+      } // end of try
+      catch (NumberFormatException e) { // error for string length
+        System.out.println("\nInvalid input. Only positive integers are accepted. Please try again.");
+      } // end of catch
+    } // end of while
+  } // end of method
+
+  // generateReferenceString method: for Option 2
+  private ReferenceTrace generateReferenceString() {
+    // Variable Initialization
+    ReferenceTrace.Builder randomString = new ReferenceTrace.Builder();
+    int length = 0;
+    int i = 0;
+    Random r = new Random();
+
+    while (true) {
+      try {
+        // Prompt for length of reference string, must be positive
+        System.out.println("\nEnter the length of the randomly generated reference string: \n");
+        length = Integer.parseInt(input.nextLine().trim());
+        if (length <= 0) {
+          System.out.println("\nInvalid input. Only positive integers are accepted. Please try again.");
+        } // end of if
+        else {
+          while (i < length) {
+            randomString.add(r.nextInt(10));
+            i++;
+          } // end of while
+          ReferenceTrace generated = randomString.build();
+          System.out.println("\nGenerated reference string: " + generated);
+          return generated;
+        } // end of else
+      } // end of try
+      catch (NumberFormatException e) { // error for string length
+        System.out.println("\nInvalid input. Only positive integers are accepted. Please try again.");
+      } // end of catch
+    } // end of while
+  } // end of method
+
+  // getPhysicalFrames method: for Options 4-7, prompts user for number of physical frames and returns value
+  private int getPhysicalFrames() {
+    int physicalFrames = 0;
+    // Prompt user for number of physical frames
+    while (true) {
+      try {
+        System.out.println("\nEnter number of Physical Frames (1 to 8): \n");
+        physicalFrames = Integer.parseInt(input.nextLine().trim());
+        if (physicalFrames >= 1 && physicalFrames <= 8) {
+          return physicalFrames;
+        } // end of if
+        else { // error handling
+          System.out.println("\nInvalid input. Only integers 1 to 8 are accepted. Please try again.");
+        } // end of else
+      } // end of try
+      catch (NumberFormatException e) { // error handling
+        System.out.println("\nInvalid input. Only integers 1 to 8 are accepted. Please try again.");
+      } // end of catch
+    } // end of while
+  } // end of method
+
+  // simulate method: for Options 4-7, steps the user through a policy on the reference string
+  private void simulate(ReplacementPolicy policy, String title, ReferenceTrace inputString) {
+    int physFrames = getPhysicalFrames();
+    Simulator.run(policy, inputString, physFrames, new DiagramObserver(title, inputString, input, System.out));
+  } // end of method
+
+  // main method: runs the interactive menu, or the batch simulator when arguments are given
+  public static void main(String[] args) {
+    if (args.length > 0) {
+      System.exit(BatchRunner.run(args, System.out));
+    } // end of if
+    Main menu = new Main();
+  } // end of method
+} // end of class
\ No newline at end of file
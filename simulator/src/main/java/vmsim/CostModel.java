@@ -0,0 +1,62 @@
+/*
+* File: CostModel.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Simple latency model of paging. Every fault stalls for the time to
+* read the page in, and every dirty victim for the time to write it back
+* first, so policies can be ranked by estimated stall time rather than by
+* fault count, which misranks them when many victims are dirty.
+*/
+
+package vmsim;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// CostModel class
+public class CostModel {
+  private final double faultMicros; // latency of reading a page in
+  private final double writeBackMicros; // latency of writing a dirty page out
+
+  // CostModel constructor: latencies in microseconds
+  public CostModel(double faultMicros, double writeBackMicros) {
+    if (!(faultMicros >= 0 && writeBackMicros >= 0)) {
+      throw new IllegalArgumentException("Latencies must not be negative: " + faultMicros + ", " + writeBackMicros);
+    } // end of if
+    this.faultMicros = faultMicros;
+    this.writeBackMicros = writeBackMicros;
+  } // end of method
+
+  // parse method: reads "FAULT,WRITEBACK" latencies in microseconds, e.g. 100,250
+  public static CostModel parse(String text) {
+    String[] latencies = text.split(",");
+    if (latencies.length != 2) {
+      throw new IllegalArgumentException("Cost model is not FAULT,WRITEBACK microseconds: " + text);
+    } // end of if
+    return new CostModel(Double.parseDouble(latencies[0].trim()), Double.parseDouble(latencies[1].trim()));
+  } // end of method
+
+  // stallMicros method: returns the estimated time a run stalled on paging, in microseconds
+  public double stallMicros(SimulationResult result) {
+    return result.getFaults() * faultMicros + result.getWriteBacks() * writeBackMicros;
+  } // end of method
+
+  // describe method: the estimated stall time of a run, e.g. "stall=12.345ms"
+  public String describe(SimulationResult result) {
+    return String.format("stall=%.3fms", stallMicros(result) / 1000);
+  } // end of method
+
+  // printRanking method: prints the runs from the least to the most estimated stall time
+  public void printRanking(List<SimulationResult> results, PrintStream out) {
+    List<SimulationResult> ranked = new ArrayList<>(results);
+    ranked.sort(Comparator.comparingDouble(this::stallMicros));
+    out.printf("%nBy estimated stall time (fault %.1fus, write-back %.1fus)%n", faultMicros, writeBackMicros);
+    out.printf("%-10s %14s %14s %14s%n", "Policy", "Faults", "WriteBacks", "Stall(ms)");
+    for (SimulationResult result : ranked) {
+      out.printf("%-10s %14d %14d %14.3f%n", result.getPolicyName(), result.getFaults(), result.getWriteBacks(),
+          stallMicros(result) / 1000);
+    } // end of for
+  } // end of method
+} // end of class
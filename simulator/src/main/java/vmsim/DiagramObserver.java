@@ -0,0 +1,178 @@
+/*
+* File: DiagramObserver.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Draws the demand paging diagram of a simulation. Long reference
+* strings are drawn in windows of a fixed number of columns, so the diagram
+* state is only the current window, kept as primitive arrays and formatted
+* when it is printed. Each diagram is rendered into one buffer and written in
+* a single call. In interactive mode it prompts the user to press Enter before
+* each step and reprints the current window; otherwise each window is printed
+* once, as soon as its last column is filled.
+*/
+
+package vmsim;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Scanner;
+import vmsim.trace.ReferenceTrace;
+
+// DiagramObserver class
+public class DiagramObserver implements SimulationObserver {
+  // Columns per window, short enough for an 80 column terminal
+  public static final int DEFAULT_WIDTH = 30;
+
+  private final String title;
+  private final ReferenceTrace referenceString;
+  private final Scanner stepInput; // null when not stepping interactively
+  private final PrintStream out;
+  private final int width;
+  private int physicalFrames;
+
+  // Current window: columns [windowStart, windowStart + columns)
+  private long windowStart = 0;
+  private int columns = 0;
+  private int[] pages = new int[0]; // page in each frame, column by column, or EMPTY
+  private boolean[] faults = new boolean[0];
+  private int[] victims = new int[0]; // victim page of each column, or NO_VICTIM
+  private final StringBuilder buffer = new StringBuilder();
+
+  // DiagramObserver constructor: stepInput may be null to draw without prompting
+  public DiagramObserver(String title, ReferenceTrace referenceString, Scanner stepInput, PrintStream out) {
+    this(title, referenceString, stepInput, out, DEFAULT_WIDTH);
+  } // end of method
+
+  // DiagramObserver constructor: with the number of columns per window
+  public DiagramObserver(String title, ReferenceTrace referenceString, Scanner stepInput, PrintStream out, int width) {
+    if (width <= 0) {
+      throw new IllegalArgumentException("Diagram width must be positive: " + width);
+    } // end of if
+    this.title = title;
+    this.referenceString = referenceString;
+    this.stepInput = stepInput;
+    this.out = out;
+    this.width = width;
+  } // end of method
+
+  // started method: creates the empty first window
+  @Override
+  public void started(ReplacementPolicy policy, long length) {
+    physicalFrames = policy.getFrameCount();
+    pages = new int[width * physicalFrames];
+    faults = new boolean[width];
+    victims = new int[width];
+    openWindow(0);
+    out.println("\n" + title + " Simulation: ");
+    if (stepInput != null) {
+      printWindow();
+    } // end of if
+  } // end of method
+
+  // step method: adds the new column of the diagram
+  @Override
+  public void step(long index, int page, int result, ReplacementPolicy policy) {
+    // Prompt user to press enter
+    if (stepInput != null) {
+      out.print("\nPress Enter to continue to the next step: ");
+      stepInput.nextLine();
+    } // end of if
+
+    if (index >= windowStart + columns) {
+      openWindow(index);
+    } // end of if
+    int column = (int) (index - windowStart);
+
+    // for every value in physical memory, add to diagram
+    for (int j = 0; j < physicalFrames; j++) {
+      pages[column * physicalFrames + j] = policy.getPage(j);
+    } // end of for
+
+    // IF there is a page fault, indicate in diagram, with the victim IF there is one
+    faults[column] = result != ReplacementPolicy.HIT;
+    victims[column] = result == ReplacementPolicy.HIT ? ReplacementPolicy.NO_VICTIM : result;
+
+    if (stepInput != null) {
+      printWindow(); // Continue printing each step
+    } // end of if
+    else if (column == columns - 1) {
+      printWindow(); // window complete
+    } // end of else if
+  } // end of method
+
+  // finished method: prints the total number of faults
+  @Override
+  public void finished(SimulationResult result) {
+    if (stepInput == null && columns == 0) {
+      printWindow(); // empty reference string
+    } // end of if
+    out.println("\nTotal number of faults: " + result.getFaults());
+  } // end of method
+
+  // openWindow method: clears the diagram for the window starting at a reference
+  private void openWindow(long start) {
+    windowStart = start;
+    columns = (int) Math.min(width, referenceString.size() - start);
+    Arrays.fill(pages, ReplacementPolicy.EMPTY);
+    Arrays.fill(faults, false);
+    Arrays.fill(victims, ReplacementPolicy.NO_VICTIM);
+  } // end of method
+
+  // printWindow method: renders the current window into the buffer and writes it
+  private void printWindow() {
+    buffer.setLength(0);
+    buffer.append("\nDEMAND PAGING DIAGRAM");
+    if (referenceString.size() > width) {
+      buffer.append(" (references ").append(windowStart + 1).append(" to ").append(windowStart + columns).append(')');
+    } // end of if
+    buffer.append('\n');
+
+    // Reference string row
+    label("Reference String:");
+    for (int column = 0; column < columns; column++) {
+      cell(String.valueOf(referenceString.get((int) (windowStart + column))));
+    } // end of for
+    buffer.append('\n');
+
+    // One row per physical frame
+    for (int j = 0; j < physicalFrames; j++) {
+      label("Physical Frame " + j + ":");
+      for (int column = 0; column < columns; column++) {
+        int page = pages[column * physicalFrames + j];
+        cell(page == ReplacementPolicy.EMPTY ? " " : String.valueOf(page));
+      } // end of for
+      buffer.append('\n');
+    } // end of for
+
+    // Fault and victim rows
+    label("Pages Faults:");
+    for (int column = 0; column < columns; column++) {
+      cell(faults[column] ? "F" : " ");
+    } // end of for
+    buffer.append('\n');
+    label("Victim Frames:");
+    for (int column = 0; column < columns; column++) {
+      cell(victims[column] == ReplacementPolicy.NO_VICTIM ? " " : String.valueOf(victims[column]));
+    } // end of for
+    buffer.append('\n');
+    out.print(buffer);
+  } // end of method
+
+  // label method: appends a row label, right-aligned in 17 characters
+  private void label(String text) {
+    pad(text, 17);
+  } // end of method
+
+  // cell method: appends a cell, right-aligned in 2 characters
+  private void cell(String text) {
+    pad(text, 2);
+  } // end of method
+
+  // pad method: appends text right-aligned in a field of the given width
+  private void pad(String text, int fieldWidth) {
+    for (int i = text.length(); i < fieldWidth; i++) {
+      buffer.append(' ');
+    } // end of for
+    buffer.append(text);
+  } // end of method
+} // end of class
@@ -0,0 +1,62 @@
+/*
+* File: ReplacementPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Defines the page-replacement policy interface used by the headless
+* simulation engine. A policy owns the contents of physical memory and decides
+* which resident page becomes the victim when a referenced page is not loaded.
+* Policies that track dirty pages also tell whether a victim was written while
+* resident, and so must be written back before its frame is reused.
+* Every policy can save its whole state for a checkpoint and load it into a
+* new instance, which then continues exactly where the saved one was.
+*/
+
+package vmsim;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// ReplacementPolicy interface
+public interface ReplacementPolicy {
+  // Result of reference() when the page was already resident
+  int HIT = -2;
+
+  // Result of reference() when the page faulted into an empty frame
+  int NO_VICTIM = -1;
+
+  // Contents of a physical frame that has not been loaded yet
+  int EMPTY = -1;
+
+  // getName method: returns the short name of the algorithm, e.g. "FIFO"
+  String getName();
+
+  // reset method: clears memory and sizes it to the given number of physical frames
+  void reset(int physicalFrames);
+
+  // reference method: references a page, returns HIT, NO_VICTIM or the victim page
+  int reference(int page);
+
+  // reference method: references a page for reading or writing, returns HIT, NO_VICTIM or the victim page
+  int reference(int page, boolean write);
+
+  // victimWasDirty method: returns true if the victim of the last reference had been written
+  default boolean victimWasDirty() {
+    return false;
+  } // end of method
+
+  // contains method: returns true if a page is resident, without referencing it
+  boolean contains(int page);
+
+  // getFrameCount method: returns the number of physical frames
+  int getFrameCount();
+
+  // getPage method: returns the page held in a physical frame, or EMPTY
+  int getPage(int frame);
+
+  // saveState method: writes everything later references depend on, for loadState
+  void saveState(DataOutput out) throws IOException;
+
+  // loadState method: replaces the state with one written by saveState of the same policy
+  void loadState(DataInput in) throws IOException;
+} // end of interface
@@ -0,0 +1,23 @@
+/*
+* File: SimulationObserver.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Optional callback interface for watching a simulation step by step,
+* e.g. to draw the demand paging diagram. Headless runs pass no observer.
+*/
+
+package vmsim;
+
+// SimulationObserver interface
+public interface SimulationObserver {
+  // started method: called once before the first reference, length is -1 if not known in advance
+  default void started(ReplacementPolicy policy, long length) {
+  } // end of method
+
+  // step method: called after each reference with the result of ReplacementPolicy.reference
+  void step(long index, int page, int result, ReplacementPolicy policy);
+
+  // finished method: called once after the last reference
+  default void finished(SimulationResult result) {
+  } // end of method
+} // end of interface
@@ -0,0 +1,90 @@
+/*
+* File: SimulationResult.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Fault, hit and victim statistics of one simulation run, with the
+* writes and the write-backs of dirty victims when the references had writes.
+*/
+
+package vmsim;
+
+// SimulationResult class
+public class SimulationResult {
+  private final String policyName;
+  private final int physicalFrames;
+  private final long references;
+  private final long faults;
+  private final long evictions;
+  private final long writes;
+  private final long writeBacks;
+
+  // SimulationResult constructor: for runs of reads only
+  public SimulationResult(String policyName, int physicalFrames, long references, long faults, long evictions) {
+    this(policyName, physicalFrames, references, faults, evictions, 0, 0);
+  } // end of method
+
+  // SimulationResult constructor: writeBacks counts the victims that were dirty
+  public SimulationResult(String policyName, int physicalFrames, long references, long faults, long evictions,
+      long writes, long writeBacks) {
+    this.policyName = policyName;
+    this.physicalFrames = physicalFrames;
+    this.references = references;
+    this.faults = faults;
+    this.evictions = evictions;
+    this.writes = writes;
+    this.writeBacks = writeBacks;
+  } // end of method
+
+  // getPolicyName method: returns the name of the simulated algorithm
+  public String getPolicyName() {
+    return policyName;
+  } // end of method
+
+  // getPhysicalFrames method: returns the number of physical frames simulated
+  public int getPhysicalFrames() {
+    return physicalFrames;
+  } // end of method
+
+  // getReferences method: returns the length of the simulated reference string
+  public long getReferences() {
+    return references;
+  } // end of method
+
+  // getFaults method: returns the total number of page faults
+  public long getFaults() {
+    return faults;
+  } // end of method
+
+  // getHits method: returns the number of references that found their page resident
+  public long getHits() {
+    return references - faults;
+  } // end of method
+
+  // getEvictions method: returns the number of faults that replaced a victim page
+  public long getEvictions() {
+    return evictions;
+  } // end of method
+
+  // getWrites method: returns the number of references that wrote their page
+  public long getWrites() {
+    return writes;
+  } // end of method
+
+  // getWriteBacks method: returns the number of dirty victims written back
+  public long getWriteBacks() {
+    return writeBacks;
+  } // end of method
+
+  // getFaultRate method: returns faults per reference, 0 for an empty string
+  public double getFaultRate() {
+    return references == 0 ? 0.0 : (double) faults / references;
+  } // end of method
+
+  // toString method: one line summary of the run, with the write-backs if there were writes
+  @Override
+  public String toString() {
+    String summary = String.format("%s frames=%d references=%d faults=%d hits=%d victims=%d faultRate=%.4f",
+        policyName, physicalFrames, references, faults, getHits(), evictions, getFaultRate());
+    return writes == 0 ? summary : summary + String.format(" writes=%d writeBacks=%d", writes, writeBacks);
+  } // end of method
+} // end of class
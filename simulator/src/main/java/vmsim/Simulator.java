@@ -0,0 +1,93 @@
+/*
+* File: Simulator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Headless demand paging engine. Runs a replacement policy over a whole
+* reference string, or a stream of references read in chunks, without any user
+* interaction and returns its statistics. References may be writes, whose
+* dirty pages are counted as write-backs when they are evicted.
+*/
+
+package vmsim;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import vmsim.trace.AccessSource;
+import vmsim.trace.ReferenceSource;
+import vmsim.trace.ReferenceTrace;
+
+// Simulator class
+public final class Simulator {
+  private static final int CHUNK_SIZE = 1 << 16; // references read from a source at a time
+
+  // Simulator constructor: static utility, not instantiated
+  private Simulator() {
+  } // end of method
+
+  // run method: simulates the reference string at full speed with no observer
+  public static SimulationResult run(ReplacementPolicy policy, ReferenceTrace referenceString, int physicalFrames) {
+    return run(policy, referenceString, physicalFrames, null);
+  } // end of method
+
+  // run method: simulates the reference string, reporting each step to the observer if given
+  public static SimulationResult run(ReplacementPolicy policy, ReferenceTrace referenceString, int physicalFrames,
+      SimulationObserver observer) {
+    try {
+      return run(policy, referenceString.open(), physicalFrames, observer);
+    } // end of try
+    catch (IOException e) { // in-memory traces do no I/O
+      throw new UncheckedIOException(e);
+    } // end of catch
+  } // end of method
+
+  // run method: simulates every reference of a source, reporting each step to the observer if given
+  public static SimulationResult run(ReplacementPolicy policy, ReferenceSource source, int physicalFrames,
+      SimulationObserver observer) throws IOException {
+    return run(policy, AccessSource.of(source), physicalFrames, observer);
+  } // end of method
+
+  // run method: simulates every read and write of a source, reporting each step to the observer if given
+  public static SimulationResult run(ReplacementPolicy policy, AccessSource source, int physicalFrames,
+      SimulationObserver observer) throws IOException {
+    // Variable Initialization
+    long numReferences = 0;
+    long numFaults = 0;
+    long numEvictions = 0;
+    long numWrites = 0;
+    long numWriteBacks = 0;
+    int[] chunk = new int[CHUNK_SIZE];
+    boolean[] writes = new boolean[CHUNK_SIZE];
+    int count;
+    policy.reset(physicalFrames);
+    if (observer != null) {
+      observer.started(policy, source.length());
+    } // end of if
+
+    // for every value in reference string:
+    while ((count = source.read(chunk, writes)) > 0) {
+      for (int i = 0; i < count; i++) {
+        int page = chunk[i];
+        int result = policy.reference(page, writes[i]);
+        numWrites += writes[i] ? 1 : 0;
+        if (result != ReplacementPolicy.HIT) {
+          numFaults++;
+          if (result != ReplacementPolicy.NO_VICTIM) {
+            numEvictions++;
+            numWriteBacks += policy.victimWasDirty() ? 1 : 0;
+          } // end of if
+        } // end of if
+        if (observer != null) {
+          observer.step(numReferences + i, page, result, policy);
+        } // end of if
+      } // end of for
+      numReferences += count;
+    } // end of while
+
+    SimulationResult result = new SimulationResult(policy.getName(), physicalFrames, numReferences, numFaults,
+        numEvictions, numWrites, numWriteBacks);
+    if (observer != null) {
+      observer.finished(result);
+    } // end of if
+    return result;
+  } // end of method
+} // end of class
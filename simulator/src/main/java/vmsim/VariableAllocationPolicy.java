@@ -0,0 +1,25 @@
+/*
+* File: VariableAllocationPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Defines the interface of variable-allocation policies, whose
+* resident set grows and shrinks with the program's locality instead of
+* filling a fixed number of physical frames.
+*/
+
+package vmsim;
+
+// VariableAllocationPolicy interface
+public interface VariableAllocationPolicy {
+  // getName method: returns the name of the algorithm with its parameter, e.g. "WS(tau=1000)"
+  String getName();
+
+  // reset method: empties the resident set
+  void reset();
+
+  // reference method: references a page, returns true if it faulted
+  boolean reference(int page);
+
+  // getResidentSize method: returns the number of pages resident after the last reference
+  int getResidentSize();
+} // end of interface
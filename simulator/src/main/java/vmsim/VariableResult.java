@@ -0,0 +1,85 @@
+/*
+* File: VariableResult.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Statistics of one run of a variable-allocation policy: faults
+* against the resident set size it took, overall and, when sampled, for each
+* interval of the run.
+*/
+
+package vmsim;
+
+import java.io.PrintStream;
+
+// VariableResult class
+public class VariableResult {
+  private final String policyName;
+  private final long references;
+  private final long faults;
+  private final double averageResidentSize;
+  private final int maxResidentSize;
+  private final long sampleInterval; // references per sample, 0 when not sampled
+  private final long[] sampleFaults;
+  private final double[] sampleResidentSize;
+
+  // VariableResult constructor: samples hold the faults and average resident size of each interval
+  public VariableResult(String policyName, long references, long faults, double averageResidentSize,
+      int maxResidentSize, long sampleInterval, long[] sampleFaults, double[] sampleResidentSize) {
+    this.policyName = policyName;
+    this.references = references;
+    this.faults = faults;
+    this.averageResidentSize = averageResidentSize;
+    this.maxResidentSize = maxResidentSize;
+    this.sampleInterval = sampleInterval;
+    this.sampleFaults = sampleFaults.clone();
+    this.sampleResidentSize = sampleResidentSize.clone();
+  } // end of method
+
+  // getPolicyName method: returns the name of the simulated algorithm
+  public String getPolicyName() {
+    return policyName;
+  } // end of method
+
+  // getReferences method: returns the length of the simulated reference string
+  public long getReferences() {
+    return references;
+  } // end of method
+
+  // getFaults method: returns the total number of page faults
+  public long getFaults() {
+    return faults;
+  } // end of method
+
+  // getFaultRate method: returns faults per reference, 0 for an empty string
+  public double getFaultRate() {
+    return references == 0 ? 0.0 : (double) faults / references;
+  } // end of method
+
+  // getAverageResidentSize method: returns the resident set size averaged over all references
+  public double getAverageResidentSize() {
+    return averageResidentSize;
+  } // end of method
+
+  // getMaxResidentSize method: returns the largest resident set size reached
+  public int getMaxResidentSize() {
+    return maxResidentSize;
+  } // end of method
+
+  // printTimeline method: prints the fault rate and average resident size of every sampled interval
+  public void printTimeline(PrintStream out) {
+    out.println("\n" + policyName + " timeline (" + sampleInterval + " references per line)");
+    out.printf("%14s %10s %12s%n", "References", "FaultRate", "AvgResident");
+    for (int i = 0; i < sampleFaults.length; i++) {
+      long end = Math.min(references, (i + 1) * sampleInterval);
+      long length = end - i * sampleInterval;
+      out.printf("%14d %10.4f %12.2f%n", end, (double) sampleFaults[i] / length, sampleResidentSize[i]);
+    } // end of for
+  } // end of method
+
+  // toString method: one line summary of the run
+  @Override
+  public String toString() {
+    return String.format("%s references=%d faults=%d faultRate=%.4f avgResident=%.2f maxResident=%d",
+        policyName, references, faults, getFaultRate(), averageResidentSize, maxResidentSize);
+  } // end of method
+} // end of class
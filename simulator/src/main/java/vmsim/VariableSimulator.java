@@ -0,0 +1,74 @@
+/*
+* File: VariableSimulator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Headless engine for variable-allocation policies. Runs a policy over
+* a stream of references read in chunks and measures its faults together with
+* the resident set size after every reference, optionally per fixed interval.
+*/
+
+package vmsim;
+
+import java.io.IOException;
+import java.util.Arrays;
+import vmsim.trace.ReferenceSource;
+
+// VariableSimulator class
+public final class VariableSimulator {
+  private static final int CHUNK_SIZE = 1 << 16; // references read from a source at a time
+
+  // VariableSimulator constructor: static utility, not instantiated
+  private VariableSimulator() {
+  } // end of method
+
+  // run method: simulates every reference of a source; sampleInterval of 0 records no timeline
+  public static VariableResult run(VariableAllocationPolicy policy, ReferenceSource source, long sampleInterval)
+      throws IOException {
+    // Variable Initialization
+    long numReferences = 0;
+    long numFaults = 0;
+    long residentSum = 0; // resident size summed over references
+    int maxResident = 0;
+    long[] sampleFaults = new long[16];
+    long[] sampleResident = new long[16];
+    int samples = 0;
+    int[] chunk = new int[CHUNK_SIZE];
+    int count;
+    policy.reset();
+
+    while ((count = source.read(chunk)) > 0) {
+      for (int i = 0; i < count; i++) {
+        boolean fault = policy.reference(chunk[i]);
+        int resident = policy.getResidentSize();
+        numFaults += fault ? 1 : 0;
+        residentSum += resident;
+        maxResident = Math.max(maxResident, resident);
+
+        // Add the reference to the current sample, starting a new one at every interval
+        if (sampleInterval > 0) {
+          long position = numReferences + i;
+          if (position % sampleInterval == 0) {
+            if (samples == sampleFaults.length) {
+              sampleFaults = Arrays.copyOf(sampleFaults, 2 * samples);
+              sampleResident = Arrays.copyOf(sampleResident, 2 * samples);
+            } // end of if
+            samples++;
+          } // end of if
+          sampleFaults[samples - 1] += fault ? 1 : 0;
+          sampleResident[samples - 1] += resident;
+        } // end of if
+      } // end of for
+      numReferences += count;
+    } // end of while
+
+    // Turn the sampled resident sums into averages
+    double[] sampleResidentSize = new double[samples];
+    for (int s = 0; s < samples; s++) {
+      long length = Math.min(numReferences, (s + 1) * sampleInterval) - s * sampleInterval;
+      sampleResidentSize[s] = (double) sampleResident[s] / length;
+    } // end of for
+    double averageResident = numReferences == 0 ? 0.0 : (double) residentSum / numReferences;
+    return new VariableResult(policy.getName(), numReferences, numFaults, averageResident, maxResident,
+        sampleInterval, Arrays.copyOf(sampleFaults, samples), sampleResidentSize);
+  } // end of method
+} // end of class
@@ -0,0 +1,133 @@
+/*
+* File: BatchRunner.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Command line mode of the simulator. Runs one or all policies over a
+* whole reference string to completion without prompting, e.g.
+*   java Main --policy lru --frames 3 --trace 7,0,1,2,0,3,0,4
+*   java Main --policy all --frames 4 --random 10000 --seed 42
+*   java Main --policy fifo --frames 65536 --file addresses.bin --format u64 --page-size 4096 --remap
+*   java Main --policy lru --mrc 64 --file trace.txt
+*   java Main --policy all --sweep 1-8,16,32 --file a.txt --file b.txt --threads 8
+*   java Main --policy lru,fifo --frames 4096 --file big.bin --format u32 --shards 16
+*   java Main --policy lru --frames 512 --workload zipf:pages=1000000,s=0.9 --length 1000000000 --seed 7
+*   java Main --policy ws,pff --window 5000 --timeline 100000 --workload workingset --length 1000000
+*   java Main --policy ws --mrc 10000 --file trace.txt
+*   java Main --policy lru,clock,arc --frames 4096 --serve 7070 --batch 8192 --queue 32 --rolling-window 1000000
+*   java Main --policy lru,fifo --frames 65536 --serve-pipe /tmp/vmsim.fifo --page-size 4096
+*   java Main --policy lru,arc --frames 4096 --file big.bin --format u32 --checkpoint ck-%d.vmck --checkpoint-every 10000000
+*   java Main --resume ck-50000000.vmck --file big.bin --format u32
+*   java Main --resume ck-50000000.vmck --fork 1024 --serve 7070 --checkpoint fork.vmck
+*   java Main --policy lru,fifo --mrc 1000000 --file huge.vmt --format packed --sample 0.001 --samples 8 --seed 1
+*   java Main --policy lru --frames 256 --process a.txt --process b.txt --quantum 100 --replacement global,local
+*   java Main --policy clock --frames 4096 --processes 200 --workload zipf:pages=4096 --length 100000
+*   java Main --policy lru --frames 64 --process a.log --process b.log --schedule timestamped
+*   java Main --policy clock --frames 65536 --file addresses.bin --format u64 --page-size 2097152 --tlb 16x4
+*   java Main --file trace.txt --write-trace trace.vmt
+*   java Main --workload zipf:pages=1000000,s=0.9 --length 1000000000 --seed 7 --write-trace zipf.vmt
+*   java Main --policy all --frames 4096 --file zipf.vmt --format packed --shards 8
+*   java Main --policy lru,clock,nru,esc --frames 3 --trace 7w,0,1r,2w,0,3 --cost 100,250
+*   java Main --policy lfu,lfu-aging,aging,w-tinylfu --frames 3000 --workload workingset:pages=65536,set=2048 --length 5000000
+*   java Main --policy all --frames 256 --workload zipf:pages=4096 --length 1000000 --write-fraction 0.3 --cost 100,250
+*   java Main --policy lru,clock --frames 1024 --file trace.txt --prefetch sequential:2,sequential:8,stride:4,markov:2
+*   java Main --policy all --frames 4096 --file big.bin --format u32 --metrics runs.json --metrics-window 100000 --jmx
+*   java Main --policy lru,arc --frames 1024 --file trace.txt --metrics runs.csv --page-metrics
+* Every option is parsed in Options, and each mode is a Command selected by
+* its own options: the first of COMMANDS whose option is given runs, or a
+* plain run if none is. A mode declares every option it honours, and any
+* other option given is refused rather than silently ignored, so for example
+* only --checkpoint/--resume and --serve honour the checkpoint options and
+* only --mrc honours --sample. Traces read from a file are streamed through
+* memory-mapped windows, and synthetic workloads are generated as they are
+* simulated, except where a mode needs the whole reference string in memory.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// BatchRunner class
+public final class BatchRunner {
+  // The modes, in the order they are selected in
+  private static final List<Command> COMMANDS = List.of(new ServeCommand(), new ConvertCommand(), new StreamCommand(),
+      new TranslateCommand(), new ProcessCommand(), new PrefetchCommand(), new CurveCommand(), new SweepCommand(),
+      new ShardCommand(), new SimulateCommand());
+
+  private static final String USAGE = usage();
+
+  // BatchRunner constructor: static utility, not instantiated
+  private BatchRunner() {
+  } // end of method
+
+  // run method: entry point used by Main when arguments are given, returns the exit code
+  public static int run(String[] args, PrintStream out) {
+    Options options;
+    Command command;
+    try {
+      options = new Options(args);
+      command = select(options);
+    } // end of try
+    catch (IllegalArgumentException e) { // NumberFormatException included
+      out.println("Invalid argument: " + e.getMessage());
+      out.println(USAGE);
+      return 1;
+    } // end of catch
+    try {
+      command.run(options, out);
+    } // end of try
+    catch (IllegalArgumentException e) {
+      out.println("Invalid argument: " + e.getMessage());
+      return 1;
+    } // end of catch
+    catch (IOException e) {
+      out.println("Error reading trace: " + e.getMessage());
+      return 1;
+    } // end of catch
+    return 0;
+  } // end of method
+
+  // select method: returns the mode the options select, after refusing the options it does not honour
+  private static Command select(Options options) {
+    Command selected = null;
+    for (Command command : COMMANDS) {
+      if (command.isSelected(options)) {
+        selected = command;
+        break;
+      } // end of if
+    } // end of for
+
+    for (String option : options.getGiven()) {
+      if (!selected.accepts(option)) {
+        List<String> modes = new ArrayList<>();
+        for (Command command : COMMANDS) {
+          if (command.accepts(option)) {
+            modes.add(command.getName());
+          } // end of if
+        } // end of for
+        throw new IllegalArgumentException(option + " does not apply to " + selected.getName() + ", only to "
+            + String.join(", ", modes));
+      } // end of if
+    } // end of for
+    selected.check(options);
+    return selected;
+  } // end of method
+
+  // usage method: the usage, with one line per mode listing the options it honours
+  private static String usage() {
+    List<String> lines = new ArrayList<>();
+    lines.add("Usage: java Main [--policy NAME,...|all] [--frames N] [INPUT] [MODE]");
+    lines.add("  NAME: fifo|opt|lru|lfu|lfu-oldest|clock|clock-pro|arc|2q|lirs|nru|esc|lfu-aging|aging|w-tinylfu, "
+        + "or ws|pff for variable allocation");
+    lines.add("  INPUT: --trace 7,0,1,... (each page optionally marked r or w) | --random LENGTH [--seed S]");
+    lines.add("       | --file PATH [--format text|u32|u64|packed] [--page-size BYTES] [--remap]");
+    lines.add("       | --workload MODEL[:NAME=VALUE,...] --length N [--seed S]");
+    lines.add("  MODE, each honouring only the options listed with it, --policy and --frames where they apply:");
+    for (Command command : COMMANDS) {
+      lines.add("    " + command.getUsage());
+    } // end of for
+    return String.join(System.lineSeparator(), lines);
+  } // end of method
+} // end of class
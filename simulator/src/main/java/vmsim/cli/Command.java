@@ -0,0 +1,70 @@
+/*
+* File: Command.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Base class for the modes of the batch simulator. A mode is selected
+* by any of its trigger options, or is the plain run when it has none, and
+* declares every option it honours: the triggers, the options of the input it
+* reads and its own. BatchRunner refuses any other option on the command line
+* rather than ignoring it, and prints each mode's usage line in the usage.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Command class
+abstract class Command {
+  private final String usage;
+  private final List<String> triggers; // options that select the mode, none for plain runs
+  private final boolean readsInput; // true if the mode reads the reference string of the INPUT options
+  private final Set<String> honoured = new HashSet<>(); // every option the mode honours
+
+  // Command constructor: a mode selected by the triggers, reading input, and honouring its own options too
+  protected Command(String usage, List<String> triggers, String[] input, String... modeOptions) {
+    this.usage = usage;
+    this.triggers = triggers;
+    this.readsInput = input.length > 0;
+    honoured.addAll(triggers);
+    honoured.addAll(Arrays.asList(input));
+    honoured.addAll(Arrays.asList(modeOptions));
+  } // end of method
+
+  // getName method: returns how errors refer to the mode, e.g. "--serve/--serve-pipe"
+  String getName() {
+    return triggers.isEmpty() ? "plain runs" : String.join("/", triggers);
+  } // end of method
+
+  // getUsage method: returns the mode's line of the usage
+  String getUsage() {
+    return usage;
+  } // end of method
+
+  // isSelected method: returns true if any trigger was given, or always for plain runs
+  boolean isSelected(Options options) {
+    return triggers.isEmpty() || triggers.stream().anyMatch(options::given);
+  } // end of method
+
+  // accepts method: returns true if the mode honours an option
+  boolean accepts(String option) {
+    return honoured.contains(option);
+  } // end of method
+
+  // check method: fails on combinations the mode cannot run, then generates or requires the input it reads
+  void check(Options options) {
+    if (options.traceFiles.size() > 1) {
+      throw new IllegalArgumentException("Only --sweep accepts more than one --file");
+    } // end of if
+    if (readsInput) {
+      options.requireInput();
+    } // end of if
+  } // end of method
+
+  // run method: runs the mode, printing its results
+  abstract void run(Options options, PrintStream out) throws IOException;
+} // end of class
@@ -0,0 +1,50 @@
+/*
+* File: ConvertCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --write-trace mode of the batch simulator. Writes the input as
+* a packed trace instead of simulating it (see vmsim.trace.PackedTraceWriter):
+* a trace file's raw values and r/w marks, so it can be read back with any
+* page size, otherwise the pages and writes that would be simulated.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.List;
+import vmsim.trace.AccessSource;
+import vmsim.trace.MappedTraceReader;
+import vmsim.trace.PackedTraceWriter;
+import vmsim.trace.TraceFormat;
+
+// ConvertCommand class
+final class ConvertCommand extends Command {
+  // ConvertCommand constructor: selected by --write-trace, over the input
+  ConvertCommand() {
+    super("--write-trace PATH [--write-fraction F] (no --policy)", List.of("--write-trace"), Options.INPUT,
+        "--write-fraction");
+  } // end of method
+
+  // run method: writes the input as a packed trace and prints its size
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    long references;
+    if (options.traceFile != null && options.writeFraction == 0) {
+      try (MappedTraceReader reader = new MappedTraceReader(options.traceFile, options.format, 1, false)) {
+        references = PackedTraceWriter.convert(reader, options.traceOutput);
+      } // end of try
+    } // end of if
+    else {
+      try (AccessSource source = options.openAccesses()) {
+        references = PackedTraceWriter.write(source, options.traceOutput);
+      } // end of try
+    } // end of else
+    try (MappedTraceReader written = new MappedTraceReader(options.traceOutput, TraceFormat.PACKED, 1, false)) {
+      long bytes = Files.size(options.traceOutput);
+      out.printf("Wrote %d references in %d chunks to %s: %d bytes, %.2f bytes per reference%n", references,
+          written.getChunks(), options.traceOutput, bytes, references == 0 ? 0.0 : (double) bytes / references);
+    } // end of try
+  } // end of method
+} // end of class
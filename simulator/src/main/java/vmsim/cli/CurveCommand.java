@@ -0,0 +1,83 @@
+/*
+* File: CurveCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --mrc mode of the batch simulator. Prints miss ratio curves up
+* to a frame count, each from a single pass over the input: exact curves of
+* the stack algorithms LRU and OPT and the working set curve of WS, or with
+* --sample, approximate curves of any policy from a spatial sample of the
+* pages (see vmsim.mrc.SpatialSampling). "all" means LRU and OPT exactly, or
+* LRU and FIFO sampled.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import vmsim.mrc.LruStackDistance;
+import vmsim.mrc.OptStackDistance;
+import vmsim.mrc.SpatialSampling;
+import vmsim.mrc.WorkingSetCurve;
+import vmsim.trace.ReferenceSource;
+
+// CurveCommand class
+final class CurveCommand extends Command {
+  // CurveCommand constructor: selected by --mrc, over the input
+  CurveCommand() {
+    super("--mrc MAX_FRAMES [--threads N] [--sample RATE [--samples N]] (lru, opt and ws exactly, any policy sampled)",
+        List.of("--mrc"), Options.INPUT, "--policy", "--threads", "--sample", "--samples");
+  } // end of method
+
+  // run method: prints the exact curves, or the sampled ones IF --sample was given
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    if (options.sampleRate > 0) {
+      sampledCurves(options, out);
+    } // end of if
+    else {
+      curves(options, out);
+    } // end of else
+  } // end of method
+
+  // curves method: prints the miss ratio curves of LRU and/or OPT, or the working set curve, each from a single pass
+  private static void curves(Options options, PrintStream out) throws IOException {
+    List<String> names = options.isAll() ? List.of("lru", "opt") : options.policyNames();
+    for (String name : names) {
+      if (name.equalsIgnoreCase("lru")) {
+        try (ReferenceSource source = options.openReferences()) {
+          LruStackDistance.curve(source, options.mrcFrames).print(out);
+        } // end of try
+      } // end of if
+      else if (name.equalsIgnoreCase("ws")) {
+        try (ReferenceSource source = options.openReferences()) {
+          WorkingSetCurve.curve(source, options.mrcFrames).print(out);
+        } // end of try
+      } // end of else if
+      else if (name.equalsIgnoreCase("opt")) {
+        OptStackDistance.curve(options.wholeTrace(), options.mrcFrames).print(out);
+      } // end of else if
+      else {
+        throw new IllegalArgumentException("Miss ratio curves are only available for the stack algorithms LRU and OPT and for WS");
+      } // end of else
+    } // end of for
+  } // end of method
+
+  // sampledCurves method: prints approximate miss ratio curves, each from one pass over a spatial sample of the pages
+  private static void sampledCurves(Options options, PrintStream out) throws IOException {
+    List<String> names = options.isAll() ? List.of("lru", "fifo") : options.policyNames();
+    for (String name : names) {
+      try (ReferenceSource source = options.openReferences()) {
+        // The seed that drives the workload also salts the page hashes, so --seed repeats the samples
+        if (name.equalsIgnoreCase("lru")) {
+          SpatialSampling.lruCurve(source, options.mrcFrames, options.sampleRate, options.samples,
+              options.workloadSeed).print(out);
+        } // end of if
+        else {
+          SpatialSampling.simulatedCurve(name, source, options.mrcFrames, options.sampleRate, options.samples,
+              options.workloadSeed).print(out);
+        } // end of else
+      } // end of try
+    } // end of for
+  } // end of method
+} // end of class
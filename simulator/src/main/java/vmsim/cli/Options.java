@@ -0,0 +1,483 @@
+/*
+* File: Options.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The parsed command line of the batch simulator. Every option of
+* every mode is parsed and range-checked here, in one place, and the options
+* given are recorded so BatchRunner can refuse those the selected mode would
+* ignore. It also opens the input the options describe: a reference string
+* given inline or generated at random, a trace file or a synthetic workload,
+* streamed or loaded whole.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import vmsim.CostModel;
+import vmsim.DiagramObserver;
+import vmsim.metrics.MetricsObserver;
+import vmsim.mmu.Tlb;
+import vmsim.mrc.SpatialSampling;
+import vmsim.policy.Policies;
+import vmsim.prefetch.Prefetchers;
+import vmsim.process.MultiProcessSimulator;
+import vmsim.server.SimulationServer;
+import vmsim.server.StreamingSimulation;
+import vmsim.trace.AccessSource;
+import vmsim.trace.MappedTraceReader;
+import vmsim.trace.ReferenceSource;
+import vmsim.trace.ReferenceTrace;
+import vmsim.trace.TraceFormat;
+import vmsim.workload.Workload;
+
+// Options class
+final class Options {
+  // Options of the reference string every mode but --serve and --process reads
+  static final String[] INPUT = {"--trace", "--random", "--seed", "--workload", "--length", "--file", "--format",
+      "--page-size", "--remap"};
+
+  // For modes that read no reference string
+  static final String[] NO_INPUT = {};
+
+  private final Set<String> given = new LinkedHashSet<>(); // options on the command line, in order
+
+  // Input
+  ReferenceTrace referenceString = null; // null while only a trace file or workload is given
+  final BitSet traceWrites = new BitSet(); // positions of --trace marked as writes
+  int randomLength = -1; // length of a random reference string, -1 for none
+  Long seed = null; // seed of --random, --workload and sampling, null for a random one
+  final List<Path> traceFiles = new ArrayList<>(); // several only for sweeps
+  Path traceFile = null; // the first of traceFiles
+  Workload workload = null;
+  long workloadLength = -1;
+  long workloadSeed;
+  TraceFormat format = TraceFormat.TEXT;
+  long pageSize = 1;
+  boolean remap = false;
+  double writeFraction = 0; // probability of a reference being a write, 0 to use the trace's marks
+
+  // Policies
+  String policyName = "all";
+  int physicalFrames = 3;
+  int threads = Runtime.getRuntime().availableProcessors();
+  long window = 1000; // tau of WS and the critical interval of PFF, in references
+  long timeline = 0; // references per timeline line of variable-allocation runs, 0 for none
+
+  // Plain runs
+  CostModel cost = null; // latencies to estimate stall time with, null for none
+  boolean diagram = false;
+  int diagramWidth = DiagramObserver.DEFAULT_WIDTH; // columns per diagram window
+  Path metricsFile = null; // where to export the detailed metrics, null for none
+  long metricsWindow = MetricsObserver.DEFAULT_WINDOW; // references per metrics window
+  boolean pageMetrics = false; // also collect the per-page fault and reuse time histograms
+  boolean jmx = false; // publish the metrics of the running simulation over JMX
+
+  // Other modes
+  int[] sweepFrames = null; // frame counts of a sweep, null for a single run
+  int shards = 0; // parts of the reference string simulated in parallel, 0 for a single run
+  int mrcFrames = 0; // largest frame count of the miss ratio curves, 0 for a single run
+  double sampleRate = 0; // fraction of pages sampled for approximate curves, 0 for exact curves
+  int samples = SpatialSampling.DEFAULT_SAMPLES; // independent samples of approximate curves
+  final List<String> prefetchers = new ArrayList<>(); // prefetcher specs to compare, empty for none
+  Path traceOutput = null; // packed trace to write the input to, null to simulate
+
+  // Address translation
+  int tlbSets = 0; // sets of the TLB, 0 unless translating addresses
+  int tlbWays = 0;
+  Tlb.Replacement tlbReplacement = Tlb.Replacement.LRU;
+  int addressBits = 48; // width of a virtual address
+  int levelBits = 9; // page number bits per page table level
+
+  // Processes
+  final List<Path> processFiles = new ArrayList<>(); // one trace per process
+  int processCount = 0; // processes generated from the workload, 0 for none
+  boolean timestamped = false; // interleave processes by timestamp rather than round-robin
+  int quantum = 1; // references per round-robin turn
+  List<MultiProcessSimulator.Replacement> replacements = List.of(MultiProcessSimulator.Replacement.GLOBAL);
+  int thrashWindow = 1000; // references per thrashing window
+  double thrashThreshold = 0.5; // fault rate of a thrashing window
+
+  // Live feeds and checkpoints
+  int servePort = 0; // local port to accept reference feeds on, 0 unless serving
+  Path servePipe = null; // named pipe to read reference feeds from, null unless serving
+  int batchSize = SimulationServer.DEFAULT_BATCH_SIZE; // references per batch of a served feed
+  int queueBatches = SimulationServer.DEFAULT_QUEUE_BATCHES; // batches queued before feeds block
+  long rollingWindow = StreamingSimulation.DEFAULT_ROLLING_WINDOW; // references of the rolling fault rates
+  String checkpointPath = null; // where to write checkpoints, %d for the references, null for none
+  long checkpointInterval = 10000000; // references between checkpoints
+  int checkpointHistory = StreamingSimulation.DEFAULT_CHECKPOINT_HISTORY; // recent references kept for forks
+  Path resumeFile = null; // checkpoint to continue from, null to start afresh
+  int forkFrames = 0; // frame count to fork the checkpoint into, 0 to resume it exactly
+
+  // Options constructor: parses and checks the command line arguments
+  Options(String[] args) {
+    for (int i = 0; i < args.length; i++) {
+      String option = args[i];
+      switch (option) {
+        case "--policy":
+          policyName = value(args, ++i);
+          break;
+        case "--frames":
+          physicalFrames = positive(args, ++i);
+          break;
+        case "--trace":
+          referenceString = parseTrace(value(args, ++i), traceWrites);
+          break;
+        case "--random":
+          randomLength = positive(args, ++i);
+          break;
+        case "--seed":
+          seed = Long.parseLong(value(args, ++i));
+          break;
+        case "--workload":
+          workload = Workload.parse(value(args, ++i));
+          break;
+        case "--length":
+          workloadLength = Long.parseLong(value(args, ++i));
+          break;
+        case "--file":
+          traceFiles.add(Paths.get(value(args, ++i)));
+          break;
+        case "--format":
+          format = TraceFormat.parse(value(args, ++i));
+          break;
+        case "--page-size":
+          pageSize = positive(args, ++i);
+          break;
+        case "--remap":
+          remap = true;
+          break;
+        case "--diagram":
+          diagram = true;
+          break;
+        case "--diagram-width":
+          diagramWidth = positive(args, ++i);
+          break;
+        case "--mrc":
+          mrcFrames = positive(args, ++i);
+          break;
+        case "--sample":
+          sampleRate = Double.parseDouble(value(args, ++i));
+          if (!(sampleRate > 0 && sampleRate <= 1)) {
+            throw new IllegalArgumentException("--sample must be in (0, 1]: " + sampleRate);
+          } // end of if
+          break;
+        case "--samples":
+          samples = positive(args, ++i);
+          break;
+        case "--sweep":
+          sweepFrames = parseFrameCounts(value(args, ++i));
+          break;
+        case "--shards":
+          shards = positive(args, ++i);
+          break;
+        case "--threads":
+          threads = positive(args, ++i);
+          break;
+        case "--window":
+          window = positive(args, ++i);
+          break;
+        case "--timeline":
+          timeline = positive(args, ++i);
+          break;
+        case "--process":
+          processFiles.add(Paths.get(value(args, ++i)));
+          break;
+        case "--processes":
+          processCount = positive(args, ++i);
+          break;
+        case "--schedule":
+          timestamped = parseSchedule(value(args, ++i));
+          break;
+        case "--quantum":
+          quantum = positive(args, ++i);
+          break;
+        case "--replacement":
+          replacements = parseReplacements(value(args, ++i));
+          break;
+        case "--thrash-window":
+          thrashWindow = positive(args, ++i);
+          break;
+        case "--thrash-threshold":
+          thrashThreshold = Double.parseDouble(value(args, ++i));
+          break;
+        case "--write-fraction":
+          writeFraction = Double.parseDouble(value(args, ++i));
+          if (!(writeFraction >= 0 && writeFraction <= 1)) {
+            throw new IllegalArgumentException("--write-fraction must be in [0, 1]: " + writeFraction);
+          } // end of if
+          break;
+        case "--cost":
+          cost = CostModel.parse(value(args, ++i));
+          break;
+        case "--prefetch":
+          for (String spec : value(args, i + 1).split(",")) {
+            Prefetchers.create(spec); // fails on unknown names and bad degrees now
+            prefetchers.add(spec);
+          } // end of for
+          i++;
+          break;
+        case "--serve":
+          servePort = positive(args, ++i);
+          if (servePort > 65535) {
+            throw new IllegalArgumentException("--serve must be a port number: " + servePort);
+          } // end of if
+          break;
+        case "--serve-pipe":
+          servePipe = Paths.get(value(args, ++i));
+          break;
+        case "--batch":
+          batchSize = positive(args, ++i);
+          break;
+        case "--queue":
+          queueBatches = positive(args, ++i);
+          break;
+        case "--rolling-window":
+          rollingWindow = positive(args, ++i);
+          break;
+        case "--checkpoint":
+          checkpointPath = value(args, ++i);
+          break;
+        case "--checkpoint-every":
+          checkpointInterval = Long.parseLong(value(args, ++i));
+          if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("--checkpoint-every must be positive: " + checkpointInterval);
+          } // end of if
+          break;
+        case "--checkpoint-history":
+          checkpointHistory = Integer.parseInt(value(args, ++i));
+          if (checkpointHistory < 0) {
+            throw new IllegalArgumentException("--checkpoint-history must not be negative: " + checkpointHistory);
+          } // end of if
+          break;
+        case "--resume":
+          resumeFile = Paths.get(value(args, ++i));
+          break;
+        case "--fork":
+          forkFrames = positive(args, ++i);
+          break;
+        case "--write-trace":
+          traceOutput = Paths.get(value(args, ++i));
+          break;
+        case "--metrics":
+          metricsFile = Paths.get(value(args, ++i));
+          break;
+        case "--metrics-window":
+          metricsWindow = positive(args, ++i);
+          break;
+        case "--page-metrics":
+          pageMetrics = true;
+          break;
+        case "--jmx":
+          jmx = true;
+          break;
+        case "--tlb":
+          parseTlb(value(args, ++i));
+          break;
+        case "--tlb-policy":
+          tlbReplacement = Tlb.Replacement.parse(value(args, ++i));
+          break;
+        case "--va-bits":
+          addressBits = positive(args, ++i);
+          break;
+        case "--level-bits":
+          levelBits = positive(args, ++i);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option: " + option);
+      } // end of switch
+      given.add(option);
+    } // end of for
+
+    traceFile = traceFiles.isEmpty() ? null : traceFiles.get(0);
+    if (workload != null && workloadLength < 0) {
+      throw new IllegalArgumentException("--workload needs a non-negative --length");
+    } // end of if
+    if (workload != null && traceFile != null) {
+      throw new IllegalArgumentException("Only one of --workload and --file can be given");
+    } // end of if
+    workloadSeed = seed == null ? new SplittableRandom().nextLong() : seed;
+  } // end of method
+
+  // given method: returns true if an option was on the command line
+  boolean given(String option) {
+    return given.contains(option);
+  } // end of method
+
+  // getGiven method: returns the options on the command line, in order
+  Set<String> getGiven() {
+    return given;
+  } // end of method
+
+  // requireInput method: generates the random reference string IF one was asked for, fails IF no input was given
+  void requireInput() {
+    if (referenceString != null || traceFile != null || workload != null) {
+      return;
+    } // end of if
+    if (randomLength < 0) {
+      throw new IllegalArgumentException("One of --trace, --random, --file or --workload is required");
+    } // end of if
+    Random r = seed == null ? new Random() : new Random(seed);
+    ReferenceTrace.Builder randomString = new ReferenceTrace.Builder(randomLength);
+    for (int i = 0; i < randomLength; i++) {
+      randomString.add(r.nextInt(10));
+    } // end of for
+    referenceString = randomString.build();
+  } // end of method
+
+  // policyNames method: the policies selected with --policy, comma separated or "all"
+  List<String> policyNames() {
+    return isAll() ? Policies.NAMES : List.of(policyName.split(","));
+  } // end of method
+
+  // streamingPolicyNames method: the selected policies, leaving out OPT from "all" since it needs the whole trace
+  List<String> streamingPolicyNames() {
+    List<String> names = new ArrayList<>(policyNames());
+    if (isAll()) {
+      names.removeIf(Policies::needsWholeTrace);
+    } // end of if
+    return names;
+  } // end of method
+
+  // isAll method: returns true if --policy selected every policy, explicitly or by default
+  boolean isAll() {
+    return policyName.equalsIgnoreCase("all");
+  } // end of method
+
+  // openReferences method: opens the reference string in memory, else the trace file or workload
+  ReferenceSource openReferences() throws IOException {
+    return referenceString != null ? referenceString.open() : openSource();
+  } // end of method
+
+  // openSource method: opens the trace file or starts the workload given on the command line
+  ReferenceSource openSource() throws IOException {
+    if (workload != null) {
+      return workload.open(workloadLength, workloadSeed);
+    } // end of if
+    return new MappedTraceReader(traceFile, format, pageSize, remap);
+  } // end of method
+
+  // wholeTrace method: returns the reference string, reading the whole trace file or workload into memory first
+  // IF it is not there yet
+  ReferenceTrace wholeTrace() throws IOException {
+    if (referenceString == null) {
+      referenceString = workload != null ? ReferenceTrace.readAll(workload.open(workloadLength, workloadSeed))
+          : loadFile(traceFile);
+    } // end of if
+    return referenceString;
+  } // end of method
+
+  // loadFile method: reads a whole trace file into memory, decoding a packed trace with every thread
+  ReferenceTrace loadFile(Path file) throws IOException {
+    if (format == TraceFormat.PACKED && !remap) {
+      return MappedTraceReader.readAll(file, pageSize, threads);
+    } // end of if
+    try (MappedTraceReader reader = new MappedTraceReader(file, format, pageSize, remap)) {
+      return ReferenceTrace.readAll(reader);
+    } // end of try
+  } // end of method
+
+  // openAccesses method: opens the reads and writes to simulate: the trace file with its r/w marks, else the
+  // reference string in memory or the workload; every reference is a write at random IF --write-fraction was given
+  AccessSource openAccesses() throws IOException {
+    if (writeFraction > 0) {
+      ReferenceSource source = traceFile == null && referenceString != null ? referenceString.open() : openSource();
+      return AccessSource.withRandomWrites(source, writeFraction, workloadSeed);
+    } // end of if
+    if (traceFile != null) {
+      return new MappedTraceReader(traceFile, format, pageSize, remap);
+    } // end of if
+    return referenceString != null ? AccessSource.of(referenceString.open(), traceWrites) : AccessSource.of(openSource());
+  } // end of method
+
+  // parseTrace method: parses page numbers separated by commas or whitespace, each optionally ending in
+  // r (read) or w (write); the positions of writes are set in writes
+  private static ReferenceTrace parseTrace(String text, BitSet writes) {
+    ReferenceTrace.Builder trace = new ReferenceTrace.Builder();
+    for (String token : text.trim().split("[,\\s]+")) {
+      char last = Character.toLowerCase(token.charAt(token.length() - 1));
+      if (last == 'w') {
+        writes.set(trace.size());
+      } // end of if
+      trace.add(Integer.parseInt(last == 'r' || last == 'w' ? token.substring(0, token.length() - 1) : token));
+    } // end of for
+    return trace.build();
+  } // end of method
+
+  // parseSchedule method: returns true for timestamped, false for round-robin scheduling
+  private static boolean parseSchedule(String text) {
+    if (text.equalsIgnoreCase("timestamped")) {
+      return true;
+    } // end of if
+    if (text.equalsIgnoreCase("round-robin")) {
+      return false;
+    } // end of if
+    throw new IllegalArgumentException("Unknown schedule: " + text + ". Expected round-robin or timestamped");
+  } // end of method
+
+  // parseReplacements method: parses replacement scopes separated by commas, e.g. global,local
+  private static List<MultiProcessSimulator.Replacement> parseReplacements(String text) {
+    List<MultiProcessSimulator.Replacement> scopes = new ArrayList<>();
+    for (String token : text.split(",")) {
+      scopes.add(MultiProcessSimulator.Replacement.parse(token));
+    } // end of for
+    return scopes;
+  } // end of method
+
+  // parseTlb method: parses the TLB geometry SETSxWAYS, e.g. 16x4
+  private void parseTlb(String text) {
+    String[] geometry = text.toLowerCase(Locale.ROOT).split("x", 2);
+    if (geometry.length != 2) {
+      throw new IllegalArgumentException("TLB geometry is not SETSxWAYS: " + text);
+    } // end of if
+    tlbSets = Integer.parseInt(geometry[0].trim());
+    tlbWays = Integer.parseInt(geometry[1].trim());
+    if (tlbSets <= 0 || tlbWays <= 0) {
+      throw new IllegalArgumentException("TLB sets and ways must be positive: " + text);
+    } // end of if
+  } // end of method
+
+  // parseFrameCounts method: parses frame counts and ranges, e.g. 1-8,16,32
+  private static int[] parseFrameCounts(String text) {
+    List<Integer> counts = new ArrayList<>();
+    for (String token : text.split(",")) {
+      String[] range = token.trim().split("-", 2);
+      int from = Integer.parseInt(range[0].trim());
+      int to = range.length > 1 ? Integer.parseInt(range[1].trim()) : from;
+      if (from <= 0 || to < from) {
+        throw new IllegalArgumentException("Invalid frame count range: " + token);
+      } // end of if
+      for (int frames = from; frames <= to; frames++) {
+        counts.add(frames);
+      } // end of for
+    } // end of for
+    return counts.stream().mapToInt(Integer::intValue).toArray();
+  } // end of method
+
+  // value method: returns the value following an option
+  private static String value(String[] args, int i) {
+    if (i >= args.length) {
+      throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+    } // end of if
+    return args[i];
+  } // end of method
+
+  // positive method: returns the positive integer value following an option
+  private static int positive(String[] args, int i) {
+    int number = Integer.parseInt(value(args, i));
+    if (number <= 0) {
+      throw new IllegalArgumentException(args[i - 1] + " must be positive: " + number);
+    } // end of if
+    return number;
+  } // end of method
+} // end of class
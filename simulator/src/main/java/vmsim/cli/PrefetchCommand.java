@@ -0,0 +1,39 @@
+/*
+* File: PrefetchCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --prefetch mode of the batch simulator. Runs every selected
+* policy with every prefetcher given, each against its own demand paging run
+* (see vmsim.prefetch.PrefetchSimulator). OPT is left out of "all" since it
+* needs the whole trace.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import vmsim.prefetch.PrefetchSimulator;
+import vmsim.prefetch.Prefetchers;
+import vmsim.trace.ReferenceSource;
+
+// PrefetchCommand class
+final class PrefetchCommand extends Command {
+  // PrefetchCommand constructor: selected by --prefetch, over the input
+  PrefetchCommand() {
+    super("--prefetch sequential|stride|markov[:DEGREE],...", List.of("--prefetch"), Options.INPUT, "--policy",
+        "--frames");
+  } // end of method
+
+  // run method: runs every selected policy with every prefetcher, each against its own demand paging
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    for (String name : options.streamingPolicyNames()) {
+      for (String spec : options.prefetchers) {
+        try (ReferenceSource source = options.openReferences()) {
+          out.println(PrefetchSimulator.run(name, Prefetchers.create(spec), source, options.physicalFrames));
+        } // end of try
+      } // end of for
+    } // end of for
+  } // end of method
+} // end of class
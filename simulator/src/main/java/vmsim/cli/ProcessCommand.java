@@ -0,0 +1,116 @@
+/*
+* File: ProcessCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --process and --processes mode of the batch simulator. Runs
+* every selected policy over several processes sharing the physical frames,
+* with each replacement scope given (see vmsim.process.MultiProcessSimulator).
+* The processes are one trace file each, interleaved round-robin or by their
+* timestamps, or independent streams of one workload. OPT is left out of
+* "all" since it needs the whole trace.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import vmsim.process.MultiProcessSimulator;
+import vmsim.process.ProcessSchedule;
+import vmsim.process.RoundRobinSchedule;
+import vmsim.process.TimestampedSchedule;
+import vmsim.trace.MappedTraceReader;
+import vmsim.trace.ReferenceSource;
+import vmsim.trace.TimestampedTraceReader;
+
+// ProcessCommand class
+final class ProcessCommand extends Command {
+  // ProcessCommand constructor: selected by --process or --processes, reading their traces or workload
+  ProcessCommand() {
+    super("(--process PATH ... [--format text|u32|u64|packed] [--page-size BYTES] [--remap] "
+        + "| --processes N --workload MODEL[:NAME=VALUE,...] --length N [--seed S]) "
+        + "[--schedule round-robin|timestamped] [--quantum N] [--replacement global|local] [--thrash-window N] "
+        + "[--thrash-threshold RATE] (instead of the input)", List.of("--process", "--processes"), Options.NO_INPUT,
+        "--policy", "--frames", "--workload", "--length", "--seed", "--format", "--page-size", "--remap", "--schedule",
+        "--quantum", "--replacement", "--thrash-window", "--thrash-threshold");
+  } // end of method
+
+  // check method: processes come either from trace files or from a workload, and only files have timestamps
+  @Override
+  void check(Options options) {
+    if (options.processCount > 0 && options.workload == null) {
+      throw new IllegalArgumentException("--processes needs a --workload for every process to run");
+    } // end of if
+    if (options.processCount > 0 && !options.processFiles.isEmpty()) {
+      throw new IllegalArgumentException("Only one of --process and --processes can be given");
+    } // end of if
+    if (options.timestamped && options.processFiles.isEmpty()) {
+      throw new IllegalArgumentException("Timestamped scheduling needs --process trace files");
+    } // end of if
+    super.check(options);
+  } // end of method
+
+  // run method: runs every selected policy over the processes with each replacement scope
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    List<String> names = options.streamingPolicyNames();
+    List<Path> files = options.processFiles;
+    String[] processNames = new String[files.isEmpty() ? options.processCount : files.size()];
+    for (int p = 0; p < processNames.length; p++) {
+      processNames[p] = files.isEmpty() ? "process " + p : files.get(p).getFileName().toString();
+    } // end of for
+
+    for (String name : names) {
+      for (MultiProcessSimulator.Replacement scope : options.replacements) {
+        MultiProcessSimulator simulator = new MultiProcessSimulator(name, options.physicalFrames, scope,
+            options.thrashWindow, options.thrashThreshold);
+        try (ProcessSchedule schedule = openSchedule(options)) {
+          simulator.run(schedule, processNames).print(out);
+        } // end of try
+      } // end of for
+    } // end of for
+  } // end of method
+
+  // openSchedule method: opens every process's trace, or starts one workload stream per process
+  private static ProcessSchedule openSchedule(Options options) throws IOException {
+    if (options.timestamped) {
+      List<TimestampedTraceReader> readers = new ArrayList<>();
+      try {
+        for (Path file : options.processFiles) {
+          readers.add(new TimestampedTraceReader(file, options.pageSize));
+        } // end of for
+      } // end of try
+      catch (IOException e) {
+        for (TimestampedTraceReader reader : readers) {
+          reader.close();
+        } // end of for
+        throw e;
+      } // end of catch
+      return new TimestampedSchedule(readers);
+    } // end of if
+
+    List<ReferenceSource> sources = new ArrayList<>();
+    try {
+      if (options.processFiles.isEmpty()) {
+        // Every process draws an independent stream of the same workload
+        SplittableRandom random = new SplittableRandom(options.workloadSeed);
+        for (int p = 0; p < options.processCount; p++) {
+          sources.add(options.workload.open(options.workloadLength, random.split()));
+        } // end of for
+      } // end of if
+      for (Path file : options.processFiles) {
+        sources.add(new MappedTraceReader(file, options.format, options.pageSize, options.remap));
+      } // end of for
+    } // end of try
+    catch (IOException e) {
+      for (ReferenceSource source : sources) {
+        source.close();
+      } // end of for
+      throw e;
+    } // end of catch
+    return new RoundRobinSchedule(sources, options.quantum);
+  } // end of method
+} // end of class
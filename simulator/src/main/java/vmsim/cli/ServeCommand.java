@@ -0,0 +1,60 @@
+/*
+* File: ServeCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --serve and --serve-pipe mode of the batch simulator. Simulates
+* the selected policies over live reference feeds from a local port or a
+* named pipe (see vmsim.server.SimulationServer) until a feed sends shutdown,
+* instead of reading an input. It honours the checkpoint options of
+* StreamCommand, checkpointing once more at the end.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import vmsim.server.CheckpointWriter;
+import vmsim.server.SimulationServer;
+import vmsim.server.StreamingSimulation;
+
+// ServeCommand class
+final class ServeCommand extends StreamCommand {
+  // ServeCommand constructor: selected by --serve or --serve-pipe, reading live feeds instead of the input
+  ServeCommand() {
+    super("(--serve PORT | --serve-pipe PATH) [--page-size BYTES] [--threads N] [--batch REFERENCES] "
+        + "[--queue BATCHES] [--rolling-window REFERENCES] " + CHECKPOINT_USAGE + " (instead of the input)",
+        List.of("--serve", "--serve-pipe"), Options.NO_INPUT, "--policy", "--frames", "--page-size", "--threads",
+        "--batch", "--queue", "--rolling-window", "--checkpoint", "--checkpoint-every", "--checkpoint-history",
+        "--resume", "--fork");
+  } // end of method
+
+  // check method: one feed source, and the checks of checkpoints
+  @Override
+  void check(Options options) {
+    if (options.servePort > 0 && options.servePipe != null) {
+      throw new IllegalArgumentException("Only one of --serve and --serve-pipe can be given");
+    } // end of if
+    super.check(options);
+  } // end of method
+
+  // run method: simulates the selected policies over live feeds until a feed sends shutdown, checkpointing
+  // once more at the end IF checkpoints were asked for
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    try (StreamingSimulation simulation = openStreaming(options, out);
+        CheckpointWriter checkpoints = openCheckpoints(simulation, options, out)) {
+      SimulationServer server = new SimulationServer(simulation, options.batchSize, options.queueBatches,
+          options.pageSize, out);
+      if (options.servePipe != null) {
+        server.servePipe(options.servePipe);
+      } // end of if
+      else {
+        server.serve(options.servePort);
+      } // end of else
+      if (checkpoints != null) {
+        checkpoints.write(simulation);
+      } // end of if
+    } // end of try
+  } // end of method
+} // end of class
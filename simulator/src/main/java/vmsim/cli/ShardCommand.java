@@ -0,0 +1,38 @@
+/*
+* File: ShardCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --shards mode of the batch simulator. Loads the whole reference
+* string and splits it into shards simulated in parallel (see
+* vmsim.parallel.ShardedSimulation). Only LRU, FIFO and OPT can be sharded:
+* other policies' state at a shard boundary depends on the whole trace before
+* it, so their error could not be bounded, and "all" leaves them out.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import vmsim.parallel.ShardedSimulation;
+
+// ShardCommand class
+final class ShardCommand extends Command {
+  // ShardCommand constructor: selected by --shards, over the input
+  ShardCommand() {
+    super("--shards N [--threads N] (lru, fifo and opt only, the rest have unbounded error)", List.of("--shards"),
+        Options.INPUT, "--policy", "--frames", "--threads");
+  } // end of method
+
+  // run method: splits the reference string into shards simulated in parallel
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    ShardedSimulation simulation = new ShardedSimulation(options.shards, options.threads);
+    for (String name : options.policyNames()) {
+      // "all" shards only the policies whose boundary state can be reconciled or bounded
+      if (!options.isAll() || ShardedSimulation.supports(name)) {
+        out.println(simulation.run(name, options.wholeTrace(), options.physicalFrames));
+      } // end of if
+    } // end of for
+  } // end of method
+} // end of class
@@ -0,0 +1,109 @@
+/*
+* File: SimulateCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Plain runs of the batch simulator, selected when no other mode is.
+* Runs every selected policy over the whole input and prints one summary line
+* each, with the stall time estimate of --cost, the demand paging diagram of
+* --diagram or the metrics of --metrics and --jmx. The variable-allocation
+* policies WS and PFF print their summary and, with --timeline, how their
+* resident set changed over time.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import vmsim.DiagramObserver;
+import vmsim.ReplacementPolicy;
+import vmsim.SimulationObserver;
+import vmsim.SimulationResult;
+import vmsim.Simulator;
+import vmsim.VariableAllocationPolicy;
+import vmsim.VariableResult;
+import vmsim.VariableSimulator;
+import vmsim.metrics.MetricsObserver;
+import vmsim.metrics.RunMetrics;
+import vmsim.policy.Policies;
+import vmsim.trace.AccessSource;
+import vmsim.trace.ReferenceSource;
+
+// SimulateCommand class
+final class SimulateCommand extends Command {
+  // SimulateCommand constructor: no trigger, the input and the options of a single run
+  SimulateCommand() {
+    super("plain run: [--threads N] [--write-fraction F] [--cost FAULT_US,WRITEBACK_US] "
+        + "[--diagram [--diagram-width COLUMNS] | --metrics PATH.json|PATH.csv [--metrics-window REFERENCES] "
+        + "[--page-metrics] [--jmx]] [--window REFERENCES] [--timeline REFERENCES] (the last two for ws and pff)",
+        List.of(), Options.INPUT, "--policy", "--frames", "--threads", "--write-fraction", "--cost", "--diagram",
+        "--diagram-width", "--metrics", "--metrics-window", "--page-metrics", "--jmx", "--window", "--timeline");
+  } // end of method
+
+  // check method: --page-metrics needs metrics to add to, and a diagram collects no metrics
+  @Override
+  void check(Options options) {
+    if (options.pageMetrics && options.metricsFile == null && !options.jmx) {
+      throw new IllegalArgumentException("--page-metrics needs --metrics or --jmx");
+    } // end of if
+    if ((options.metricsFile != null || options.jmx) && options.diagram) {
+      throw new IllegalArgumentException("--metrics and --jmx cannot be combined with --diagram");
+    } // end of if
+    super.check(options);
+  } // end of method
+
+  // run method: runs the selected policies and prints one summary line each, and their metrics IF collected
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    List<SimulationResult> results = new ArrayList<>();
+    List<RunMetrics> metrics = new ArrayList<>();
+    boolean collect = options.metricsFile != null || options.jmx;
+    for (String name : options.policyNames()) {
+      if (Policies.isVariable(name)) {
+        simulateVariable(name, options, out);
+        continue;
+      } // end of if
+
+      // Load the trace into memory only for runs that need the whole reference string
+      if (options.diagram || Policies.needsWholeTrace(name)) {
+        options.wholeTrace();
+      } // end of if
+
+      ReplacementPolicy policy = Policies.create(name, options.referenceString);
+      MetricsObserver collector = collect ? new MetricsObserver(options.metricsWindow, options.pageMetrics,
+          options.jmx) : null;
+      SimulationObserver observer = options.diagram ? new DiagramObserver(policy.getName(), options.referenceString,
+          null, out, options.diagramWidth) : collector;
+      SimulationResult result;
+      try (AccessSource source = options.openAccesses()) {
+        result = Simulator.run(policy, source, options.physicalFrames, observer);
+      } // end of try
+      out.println(options.cost == null ? result : result + " " + options.cost.describe(result));
+      results.add(result);
+      if (collector != null) {
+        out.println(collector.getMetrics());
+        metrics.add(collector.getMetrics());
+      } // end of if
+    } // end of for
+    if (options.metricsFile != null) {
+      RunMetrics.write(metrics, options.metricsFile);
+    } // end of if
+    if (options.cost != null && results.size() > 1) {
+      options.cost.printRanking(results, out);
+    } // end of if
+  } // end of method
+
+  // simulateVariable method: runs a variable-allocation policy and prints its summary and timeline
+  private static void simulateVariable(String name, Options options, PrintStream out) throws IOException {
+    VariableAllocationPolicy policy = Policies.createVariable(name, options.window);
+    VariableResult result;
+    try (ReferenceSource source = options.openReferences()) {
+      result = VariableSimulator.run(policy, source, options.timeline);
+    } // end of try
+    out.println(result);
+    if (options.timeline > 0) {
+      result.printTimeline(out);
+    } // end of if
+  } // end of method
+} // end of class
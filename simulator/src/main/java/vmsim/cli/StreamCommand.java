@@ -0,0 +1,119 @@
+/*
+* File: StreamCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --checkpoint and --resume mode of the batch simulator. Simulates
+* the input in batches like a live feed (see vmsim.server.StreamingSimulation),
+* so it can be checkpointed every so many references, and resumed or forked
+* into another frame count from a checkpoint. A resumed or forked run skips
+* the references simulated before the checkpoint; the policies, frame count
+* and rolling window come from the checkpoint. This is the only mode besides
+* --serve that honours --checkpoint and --resume.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import vmsim.server.CheckpointWriter;
+import vmsim.server.StreamingSimulation;
+import vmsim.trace.AccessSource;
+
+// StreamCommand class
+class StreamCommand extends Command {
+  // Usage of the checkpoint options, shared with --serve
+  static final String CHECKPOINT_USAGE = "[--checkpoint PATH [--checkpoint-every REFERENCES] "
+      + "[--checkpoint-history REFERENCES]] [--resume PATH [--fork FRAMES]]";
+
+  // StreamCommand constructor: selected by --checkpoint or --resume, over the input
+  StreamCommand() {
+    super("--checkpoint PATH [--checkpoint-every REFERENCES] [--checkpoint-history REFERENCES] and/or "
+        + "--resume PATH [--fork FRAMES], [--threads N] [--write-fraction F] [--batch REFERENCES] "
+        + "[--rolling-window REFERENCES]",
+        List.of("--checkpoint", "--resume"), Options.INPUT, "--policy", "--frames", "--threads", "--write-fraction",
+        "--batch", "--rolling-window", "--checkpoint-every", "--checkpoint-history", "--fork");
+  } // end of method
+
+  // StreamCommand constructor: for --serve, which streams live feeds with the same checkpoint options
+  protected StreamCommand(String usage, List<String> triggers, String[] input, String... modeOptions) {
+    super(usage, triggers, input, modeOptions);
+  } // end of method
+
+  // check method: a fork needs a checkpoint, and a resumed run takes its policies from it
+  @Override
+  void check(Options options) {
+    if (options.forkFrames > 0 && options.resumeFile == null) {
+      throw new IllegalArgumentException("--fork needs the --resume checkpoint to fork");
+    } // end of if
+    if (options.resumeFile != null && (options.given("--policy") || options.given("--frames"))) {
+      throw new IllegalArgumentException("--resume takes the policies and frame count from the checkpoint; "
+          + "use --fork FRAMES for another frame count");
+    } // end of if
+    super.check(options);
+  } // end of method
+
+  // run method: simulates the input in batches like a live feed, so it can be checkpointed, resumed or forked,
+  // checkpointing once more at the end IF checkpoints were asked for
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    try (StreamingSimulation simulation = openStreaming(options, out);
+        CheckpointWriter checkpoints = openCheckpoints(simulation, options, out);
+        AccessSource source = options.openAccesses()) {
+      int batchSize = options.batchSize;
+      int[] pages = new int[batchSize];
+      boolean[] pageWrites = new boolean[batchSize];
+
+      // Skip the references simulated before the checkpoint
+      long skip = simulation.getForkPosition() + simulation.getSnapshot().getReferences();
+      while (skip > 0) {
+        int count = skip < batchSize ? source.read(new int[(int) skip], new boolean[(int) skip])
+            : source.read(pages, pageWrites);
+        if (count < 0) {
+          throw new IllegalArgumentException("The input ends before the checkpoint's position");
+        } // end of if
+        skip -= count;
+      } // end of while
+
+      int count;
+      while ((count = source.read(pages, pageWrites)) >= 0) {
+        if (count > 0) {
+          simulation.simulate(pages, pageWrites, count);
+        } // end of if
+      } // end of while
+      simulation.getSnapshot().print(out);
+      if (checkpoints != null) {
+        checkpoints.write(simulation);
+      } // end of if
+    } // end of try
+  } // end of method
+
+  // openStreaming method: starts a streaming simulation of the selected policies, or resumes or forks --resume
+  static StreamingSimulation openStreaming(Options options, PrintStream out) throws IOException {
+    if (options.resumeFile == null) {
+      return new StreamingSimulation(options.streamingPolicyNames(), options.physicalFrames, options.rollingWindow,
+          options.threads);
+    } // end of if
+    if (options.forkFrames > 0) {
+      StreamingSimulation simulation = StreamingSimulation.fork(options.resumeFile, options.forkFrames,
+          options.threads);
+      out.println("Forked " + options.resumeFile + " after " + simulation.getForkPosition() + " references into "
+          + options.forkFrames + " frames");
+      return simulation;
+    } // end of if
+    StreamingSimulation simulation = StreamingSimulation.resume(options.resumeFile, options.threads);
+    out.println("Resumed " + options.resumeFile + " after " + (simulation.getForkPosition()
+        + simulation.getSnapshot().getReferences()) + " references");
+    return simulation;
+  } // end of method
+
+  // openCheckpoints method: starts writing checkpoints of a simulation IF --checkpoint was given, else returns null
+  static CheckpointWriter openCheckpoints(StreamingSimulation simulation, Options options, PrintStream out) {
+    if (options.checkpointPath == null) {
+      return null;
+    } // end of if
+    CheckpointWriter checkpoints = new CheckpointWriter(options.checkpointPath, out);
+    simulation.checkpointEvery(options.checkpointInterval, options.checkpointHistory, checkpoints);
+    return checkpoints;
+  } // end of method
+} // end of class
@@ -0,0 +1,52 @@
+/*
+* File: SweepCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --sweep mode of the batch simulator. Runs every selected policy
+* at every frame count on every reference string in parallel (see
+* vmsim.parallel.PolicySweep); it is the only mode that takes several --file
+* traces, each loaded whole.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import vmsim.parallel.PolicySweep;
+import vmsim.trace.ReferenceTrace;
+
+// SweepCommand class
+final class SweepCommand extends Command {
+  // SweepCommand constructor: selected by --sweep, over the input with several --file allowed
+  SweepCommand() {
+    super("--sweep FRAMES,FROM-TO,... [--threads N] (--file may be repeated)", List.of("--sweep"), Options.INPUT,
+        "--policy", "--threads");
+  } // end of method
+
+  // check method: any number of --file, each a reference string of the sweep
+  @Override
+  void check(Options options) {
+    options.requireInput();
+  } // end of method
+
+  // run method: runs every policy at every frame count on every reference string in parallel
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    Map<String, ReferenceTrace> traces = new LinkedHashMap<>();
+    if (options.referenceString != null) {
+      traces.put("command line", options.referenceString);
+    } // end of if
+    for (Path file : options.traceFiles) {
+      traces.put(file.getFileName().toString(), options.loadFile(file));
+    } // end of for
+    if (options.workload != null) {
+      traces.put(options.workload.toString(), ReferenceTrace.readAll(options.workload.open(options.workloadLength,
+          options.workloadSeed)));
+    } // end of if
+    new PolicySweep(options.policyNames(), options.sweepFrames, options.threads).run(traces).print(out);
+  } // end of method
+} // end of class
@@ -0,0 +1,46 @@
+/*
+* File: TranslateCommand.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The --tlb mode of the batch simulator. Translates the virtual
+* addresses of one --trace or --file through a TLB and a radix page table for
+* every selected policy (see vmsim.mmu.TranslationSimulator). The page size
+* splits the addresses, 4 KB unless given.
+*/
+
+package vmsim.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import vmsim.mmu.TranslationSimulator;
+import vmsim.trace.AddressSource;
+import vmsim.trace.MappedTraceReader;
+
+// TranslateCommand class
+final class TranslateCommand extends Command {
+  private static final String[] ADDRESSES = {"--trace", "--file", "--format", "--page-size"};
+
+  // TranslateCommand constructor: selected by --tlb, over the addresses of a trace
+  TranslateCommand() {
+    super("--tlb SETSxWAYS [--tlb-policy lru|fifo|random] [--va-bits N] [--level-bits N] "
+        + "(addresses of one --trace or --file)", List.of("--tlb"), ADDRESSES, "--policy", "--frames", "--tlb-policy",
+        "--va-bits", "--level-bits");
+  } // end of method
+
+  // run method: translates the addresses through the TLB and page table for every selected policy
+  @Override
+  void run(Options options, PrintStream out) throws IOException {
+    long size = options.pageSize == 1 ? 4096 : options.pageSize; // addresses need a real page size, 4 KB unless given
+    for (String name : options.streamingPolicyNames()) {
+      TranslationSimulator simulator = new TranslationSimulator(name, options.physicalFrames, size,
+          options.addressBits, options.levelBits, options.tlbSets, options.tlbWays, options.tlbReplacement);
+      try (AddressSource source = options.referenceString != null
+          ? AddressSource.of(Arrays.stream(options.referenceString.toArray()).asLongStream().toArray())
+          : new MappedTraceReader(options.traceFile, options.format, 1, false)) {
+        out.println(simulator.run(source));
+      } // end of try
+    } // end of for
+  } // end of method
+} // end of class
@@ -0,0 +1,42 @@
+/*
+* File: FaultWindowEvent.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: JDK Flight Recorder event for one metrics window of a run: the
+* faults among a fixed number of consecutive references. The event is only
+* recorded while a recording with vmsim.FaultWindow enabled is running, e.g.
+*   java -XX:StartFlightRecording=filename=run.jfr -jar simulator.jar ... --metrics run.json
+*/
+
+package vmsim.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// FaultWindowEvent class
+@Name("vmsim.FaultWindow")
+@Label("Fault Window")
+@Category("Virtual Memory Simulator")
+@Description("Page faults among consecutive references of a simulation run")
+final class FaultWindowEvent extends Event {
+  @Label("Policy")
+  String policy;
+
+  @Label("Physical Frames")
+  int frames;
+
+  @Label("First Reference")
+  long firstReference;
+
+  @Label("References")
+  long references;
+
+  @Label("Faults")
+  long faults;
+
+  @Label("Fault Rate")
+  double faultRate;
+} // end of class
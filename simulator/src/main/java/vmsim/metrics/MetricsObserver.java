@@ -0,0 +1,356 @@
+/*
+* File: MetricsObserver.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Collects the detailed metrics of a headless run as it is simulated.
+* Every step only bumps primitive counters, so nothing is allocated per
+* reference. Every window of consecutive references closes with a JFR event
+* and publishes the counters to the optional JMX bean; the whole run ends
+* with another JFR event and a RunMetrics. Per-page metrics are optional, as
+* they touch a counter of the referenced page on every step, which costs a
+* cache miss when the pages are many: the faults and last reference of small
+* pages are kept in arrays indexed by the page, and those of larger pages in
+* arrays indexed by a dense id from an open-addressing map, as the policies'
+* page table does. Reuse time is the number of references since the page was
+* last referenced, not the LRU stack distance, which --mrc gives.
+*/
+
+package vmsim.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import vmsim.ReplacementPolicy;
+import vmsim.SimulationObserver;
+import vmsim.SimulationResult;
+import vmsim.util.IntIntMap;
+
+// MetricsObserver class
+public class MetricsObserver implements SimulationObserver, SimulationMetricsMXBean {
+  // References per window unless given
+  public static final long DEFAULT_WINDOW = 10_000;
+
+  private static final int BUCKETS = 64; // power of two histogram buckets, enough for any long
+  private static final int TOP_PAGES = 10; // pages with the most faults to report
+  private static final int DIRECT_LIMIT = 1 << 20; // pages counted in arrays indexed by the page
+
+  private final long window;
+  private final boolean pageMetrics; // count faults and reuse times per page
+  private final boolean jmx;
+  private String policyName = "";
+  private int physicalFrames = 0;
+  private long startNanos = 0;
+  private SimulationRunEvent runEvent = null;
+  private RunMetrics metrics = null; // null until the run has finished
+
+  // Run counters
+  private long references = 0;
+  private long faults = 0;
+  private long evictions = 0;
+  private long windowStart = 0; // index of the first reference of the current window
+  private long windowFaultCount = 0;
+  private long[] windowFaults = new long[64];
+  private int windows = 0;
+
+  // Page counters, of pages below DIRECT_LIMIT by page and of larger pages by dense id
+  private long[] directLast = new long[0]; // last reference of each page, -1 until referenced
+  private int[] directFaults = new int[0];
+  private final IntIntMap hashedIds = new IntIntMap(1 << 10, -1);
+  private int[] hashedPages = new int[0];
+  private long[] hashedLast = new long[0];
+  private int[] hashedFaults = new int[0];
+  private int distinctPages = 0; // stays 0 without page metrics
+  private final long[] reuseTimes = new long[BUCKETS];
+
+  // Counters as of the last complete window, read by JMX clients on other threads
+  private volatile long publishedReferences = 0;
+  private volatile long publishedFaults = 0;
+  private volatile long publishedEvictions = 0;
+  private volatile long publishedNanos = 0;
+  private volatile double publishedWindowFaultRate = 0;
+  private volatile boolean finished = false;
+
+  // MetricsObserver constructor: window is references per window, jmx registers the bean when the run starts
+  public MetricsObserver(long window, boolean pageMetrics, boolean jmx) {
+    if (window <= 0) {
+      throw new IllegalArgumentException("Metrics window must be positive: " + window);
+    } // end of if
+    this.window = window;
+    this.pageMetrics = pageMetrics;
+    this.jmx = jmx;
+  } // end of method
+
+  // started method: starts the clock and the run event, and registers the JMX bean IF asked to
+  @Override
+  public void started(ReplacementPolicy policy, long length) {
+    policyName = policy.getName();
+    physicalFrames = policy.getFrameCount();
+    if (jmx) {
+      register();
+    } // end of if
+    runEvent = new SimulationRunEvent();
+    runEvent.begin();
+    startNanos = System.nanoTime();
+    publishedNanos = startNanos;
+  } // end of method
+
+  // step method: counts the reference against its page and its window
+  @Override
+  public void step(long index, int page, int result, ReplacementPolicy policy) {
+    int fault = result == ReplacementPolicy.HIT ? 0 : 1;
+    if (pageMetrics) {
+      if (page < directLast.length || (page < DIRECT_LIMIT && grow(page))) {
+        directLast[page] = reuse(directLast[page], index);
+        directFaults[page] += fault;
+      } // end of if
+      else {
+        int id = hashedId(page);
+        hashedLast[id] = reuse(hashedLast[id], index);
+        hashedFaults[id] += fault;
+      } // end of else
+    } // end of if
+
+    references++;
+    faults += fault;
+    windowFaultCount += fault;
+    evictions += result >= 0 ? 1 : 0; // a victim page
+    if (references - windowStart == window) {
+      closeWindow();
+    } // end of if
+  } // end of method
+
+  // finished method: closes the last partial window and builds the metrics of the run
+  @Override
+  public void finished(SimulationResult result) {
+    if (references > windowStart) {
+      closeWindow();
+    } // end of if
+    long wallNanos = System.nanoTime() - startNanos;
+
+    // Histogram of faults per page, and the pages with the most faults
+    long[] faultsPerPage = new long[BUCKETS];
+    int top = Math.min(TOP_PAGES, distinctPages);
+    int[] topPages = new int[top];
+    int[] topPageFaults = new int[top];
+    int ranked = 0;
+    for (int page = 0; page < directLast.length; page++) {
+      if (directFaults[page] > 0) {
+        faultsPerPage[bucket(directFaults[page])]++;
+        ranked = rank(page, directFaults[page], topPages, topPageFaults, ranked);
+      } // end of if
+    } // end of for
+    for (int id = 0; id < hashedIds.size(); id++) {
+      if (hashedFaults[id] > 0) {
+        faultsPerPage[bucket(hashedFaults[id])]++;
+        ranked = rank(hashedPages[id], hashedFaults[id], topPages, topPageFaults, ranked);
+      } // end of if
+    } // end of for
+    topPages = Arrays.copyOf(topPages, ranked);
+    topPageFaults = Arrays.copyOf(topPageFaults, ranked);
+
+    metrics = new RunMetrics(policyName, physicalFrames, references, faults, evictions, result.getWrites(),
+        result.getWriteBacks(), pageMetrics ? distinctPages : -1, wallNanos, window, Arrays.copyOf(windowFaults, windows),
+        trim(faultsPerPage), trim(reuseTimes), topPages, topPageFaults);
+
+    runEvent.end();
+    if (runEvent.shouldCommit()) {
+      runEvent.policy = policyName;
+      runEvent.frames = physicalFrames;
+      runEvent.references = references;
+      runEvent.faults = faults;
+      runEvent.evictions = evictions;
+      runEvent.writeBacks = result.getWriteBacks();
+      runEvent.distinctPages = pageMetrics ? distinctPages : -1;
+      runEvent.faultRate = result.getFaultRate();
+      runEvent.commit();
+    } // end of if
+    finished = true;
+  } // end of method
+
+  // getMetrics method: returns the metrics of the run, or null before it has finished
+  public RunMetrics getMetrics() {
+    return metrics;
+  } // end of method
+
+  // getPolicyName method: returns the name of the simulated algorithm
+  @Override
+  public String getPolicyName() {
+    return policyName;
+  } // end of method
+
+  // getPhysicalFrames method: returns the number of physical frames simulated
+  @Override
+  public int getPhysicalFrames() {
+    return physicalFrames;
+  } // end of method
+
+  // getReferences method: returns the references simulated as of the last window
+  @Override
+  public long getReferences() {
+    return publishedReferences;
+  } // end of method
+
+  // getFaults method: returns the page faults as of the last window
+  @Override
+  public long getFaults() {
+    return publishedFaults;
+  } // end of method
+
+  // getHits method: returns the hits as of the last window
+  @Override
+  public long getHits() {
+    return publishedReferences - publishedFaults;
+  } // end of method
+
+  // getEvictions method: returns the evictions as of the last window
+  @Override
+  public long getEvictions() {
+    return publishedEvictions;
+  } // end of method
+
+  // getFaultRate method: returns faults per reference as of the last window
+  @Override
+  public double getFaultRate() {
+    long seen = publishedReferences;
+    return seen == 0 ? 0.0 : (double) publishedFaults / seen;
+  } // end of method
+
+  // getWindowFaultRate method: returns the fault rate of the last complete window
+  @Override
+  public double getWindowFaultRate() {
+    return publishedWindowFaultRate;
+  } // end of method
+
+  // getReferencesPerSecond method: returns the simulation speed as of the last window
+  @Override
+  public double getReferencesPerSecond() {
+    long elapsed = publishedNanos - startNanos;
+    return elapsed == 0 ? 0.0 : publishedReferences / (elapsed / 1e9);
+  } // end of method
+
+  // isFinished method: returns true once the last reference has been simulated
+  @Override
+  public boolean isFinished() {
+    return finished;
+  } // end of method
+
+  // closeWindow method: records the faults of the current window, reports it to JFR and publishes the counters
+  private void closeWindow() {
+    long length = references - windowStart;
+    if (windows == windowFaults.length) {
+      windowFaults = Arrays.copyOf(windowFaults, windows * 2);
+    } // end of if
+    windowFaults[windows++] = windowFaultCount;
+
+    FaultWindowEvent event = new FaultWindowEvent();
+    if (event.shouldCommit()) {
+      event.policy = policyName;
+      event.frames = physicalFrames;
+      event.firstReference = windowStart;
+      event.references = length;
+      event.faults = windowFaultCount;
+      event.faultRate = (double) windowFaultCount / length;
+      event.commit();
+    } // end of if
+
+    publishedReferences = references;
+    publishedFaults = faults;
+    publishedEvictions = evictions;
+    publishedWindowFaultRate = (double) windowFaultCount / length;
+    publishedNanos = System.nanoTime();
+    windowStart = references;
+    windowFaultCount = 0;
+  } // end of method
+
+  // register method: registers this observer as vmsim:type=Simulation, replacing an earlier run of the same name
+  private void register() {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName("vmsim:type=Simulation,policy=" + ObjectName.quote(policyName)
+          + ",frames=" + physicalFrames);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      } // end of if
+      server.registerMBean(this, name);
+    } // end of try
+    catch (JMException e) {
+      throw new IllegalStateException("Cannot register the JMX bean of " + policyName + ": " + e.getMessage(), e);
+    } // end of catch
+  } // end of method
+
+  // reuse method: counts the reuse time of a page last referenced at last, or a new distinct page, returns index
+  private long reuse(long last, long index) {
+    if (last < 0) {
+      distinctPages++;
+    } // end of if
+    else {
+      reuseTimes[bucket(index - last)]++;
+    } // end of else
+    return index;
+  } // end of method
+
+  // hashedId method: returns the dense id of a page at or above DIRECT_LIMIT, giving new pages the next id
+  private int hashedId(int page) {
+    int id = hashedIds.get(page);
+    if (id < 0) {
+      id = hashedIds.size();
+      hashedIds.put(page, id);
+      if (id == hashedPages.length) {
+        int length = Math.max(1 << 10, id * 2);
+        hashedPages = Arrays.copyOf(hashedPages, length);
+        hashedLast = Arrays.copyOf(hashedLast, length);
+        hashedFaults = Arrays.copyOf(hashedFaults, length);
+        Arrays.fill(hashedLast, id, length, -1);
+      } // end of if
+      hashedPages[id] = page;
+    } // end of if
+    return id;
+  } // end of method
+
+  // grow method: doubles the per-page arrays until they cover a page below DIRECT_LIMIT, returns true
+  private boolean grow(int page) {
+    int length = Math.max(directLast.length, 1 << 10);
+    while (length <= page) {
+      length = Math.min(DIRECT_LIMIT, length * 2);
+    } // end of while
+    int oldLength = directLast.length;
+    directLast = Arrays.copyOf(directLast, length);
+    directFaults = Arrays.copyOf(directFaults, length);
+    Arrays.fill(directLast, oldLength, length, -1);
+    return true;
+  } // end of method
+
+  // rank method: inserts a page among the top pages IF it has more faults than the last of them, returns how
+  // many are ranked
+  private static int rank(int page, int pageFaults, int[] topPages, int[] topPageFaults, int ranked) {
+    int top = topPages.length;
+    if (ranked == top && pageFaults <= topPageFaults[top - 1]) {
+      return ranked;
+    } // end of if
+    int i = Math.min(ranked, top - 1);
+    while (i > 0 && topPageFaults[i - 1] < pageFaults) {
+      topPages[i] = topPages[i - 1];
+      topPageFaults[i] = topPageFaults[i - 1];
+      i--;
+    } // end of while
+    topPages[i] = page;
+    topPageFaults[i] = pageFaults;
+    return Math.min(ranked + 1, top);
+  } // end of method
+
+  // bucket method: returns the power of two bucket of a positive value
+  private static int bucket(long value) {
+    return 63 - Long.numberOfLeadingZeros(value);
+  } // end of method
+
+  // trim method: drops the empty buckets after the last used one
+  private static long[] trim(long[] histogram) {
+    int length = histogram.length;
+    while (length > 0 && histogram[length - 1] == 0) {
+      length--;
+    } // end of while
+    return Arrays.copyOf(histogram, length);
+  } // end of method
+} // end of class
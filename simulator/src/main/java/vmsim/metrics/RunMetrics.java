@@ -0,0 +1,236 @@
+/*
+* File: RunMetrics.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Detailed metrics of one simulation run, collected by a
+* MetricsObserver: the totals of the run, its wall time and speed, the fault
+* rate of every window of consecutive references, and histograms of the
+* faults per page and of the reuse times, when page metrics were collected.
+* Histograms use power of two buckets: bucket b counts the values in
+* [2^b, 2^(b+1)). Runs are exported as JSON, with everything, or as CSV, with
+* one row of totals per run.
+*/
+
+package vmsim.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+// RunMetrics class
+public class RunMetrics {
+  private static final String CSV_HEADER = "policy,frames,references,faults,hits,evictions,writes,writeBacks,"
+      + "distinctPages,faultRate,wallMillis,referencesPerSecond,window,windows,minWindowFaultRate,maxWindowFaultRate";
+
+  private final String policyName;
+  private final int physicalFrames;
+  private final long references;
+  private final long faults;
+  private final long evictions;
+  private final long writes;
+  private final long writeBacks;
+  private final int distinctPages; // -1 without page metrics
+  private final long wallNanos;
+  private final long window; // references per window
+  private final long[] windowFaults;
+  private final long[] faultsPerPage; // histogram of the fault count of each page
+  private final long[] reuseTimes; // histogram of references since the page's previous reference
+  private final int[] topPages; // pages with the most faults, most first
+  private final int[] topPageFaults;
+
+  // RunMetrics constructor: the arrays are owned by the new object
+  RunMetrics(String policyName, int physicalFrames, long references, long faults, long evictions, long writes,
+      long writeBacks, int distinctPages, long wallNanos, long window, long[] windowFaults, long[] faultsPerPage,
+      long[] reuseTimes, int[] topPages, int[] topPageFaults) {
+    this.policyName = policyName;
+    this.physicalFrames = physicalFrames;
+    this.references = references;
+    this.faults = faults;
+    this.evictions = evictions;
+    this.writes = writes;
+    this.writeBacks = writeBacks;
+    this.distinctPages = distinctPages;
+    this.wallNanos = wallNanos;
+    this.window = window;
+    this.windowFaults = windowFaults;
+    this.faultsPerPage = faultsPerPage;
+    this.reuseTimes = reuseTimes;
+    this.topPages = topPages;
+    this.topPageFaults = topPageFaults;
+  } // end of method
+
+  // getPolicyName method: returns the name of the simulated algorithm
+  public String getPolicyName() {
+    return policyName;
+  } // end of method
+
+  // getFaults method: returns the total number of page faults
+  public long getFaults() {
+    return faults;
+  } // end of method
+
+  // getDistinctPages method: returns the number of different pages referenced, the compulsory faults, or -1
+  public int getDistinctPages() {
+    return distinctPages;
+  } // end of method
+
+  // hasPageMetrics method: returns true IF the per-page histograms were collected
+  public boolean hasPageMetrics() {
+    return distinctPages >= 0;
+  } // end of method
+
+  // getWallMillis method: returns the wall time of the run in milliseconds
+  public double getWallMillis() {
+    return wallNanos / 1e6;
+  } // end of method
+
+  // getReferencesPerSecond method: returns the simulation speed, 0 for an empty run
+  public double getReferencesPerSecond() {
+    return wallNanos == 0 ? 0.0 : references / (wallNanos / 1e9);
+  } // end of method
+
+  // getWindows method: returns the number of windows, the last of which may be partial
+  public int getWindows() {
+    return windowFaults.length;
+  } // end of method
+
+  // getWindowFaultRate method: returns the fault rate of a window
+  public double getWindowFaultRate(int i) {
+    long length = Math.min(window, references - i * window);
+    return (double) windowFaults[i] / length;
+  } // end of method
+
+  // getMinWindowFaultRate method: returns the lowest fault rate of any window, 0 for an empty run
+  public double getMinWindowFaultRate() {
+    double min = windowFaults.length == 0 ? 0.0 : 1.0;
+    for (int i = 0; i < windowFaults.length; i++) {
+      min = Math.min(min, getWindowFaultRate(i));
+    } // end of for
+    return min;
+  } // end of method
+
+  // getMaxWindowFaultRate method: returns the highest fault rate of any window, 0 for an empty run
+  public double getMaxWindowFaultRate() {
+    double max = 0.0;
+    for (int i = 0; i < windowFaults.length; i++) {
+      max = Math.max(max, getWindowFaultRate(i));
+    } // end of for
+    return max;
+  } // end of method
+
+  // toString method: one line summary of the speed and of the fault rate range over the windows
+  @Override
+  public String toString() {
+    String summary = String.format("%s metrics: wallTime=%.1fms referencesPerSecond=%.0f windows=%d "
+        + "windowFaultRate=%.4f-%.4f", policyName, getWallMillis(), getReferencesPerSecond(), windowFaults.length,
+        getMinWindowFaultRate(), getMaxWindowFaultRate());
+    return hasPageMetrics() ? summary + " distinctPages=" + distinctPages : summary;
+  } // end of method
+
+  // write method: writes the runs to a file, as CSV IF its name ends in .csv, otherwise as JSON
+  public static void write(List<RunMetrics> runs, Path file) throws IOException {
+    boolean csv = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write(csv ? toCsv(runs) : toJson(runs));
+    } // end of try
+  } // end of method
+
+  // toCsv method: a header and one row of totals per run
+  public static String toCsv(List<RunMetrics> runs) {
+    StringBuilder text = new StringBuilder(CSV_HEADER).append('\n');
+    for (RunMetrics run : runs) {
+      text.append(csvField(run.policyName)).append(',').append(run.physicalFrames).append(',')
+          .append(run.references).append(',').append(run.faults).append(',').append(run.references - run.faults)
+          .append(',').append(run.evictions).append(',').append(run.writes).append(',').append(run.writeBacks)
+          .append(',').append(run.hasPageMetrics() ? String.valueOf(run.distinctPages) : "").append(',').append(number(faultRate(run.faults, run.references)))
+          .append(',').append(number(run.getWallMillis())).append(',').append(number(run.getReferencesPerSecond()))
+          .append(',').append(run.window).append(',').append(run.windowFaults.length).append(',')
+          .append(number(run.getMinWindowFaultRate())).append(',').append(number(run.getMaxWindowFaultRate()))
+          .append('\n');
+    } // end of for
+    return text.toString();
+  } // end of method
+
+  // toJson method: an array with one object per run, holding every metric
+  public static String toJson(List<RunMetrics> runs) {
+    StringBuilder text = new StringBuilder("[");
+    for (int r = 0; r < runs.size(); r++) {
+      RunMetrics run = runs.get(r);
+      text.append(r == 0 ? "\n" : ",\n").append("  {\n");
+      text.append("    \"policy\": ").append(jsonString(run.policyName)).append(",\n");
+      text.append("    \"frames\": ").append(run.physicalFrames).append(",\n");
+      text.append("    \"references\": ").append(run.references).append(",\n");
+      text.append("    \"faults\": ").append(run.faults).append(",\n");
+      text.append("    \"hits\": ").append(run.references - run.faults).append(",\n");
+      text.append("    \"evictions\": ").append(run.evictions).append(",\n");
+      text.append("    \"writes\": ").append(run.writes).append(",\n");
+      text.append("    \"writeBacks\": ").append(run.writeBacks).append(",\n");
+      text.append("    \"faultRate\": ").append(number(faultRate(run.faults, run.references))).append(",\n");
+      text.append("    \"wallMillis\": ").append(number(run.getWallMillis())).append(",\n");
+      text.append("    \"referencesPerSecond\": ").append(number(run.getReferencesPerSecond())).append(",\n");
+      text.append("    \"window\": ").append(run.window).append(",\n");
+      text.append("    \"windowFaults\": ").append(jsonArray(run.windowFaults));
+      if (run.hasPageMetrics()) {
+        text.append(",\n    \"distinctPages\": ").append(run.distinctPages).append(",\n");
+        text.append("    \"faultsPerPageHistogram\": ").append(jsonArray(run.faultsPerPage)).append(",\n");
+        text.append("    \"reuseTimeHistogram\": ").append(jsonArray(run.reuseTimes)).append(",\n");
+        text.append("    \"topPages\": [");
+        for (int i = 0; i < run.topPages.length; i++) {
+          text.append(i == 0 ? "" : ", ").append("{\"page\": ").append(run.topPages[i]).append(", \"faults\": ")
+              .append(run.topPageFaults[i]).append('}');
+        } // end of for
+        text.append(']');
+      } // end of if
+      text.append("\n  }");
+    } // end of for
+    return text.append(runs.isEmpty() ? "]\n" : "\n]\n").toString();
+  } // end of method
+
+  // faultRate method: faults per reference, 0 for an empty run
+  private static double faultRate(long faults, long references) {
+    return references == 0 ? 0.0 : (double) faults / references;
+  } // end of method
+
+  // number method: formats a decimal the same way in every locale
+  private static String number(double value) {
+    return String.format(Locale.ROOT, "%.6f", value);
+  } // end of method
+
+  // jsonArray method: formats counts as a JSON array
+  private static String jsonArray(long[] values) {
+    StringBuilder text = new StringBuilder("[");
+    for (int i = 0; i < values.length; i++) {
+      text.append(i == 0 ? "" : ", ").append(values[i]);
+    } // end of for
+    return text.append(']').toString();
+  } // end of method
+
+  // jsonString method: quotes a string for JSON
+  private static String jsonString(String value) {
+    StringBuilder text = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        text.append('\\').append(c);
+      } // end of if
+      else if (c < ' ') {
+        text.append(String.format("\\u%04x", (int) c));
+      } // end of else if
+      else {
+        text.append(c);
+      } // end of else
+    } // end of for
+    return text.append('"').toString();
+  } // end of method
+
+  // csvField method: quotes a CSV field IF it holds a separator or a quote
+  private static String csvField(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+      return value;
+    } // end of if
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  } // end of method
+} // end of class
@@ -0,0 +1,43 @@
+/*
+* File: SimulationMetricsMXBean.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: JMX view of a simulation run, for watching a long headless run live
+* from jconsole or any JMX client. The values are published once per metrics
+* window, so a reading can lag the run by up to one window.
+*/
+
+package vmsim.metrics;
+
+// SimulationMetricsMXBean interface
+public interface SimulationMetricsMXBean {
+  // getPolicyName method: returns the name of the simulated algorithm
+  String getPolicyName();
+
+  // getPhysicalFrames method: returns the number of physical frames simulated
+  int getPhysicalFrames();
+
+  // getReferences method: returns the references simulated so far
+  long getReferences();
+
+  // getFaults method: returns the page faults so far
+  long getFaults();
+
+  // getHits method: returns the references so far that found their page resident
+  long getHits();
+
+  // getEvictions method: returns the faults so far that replaced a victim page
+  long getEvictions();
+
+  // getFaultRate method: returns faults per reference so far
+  double getFaultRate();
+
+  // getWindowFaultRate method: returns the fault rate of the last complete window
+  double getWindowFaultRate();
+
+  // getReferencesPerSecond method: returns the simulation speed so far
+  double getReferencesPerSecond();
+
+  // isFinished method: returns true once the last reference has been simulated
+  boolean isFinished();
+} // end of interface
@@ -0,0 +1,48 @@
+/*
+* File: SimulationRunEvent.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: JDK Flight Recorder event for a whole simulation run. It begins
+* before the first reference and ends after the last, so its duration is the
+* wall time of the run.
+*/
+
+package vmsim.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// SimulationRunEvent class
+@Name("vmsim.SimulationRun")
+@Label("Simulation Run")
+@Category("Virtual Memory Simulator")
+@Description("One replacement policy run over a whole reference string")
+final class SimulationRunEvent extends Event {
+  @Label("Policy")
+  String policy;
+
+  @Label("Physical Frames")
+  int frames;
+
+  @Label("References")
+  long references;
+
+  @Label("Faults")
+  long faults;
+
+  @Label("Evictions")
+  long evictions;
+
+  @Label("Write-backs")
+  long writeBacks;
+
+  @Label("Distinct Pages")
+  @Description("Different pages referenced, or -1 without page metrics")
+  int distinctPages;
+
+  @Label("Fault Rate")
+  double faultRate;
+} // end of class
@@ -0,0 +1,85 @@
+/*
+* File: RadixPageTable.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Multi-level (radix) page table, as walked by the MMU on a TLB miss.
+* The virtual page number is split into equal fields of bits, most significant
+* first; each field indexes one table page, whose entry points at the table
+* page of the next level. Leaf entries hold the dense id the page was given on
+* its first reference, which is what the replacement policies see. Table
+* pages are only created for parts of the address space that are used, so the
+* number of them is the page table's memory overhead.
+*/
+
+package vmsim.mmu;
+
+import java.util.Arrays;
+
+// RadixPageTable class
+public class RadixPageTable {
+  private final int levels;
+  private final int levelBits; // bits of the page number indexing each level
+  private final int mask;
+  private int[][] tablePages = new int[16][]; // entries are the next table page or page id plus 1, 0 when empty
+  private int tablePageCount = 0;
+  private int pageCount = 0; // dense ids handed out so far
+
+  // RadixPageTable constructor: pageNumberBits are split into fields of levelBits, one per level
+  public RadixPageTable(int pageNumberBits, int levelBits) {
+    if (levelBits <= 0 || levelBits > 20) {
+      throw new IllegalArgumentException("Bits per page table level must be 1 to 20: " + levelBits);
+    } // end of if
+    if (pageNumberBits <= 0) {
+      throw new IllegalArgumentException("The page size leaves no bits for page numbers");
+    } // end of if
+    this.levels = (pageNumberBits + levelBits - 1) / levelBits;
+    this.levelBits = levelBits;
+    this.mask = (1 << levelBits) - 1;
+    newTablePage(); // the root
+  } // end of method
+
+  // walk method: walks the table from the root to a page's leaf entry, returns its dense id
+  public int walk(long pageNumber) {
+    int tablePage = 0;
+    for (int level = levels - 1; level > 0; level--) {
+      int index = (int) (pageNumber >>> (level * levelBits)) & mask;
+      int entry = tablePages[tablePage][index];
+      if (entry == 0) {
+        entry = newTablePage() + 1;
+        tablePages[tablePage][index] = entry;
+      } // end of if
+      tablePage = entry - 1;
+    } // end of for
+
+    // The leaf entry maps the page, first references get the next id
+    int index = (int) pageNumber & mask;
+    if (tablePages[tablePage][index] == 0) {
+      tablePages[tablePage][index] = ++pageCount;
+    } // end of if
+    return tablePages[tablePage][index] - 1;
+  } // end of method
+
+  // getLevels method: returns the number of table pages read by every walk
+  public int getLevels() {
+    return levels;
+  } // end of method
+
+  // getTablePages method: returns the number of table pages created
+  public int getTablePages() {
+    return tablePageCount;
+  } // end of method
+
+  // getMappedPages method: returns the number of distinct pages referenced
+  public int getMappedPages() {
+    return pageCount;
+  } // end of method
+
+  // newTablePage method: creates an empty table page, returns its index
+  private int newTablePage() {
+    if (tablePageCount == tablePages.length) {
+      tablePages = Arrays.copyOf(tablePages, 2 * tablePageCount);
+    } // end of if
+    tablePages[tablePageCount] = new int[1 << levelBits];
+    return tablePageCount++;
+  } // end of method
+} // end of class
@@ -0,0 +1,132 @@
+/*
+* File: Tlb.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Set-associative translation lookaside buffer. A page number selects
+* a set by its low bits and is looked up among the set's ways, each holding a
+* page number and the page's id. A full set replaces its least recently used,
+* oldest or a pseudo-random entry. Entries of evicted pages are invalidated so
+* the TLB never translates a page that is no longer resident.
+*/
+
+package vmsim.mmu;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// Tlb class
+public class Tlb {
+  // Replacement enum: which entry of a full set is replaced
+  public enum Replacement {
+    LRU,
+    FIFO,
+    RANDOM;
+
+    // parse method: looks up a TLB replacement policy by its command line name
+    public static Replacement parse(String name) {
+      try {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+      } // end of try
+      catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Unknown TLB replacement: " + name + ". Expected lru, fifo or random");
+      } // end of catch
+    } // end of method
+  } // end of enum
+
+  // Result of lookup when the page is not in the TLB
+  public static final int MISS = -1;
+
+  private static final long INVALID = -1; // tag of an empty entry, not a valid page number
+
+  private final int sets;
+  private final int ways;
+  private final Replacement replacement;
+  private final long[] tags; // page number of each entry, set by set
+  private final int[] ids; // page id of each entry
+  private final long[] stamps; // time of the last use (LRU) or of the insertion (FIFO) of each entry
+  private long time = 0;
+  private long random = 0x9E3779B97F4A7C15L; // xorshift state, fixed so runs repeat
+
+  // Tlb constructor: sets must be a power of two
+  public Tlb(int sets, int ways, Replacement replacement) {
+    if (sets <= 0 || Integer.bitCount(sets) != 1) {
+      throw new IllegalArgumentException("Number of TLB sets must be a power of two: " + sets);
+    } // end of if
+    if (ways <= 0) {
+      throw new IllegalArgumentException("Number of TLB ways must be positive: " + ways);
+    } // end of if
+    this.sets = sets;
+    this.ways = ways;
+    this.replacement = replacement;
+    tags = new long[sets * ways];
+    ids = new int[sets * ways];
+    stamps = new long[sets * ways];
+    Arrays.fill(tags, INVALID);
+  } // end of method
+
+  // lookup method: returns the id of a cached page, or MISS
+  public int lookup(long pageNumber) {
+    int entry = find(pageNumber);
+    if (entry < 0) {
+      return MISS;
+    } // end of if
+    if (replacement == Replacement.LRU) {
+      stamps[entry] = ++time;
+    } // end of if
+    return ids[entry];
+  } // end of method
+
+  // insert method: caches a page's translation, replacing an entry of its set if it is full
+  public void insert(long pageNumber, int id) {
+    int first = set(pageNumber) * ways;
+    int entry = first;
+    for (int way = first; way < first + ways; way++) {
+      if (tags[way] == INVALID) {
+        entry = way;
+        break;
+      } // end of if
+      if (stamps[way] < stamps[entry]) {
+        entry = way;
+      } // end of if
+    } // end of for
+    if (tags[entry] != INVALID && replacement == Replacement.RANDOM) {
+      random ^= random << 13;
+      random ^= random >>> 7;
+      random ^= random << 17;
+      entry = first + (int) Long.remainderUnsigned(random, ways);
+    } // end of if
+    tags[entry] = pageNumber;
+    ids[entry] = id;
+    stamps[entry] = ++time;
+  } // end of method
+
+  // invalidate method: drops a page's translation if it is cached
+  public void invalidate(long pageNumber) {
+    int entry = find(pageNumber);
+    if (entry >= 0) {
+      tags[entry] = INVALID;
+    } // end of if
+  } // end of method
+
+  // toString method: the geometry and policy, e.g. "16x4 LRU"
+  @Override
+  public String toString() {
+    return sets + "x" + ways + " " + replacement;
+  } // end of method
+
+  // find method: returns the entry holding a page, or -1
+  private int find(long pageNumber) {
+    int first = set(pageNumber) * ways;
+    for (int way = first; way < first + ways; way++) {
+      if (tags[way] == pageNumber) {
+        return way;
+      } // end of if
+    } // end of for
+    return -1;
+  } // end of method
+
+  // set method: the set a page number maps to
+  private int set(long pageNumber) {
+    return (int) pageNumber & (sets - 1);
+  } // end of method
+} // end of class
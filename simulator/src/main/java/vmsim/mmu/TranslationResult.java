@@ -0,0 +1,94 @@
+/*
+* File: TranslationResult.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Statistics of one address-level run: TLB hits and misses, page
+* table walks and the table memory they read, and page faults.
+*/
+
+package vmsim.mmu;
+
+// TranslationResult class
+public class TranslationResult {
+  private final String policyName;
+  private final int physicalFrames;
+  private final long pageSize;
+  private final String tlb;
+  private final int levels;
+  private final long references;
+  private final long tlbHits;
+  private final int tablePages;
+  private final long tableBytes;
+  private final int distinctPages;
+  private final long faults;
+  private final long evictions;
+
+  // TranslationResult constructor: tableBytes assumes 8-byte page table entries
+  public TranslationResult(String policyName, int physicalFrames, long pageSize, String tlb, int levels,
+      long references, long tlbHits, int tablePages, long tableBytes, int distinctPages, long faults, long evictions) {
+    this.policyName = policyName;
+    this.physicalFrames = physicalFrames;
+    this.pageSize = pageSize;
+    this.tlb = tlb;
+    this.levels = levels;
+    this.references = references;
+    this.tlbHits = tlbHits;
+    this.tablePages = tablePages;
+    this.tableBytes = tableBytes;
+    this.distinctPages = distinctPages;
+    this.faults = faults;
+    this.evictions = evictions;
+  } // end of method
+
+  // getReferences method: returns the number of addresses translated
+  public long getReferences() {
+    return references;
+  } // end of method
+
+  // getTlbHits method: returns the number of translations found in the TLB
+  public long getTlbHits() {
+    return tlbHits;
+  } // end of method
+
+  // getTlbMisses method: returns the number of translations missing from the TLB
+  public long getTlbMisses() {
+    return references - tlbHits;
+  } // end of method
+
+  // getWalks method: returns the number of page table walks, one per TLB miss
+  public long getWalks() {
+    return references - tlbHits;
+  } // end of method
+
+  // getWalkReads method: returns the number of page table entries read by all walks
+  public long getWalkReads() {
+    return getWalks() * levels;
+  } // end of method
+
+  // getFaults method: returns the number of page faults
+  public long getFaults() {
+    return faults;
+  } // end of method
+
+  // getEvictions method: returns the number of faults that replaced a victim page
+  public long getEvictions() {
+    return evictions;
+  } // end of method
+
+  // getTablePages method: returns the number of page table pages created
+  public int getTablePages() {
+    return tablePages;
+  } // end of method
+
+  // toString method: one line summary of the run
+  @Override
+  public String toString() {
+    double perReference = references == 0 ? 0.0 : (double) getWalkReads() / references;
+    return String.format("%s frames=%d pageSize=%d levels=%d tlb=%s references=%d tlbHits=%d tlbMisses=%d "
+        + "tlbHitRate=%.4f walks=%d walkReads=%d walkReadsPerReference=%.4f tablePages=%d tableBytes=%d "
+        + "pages=%d faults=%d victims=%d faultRate=%.4f", policyName, physicalFrames, pageSize, levels, tlb,
+        references, tlbHits, getTlbMisses(), references == 0 ? 0.0 : (double) tlbHits / references, getWalks(),
+        getWalkReads(), perReference, tablePages, tableBytes, distinctPages, faults, evictions,
+        references == 0 ? 0.0 : (double) faults / references);
+  } // end of method
+} // end of class
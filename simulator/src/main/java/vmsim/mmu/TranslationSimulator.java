@@ -0,0 +1,115 @@
+/*
+* File: TranslationSimulator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Address-level simulation. Every virtual address is split into a page
+* number and an offset by the page size, and translated by the TLB or, on a
+* TLB miss, by a walk of the multi-level page table. The page's id is then
+* referenced in physical memory managed by one of the replacement policies, so
+* TLB misses, walks and page faults are counted separately. Larger (huge)
+* pages need fewer levels and fewer TLB entries for the same memory.
+*/
+
+package vmsim.mmu;
+
+import java.io.IOException;
+import java.util.Arrays;
+import vmsim.ReplacementPolicy;
+import vmsim.policy.Policies;
+import vmsim.trace.AddressSource;
+
+// TranslationSimulator class
+public class TranslationSimulator {
+  private static final int CHUNK_SIZE = 1 << 16; // addresses read from a source at a time
+
+  private final String policyName;
+  private final int physicalFrames;
+  private final long pageSize;
+  private final int addressBits; // width of a virtual address
+  private final int levelBits;
+  private final int tlbSets;
+  private final int tlbWays;
+  private final Tlb.Replacement tlbReplacement;
+
+  // TranslationSimulator constructor: the page size must be a power of two below 2^addressBits
+  public TranslationSimulator(String policyName, int physicalFrames, long pageSize, int addressBits, int levelBits,
+      int tlbSets, int tlbWays, Tlb.Replacement tlbReplacement) {
+    if (Policies.needsWholeTrace(policyName)) {
+      throw new IllegalArgumentException(policyName + " needs the whole reference string and cannot run on addresses");
+    } // end of if
+    Policies.create(policyName, null); // fails on unknown names before any trace is read
+    if (pageSize <= 0 || Long.bitCount(pageSize) != 1) {
+      throw new IllegalArgumentException("Page size must be a power of two: " + pageSize);
+    } // end of if
+    if (addressBits <= 0 || addressBits > 64) {
+      throw new IllegalArgumentException("Virtual address bits must be 1 to 64: " + addressBits);
+    } // end of if
+    new RadixPageTable(addressBits - Long.numberOfTrailingZeros(pageSize), levelBits); // checks the geometry
+    new Tlb(tlbSets, tlbWays, tlbReplacement);
+    this.policyName = policyName;
+    this.physicalFrames = physicalFrames;
+    this.pageSize = pageSize;
+    this.addressBits = addressBits;
+    this.levelBits = levelBits;
+    this.tlbSets = tlbSets;
+    this.tlbWays = tlbWays;
+    this.tlbReplacement = tlbReplacement;
+  } // end of method
+
+  // run method: translates and references every address of a source
+  public TranslationResult run(AddressSource source) throws IOException {
+    // Variable Initialization
+    int pageShift = Long.numberOfTrailingZeros(pageSize);
+    RadixPageTable pageTable = new RadixPageTable(addressBits - pageShift, levelBits);
+    Tlb tlb = new Tlb(tlbSets, tlbWays, tlbReplacement);
+    ReplacementPolicy policy = Policies.create(policyName, null);
+    long[] pageNumberOf = new long[1024]; // page number of every page id, to invalidate evicted pages
+    long numReferences = 0;
+    long numTlbHits = 0;
+    long numFaults = 0;
+    long numEvictions = 0;
+    long[] chunk = new long[CHUNK_SIZE];
+    int count;
+    policy.reset(physicalFrames);
+
+    while ((count = source.read(chunk)) > 0) {
+      for (int i = 0; i < count; i++) {
+        long address = chunk[i];
+        if (addressBits < 64 && address >>> addressBits != 0) {
+          throw new IllegalArgumentException("Address 0x" + Long.toHexString(address) + " is beyond the "
+              + addressBits + "-bit virtual address space");
+        } // end of if
+        long pageNumber = address >>> pageShift;
+
+        // IF the TLB holds the translation, the page is resident
+        int id = tlb.lookup(pageNumber);
+        if (id != Tlb.MISS) {
+          numTlbHits++;
+          policy.reference(id);
+          continue;
+        } // end of if
+
+        // Walk the page table, then fault the page in if it is not resident
+        id = pageTable.walk(pageNumber);
+        if (id == pageNumberOf.length) {
+          pageNumberOf = Arrays.copyOf(pageNumberOf, 2 * id);
+        } // end of if
+        pageNumberOf[id] = pageNumber;
+        int result = policy.reference(id);
+        if (result != ReplacementPolicy.HIT) {
+          numFaults++;
+          if (result != ReplacementPolicy.NO_VICTIM) {
+            numEvictions++;
+            tlb.invalidate(pageNumberOf[result]);
+          } // end of if
+        } // end of if
+        tlb.insert(pageNumber, id);
+      } // end of for
+      numReferences += count;
+    } // end of while
+
+    return new TranslationResult(policy.getName(), physicalFrames, pageSize, tlb.toString(), pageTable.getLevels(),
+        numReferences, numTlbHits, pageTable.getTablePages(), (long) pageTable.getTablePages() << (levelBits + 3),
+        pageTable.getMappedPages(), numFaults, numEvictions);
+  } // end of method
+} // end of class
@@ -0,0 +1,167 @@
+/*
+* File: LruStackDistance.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Computes LRU stack distances in one pass (Mattson's stack algorithm),
+* giving LRU fault counts for every number of frames at once. The distance of
+* a reference is one more than the number of distinct pages referenced since
+* the page was last used. Each page's latest reference is marked in a Fenwick
+* tree over time, so a distance is a prefix count in O(log n). Time slots are
+* renumbered whenever they run out, which keeps the tree proportional to the
+* number of distinct pages rather than to the length of the trace. A stack
+* can also be limited to a capacity: the least recently used page beyond it
+* is forgotten, so memory stays bounded and its next reference counts as a
+* first reference, deeper than any stack of that capacity.
+*/
+
+package vmsim.mrc;
+
+import java.io.IOException;
+import java.util.Arrays;
+import vmsim.trace.ReferenceSource;
+import vmsim.util.IntIntMap;
+
+// LruStackDistance class
+public class LruStackDistance {
+  // Distance of a page's first reference, deeper than any stack
+  public static final int INFINITE = Integer.MAX_VALUE;
+
+  private static final int MIN_SLOTS = 1024;
+
+  private int[] tree = new int[MIN_SLOTS + 1]; // Fenwick tree of marked slots, 1-based
+  private int[] pageAt = new int[MIN_SLOTS]; // page whose latest reference is in each slot, or -1
+  private final IntIntMap lastSlot = new IntIntMap(MIN_SLOTS, -1); // slot of each page's latest reference
+  private final int capacity; // pages kept on the stack
+  private int nextSlot = 0;
+  private int oldestSlot = 0; // no page's latest reference is in an earlier slot
+  private int distinctPages = 0; // pages on the stack
+
+  // LruStackDistance constructor: keeps every page
+  public LruStackDistance() {
+    this(Integer.MAX_VALUE);
+  } // end of method
+
+  // LruStackDistance constructor: keeps the capacity most recently used pages
+  public LruStackDistance(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Stack capacity must be positive: " + capacity);
+    } // end of if
+    this.capacity = capacity;
+    Arrays.fill(pageAt, -1);
+  } // end of method
+
+  // reference method: references a page, returns its LRU stack distance or INFINITE
+  public int reference(int page) {
+    if (nextSlot == pageAt.length) {
+      compact();
+    } // end of if
+    int slot = lastSlot.get(page);
+    int distance;
+
+    // Count the pages referenced after this page's last reference
+    if (slot >= 0) {
+      distance = distinctPages - prefixCount(slot) + 1;
+      add(slot, -1);
+      pageAt[slot] = -1;
+    } // end of if
+    else {
+      distance = INFINITE;
+      distinctPages++;
+    } // end of else
+
+    add(nextSlot, 1);
+    pageAt[nextSlot] = page;
+    lastSlot.put(page, nextSlot);
+    nextSlot++;
+    if (distinctPages > capacity) {
+      forgetOldest();
+    } // end of if
+    return distance;
+  } // end of method
+
+  // recencyOrder method: returns up to limit pages, most recently referenced first
+  public int[] recencyOrder(int limit) {
+    int[] pages = new int[Math.min(limit, distinctPages)];
+    int count = 0;
+    for (int slot = nextSlot - 1; slot >= 0 && count < pages.length; slot--) {
+      if (pageAt[slot] >= 0) {
+        pages[count++] = pageAt[slot];
+      } // end of if
+    } // end of for
+    return pages;
+  } // end of method
+
+  // curve method: LRU fault counts for 1 to maxFrames frames in one pass over a source
+  public static MissRatioCurve curve(ReferenceSource source, int maxFrames) throws IOException {
+    LruStackDistance stack = new LruStackDistance();
+    long[] distances = new long[maxFrames + 1];
+    long references = 0;
+    int[] chunk = new int[1 << 16];
+    int count;
+    while ((count = source.read(chunk)) > 0) {
+      for (int i = 0; i < count; i++) {
+        int distance = stack.reference(chunk[i]);
+        if (distance <= maxFrames) {
+          distances[distance]++;
+        } // end of if
+      } // end of for
+      references += count;
+    } // end of while
+    return MissRatioCurve.fromHistogram("LRU", references, distances, maxFrames);
+  } // end of method
+
+  // prefixCount method: number of marked slots from 0 to slot inclusive
+  private int prefixCount(int slot) {
+    int sum = 0;
+    for (int i = slot + 1; i > 0; i -= i & -i) {
+      sum += tree[i];
+    } // end of for
+    return sum;
+  } // end of method
+
+  // add method: adds delta to the mark of a slot
+  private void add(int slot, int delta) {
+    for (int i = slot + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    } // end of for
+  } // end of method
+
+  // forgetOldest method: removes the least recently used page from the stack
+  private void forgetOldest() {
+    while (pageAt[oldestSlot] < 0) {
+      oldestSlot++;
+    } // end of while
+    lastSlot.remove(pageAt[oldestSlot]);
+    add(oldestSlot, -1);
+    pageAt[oldestSlot] = -1;
+    distinctPages--;
+  } // end of method
+
+  // compact method: renumbers the marked slots 0..distinctPages-1 in time order
+  private void compact() {
+    int slots = Math.max(MIN_SLOTS, distinctPages * 2);
+    int[] newPageAt = new int[slots];
+    Arrays.fill(newPageAt, -1);
+    int next = 0;
+    for (int page : pageAt) {
+      if (page >= 0) {
+        newPageAt[next] = page;
+        lastSlot.put(page, next);
+        next++;
+      } // end of if
+    } // end of for
+
+    // Rebuild the tree with the first distinctPages slots marked, in O(slots)
+    tree = new int[slots + 1];
+    for (int i = 1; i <= slots; i++) {
+      tree[i] += i <= next ? 1 : 0;
+      int parent = i + (i & -i);
+      if (parent <= slots) {
+        tree[parent] += tree[i];
+      } // end of if
+    } // end of for
+    pageAt = newPageAt;
+    nextSlot = next;
+    oldestSlot = 0;
+  } // end of method
+} // end of class
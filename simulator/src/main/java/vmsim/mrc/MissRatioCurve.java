@@ -0,0 +1,71 @@
+/*
+* File: MissRatioCurve.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Fault counts of one policy for every number of physical frames from
+* 1 to a maximum, built from a histogram of stack distances.
+*/
+
+package vmsim.mrc;
+
+import java.io.PrintStream;
+
+// MissRatioCurve class
+public class MissRatioCurve {
+  private final String policyName;
+  private final long references;
+  private final long[] faults; // faults[frames - 1]
+
+  // MissRatioCurve constructor: faults[i] is the fault count with i + 1 frames
+  public MissRatioCurve(String policyName, long references, long[] faults) {
+    this.policyName = policyName;
+    this.references = references;
+    this.faults = faults.clone();
+  } // end of method
+
+  // fromHistogram method: distances[d] counts references at stack distance d (1..maxFrames);
+  // every other reference, cold or deeper than maxFrames, faults at every size
+  public static MissRatioCurve fromHistogram(String policyName, long references, long[] distances, int maxFrames) {
+    long[] faults = new long[maxFrames];
+    long hits = 0;
+    for (int frames = 1; frames <= maxFrames; frames++) {
+      hits += distances[frames];
+      faults[frames - 1] = references - hits;
+    } // end of for
+    return new MissRatioCurve(policyName, references, faults);
+  } // end of method
+
+  // getPolicyName method: returns the name of the policy the curve belongs to
+  public String getPolicyName() {
+    return policyName;
+  } // end of method
+
+  // getReferences method: returns the length of the reference string
+  public long getReferences() {
+    return references;
+  } // end of method
+
+  // getMaxFrames method: returns the largest number of frames on the curve
+  public int getMaxFrames() {
+    return faults.length;
+  } // end of method
+
+  // getFaults method: returns the number of faults with the given number of frames
+  public long getFaults(int physicalFrames) {
+    return faults[physicalFrames - 1];
+  } // end of method
+
+  // getFaultRate method: returns faults per reference with the given number of frames
+  public double getFaultRate(int physicalFrames) {
+    return references == 0 ? 0.0 : (double) getFaults(physicalFrames) / references;
+  } // end of method
+
+  // print method: prints one line per number of frames
+  public void print(PrintStream out) {
+    out.println("\n" + policyName + " miss ratio curve (" + references + " references)");
+    out.printf("%8s %14s %10s%n", "Frames", "Faults", "FaultRate");
+    for (int frames = 1; frames <= faults.length; frames++) {
+      out.printf("%8d %14d %10.4f%n", frames, getFaults(frames), getFaultRate(frames));
+    } // end of for
+  } // end of method
+} // end of class
@@ -0,0 +1,86 @@
+/*
+* File: OptStackDistance.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Computes OPT stack distances in one pass with Mattson's priority
+* stack, giving OPT fault counts for every number of frames up to a maximum at
+* once. The stack is ordered so that its top k pages are exactly what OPT
+* holds with k frames; priority is the page's next use, the sooner the higher.
+* On a reference the page moves to the top and the pages above its old depth
+* are re-sorted by carrying the lowest-priority page seen so far down the
+* stack. Only the top maxFrames entries affect the curve, so the stack is cut
+* off there and each reference costs O(maxFrames).
+*/
+
+package vmsim.mrc;
+
+import vmsim.policy.OptPolicy;
+import vmsim.trace.ReferenceTrace;
+
+// OptStackDistance class
+public final class OptStackDistance {
+  // OptStackDistance constructor: static utility, not instantiated
+  private OptStackDistance() {
+  } // end of method
+
+  // curve method: OPT fault counts for 1 to maxFrames frames in one pass over the reference string
+  public static MissRatioCurve curve(ReferenceTrace referenceString, int maxFrames) {
+    int length = referenceString.size();
+    int[] nextUse = OptPolicy.nextUseIndex(referenceString);
+
+    int[] stack = new int[maxFrames]; // pages, top first
+    int[] priority = new int[maxFrames]; // next use of each stacked page
+    int size = 0;
+    long[] distances = new long[maxFrames + 1];
+
+    for (int t = 0; t < length; t++) {
+      int page = referenceString.get(t);
+      int depth = 0; // 0 while the page is not found in the stack
+
+      if (size > 0 && stack[0] == page) {
+        depth = 1;
+      } // end of if
+      else if (size > 0) {
+        // Carry the lowest-priority page down until the referenced page's old position
+        int carried = stack[0];
+        int carriedPriority = priority[0];
+        int i = 1;
+        for (; i < size; i++) {
+          if (stack[i] == page) {
+            depth = i + 1;
+            break;
+          } // end of if
+          if (priority[i] > carriedPriority) {
+            int swapPage = stack[i];
+            int swapPriority = priority[i];
+            stack[i] = carried;
+            priority[i] = carriedPriority;
+            carried = swapPage;
+            carriedPriority = swapPriority;
+          } // end of if
+        } // end of for
+
+        // The carried page fills the hole, or falls off a full stack
+        if (i < size) {
+          stack[i] = carried;
+          priority[i] = carriedPriority;
+        } // end of if
+        else if (size < maxFrames) {
+          stack[size] = carried;
+          priority[size] = carriedPriority;
+          size++;
+        } // end of else if
+      } // end of else if
+      else {
+        size = 1;
+      } // end of else
+
+      stack[0] = page;
+      priority[0] = nextUse[t];
+      if (depth > 0) {
+        distances[depth]++;
+      } // end of if
+    } // end of for
+    return MissRatioCurve.fromHistogram("OPT", length, distances, maxFrames);
+  } // end of method
+} // end of class
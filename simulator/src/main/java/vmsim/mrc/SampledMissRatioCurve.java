@@ -0,0 +1,99 @@
+/*
+* File: SampledMissRatioCurve.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Estimated fault rates of one policy at a set of physical frame
+* counts, built from spatially sampled reference strings (see
+* SpatialSampling). Every estimate is the mean over several independent
+* samples, and its standard error follows from how much the samples differ.
+*/
+
+package vmsim.mrc;
+
+import java.io.PrintStream;
+
+// SampledMissRatioCurve class
+public class SampledMissRatioCurve {
+  private final String policyName;
+  private final long references;
+  private final double rate; // fraction of pages sampled
+  private final int samples;
+  private final long sampledReferences; // references sampled, summed over the samples
+  private final int[] frames; // frame counts of the points, increasing
+  private final double[] faultRates; // mean estimate at each point
+  private final double[] standardErrors; // standard error of each estimate
+
+  // SampledMissRatioCurve constructor: rates[s][i] is the estimate of sample s at frames[i]
+  public SampledMissRatioCurve(String policyName, long references, double rate, long sampledReferences,
+      int[] frames, double[][] rates) {
+    this.policyName = policyName;
+    this.references = references;
+    this.rate = rate;
+    this.samples = rates.length;
+    this.sampledReferences = sampledReferences;
+    this.frames = frames.clone();
+    faultRates = new double[frames.length];
+    standardErrors = new double[frames.length];
+    for (int i = 0; i < frames.length; i++) {
+      double sum = 0;
+      for (double[] sample : rates) {
+        sum += sample[i];
+      } // end of for
+      double mean = sum / samples;
+      double squares = 0;
+      for (double[] sample : rates) {
+        squares += (sample[i] - mean) * (sample[i] - mean);
+      } // end of for
+      faultRates[i] = mean;
+      standardErrors[i] = samples < 2 ? 0.0 : Math.sqrt(squares / (samples - 1) / samples);
+    } // end of for
+  } // end of method
+
+  // getPolicyName method: returns the name of the policy the curve belongs to
+  public String getPolicyName() {
+    return policyName;
+  } // end of method
+
+  // getPoints method: returns the number of frame counts on the curve
+  public int getPoints() {
+    return frames.length;
+  } // end of method
+
+  // getFrames method: returns the frame count of a point
+  public int getFrames(int point) {
+    return frames[point];
+  } // end of method
+
+  // getFaultRate method: returns the estimated faults per reference at a point
+  public double getFaultRate(int point) {
+    return faultRates[point];
+  } // end of method
+
+  // getStandardError method: returns the standard error of the fault rate at a point, 0 from one sample
+  public double getStandardError(int point) {
+    return standardErrors[point];
+  } // end of method
+
+  // getMaxStandardError method: returns the largest standard error of any point, 0 for an empty curve
+  public double getMaxStandardError() {
+    double max = 0.0;
+    for (double error : standardErrors) {
+      max = Math.max(max, error);
+    } // end of for
+    return max;
+  } // end of method
+
+  // print method: prints one line per point, then the sampling summary
+  public void print(PrintStream out) {
+    out.println("\n" + policyName + " sampled miss ratio curve (" + references + " references)");
+    out.printf("%8s %14s %10s %10s%n", "Frames", "Faults", "FaultRate", "StdError");
+    for (int i = 0; i < frames.length; i++) {
+      out.printf("%8d %14d %10.4f %10.4f%n", frames[i], Math.round(faultRates[i] * references), faultRates[i],
+          standardErrors[i]);
+    } // end of for
+    out.printf("Sampled %.4f of the pages in %d samples, %d references each on average; ", rate, samples,
+        sampledReferences / samples);
+    out.println(samples < 2 ? "no standard error from one sample" : String.format("largest standard error %.4f",
+        getMaxStandardError()));
+  } // end of method
+} // end of class
@@ -0,0 +1,211 @@
+/*
+* File: SpatialSampling.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Approximate miss ratio curves from spatially sampled reference
+* strings (SHARDS, Waldspurger et al., FAST 2015), for traces too large for
+* exact curves. A page is sampled when the hash of its id falls below a
+* threshold, so a fraction R of the pages is kept with all of their
+* references, and the sampled string behaves like the whole one with every
+* reuse distance scaled by R. A frame of the sample stands for 1 / R frames,
+* so curves start at the smallest frame count a sample can resolve.
+*   LRU - stack distances of the sampled references, in a stack limited to
+*         maxFrames * R pages, give the curve for every frame count at once
+*   other policies - one miniature simulation per point, with frames * R
+*         frames, over the sampled references
+* Either way memory depends on maxFrames and R, not on the trace. Fault rates
+* divide the sampled faults by the expected number of sampled references,
+* R times the trace length, which corrects for a sample that happens to hold
+* more or fewer references than expected. Several samples use independently
+* salted hashes, and the spread of their curves gives the standard error.
+*/
+
+package vmsim.mrc;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import vmsim.ReplacementPolicy;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceSource;
+
+// SpatialSampling class
+public final class SpatialSampling {
+  // Samples taken unless given, the fewest that estimate an error
+  public static final int DEFAULT_SAMPLES = 4;
+
+  private static final long HASH_RANGE = 1L << 32; // sampling compares the top 32 bits of a hash
+  private static final int MAX_MINIATURE_CACHES = 256; // points of a simulated curve per sample
+
+  // SpatialSampling constructor: static utility, not instantiated
+  private SpatialSampling() {
+  } // end of method
+
+  // lruCurve method: estimated LRU fault rates for up to maxFrames frames in one pass over a source
+  public static SampledMissRatioCurve lruCurve(ReferenceSource source, int maxFrames, double rate, int samples,
+      long seed) throws IOException {
+    // Variable Initialization
+    long threshold = threshold(rate);
+    double sampledRate = (double) threshold / HASH_RANGE;
+    int depth = sampledFrames(maxFrames, sampledRate);
+    long[] salts = salts(samples, seed);
+    LruStackDistance[] stacks = new LruStackDistance[samples];
+    long[][] distances = new long[samples][depth + 1]; // distances[s][d] counts sampled references at distance d
+    long[] sampled = new long[samples];
+    long references = 0;
+    int[] chunk = new int[1 << 16];
+    int count;
+
+    for (int s = 0; s < samples; s++) {
+      stacks[s] = new LruStackDistance(depth);
+    } // end of for
+    while ((count = source.read(chunk)) > 0) {
+      for (int i = 0; i < count; i++) {
+        int page = chunk[i];
+        for (int s = 0; s < samples; s++) {
+          if (sampled(page, salts[s], threshold)) {
+            int distance = stacks[s].reference(page);
+            if (distance <= depth) {
+              distances[s][distance]++;
+            } // end of if
+            sampled[s]++;
+          } // end of if
+        } // end of for
+      } // end of for
+      references += count;
+    } // end of while
+
+    // A sampled reference at distance d hits with c frames when d <= c * R, so the curve starts where c * R = 1
+    int first = (int) Math.ceil(1 / sampledRate);
+    int points = maxFrames - first + 1;
+    int[] frames = new int[points];
+    double[][] rates = new double[samples][points];
+    for (int p = 0; p < points; p++) {
+      frames[p] = first + p;
+    } // end of for
+    for (int s = 0; s < samples; s++) {
+      long hits = 0;
+      int distance = 0;
+      for (int p = 0; p < points; p++) {
+        int limit = Math.min(depth, (int) (frames[p] * sampledRate));
+        while (distance < limit) {
+          distance++;
+          hits += distances[s][distance];
+        } // end of while
+        rates[s][p] = faultRate(sampled[s] - hits, sampledRate * references);
+      } // end of for
+    } // end of for
+    return new SampledMissRatioCurve("LRU", references, sampledRate, sum(sampled), frames, rates);
+  } // end of method
+
+  // simulatedCurve method: estimated fault rates of any streaming policy from miniature simulations in one pass
+  public static SampledMissRatioCurve simulatedCurve(String policyName, ReferenceSource source, int maxFrames,
+      double rate, int samples, long seed) throws IOException {
+    if (Policies.needsWholeTrace(policyName) || Policies.isVariable(policyName)) {
+      throw new IllegalArgumentException("Sampled miss ratio curves need a fixed-allocation policy that "
+          + "does not see the reference string in advance: " + policyName);
+    } // end of if
+
+    // Variable Initialization
+    long threshold = threshold(rate);
+    double sampledRate = (double) threshold / HASH_RANGE;
+    int largest = sampledFrames(maxFrames, sampledRate);
+    int step = (largest + MAX_MINIATURE_CACHES - 1) / MAX_MINIATURE_CACHES;
+    int points = largest / step; // miniature caches of step, 2 * step, ... frames
+    long[] salts = salts(samples, seed);
+    ReplacementPolicy[][] caches = new ReplacementPolicy[samples][points];
+    long[][] faults = new long[samples][points];
+    long[] sampled = new long[samples];
+    long references = 0;
+    int[] chunk = new int[1 << 16];
+    int count;
+
+    for (int s = 0; s < samples; s++) {
+      for (int p = 0; p < points; p++) {
+        caches[s][p] = Policies.create(policyName, null);
+        caches[s][p].reset((p + 1) * step);
+      } // end of for
+    } // end of for
+    while ((count = source.read(chunk)) > 0) {
+      for (int i = 0; i < count; i++) {
+        int page = chunk[i];
+        for (int s = 0; s < samples; s++) {
+          if (sampled(page, salts[s], threshold)) {
+            for (int p = 0; p < points; p++) {
+              if (caches[s][p].reference(page) != ReplacementPolicy.HIT) {
+                faults[s][p]++;
+              } // end of if
+            } // end of for
+            sampled[s]++;
+          } // end of if
+        } // end of for
+      } // end of for
+      references += count;
+    } // end of while
+
+    // A miniature cache of m frames stands for m / R frames of the whole trace
+    int[] frames = new int[points];
+    double[][] rates = new double[samples][points];
+    for (int p = 0; p < points; p++) {
+      frames[p] = (int) Math.min(maxFrames, Math.round((p + 1) * step / sampledRate));
+      for (int s = 0; s < samples; s++) {
+        rates[s][p] = faultRate(faults[s][p], sampledRate * references);
+      } // end of for
+    } // end of for
+    return new SampledMissRatioCurve(caches[0][0].getName(), references, sampledRate, sum(sampled), frames, rates);
+  } // end of method
+
+  // sampled method: returns true IF a page belongs to the sample with the given salt
+  private static boolean sampled(int page, long salt, long threshold) {
+    // Finalizer of MurmurHash3, so that neighbouring page ids are sampled independently
+    long h = page ^ salt;
+    h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+    h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return h >>> 32 < threshold;
+  } // end of method
+
+  // threshold method: returns the hash threshold sampling the given fraction of pages, at least one hash value
+  private static long threshold(double rate) {
+    if (!(rate > 0 && rate <= 1)) {
+      throw new IllegalArgumentException("Sampling rate must be in (0, 1]: " + rate);
+    } // end of if
+    return Math.max(1, Math.round(rate * HASH_RANGE));
+  } // end of method
+
+  // sampledFrames method: returns the frames of the largest miniature cache, maxFrames * R
+  private static int sampledFrames(int maxFrames, double sampledRate) {
+    int frames = (int) (maxFrames * sampledRate);
+    if (frames < 1) {
+      throw new IllegalArgumentException("Sampling rate " + (float) sampledRate + " keeps less than one of " + maxFrames
+          + " frames; raise the rate or the number of frames");
+    } // end of if
+    return frames;
+  } // end of method
+
+  // salts method: returns one hash salt per sample, derived from the seed
+  private static long[] salts(int samples, long seed) {
+    if (samples <= 0) {
+      throw new IllegalArgumentException("Number of samples must be positive: " + samples);
+    } // end of if
+    SplittableRandom random = new SplittableRandom(seed);
+    long[] salts = new long[samples];
+    for (int s = 0; s < samples; s++) {
+      salts[s] = random.nextLong();
+    } // end of for
+    return salts;
+  } // end of method
+
+  // faultRate method: sampled faults per expected sampled reference, at most 1
+  private static double faultRate(long faults, double expectedReferences) {
+    return expectedReferences == 0 ? 0.0 : Math.min(1.0, faults / expectedReferences);
+  } // end of method
+
+  // sum method: adds up the sampled references of every sample
+  private static long sum(long[] values) {
+    long total = 0;
+    for (long value : values) {
+      total += value;
+    } // end of for
+    return total;
+  } // end of method
+} // end of class
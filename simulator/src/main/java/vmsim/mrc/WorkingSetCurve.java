@@ -0,0 +1,124 @@
+/*
+* File: WorkingSetCurve.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Working set fault counts and average resident set sizes for every
+* window from 1 to a maximum, in one pass. A reference faults under window tau
+* exactly when its page was not referenced in the previous tau references, and
+* a reference keeps its page resident until the page's next reference or for
+* tau references, whichever is first, so both follow from a histogram of the
+* gaps between successive references to the same page.
+*/
+
+package vmsim.mrc;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import vmsim.trace.ReferenceSource;
+import vmsim.util.IntIntMap;
+
+// WorkingSetCurve class
+public class WorkingSetCurve {
+  private final long references;
+  private final long[] faults; // faults[tau - 1]
+  private final long[] residentSum; // resident set size summed over references, residentSum[tau - 1]
+
+  // WorkingSetCurve constructor: faults[i] and residentSum[i] belong to window i + 1
+  public WorkingSetCurve(long references, long[] faults, long[] residentSum) {
+    this.references = references;
+    this.faults = faults.clone();
+    this.residentSum = residentSum.clone();
+  } // end of method
+
+  // curve method: working set faults and sizes for windows 1 to maxTau in one pass over a source
+  public static WorkingSetCurve curve(ReferenceSource source, int maxTau) throws IOException {
+    // Variable Initialization
+    IntIntMap index = new IntIntMap(1024, -1); // dense index of each page
+    long[] lastPosition = new long[1024]; // position of each page's latest reference
+    long[] gaps = new long[maxTau + 1]; // gaps[g] counts reuses g references apart, g <= maxTau
+    long[] ends = new long[maxTau + 1]; // ends[g] counts last references g references before the end
+    int pages = 0;
+    long position = 0;
+    int[] chunk = new int[1 << 16];
+    int count;
+
+    while ((count = source.read(chunk)) > 0) {
+      for (int i = 0; i < count; i++, position++) {
+        int page = index.get(chunk[i]);
+        if (page < 0) {
+          if (pages == lastPosition.length) {
+            lastPosition = Arrays.copyOf(lastPosition, 2 * pages);
+          } // end of if
+          page = pages++;
+          index.put(chunk[i], page);
+        } // end of if
+        else {
+          long gap = position - lastPosition[page];
+          if (gap <= maxTau) {
+            gaps[(int) gap]++;
+          } // end of if
+        } // end of else
+        lastPosition[page] = position;
+      } // end of for
+    } // end of while
+
+    // A page's last reference stays resident until the end of the trace at most
+    for (int page = 0; page < pages; page++) {
+      long gap = position - lastPosition[page];
+      if (gap <= maxTau) {
+        ends[(int) gap]++;
+      } // end of if
+    } // end of for
+
+    // Every reference has one gap, to its page's next reference or to the end:
+    // it faults under tau when the gap before it exceeds tau, and is resident for min(gap after, tau)
+    long[] faults = new long[maxTau];
+    long[] residentSum = new long[maxTau];
+    long hits = 0;
+    long shorter = 0; // references whose gap after is below tau
+    long resident = 0;
+    for (int tau = 1; tau <= maxTau; tau++) {
+      hits += gaps[tau];
+      resident += position - shorter;
+      shorter += gaps[tau] + ends[tau];
+      faults[tau - 1] = position - hits;
+      residentSum[tau - 1] = resident;
+    } // end of for
+    return new WorkingSetCurve(position, faults, residentSum);
+  } // end of method
+
+  // getReferences method: returns the length of the reference string
+  public long getReferences() {
+    return references;
+  } // end of method
+
+  // getMaxTau method: returns the largest window on the curve
+  public int getMaxTau() {
+    return faults.length;
+  } // end of method
+
+  // getFaults method: returns the number of faults with the given window
+  public long getFaults(int tau) {
+    return faults[tau - 1];
+  } // end of method
+
+  // getFaultRate method: returns faults per reference with the given window
+  public double getFaultRate(int tau) {
+    return references == 0 ? 0.0 : (double) getFaults(tau) / references;
+  } // end of method
+
+  // getAverageResidentSize method: returns the working set size averaged over all references
+  public double getAverageResidentSize(int tau) {
+    return references == 0 ? 0.0 : (double) residentSum[tau - 1] / references;
+  } // end of method
+
+  // print method: prints one line per window
+  public void print(PrintStream out) {
+    out.println("\nWS working set curve (" + references + " references)");
+    out.printf("%8s %14s %10s %12s%n", "Tau", "Faults", "FaultRate", "AvgResident");
+    for (int tau = 1; tau <= faults.length; tau++) {
+      out.printf("%8d %14d %10.4f %12.2f%n", tau, getFaults(tau), getFaultRate(tau), getAverageResidentSize(tau));
+    } // end of for
+  } // end of method
+} // end of class
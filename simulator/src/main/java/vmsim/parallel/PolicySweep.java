@@ -0,0 +1,148 @@
+/*
+* File: PolicySweep.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Runs every combination of reference string, policy and frame count
+* in parallel on a fork-join pool and collects the results into a comparison
+* table. Reference strings (and OPT's next-use index) are built once and
+* shared read-only by all workers, so memory does not grow with the number of
+* threads. Every run writes only its own slot of the result array, so results
+* are merged without locks.
+*/
+
+package vmsim.parallel;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import vmsim.ReplacementPolicy;
+import vmsim.SimulationResult;
+import vmsim.Simulator;
+import vmsim.policy.OptPolicy;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceTrace;
+
+// PolicySweep class
+public class PolicySweep {
+  private final List<String> policyNames;
+  private final int[] frameCounts;
+  private final int parallelism;
+
+  // PolicySweep constructor: parallelism is the number of worker threads
+  public PolicySweep(List<String> policyNames, int[] frameCounts, int parallelism) {
+    if (policyNames.isEmpty() || frameCounts.length == 0) {
+      throw new IllegalArgumentException("A sweep needs at least one policy and one frame count");
+    } // end of if
+    this.policyNames = List.copyOf(policyNames);
+    this.frameCounts = frameCounts.clone();
+    this.parallelism = parallelism;
+  } // end of method
+
+  // run method: simulates every policy at every frame count on every named reference string
+  public Result run(Map<String, ReferenceTrace> traces) {
+    List<String> traceNames = new ArrayList<>(traces.keySet());
+    List<ReferenceTrace> traceList = new ArrayList<>(traces.values());
+    int[][] nextUse = new int[traceList.size()][];
+    SimulationResult[] results = new SimulationResult[traceList.size() * policyNames.size() * frameCounts.length];
+
+    // Build OPT's next-use index once per reference string, shared by all its runs
+    for (int t = 0; t < traceList.size(); t++) {
+      for (String name : policyNames) {
+        if (Policies.needsWholeTrace(name)) {
+          nextUse[t] = OptPolicy.nextUseIndex(traceList.get(t));
+        } // end of if
+      } // end of for
+    } // end of for
+
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      pool.invoke(new Runs(traceList, nextUse, results, 0, results.length));
+    } // end of try
+    finally {
+      pool.shutdown();
+    } // end of finally
+    return new Result(traceNames, policyNames, frameCounts, results);
+  } // end of method
+
+  // Runs class: a range of runs, split in half until each task is a single run
+  private final class Runs extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final List<ReferenceTrace> traces;
+    private final int[][] nextUse;
+    private final SimulationResult[] results;
+    private final int from;
+    private final int to;
+
+    // Runs constructor: runs results[from] to results[to - 1]
+    Runs(List<ReferenceTrace> traces, int[][] nextUse, SimulationResult[] results, int from, int to) {
+      this.traces = traces;
+      this.nextUse = nextUse;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    } // end of method
+
+    // compute method: runs a single combination, or splits the range
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new Runs(traces, nextUse, results, from, middle), new Runs(traces, nextUse, results, middle, to));
+        return;
+      } // end of if
+
+      // Index layout: [trace][policy][frame count]
+      int frameIndex = from % frameCounts.length;
+      int policyIndex = (from / frameCounts.length) % policyNames.size();
+      int traceIndex = from / (frameCounts.length * policyNames.size());
+      String name = policyNames.get(policyIndex);
+      ReferenceTrace trace = traces.get(traceIndex);
+      ReplacementPolicy policy = Policies.needsWholeTrace(name) ? new OptPolicy(nextUse[traceIndex])
+          : Policies.create(name, trace);
+      results[from] = Simulator.run(policy, trace, frameCounts[frameIndex]);
+    } // end of method
+  } // end of class
+
+  // Result class: results of a sweep, indexed by reference string, policy and frame count
+  public static final class Result {
+    private final List<String> traceNames;
+    private final List<String> policyNames;
+    private final int[] frameCounts;
+    private final SimulationResult[] results;
+
+    // Result constructor
+    Result(List<String> traceNames, List<String> policyNames, int[] frameCounts, SimulationResult[] results) {
+      this.traceNames = traceNames;
+      this.policyNames = policyNames;
+      this.frameCounts = frameCounts;
+      this.results = results;
+    } // end of method
+
+    // get method: returns the result of one combination
+    public SimulationResult get(int traceIndex, int policyIndex, int frameIndex) {
+      return results[(traceIndex * policyNames.size() + policyIndex) * frameCounts.length + frameIndex];
+    } // end of method
+
+    // print method: prints a table of fault rates, one row per reference string and policy
+    public void print(PrintStream out) {
+      out.printf("%n%-20s %-10s", "Trace", "Policy");
+      for (int frames : frameCounts) {
+        out.printf(" %9s", frames + "f");
+      } // end of for
+      out.println();
+      for (int t = 0; t < traceNames.size(); t++) {
+        for (int p = 0; p < policyNames.size(); p++) {
+          out.printf("%-20s %-10s", traceNames.get(t), get(t, p, 0).getPolicyName());
+          for (int f = 0; f < frameCounts.length; f++) {
+            out.printf(" %9.4f", get(t, p, f).getFaultRate());
+          } // end of for
+          out.println();
+        } // end of for
+      } // end of for
+    } // end of method
+  } // end of class
+} // end of class
@@ -0,0 +1,388 @@
+/*
+* File: ShardedSimulation.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Splits one long reference string into shards, simulates the shards
+* in parallel and reconciles the state at the shard boundaries:
+*   LRU  - exact. Each shard computes the stack distances of references whose
+*          page was already seen in the shard, plus the order its pages were
+*          first seen. The distances of those first references are then fixed
+*          up one shard at a time from the LRU stack left by the shards before.
+*   FIFO - exact. Each shard is simulated speculatively from the state left by
+*          the tail of the previous shard, hashing its queue at checkpoints.
+*          The true boundary state is then handed from shard to shard and the
+*          shard is re-simulated only until its queue matches a checkpoint;
+*          from there on the speculative fault count is reused. A matching
+*          hash only picks the checkpoint: the speculative run is replayed up
+*          to it and the two queues are compared in full.
+*   OPT  - approximate. Every shard starts with empty memory and the fault
+*          counts are summed. The error is at most one frame count per
+*          boundary, and the true count is never higher.
+* Other policies are refused. Their state at a boundary depends on the whole
+* history before it, e.g. LFU's counts or ARC's ghost lists, so neither can
+* it be reconstructed nor can the error of an empty start be bounded.
+*/
+
+package vmsim.parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import vmsim.ReplacementPolicy;
+import vmsim.SimulationResult;
+import vmsim.Simulator;
+import vmsim.mrc.LruStackDistance;
+import vmsim.mrc.MissRatioCurve;
+import vmsim.policy.FifoPolicy;
+import vmsim.policy.OptPolicy;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceTrace;
+import vmsim.util.IntIntMap;
+
+// ShardedSimulation class
+public class ShardedSimulation {
+  // Names of the policies that can be sharded
+  public static final List<String> NAMES = Collections.unmodifiableList(Arrays.asList("lru", "fifo", "opt"));
+
+  private static final int CHECKPOINTS = 64; // FIFO queue hashes recorded per shard
+
+  private final int shards;
+  private final int parallelism;
+
+  // ShardedSimulation constructor: parallelism is the number of worker threads
+  public ShardedSimulation(int shards, int parallelism) {
+    if (shards <= 0) {
+      throw new IllegalArgumentException("Number of shards must be positive: " + shards);
+    } // end of if
+    this.shards = shards;
+    this.parallelism = parallelism;
+  } // end of method
+
+  // supports method: returns true if the name is one of NAMES
+  public static boolean supports(String name) {
+    return NAMES.contains(name.toLowerCase(Locale.ROOT));
+  } // end of method
+
+  // run method: simulates a policy exactly, or OPT within its error bound
+  public Estimate run(String policyName, ReferenceTrace trace, int physicalFrames) {
+    switch (policyName.toLowerCase(Locale.ROOT)) {
+      case "lru":
+        return lru(trace, physicalFrames);
+      case "fifo":
+        return fifo(trace, physicalFrames);
+      case "opt":
+        return opt(trace, physicalFrames);
+      default:
+        Policies.create(policyName, ReferenceTrace.empty()); // fails on unknown names first
+        throw new IllegalArgumentException("Cannot shard " + policyName + ": its state at a shard boundary depends "
+            + "on the whole trace before it, so the error would be unbounded. Expected one of " + NAMES);
+    } // end of switch
+  } // end of method
+
+  // lru method: exact LRU fault count from the merged stack distances
+  public Estimate lru(ReferenceTrace trace, int physicalFrames) {
+    long[] distinctPages = new long[1];
+    MissRatioCurve curve = lruCurve(trace, physicalFrames, distinctPages);
+    long faults = curve.getFaults(physicalFrames);
+    long evictions = faults - Math.min(physicalFrames, distinctPages[0]);
+    return new Estimate(new SimulationResult("LRU", physicalFrames, trace.size(), faults, evictions), 0);
+  } // end of method
+
+  // lruCurve method: exact LRU miss ratio curve for 1 to maxFrames frames
+  public MissRatioCurve lruCurve(ReferenceTrace trace, int maxFrames) {
+    return lruCurve(trace, maxFrames, new long[1]);
+  } // end of method
+
+  // lruCurve method: also stores the number of distinct pages in distinctPages[0]
+  private MissRatioCurve lruCurve(ReferenceTrace trace, int maxFrames, long[] distinctPages) {
+    List<Callable<LruShard>> tasks = new ArrayList<>();
+    for (int s = 0; s < shards; s++) {
+      ReferenceTrace shard = shard(trace, s);
+      tasks.add(() -> new LruShard(shard, maxFrames));
+    } // end of for
+
+    long[] distances = new long[maxFrames + 1];
+    IntIntMap seen = new IntIntMap(1024, 0);
+    int[] stack = new int[0]; // LRU stack at the current boundary, top maxFrames pages
+
+    for (LruShard shard : runAll(tasks)) {
+      for (int d = 1; d <= maxFrames; d++) {
+        distances[d] += shard.distances[d];
+      } // end of for
+
+      // Depth of every page in the incoming stack, and which of them the shard references
+      IntIntMap depthOf = new IntIntMap(stack.length, 0);
+      for (int i = 0; i < stack.length; i++) {
+        depthOf.put(stack[i], i + 1);
+      } // end of for
+      int[] tree = new int[stack.length + 1];
+      boolean[] referenced = new boolean[stack.length + 1];
+
+      // The j-th new page of the shard is below the j pages before it, plus the incoming
+      // pages above it that the shard has not already counted
+      for (int j = 0; j < shard.firstPages.length; j++) {
+        int page = shard.firstPages[j];
+        seen.put(page, 1);
+        int depth = depthOf.get(page);
+        if (depth > 0) {
+          int counted = 0;
+          for (int i = depth - 1; i > 0; i -= i & -i) {
+            counted += tree[i];
+          } // end of for
+          int distance = j + depth - counted;
+          if (distance <= maxFrames) {
+            distances[distance]++;
+          } // end of if
+          for (int i = depth; i < tree.length; i += i & -i) {
+            tree[i]++;
+          } // end of for
+          referenced[depth] = true;
+        } // end of if
+      } // end of for
+
+      // Outgoing stack: the shard's pages by recency, then the incoming pages it did not touch
+      int[] next = Arrays.copyOf(shard.recency, maxFrames);
+      int size = shard.recency.length;
+      for (int i = 0; i < stack.length && size < maxFrames; i++) {
+        if (!referenced[i + 1]) {
+          next[size++] = stack[i];
+        } // end of if
+      } // end of for
+      stack = Arrays.copyOf(next, size);
+    } // end of for
+
+    distinctPages[0] = seen.size();
+    return MissRatioCurve.fromHistogram("LRU", trace.size(), distances, maxFrames);
+  } // end of method
+
+  // fifo method: exact FIFO fault count by handing the boundary state from shard to shard
+  public Estimate fifo(ReferenceTrace trace, int physicalFrames) {
+    List<Callable<FifoShard>> tasks = new ArrayList<>();
+    for (int s = 0; s < shards; s++) {
+      ReferenceTrace shard = shard(trace, s);
+      ReferenceTrace previous = s == 0 ? ReferenceTrace.empty() : shard(trace, s - 1);
+      tasks.add(() -> new FifoShard(previous, shard, physicalFrames));
+    } // end of for
+    List<FifoShard> results = runAll(tasks);
+
+    FifoPolicy policy = new FifoPolicy();
+    long faults = results.get(0).faults;
+    int[] queue = results.get(0).finalQueue;
+    for (int s = 1; s < results.size(); s++) {
+      FifoShard shard = results.get(s);
+      policy.restore(physicalFrames, queue);
+      long shardFaults = 0;
+      boolean converged = false;
+
+      // Re-simulate from the true state until it matches the speculative run
+      for (int i = 0; i < shard.trace.size(); i++) {
+        if (i % shard.interval == 0 && queueHash(policy.getQueue()) == shard.hashes[i / shard.interval]
+            && Arrays.equals(policy.getQueue(), shard.queueAt(i / shard.interval))) {
+          shardFaults += shard.faults - shard.faultsAt[i / shard.interval];
+          converged = true;
+          break;
+        } // end of if
+        if (policy.reference(shard.trace.get(i)) != ReplacementPolicy.HIT) {
+          shardFaults++;
+        } // end of if
+      } // end of for
+      faults += shardFaults;
+      queue = converged ? shard.finalQueue : policy.getQueue();
+    } // end of for
+
+    long evictions = faults - Math.min(physicalFrames, distinctPages(trace));
+    return new Estimate(new SimulationResult("FIFO", physicalFrames, trace.size(), faults, evictions), 0);
+  } // end of method
+
+  // opt method: sums the OPT faults of shards that each start with empty memory
+  public Estimate opt(ReferenceTrace trace, int physicalFrames) {
+    List<Callable<SimulationResult>> tasks = new ArrayList<>();
+    for (int s = 0; s < shards; s++) {
+      ReferenceTrace shard = shard(trace, s);
+      tasks.add(() -> Simulator.run(new OptPolicy(shard), shard, physicalFrames));
+    } // end of for
+
+    long faults = 0;
+    long evictions = 0;
+    for (SimulationResult result : runAll(tasks)) {
+      faults += result.getFaults();
+      evictions += result.getEvictions();
+    } // end of for
+    long bound = (long) physicalFrames * (shards - 1);
+    return new Estimate(new SimulationResult("OPT", physicalFrames, trace.size(), faults, evictions), bound);
+  } // end of method
+
+  // shard method: the s-th of the equal parts of the trace
+  private ReferenceTrace shard(ReferenceTrace trace, int s) {
+    return trace.slice((int) ((long) trace.size() * s / shards), (int) ((long) trace.size() * (s + 1) / shards));
+  } // end of method
+
+  // runAll method: runs the tasks in parallel and returns their results in order
+  private <T> List<T> runAll(List<Callable<T>> tasks) {
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      List<T> results = new ArrayList<>();
+      for (Future<T> future : pool.invokeAll(tasks)) {
+        results.add(future.get());
+      } // end of for
+      return results;
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while simulating shards", e);
+    } // end of catch
+    catch (ExecutionException e) {
+      throw new IllegalStateException("Shard simulation failed", e.getCause());
+    } // end of catch
+    finally {
+      pool.shutdown();
+    } // end of finally
+  } // end of method
+
+  // distinctPages method: number of distinct pages in a trace
+  private static int distinctPages(ReferenceTrace trace) {
+    IntIntMap seen = new IntIntMap(1024, 0);
+    for (int i = 0; i < trace.size(); i++) {
+      seen.put(trace.get(i), 1);
+    } // end of for
+    return seen.size();
+  } // end of method
+
+  // queueHash method: 64-bit hash of a FIFO queue, order included
+  private static long queueHash(int[] queue) {
+    long h = queue.length;
+    for (int page : queue) {
+      h = (h + page) * 0x9E3779B97F4A7C15L;
+      h ^= h >>> 29;
+    } // end of for
+    return h;
+  } // end of method
+
+  // LruShard class: local stack distances of one shard and the pages it first references
+  private static final class LruShard {
+    final long[] distances;
+    final int[] firstPages; // distinct pages in order of first reference
+    final int[] recency; // top maxFrames pages, most recent first
+
+    // LruShard constructor: computes the shard's local results
+    LruShard(ReferenceTrace shard, int maxFrames) {
+      LruStackDistance stack = new LruStackDistance();
+      distances = new long[maxFrames + 1];
+      int[] first = new int[1024];
+      int firstCount = 0;
+      for (int i = 0; i < shard.size(); i++) {
+        int page = shard.get(i);
+        int distance = stack.reference(page);
+        if (distance == LruStackDistance.INFINITE) {
+          if (firstCount == first.length) {
+            first = Arrays.copyOf(first, first.length * 2);
+          } // end of if
+          first[firstCount++] = page;
+        } // end of if
+        else if (distance <= maxFrames) {
+          distances[distance]++;
+        } // end of else if
+      } // end of for
+      firstPages = Arrays.copyOf(first, firstCount);
+      recency = stack.recencyOrder(maxFrames);
+    } // end of method
+  } // end of class
+
+  // FifoShard class: speculative FIFO run of one shard with queue hashes at checkpoints
+  private static final class FifoShard {
+    final ReferenceTrace previous;
+    final ReferenceTrace trace;
+    final int physicalFrames;
+    final int interval; // references between checkpoints
+    final long[] hashes; // queue hash before reference i * interval
+    final long[] faultsAt; // speculative faults before reference i * interval
+    final long faults;
+    final int[] finalQueue;
+
+    // FifoShard constructor: warms up on the tail of the previous shard, then runs this one
+    FifoShard(ReferenceTrace previous, ReferenceTrace shard, int physicalFrames) {
+      this.previous = previous;
+      trace = shard;
+      this.physicalFrames = physicalFrames;
+      interval = Math.max(Math.max(physicalFrames, 1), shard.size() / CHECKPOINTS + 1);
+      hashes = new long[shard.size() / interval + 1];
+      faultsAt = new long[hashes.length];
+      FifoPolicy policy = warmUp();
+
+      long count = 0;
+      for (int i = 0; i < shard.size(); i++) {
+        if (i % interval == 0) {
+          hashes[i / interval] = queueHash(policy.getQueue());
+          faultsAt[i / interval] = count;
+        } // end of if
+        if (policy.reference(shard.get(i)) != ReplacementPolicy.HIT) {
+          count++;
+        } // end of if
+      } // end of for
+      faults = count;
+      finalQueue = policy.getQueue();
+    } // end of method
+
+    // queueAt method: replays the speculative run to return its queue before reference checkpoint * interval
+    int[] queueAt(int checkpoint) {
+      FifoPolicy policy = warmUp();
+      for (int i = 0; i < checkpoint * interval; i++) {
+        policy.reference(trace.get(i));
+      } // end of for
+      return policy.getQueue();
+    } // end of method
+
+    // warmUp method: a FIFO policy that has referenced the tail of the previous shard
+    private FifoPolicy warmUp() {
+      FifoPolicy policy = new FifoPolicy();
+      policy.reset(physicalFrames);
+      int warmup = Math.min(previous.size(), Math.max(4 * physicalFrames, 4096));
+      for (int i = previous.size() - warmup; i < previous.size(); i++) {
+        policy.reference(previous.get(i));
+      } // end of for
+      return policy;
+    } // end of method
+  } // end of class
+
+  // Estimate class: a sharded result with its error bound (0 when exact)
+  public static final class Estimate {
+    private final SimulationResult result;
+    private final long errorBound;
+
+    // Estimate constructor
+    Estimate(SimulationResult result, long errorBound) {
+      this.result = result;
+      this.errorBound = errorBound;
+    } // end of method
+
+    // getResult method: returns the (possibly approximate) statistics
+    public SimulationResult getResult() {
+      return result;
+    } // end of method
+
+    // getErrorBound method: returns the largest possible fault count error, 0 if exact
+    public long getErrorBound() {
+      return errorBound;
+    } // end of method
+
+    // isExact method: returns true if the fault count is exact
+    public boolean isExact() {
+      return errorBound == 0;
+    } // end of method
+
+    // toString method: the result followed by its accuracy
+    @Override
+    public String toString() {
+      if (errorBound == 0) {
+        return result + " (exact)";
+      } // end of if
+      return result + " (approximate, faults overestimated by at most " + errorBound + ")";
+    } // end of method
+  } // end of class
+} // end of class
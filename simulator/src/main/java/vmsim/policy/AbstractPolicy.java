@@ -0,0 +1,176 @@
+/*
+* File: AbstractPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Base class for fixed-allocation page-replacement policies. It keeps
+* the page held by every physical frame and a page table from page to frame,
+* fills empty frames in order and leaves only victim selection and bookkeeping
+* to the individual algorithms. A frame's dirty bit is set by every write to
+* its page and cleared when a new page is loaded into it. Saving the state
+* writes memory and the dirty bits, then the algorithm's own bookkeeping.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import vmsim.ReplacementPolicy;
+import vmsim.util.StateIO;
+
+// AbstractPolicy class
+public abstract class AbstractPolicy implements ReplacementPolicy {
+  protected int[] frames = new int[0]; // page held by each physical frame
+  protected PageTable pageTable = new PageTable(0); // frame holding each resident page
+  protected boolean[] dirty = new boolean[0]; // frames written since their page was loaded
+  protected int used = 0; // number of frames loaded so far
+  protected long time = -1; // position of the current reference, long so streams past 2^31 references keep counting
+  private boolean victimDirty = false;
+
+  // reset method: clears memory and sizes it to the given number of physical frames
+  @Override
+  public void reset(int physicalFrames) {
+    if (physicalFrames <= 0) {
+      throw new IllegalArgumentException("Number of physical frames must be positive: " + physicalFrames);
+    } // end of if
+    frames = new int[physicalFrames];
+    Arrays.fill(frames, EMPTY);
+    pageTable = new PageTable(physicalFrames);
+    dirty = new boolean[physicalFrames];
+    used = 0;
+    time = -1;
+    victimDirty = false;
+  } // end of method
+
+  // reference method: references a page for reading, returns HIT, NO_VICTIM or the victim page
+  @Override
+  public final int reference(int page) {
+    return reference(page, false);
+  } // end of method
+
+  // reference method: references a page for reading or writing, returns HIT, NO_VICTIM or the victim page
+  @Override
+  public final int reference(int page, boolean write) {
+    time++;
+    int frame = pageTable.getFrame(page);
+
+    // IF value is already in memory, only update bookkeeping
+    if (frame != PageTable.NOT_RESIDENT) {
+      if (write) {
+        dirty[frame] = true;
+      } // end of if
+      hit(frame);
+      return HIT;
+    } // end of if
+    missed(page);
+    victimDirty = false;
+
+    // IF memory has an empty space, add it to next empty frame
+    if (used < frames.length) {
+      frame = used++;
+      frames[frame] = page;
+      pageTable.map(page, frame);
+      dirty[frame] = write;
+      loaded(frame);
+      return NO_VICTIM;
+    } // end of if
+
+    // IF memory has NO empty space, replace the frame chosen by the algorithm
+    frame = selectVictim();
+    evicted(frame);
+    int victim = frames[frame];
+    victimDirty = dirty[frame];
+    pageTable.unmap(victim);
+    frames[frame] = page;
+    pageTable.map(page, frame);
+    dirty[frame] = write;
+    loaded(frame);
+    return victim;
+  } // end of method
+
+  // victimWasDirty method: returns true if the victim of the last reference had been written
+  @Override
+  public boolean victimWasDirty() {
+    return victimDirty;
+  } // end of method
+
+  // saveState method: writes memory, the dirty bits and the algorithm's bookkeeping
+  @Override
+  public final void saveState(DataOutput out) throws IOException {
+    out.writeInt(used);
+    out.writeLong(time);
+    out.writeBoolean(victimDirty);
+    StateIO.writeInts(out, frames);
+    StateIO.writeBooleans(out, dirty);
+    writeState(out);
+  } // end of method
+
+  // loadState method: resets to the saved number of frames, then restores memory and the bookkeeping
+  @Override
+  public final void loadState(DataInput in) throws IOException {
+    int savedUsed = in.readInt();
+    long savedTime = in.readLong();
+    boolean savedVictimDirty = in.readBoolean();
+    int[] savedFrames = StateIO.readInts(in);
+    boolean[] savedDirty = StateIO.readBooleans(in);
+    if (savedFrames.length == 0 || savedDirty.length != savedFrames.length || savedUsed < 0
+        || savedUsed > savedFrames.length) {
+      throw new IOException("Invalid state of " + getName() + ": " + savedUsed + " of " + savedFrames.length
+          + " frames used");
+    } // end of if
+    reset(savedFrames.length);
+    used = savedUsed;
+    time = savedTime;
+    victimDirty = savedVictimDirty;
+    frames = savedFrames;
+    dirty = savedDirty;
+    for (int frame = 0; frame < used; frame++) {
+      pageTable.map(frames[frame], frame);
+    } // end of for
+    readState(in);
+  } // end of method
+
+  // writeState method: writes the algorithm's bookkeeping, after memory
+  protected abstract void writeState(DataOutput out) throws IOException;
+
+  // readState method: restores the bookkeeping written by writeState, after reset and memory
+  protected abstract void readState(DataInput in) throws IOException;
+
+  // hit method: called when the page in a frame is referenced again
+  protected void hit(int frame) {
+  } // end of method
+
+  // missed method: called when a page faults, before a frame is chosen for it
+  protected void missed(int page) {
+  } // end of method
+
+  // evicted method: called before the page in a frame is replaced
+  protected void evicted(int frame) {
+  } // end of method
+
+  // loaded method: called after a new page has been placed into a frame
+  protected void loaded(int frame) {
+  } // end of method
+
+  // selectVictim method: returns the frame to replace when memory is full
+  protected abstract int selectVictim();
+
+  // contains method: returns true if a page is resident, without referencing it
+  @Override
+  public boolean contains(int page) {
+    return pageTable.getFrame(page) != PageTable.NOT_RESIDENT;
+  } // end of method
+
+  // getFrameCount method: returns the number of physical frames
+  @Override
+  public int getFrameCount() {
+    return frames.length;
+  } // end of method
+
+  // getPage method: returns the page held in a physical frame, or EMPTY
+  @Override
+  public int getPage(int frame) {
+    return frames[frame];
+  } // end of method
+} // end of class
@@ -0,0 +1,80 @@
+/*
+* File: AbstractVariablePolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Base class of the variable-allocation policies. Resident pages are
+* kept on a list in order of last reference with the time of that reference,
+* so pages that have gone unused since a point in time are always at its tail
+* and are released without scanning the rest of the resident set. Each page
+* leaves the list at most once per time it joins it, so every reference costs
+* O(1) amortized however long the policy's window is.
+*/
+
+package vmsim.policy;
+
+import java.util.Arrays;
+import vmsim.VariableAllocationPolicy;
+
+// AbstractVariablePolicy class
+public abstract class AbstractVariablePolicy implements VariableAllocationPolicy {
+  private static final int NONE = PageNodes.NONE;
+
+  private PageNodes nodes = new PageNodes(16);
+  private NodeList recency = new NodeList(16); // head is the most recently referenced
+  private long[] lastUse = new long[16];
+  protected long time = -1; // position of the current reference
+
+  // reset method: empties the resident set
+  @Override
+  public void reset() {
+    nodes = new PageNodes(16);
+    recency = new NodeList(16);
+    lastUse = new long[16];
+    time = -1;
+  } // end of method
+
+  // reference method: references a page, returns true if it faulted
+  @Override
+  public final boolean reference(int page) {
+    time++;
+    int node = nodes.find(page);
+    boolean fault = node == NONE;
+    if (fault) {
+      faulted();
+      node = nodes.add(page);
+      if (node >= lastUse.length) {
+        lastUse = Arrays.copyOf(lastUse, nodes.capacity());
+      } // end of if
+      recency.addFirst(node);
+    } // end of if
+    else {
+      recency.moveToFront(node);
+    } // end of else
+    lastUse[node] = time;
+    referenced();
+    return fault;
+  } // end of method
+
+  // getResidentSize method: returns the number of pages resident after the last reference
+  @Override
+  public int getResidentSize() {
+    return recency.size();
+  } // end of method
+
+  // faulted method: called on a fault before the faulting page is added
+  protected void faulted() {
+  } // end of method
+
+  // referenced method: called after every reference has been recorded
+  protected void referenced() {
+  } // end of method
+
+  // releaseUnusedSince method: releases every resident page not referenced at or after a time
+  protected void releaseUnusedSince(long since) {
+    while (recency.size() > 0 && lastUse[recency.tail()] < since) {
+      int node = recency.tail();
+      recency.remove(node);
+      nodes.remove(node);
+    } // end of while
+  } // end of method
+} // end of class
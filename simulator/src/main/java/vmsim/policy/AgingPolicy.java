@@ -0,0 +1,207 @@
+/*
+* File: AgingPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Aging page replacement, the software approximation of LRU built on
+* NFU (Not Frequently Used). Every frame has an AGE_BITS-bit counter. On each
+* clock tick, every physicalFrames references like NRU's, each counter is
+* shifted right and the frame's reference bit is shifted into its top bit,
+* then the reference bit is cleared. A counter therefore weighs recent ticks
+* over old ones, and a page referenced in no tick for AGE_BITS ticks is back
+* to 0 however often it was used before. The victim is the frame with the
+* lowest counter among those not referenced since the last tick, or if every
+* frame was, the lowest counter among all; ties go to the frame longest with
+* that counter. Frames are kept in one linked list per pair of reference bit
+* and counter, with a bit set of the nonempty lists, so a victim is found in
+* O(1) and a tick relinks every frame, O(1) amortized per reference.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import vmsim.util.StateIO;
+
+// AgingPolicy class
+public class AgingPolicy extends AbstractPolicy {
+  private static final int AGE_BITS = 8;
+  private static final int TOP_BIT = 1 << (AGE_BITS - 1);
+  private static final int REFERENCED = 1 << AGE_BITS; // added to the counter for frames referenced since a tick
+  private static final int LISTS = 2 * REFERENCED;
+  private static final int NONE = -1;
+
+  private int[] age = new int[0];
+  private boolean[] referenced = new boolean[0];
+
+  // Frames of each list, most recent at the head
+  private int[] previous = new int[0];
+  private int[] next = new int[0];
+  private final int[] head = new int[LISTS];
+  private final int[] tail = new int[LISTS];
+  private final long[] nonEmpty = new long[LISTS / 64];
+  private int[] order = new int[0]; // frames in victim order, while a tick relinks them
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "AGING";
+  } // end of method
+
+  // reset method: clears memory, the counters and the reference bits
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    age = new int[physicalFrames];
+    referenced = new boolean[physicalFrames];
+    previous = new int[physicalFrames];
+    next = new int[physicalFrames];
+    order = new int[physicalFrames];
+    clearLists();
+  } // end of method
+
+  // hit method: set the reference bit, moving the frame to the referenced list of its counter
+  @Override
+  protected void hit(int frame) {
+    tick();
+    if (!referenced[frame]) {
+      unlink(frame);
+      referenced[frame] = true;
+      link(frame);
+    } // end of if
+  } // end of method
+
+  // missed method: the fault counts as a clock tick too
+  @Override
+  protected void missed(int page) {
+    tick();
+  } // end of method
+
+  // evicted method: the victim leaves its list
+  @Override
+  protected void evicted(int frame) {
+    unlink(frame);
+  } // end of method
+
+  // loaded method: a new page starts with a 0 counter and its reference bit set
+  @Override
+  protected void loaded(int frame) {
+    age[frame] = 0;
+    referenced[frame] = true;
+    link(frame);
+  } // end of method
+
+  // selectVictim method: the frame longest in the lowest nonempty list
+  @Override
+  protected int selectVictim() {
+    for (int word = 0; word < nonEmpty.length; word++) {
+      if (nonEmpty[word] != 0) {
+        return tail[64 * word + Long.numberOfTrailingZeros(nonEmpty[word])];
+      } // end of if
+    } // end of for
+    throw new IllegalStateException("No resident pages to replace");
+  } // end of method
+
+  // writeState method: writes the counters, the reference bits and the lists
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    StateIO.writeInts(out, age);
+    StateIO.writeBooleans(out, referenced);
+    StateIO.writeInts(out, previous);
+    StateIO.writeInts(out, next);
+    StateIO.writeInts(out, head);
+    StateIO.writeInts(out, tail);
+  } // end of method
+
+  // readState method: restores the counters, the reference bits and the lists
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    age = StateIO.readInts(in);
+    referenced = StateIO.readBooleans(in);
+    previous = StateIO.readInts(in);
+    next = StateIO.readInts(in);
+    int[] savedHead = StateIO.readInts(in);
+    int[] savedTail = StateIO.readInts(in);
+    if (savedHead.length != LISTS || savedTail.length != LISTS) {
+      throw new IOException("Invalid state of " + getName() + ": " + savedHead.length + " lists");
+    } // end of if
+    Arrays.fill(nonEmpty, 0);
+    for (int list = 0; list < LISTS; list++) {
+      head[list] = savedHead[list];
+      tail[list] = savedTail[list];
+      if (head[list] != NONE) {
+        nonEmpty[list >>> 6] |= 1L << list;
+      } // end of if
+    } // end of for
+  } // end of method
+
+  // tick method: ages every counter once per physicalFrames references
+  private void tick() {
+    if (time % frames.length != 0) {
+      return;
+    } // end of if
+
+    // Take the frames out in victim order, then relink them by their new counters in the same order
+    int count = 0;
+    for (int list = 0; list < LISTS; list++) {
+      for (int frame = tail[list]; frame != NONE; frame = previous[frame]) {
+        order[count++] = frame;
+      } // end of for
+    } // end of for
+    clearLists();
+    for (int i = 0; i < count; i++) {
+      int frame = order[i];
+      age[frame] = (age[frame] >>> 1) | (referenced[frame] ? TOP_BIT : 0);
+      referenced[frame] = false;
+      link(frame);
+    } // end of for
+  } // end of method
+
+  // link method: adds a frame at the head of the list of its reference bit and counter
+  private void link(int frame) {
+    int list = listOf(frame);
+    previous[frame] = NONE;
+    next[frame] = head[list];
+    if (head[list] != NONE) {
+      previous[head[list]] = frame;
+    } // end of if
+    else {
+      tail[list] = frame;
+      nonEmpty[list >>> 6] |= 1L << list;
+    } // end of else
+    head[list] = frame;
+  } // end of method
+
+  // unlink method: removes a frame from its list
+  private void unlink(int frame) {
+    int list = listOf(frame);
+    if (previous[frame] != NONE) {
+      next[previous[frame]] = next[frame];
+    } // end of if
+    else {
+      head[list] = next[frame];
+    } // end of else
+    if (next[frame] != NONE) {
+      previous[next[frame]] = previous[frame];
+    } // end of if
+    else {
+      tail[list] = previous[frame];
+    } // end of else
+    if (head[list] == NONE) {
+      nonEmpty[list >>> 6] &= ~(1L << list);
+    } // end of if
+  } // end of method
+
+  // listOf method: the list of a frame, unreferenced frames first, then by counter
+  private int listOf(int frame) {
+    return (referenced[frame] ? REFERENCED : 0) | age[frame];
+  } // end of method
+
+  // clearLists method: empties every list
+  private void clearLists() {
+    Arrays.fill(head, NONE);
+    Arrays.fill(tail, NONE);
+    Arrays.fill(nonEmpty, 0);
+  } // end of method
+} // end of class
@@ -0,0 +1,173 @@
+/*
+* File: ArcPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: ARC (Adaptive Replacement Cache, Megiddo and Modha) page
+* replacement. Resident pages are split between T1, pages referenced once
+* recently, and T2, pages referenced at least twice; each is LRU. The pages
+* most recently evicted from them are remembered in the ghost lists B1 and B2.
+* A fault on a page in B1 means T1 was too small and moves the target size p
+* of T1 up, a fault on a page in B2 moves it down, so the split adapts between
+* recency and frequency and a scan cannot flush T2. All four lists are linked
+* lists of PageNodes, so every reference is O(1).
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// ArcPolicy class
+public class ArcPolicy extends AbstractPolicy {
+  private static final int NONE = PageNodes.NONE;
+
+  private PageNodes nodes = new PageNodes(0);
+  private int[] frameNode = new int[0]; // node of the page in each frame
+  private NodeList t1 = new NodeList(0);
+  private NodeList t2 = new NodeList(0);
+  private NodeList b1 = new NodeList(0);
+  private NodeList b2 = new NodeList(0);
+  private int target = 0; // p, the target size of T1
+
+  // State of the current fault, set by missed
+  private int ghost = NONE; // node of the faulting page if it is in B1 or B2
+  private boolean inB2 = false;
+  private boolean forgetVictim = false; // the victim leaves T1 without a ghost
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "ARC";
+  } // end of method
+
+  // reset method: clears memory, all four lists and the target size
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    int capacity = 2 * physicalFrames + 1;
+    nodes = new PageNodes(capacity);
+    frameNode = new int[physicalFrames];
+    t1 = new NodeList(capacity);
+    t2 = new NodeList(capacity);
+    b1 = new NodeList(capacity);
+    b2 = new NodeList(capacity);
+    target = 0;
+  } // end of method
+
+  // hit method: a page referenced again moves to the head of T2
+  @Override
+  protected void hit(int frame) {
+    int node = frameNode[frame];
+    if (t1.contains(node)) {
+      t1.remove(node);
+      t2.addFirst(node);
+    } // end of if
+    else {
+      t2.moveToFront(node);
+    } // end of else
+  } // end of method
+
+  // missed method: adapts the target on a ghost hit and keeps the directory within 2 * frames
+  @Override
+  protected void missed(int page) {
+    int capacity = frames.length;
+    ghost = nodes.find(page);
+    inB2 = ghost != NONE && b2.contains(ghost);
+    forgetVictim = false;
+
+    if (ghost != NONE && !inB2) { // Case II: T1 was too small
+      target = Math.min(capacity, target + Math.max(b2.size() / b1.size(), 1));
+      b1.remove(ghost);
+    } // end of if
+    else if (ghost != NONE) { // Case III: T2 was too small
+      target = Math.max(0, target - Math.max(b1.size() / b2.size(), 1));
+      b2.remove(ghost);
+    } // end of else if
+    else if (t1.size() + b1.size() == capacity) { // Case IV, L1 full
+      if (t1.size() < capacity) {
+        forget(b1, b1.tail());
+      } // end of if
+      else {
+        forgetVictim = true;
+      } // end of else
+    } // end of else if
+    else if (t1.size() + t2.size() + b1.size() + b2.size() >= 2 * capacity) { // Case IV, directory full
+      forget(b2, b2.tail());
+    } // end of else if
+  } // end of method
+
+  // selectVictim method: REPLACE, the LRU page of T1 if T1 is over its target, otherwise of T2
+  @Override
+  protected int selectVictim() {
+    int node;
+    if (forgetVictim || t2.size() == 0 || (t1.size() > 0 && (t1.size() > target || (inB2 && t1.size() == target)))) {
+      node = t1.tail();
+    } // end of if
+    else {
+      node = t2.tail();
+    } // end of else
+    return pageTable.getFrame(nodes.getPage(node));
+  } // end of method
+
+  // evicted method: the victim becomes a ghost of its list, unless T1 alone filled L1
+  @Override
+  protected void evicted(int frame) {
+    int node = frameNode[frame];
+    if (forgetVictim) {
+      forget(t1, node);
+    } // end of if
+    else if (t1.contains(node)) {
+      t1.remove(node);
+      b1.addFirst(node);
+    } // end of else if
+    else {
+      t2.remove(node);
+      b2.addFirst(node);
+    } // end of else
+  } // end of method
+
+  // loaded method: a remembered page goes to T2, a new page to T1
+  @Override
+  protected void loaded(int frame) {
+    if (ghost != NONE) {
+      frameNode[frame] = ghost;
+      t2.addFirst(ghost);
+    } // end of if
+    else {
+      frameNode[frame] = nodes.add(frames[frame]);
+      t1.addFirst(frameNode[frame]);
+    } // end of else
+  } // end of method
+
+  // writeState method: writes the directory, the four lists and the target size
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    out.writeInt(target);
+    nodes.write(out);
+    StateIO.writeInts(out, frameNode);
+    t1.write(out);
+    t2.write(out);
+    b1.write(out);
+    b2.write(out);
+  } // end of method
+
+  // readState method: restores the directory, the four lists and the target size
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    target = in.readInt();
+    nodes.read(in);
+    frameNode = StateIO.readInts(in);
+    t1.read(in);
+    t2.read(in);
+    b1.read(in);
+    b2.read(in);
+  } // end of method
+
+  // forget method: drops a node from a list and from the directory
+  private void forget(NodeList list, int node) {
+    list.remove(node);
+    nodes.remove(node);
+  } // end of method
+} // end of class
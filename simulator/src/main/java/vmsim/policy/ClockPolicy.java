@@ -0,0 +1,76 @@
+/*
+* File: ClockPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: CLOCK (second chance) page replacement. Frames form a circle with a
+* hand pointing at the oldest page. Every reference, including the one that
+* loads a page, sets the frame's reference bit; on a fault the hand clears set
+* bits as it passes and stops at the first frame whose bit is already clear.
+* Each bit is cleared at most once per time it is set, so a reference costs
+* O(1) amortized.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// ClockPolicy class
+public class ClockPolicy extends AbstractPolicy {
+  private boolean[] referenced = new boolean[0];
+  private int hand = 0;
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "CLOCK";
+  } // end of method
+
+  // reset method: clears memory, reference bits and the hand
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    referenced = new boolean[physicalFrames];
+    hand = 0;
+  } // end of method
+
+  // hit method: set the reference bit
+  @Override
+  protected void hit(int frame) {
+    referenced[frame] = true;
+  } // end of method
+
+  // loaded method: the loading reference sets the bit too
+  @Override
+  protected void loaded(int frame) {
+    referenced[frame] = true;
+  } // end of method
+
+  // writeState method: writes the reference bits and the hand
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    out.writeInt(hand);
+    StateIO.writeBooleans(out, referenced);
+  } // end of method
+
+  // readState method: restores the reference bits and the hand
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    hand = in.readInt();
+    referenced = StateIO.readBooleans(in);
+  } // end of method
+
+  // selectVictim method: first frame under the hand without its reference bit
+  @Override
+  protected int selectVictim() {
+    while (referenced[hand]) {
+      referenced[hand] = false; // second chance
+      hand = hand + 1 < frames.length ? hand + 1 : 0;
+    } // end of while
+    int victim = hand;
+    hand = hand + 1 < frames.length ? hand + 1 : 0;
+    return victim;
+  } // end of method
+} // end of class
@@ -0,0 +1,249 @@
+/*
+* File: ClockProPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: CLOCK-Pro page replacement (Jiang, Chen and Zhang), in the widely
+* used simplified form where a cold page earns hot status through its reference
+* bit. Resident pages are hot or cold, and cold pages evicted recently stay on
+* the clock as non-resident test pages. All pages share one circle of
+* PageNodes, swept by three hands:
+*   cold hand - evicts cold pages not referenced since it last passed and
+*               leaves them as test pages; referenced cold pages become hot
+*   hot hand  - turns hot pages not referenced since it last passed cold
+*   test hand - drops test pages, shrinking the cold target as it does
+* A fault on a test page means it was evicted too early: it comes back hot
+* and the cold target grows. The target therefore adapts like ARC's, and a scan
+* only cycles cold pages. Each hand passes a page at most once per time it is
+* added or referenced, so every reference is O(1) amortized.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// ClockProPolicy class
+public class ClockProPolicy extends AbstractPolicy {
+  private static final int NONE = PageNodes.NONE;
+  private static final byte HOT = 0;
+  private static final byte COLD = 1;
+  private static final byte TEST = 2;
+
+  private PageNodes nodes = new PageNodes(0);
+  private int[] frameNode = new int[0]; // node of the page in each frame
+  private int[] clockwise = new int[0];
+  private int[] counterclockwise = new int[0];
+  private byte[] status = new byte[0];
+  private boolean[] referenced = new boolean[0];
+  private int handHot = NONE;
+  private int handCold = NONE;
+  private int handTest = NONE;
+  private int hotCount = 0;
+  private int coldCount = 0;
+  private int testCount = 0;
+  private int coldTarget = 0; // resident cold pages aimed for
+  private boolean returning = false; // the faulting page was a test page
+  private int victimPage = EMPTY; // page the cold hand evicted
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "CLOCK-Pro";
+  } // end of method
+
+  // reset method: clears memory, the clock and the cold target
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    int capacity = 2 * physicalFrames + 2;
+    nodes = new PageNodes(capacity);
+    frameNode = new int[physicalFrames];
+    clockwise = new int[capacity];
+    counterclockwise = new int[capacity];
+    status = new byte[capacity];
+    referenced = new boolean[capacity];
+    handHot = NONE;
+    handCold = NONE;
+    handTest = NONE;
+    hotCount = 0;
+    coldCount = 0;
+    testCount = 0;
+    coldTarget = physicalFrames;
+  } // end of method
+
+  // hit method: set the reference bit
+  @Override
+  protected void hit(int frame) {
+    referenced[frameNode[frame]] = true;
+  } // end of method
+
+  // missed method: a test page comes back, so the cold target grows
+  @Override
+  protected void missed(int page) {
+    int node = nodes.find(page);
+    returning = node != NONE;
+    if (returning) {
+      coldTarget = Math.min(frames.length, coldTarget + 1);
+      remove(node);
+      testCount--;
+    } // end of if
+  } // end of method
+
+  // selectVictim method: runs the cold hand until it has evicted a page
+  @Override
+  protected int selectVictim() {
+    victimPage = EMPTY;
+    while (victimPage == EMPTY) {
+      runHandCold();
+    } // end of while
+    return pageTable.getFrame(victimPage);
+  } // end of method
+
+  // loaded method: a returning test page is hot, a new page cold, both just behind the hot hand
+  @Override
+  protected void loaded(int frame) {
+    int node = nodes.add(frames[frame]);
+    frameNode[frame] = node;
+    status[node] = returning ? HOT : COLD;
+    referenced[node] = false;
+    if (returning) {
+      hotCount++;
+    } // end of if
+    else {
+      coldCount++;
+    } // end of else
+
+    if (handHot == NONE) {
+      clockwise[node] = node;
+      counterclockwise[node] = node;
+      handHot = node;
+      handCold = node;
+      handTest = node;
+    } // end of if
+    else {
+      clockwise[node] = handHot;
+      counterclockwise[node] = counterclockwise[handHot];
+      clockwise[counterclockwise[handHot]] = node;
+      counterclockwise[handHot] = node;
+    } // end of else
+    if (handCold == handHot) {
+      handCold = counterclockwise[handCold];
+    } // end of if
+  } // end of method
+
+  // writeState method: writes the clock, its hands and counts, and the cold target
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    out.writeInt(handHot);
+    out.writeInt(handCold);
+    out.writeInt(handTest);
+    out.writeInt(hotCount);
+    out.writeInt(coldCount);
+    out.writeInt(testCount);
+    out.writeInt(coldTarget);
+    nodes.write(out);
+    StateIO.writeInts(out, frameNode);
+    StateIO.writeInts(out, clockwise);
+    StateIO.writeInts(out, counterclockwise);
+    StateIO.writeBytes(out, status);
+    StateIO.writeBooleans(out, referenced);
+  } // end of method
+
+  // readState method: restores the clock, its hands and counts, and the cold target
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    handHot = in.readInt();
+    handCold = in.readInt();
+    handTest = in.readInt();
+    hotCount = in.readInt();
+    coldCount = in.readInt();
+    testCount = in.readInt();
+    coldTarget = in.readInt();
+    nodes.read(in);
+    frameNode = StateIO.readInts(in);
+    clockwise = StateIO.readInts(in);
+    counterclockwise = StateIO.readInts(in);
+    status = StateIO.readBytes(in);
+    referenced = StateIO.readBooleans(in);
+  } // end of method
+
+  // runHandCold method: promotes or evicts the cold page under the hand, then balances hot pages
+  private void runHandCold() {
+    int node = handCold;
+    if (status[node] == COLD) {
+      if (referenced[node]) {
+        status[node] = HOT;
+        referenced[node] = false;
+        coldCount--;
+        hotCount++;
+      } // end of if
+      else {
+        status[node] = TEST;
+        coldCount--;
+        testCount++;
+        victimPage = nodes.getPage(node);
+        while (testCount > frames.length) {
+          runHandTest();
+        } // end of while
+      } // end of else
+    } // end of if
+    handCold = clockwise[handCold];
+    while (frames.length - coldTarget < hotCount) {
+      runHandHot();
+    } // end of while
+  } // end of method
+
+  // runHandHot method: turns the hot page under the hand cold unless it was referenced
+  private void runHandHot() {
+    if (handHot == handTest) {
+      runHandTest();
+    } // end of if
+    int node = handHot;
+    if (status[node] == HOT) {
+      if (referenced[node]) {
+        referenced[node] = false;
+      } // end of if
+      else {
+        status[node] = COLD;
+        hotCount--;
+        coldCount++;
+      } // end of else
+    } // end of if
+    handHot = clockwise[handHot];
+  } // end of method
+
+  // runHandTest method: drops the test page under the hand and shrinks the cold target
+  private void runHandTest() {
+    int node = handTest;
+    if (status[node] == TEST) {
+      remove(node);
+      testCount--;
+      if (coldTarget > 1) {
+        coldTarget--;
+      } // end of if
+    } // end of if
+    if (handTest != NONE) {
+      handTest = clockwise[handTest];
+    } // end of if
+  } // end of method
+
+  // remove method: takes a node off the clock, moving any hand on it back one place
+  private void remove(int node) {
+    int before = counterclockwise[node];
+    if (before == node) { // last page on the clock
+      handHot = NONE;
+      handCold = NONE;
+      handTest = NONE;
+    } // end of if
+    else {
+      handHot = handHot == node ? before : handHot;
+      handCold = handCold == node ? before : handCold;
+      handTest = handTest == node ? before : handTest;
+      clockwise[before] = clockwise[node];
+      counterclockwise[clockwise[node]] = before;
+    } // end of else
+    nodes.remove(node);
+  } // end of method
+} // end of class
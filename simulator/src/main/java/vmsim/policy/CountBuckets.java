@@ -0,0 +1,220 @@
+/*
+* File: CountBuckets.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Frames grouped into buckets of equal reference count, for the LFU
+* policies whose ties go to the oldest frame. Buckets are linked in
+* increasing count and a frame joins the end of its bucket, so the first
+* frame of the lowest bucket is the least frequent and, among those, the one
+* that reached its count first. A frame whose count goes up by one moves a
+* bucket along in O(1). A frame added with any count joins the bucket of that
+* count if one exists; otherwise the new bucket goes above the highest lower
+* count, which a PredecessorSet of the bucket counts finds in O(1). There is
+* one bucket per frame, plus one for a frame moving out of a bucket it would
+* empty.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.IntIntMap;
+import vmsim.util.PredecessorSet;
+import vmsim.util.StateIO;
+
+// CountBuckets class
+final class CountBuckets {
+  static final int NONE = -1;
+
+  // Frames within a bucket
+  private int[] bucketOf;
+  private int[] previous;
+  private int[] next;
+
+  // Buckets, linked in increasing count; unused buckets are chained on freeBucket
+  private int[] count;
+  private int[] first;
+  private int[] last;
+  private int[] lower;
+  private int[] higher;
+  private final IntIntMap bucketWithCount;
+  private final PredecessorSet bucketCounts = new PredecessorSet(); // the counts of bucketWithCount, in order
+  private int lowestBucket;
+  private int freeBucket;
+
+  // CountBuckets constructor: empty buckets for the given number of frames
+  CountBuckets(int frames) {
+    bucketOf = new int[frames];
+    previous = new int[frames];
+    next = new int[frames];
+    int buckets = frames + 1;
+    count = new int[buckets];
+    first = new int[buckets];
+    last = new int[buckets];
+    lower = new int[buckets];
+    higher = new int[buckets];
+    bucketWithCount = new IntIntMap(buckets, NONE);
+    clear();
+  } // end of method
+
+  // first method: returns the first frame of the lowest bucket, or NONE if every bucket is empty
+  int first() {
+    return lowestBucket == NONE ? NONE : first[lowestBucket];
+  } // end of method
+
+  // add method: adds a frame with a count to the end of that count's bucket
+  void add(int frame, int frameCount) {
+    int bucket = bucketWithCount.get(frameCount);
+    if (bucket == NONE && (lowestBucket == NONE || count[lowestBucket] > frameCount)) {
+      bucket = newBucket(frameCount, NONE);
+    } // end of if
+    else if (bucket == NONE) {
+      bucket = newBucket(frameCount, bucketWithCount.get(bucketCounts.lower(frameCount)));
+    } // end of else if
+    join(frame, bucket);
+  } // end of method
+
+  // increment method: moves a frame to the end of the bucket one count higher
+  void increment(int frame) {
+    int from = bucketOf[frame];
+    int to = higher[from];
+    if (to == NONE || count[to] != count[from] + 1) {
+      to = newBucket(count[from] + 1, from);
+    } // end of if
+    remove(frame);
+    join(frame, to);
+  } // end of method
+
+  // remove method: removes a frame from its bucket, freeing the bucket if it is now empty
+  void remove(int frame) {
+    int bucket = bucketOf[frame];
+    if (previous[frame] != NONE) {
+      next[previous[frame]] = next[frame];
+    } // end of if
+    else {
+      first[bucket] = next[frame];
+    } // end of else
+    if (next[frame] != NONE) {
+      previous[next[frame]] = previous[frame];
+    } // end of if
+    else {
+      last[bucket] = previous[frame];
+    } // end of else
+    if (first[bucket] == NONE) {
+      freeBucket(bucket);
+    } // end of if
+  } // end of method
+
+  // inOrder method: writes every frame in victim order to order, returns how many there are
+  int inOrder(int[] order) {
+    int frames = 0;
+    for (int b = lowestBucket; b != NONE; b = higher[b]) {
+      for (int frame = first[b]; frame != NONE; frame = next[frame]) {
+        order[frames++] = frame;
+      } // end of for
+    } // end of for
+    return frames;
+  } // end of method
+
+  // clear method: empties every bucket
+  void clear() {
+    bucketWithCount.clear();
+    bucketCounts.clear();
+    lowestBucket = NONE;
+    for (int b = 0; b < count.length; b++) {
+      higher[b] = b + 1 < count.length ? b + 1 : NONE;
+    } // end of for
+    freeBucket = 0;
+  } // end of method
+
+  // write method: writes the frames and buckets, for a checkpoint
+  void write(DataOutput out) throws IOException {
+    StateIO.writeInts(out, bucketOf);
+    StateIO.writeInts(out, previous);
+    StateIO.writeInts(out, next);
+    StateIO.writeInts(out, count);
+    StateIO.writeInts(out, first);
+    StateIO.writeInts(out, last);
+    StateIO.writeInts(out, lower);
+    StateIO.writeInts(out, higher);
+    bucketWithCount.write(out);
+    out.writeInt(lowestBucket);
+    out.writeInt(freeBucket);
+  } // end of method
+
+  // read method: replaces the frames and buckets with ones written by write
+  void read(DataInput in) throws IOException {
+    bucketOf = StateIO.readInts(in);
+    previous = StateIO.readInts(in);
+    next = StateIO.readInts(in);
+    count = StateIO.readInts(in);
+    first = StateIO.readInts(in);
+    last = StateIO.readInts(in);
+    lower = StateIO.readInts(in);
+    higher = StateIO.readInts(in);
+    bucketWithCount.read(in);
+    lowestBucket = in.readInt();
+    freeBucket = in.readInt();
+
+    // The ordered counts are not saved, they are those of the buckets
+    bucketCounts.clear();
+    for (int b = lowestBucket; b != NONE; b = higher[b]) {
+      bucketCounts.add(count[b]);
+    } // end of for
+  } // end of method
+
+  // join method: adds a frame to the end of a bucket
+  private void join(int frame, int bucket) {
+    bucketOf[frame] = bucket;
+    previous[frame] = last[bucket];
+    next[frame] = NONE;
+    if (last[bucket] != NONE) {
+      next[last[bucket]] = frame;
+    } // end of if
+    else {
+      first[bucket] = frame;
+    } // end of else
+    last[bucket] = frame;
+  } // end of method
+
+  // newBucket method: creates an empty bucket for a count, linked just above another (NONE for lowest)
+  private int newBucket(int bucketCount, int below) {
+    int bucket = freeBucket;
+    freeBucket = higher[bucket];
+    count[bucket] = bucketCount;
+    first[bucket] = NONE;
+    last[bucket] = NONE;
+    lower[bucket] = below;
+    higher[bucket] = below == NONE ? lowestBucket : higher[below];
+    if (below != NONE) {
+      higher[below] = bucket;
+    } // end of if
+    else {
+      lowestBucket = bucket;
+    } // end of else
+    if (higher[bucket] != NONE) {
+      lower[higher[bucket]] = bucket;
+    } // end of if
+    bucketWithCount.put(bucketCount, bucket);
+    bucketCounts.add(bucketCount);
+    return bucket;
+  } // end of method
+
+  // freeBucket method: unlinks an empty bucket and returns it to the free chain
+  private void freeBucket(int bucket) {
+    if (lower[bucket] != NONE) {
+      higher[lower[bucket]] = higher[bucket];
+    } // end of if
+    else {
+      lowestBucket = higher[bucket];
+    } // end of else
+    if (higher[bucket] != NONE) {
+      lower[higher[bucket]] = lower[bucket];
+    } // end of if
+    bucketWithCount.remove(count[bucket]);
+    bucketCounts.remove(count[bucket]);
+    higher[bucket] = freeBucket;
+    freeBucket = bucket;
+  } // end of method
+} // end of class
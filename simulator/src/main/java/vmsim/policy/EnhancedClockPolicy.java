@@ -0,0 +1,94 @@
+/*
+* File: EnhancedClockPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Enhanced second-chance page replacement, a CLOCK that also looks at
+* the dirty bit. On a fault the hand first sweeps for a frame neither
+* referenced nor dirty, changing nothing; failing that it sweeps for one not
+* referenced but dirty, clearing reference bits as it passes. After those two
+* sweeps every reference bit is clear, so repeating them always finds a
+* victim. Clean pages are preferred because they need no write-back.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// EnhancedClockPolicy class
+public class EnhancedClockPolicy extends AbstractPolicy {
+  private boolean[] referenced = new boolean[0];
+  private int hand = 0;
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "ESC";
+  } // end of method
+
+  // reset method: clears memory, reference bits and the hand
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    referenced = new boolean[physicalFrames];
+    hand = 0;
+  } // end of method
+
+  // hit method: set the reference bit
+  @Override
+  protected void hit(int frame) {
+    referenced[frame] = true;
+  } // end of method
+
+  // loaded method: the loading reference sets the bit too
+  @Override
+  protected void loaded(int frame) {
+    referenced[frame] = true;
+  } // end of method
+
+  // writeState method: writes the reference bits and the hand
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    out.writeInt(hand);
+    StateIO.writeBooleans(out, referenced);
+  } // end of method
+
+  // readState method: restores the reference bits and the hand
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    hand = in.readInt();
+    referenced = StateIO.readBooleans(in);
+  } // end of method
+
+  // selectVictim method: first frame under the hand in the lowest (referenced, dirty) class
+  @Override
+  protected int selectVictim() {
+    while (true) {
+      // Sweep for a frame neither referenced nor dirty
+      for (int i = 0; i < frames.length; i++) {
+        int frame = advance();
+        if (!referenced[frame] && !dirty[frame]) {
+          return frame;
+        } // end of if
+      } // end of for
+
+      // Sweep for a frame not referenced but dirty, giving the others a second chance
+      for (int i = 0; i < frames.length; i++) {
+        int frame = advance();
+        if (!referenced[frame]) {
+          return frame;
+        } // end of if
+        referenced[frame] = false;
+      } // end of for
+    } // end of while
+  } // end of method
+
+  // advance method: returns the frame under the hand and moves the hand past it
+  private int advance() {
+    int frame = hand;
+    hand = hand + 1 < frames.length ? hand + 1 : 0;
+    return frame;
+  } // end of method
+} // end of class
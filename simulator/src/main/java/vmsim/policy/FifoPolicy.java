@@ -0,0 +1,75 @@
+/*
+* File: FifoPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: FIFO (First In, First Out) page replacement. The page that has been
+* in memory the longest is the victim, regardless of how it has been used.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// FifoPolicy class
+public class FifoPolicy extends AbstractPolicy {
+  private int currFrame = 0; // "first-in" frame
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "FIFO";
+  } // end of method
+
+  // reset method: clears memory and the "first-in" position
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    currFrame = 0;
+  } // end of method
+
+  // getQueue method: returns the resident pages from first-in to last-in
+  public int[] getQueue() {
+    int[] queue = new int[used];
+    for (int i = 0; i < used; i++) {
+      queue[i] = frames[(currFrame + i) % frames.length];
+    } // end of for
+    return queue;
+  } // end of method
+
+  // restore method: resets memory to hold the given pages, first-in first
+  public void restore(int physicalFrames, int[] queue) {
+    if (queue.length > physicalFrames) {
+      throw new IllegalArgumentException(queue.length + " pages do not fit in " + physicalFrames + " frames");
+    } // end of if
+    reset(physicalFrames);
+    for (int page : queue) {
+      reference(page);
+    } // end of for
+    time = -1;
+  } // end of method
+
+  // writeState method: writes the "first-in" position
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    out.writeInt(currFrame);
+  } // end of method
+
+  // readState method: restores the "first-in" position
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    currFrame = in.readInt();
+  } // end of method
+
+  // selectVictim method: frames are replaced in the order they were filled
+  @Override
+  protected int selectVictim() {
+    int victim = currFrame;
+    currFrame++;
+    if (currFrame >= frames.length) { // move to first physical frame
+      currFrame = 0;
+    } // end of if
+    return victim;
+  } // end of method
+} // end of class
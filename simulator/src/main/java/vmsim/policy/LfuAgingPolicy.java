@@ -0,0 +1,107 @@
+/*
+* File: LfuAgingPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: LFU with aging. Unlike LfuPolicy, only the resident pages are
+* counted: a page starts from 1 each time it is loaded, and every count is
+* halved every AGING_PERIOD references per frame, so pages popular long ago
+* lose their place and the counts take memory for the frames only. Halved
+* counts tie often, so ties go to the frame that reached its count first.
+* Frames are kept in CountBuckets, O(1) per reference. Halving keeps the
+* counts in order, so the buckets are refilled in victim order in one pass
+* over the frames, O(1) amortized per reference.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// LfuAgingPolicy class
+public class LfuAgingPolicy extends AbstractPolicy {
+  private static final int AGING_PERIOD = 10; // references per frame between halvings
+
+  private int[] residentCount = new int[0]; // count of the page in each frame
+  private int[] order = new int[0]; // frames in victim order, while halving refills the buckets
+  private CountBuckets buckets = new CountBuckets(0);
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "LFU-AGING";
+  } // end of method
+
+  // reset method: clears memory, the counts and the buckets
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    residentCount = new int[physicalFrames];
+    order = new int[physicalFrames];
+    buckets = new CountBuckets(physicalFrames);
+  } // end of method
+
+  // hit method: add an occurrence to the current value, moving the frame one bucket along
+  @Override
+  protected void hit(int frame) {
+    age();
+    residentCount[frame]++;
+    buckets.increment(frame);
+  } // end of method
+
+  // missed method: a fault also counts towards the next halving
+  @Override
+  protected void missed(int page) {
+    age();
+  } // end of method
+
+  // evicted method: the victim leaves its bucket and its count is forgotten
+  @Override
+  protected void evicted(int frame) {
+    buckets.remove(frame);
+    residentCount[frame] = 0;
+  } // end of method
+
+  // loaded method: the new page starts counting from 1
+  @Override
+  protected void loaded(int frame) {
+    residentCount[frame] = 1;
+    buckets.add(frame, 1);
+  } // end of method
+
+  // selectVictim method: "least frequent" frame becomes victim
+  @Override
+  protected int selectVictim() {
+    return buckets.first();
+  } // end of method
+
+  // writeState method: writes the counts and the buckets
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    StateIO.writeInts(out, residentCount);
+    buckets.write(out);
+  } // end of method
+
+  // readState method: restores the counts and the buckets
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    residentCount = StateIO.readInts(in);
+    buckets.read(in);
+  } // end of method
+
+  // age method: halves every count once per AGING_PERIOD references per frame
+  private void age() {
+    if (time == 0 || time % ((long) AGING_PERIOD * frames.length) != 0) {
+      return;
+    } // end of if
+
+    // Take the frames out in victim order, then put them back in the same order with halved counts
+    int resident = buckets.inOrder(order);
+    buckets.clear();
+    for (int i = 0; i < resident; i++) {
+      residentCount[order[i]] >>>= 1;
+      buckets.add(order[i], residentCount[order[i]]);
+    } // end of for
+  } // end of method
+} // end of class
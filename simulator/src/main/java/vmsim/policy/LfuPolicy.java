@@ -0,0 +1,215 @@
+/*
+* File: LfuPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: LFU (Least Frequently Used) page replacement. Every page keeps a
+* count of its references, including references made before it was last
+* evicted, and the resident page with the lowest count is the victim.
+*
+* Ties between frames with the same count are broken explicitly, and each
+* rule keeps the frames in the structure that suits it:
+*   LOWEST_FRAME - the lowest physical frame, as the simulator always has.
+*                  Frames are kept in a min-heap keyed on count and then on
+*                  frame, so the victim is at the root and each reference
+*                  costs O(log frames).
+*   OLDEST       - the frame that reached the count first. Frames are kept in
+*                  CountBuckets, so every reference is O(1).
+*
+* The counts of every page ever seen are the one part of the state that
+* grows with the address space rather than with memory. Pages below
+* DIRECT_PAGES are counted in an off-heap array indexed by page number, 4
+* bytes per page of the ranges in use, which never rehashes; only larger
+* page numbers fall back to a hash map. LfuAgingPolicy counts resident pages
+* only.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.IntIntMap;
+import vmsim.util.OffHeapIntArray;
+import vmsim.util.StateIO;
+
+// LfuPolicy class
+public class LfuPolicy extends AbstractPolicy {
+  // TieBreak enum: which of several least frequent frames becomes the victim
+  public enum TieBreak {
+    LOWEST_FRAME,
+    OLDEST
+  } // end of enum
+
+  private static final int DIRECT_PAGES = 1 << 27; // pages counted by page number, at most 512 MiB of counts
+
+  private final TieBreak tieBreak;
+  private final OffHeapIntArray directCounts = new OffHeapIntArray(); // reference count of every page seen
+  private IntIntMap hashedCounts = new IntIntMap(16, 0); // counts of pages outside 0 to DIRECT_PAGES
+
+  // Min-heap of frames, for LOWEST_FRAME
+  private int[] heap = new int[0]; // frames, the next victim at the root
+  private int[] heapIndex = new int[0]; // position of each frame in heap
+  private int[] frameCount = new int[0]; // count of the page in each frame
+  private int heapSize = 0;
+
+  private CountBuckets buckets = new CountBuckets(0); // frames by count, for OLDEST
+
+  // LfuPolicy constructor: ties go to the lowest frame, matching the original simulator
+  public LfuPolicy() {
+    this(TieBreak.LOWEST_FRAME);
+  } // end of method
+
+  // LfuPolicy constructor: with an explicit tie-breaking rule
+  public LfuPolicy(TieBreak tieBreak) {
+    this.tieBreak = tieBreak;
+  } // end of method
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return tieBreak == TieBreak.LOWEST_FRAME ? "LFU" : "LFU-OLDEST";
+  } // end of method
+
+  // reset method: clears memory, all reference counts and the heap or buckets
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    directCounts.clear();
+    hashedCounts = new IntIntMap(16, 0);
+    if (tieBreak == TieBreak.LOWEST_FRAME) {
+      heap = new int[physicalFrames];
+      heapIndex = new int[physicalFrames];
+      frameCount = new int[physicalFrames];
+      heapSize = 0;
+    } // end of if
+    else {
+      buckets = new CountBuckets(physicalFrames);
+    } // end of else
+  } // end of method
+
+  // hit method: add an occurrence to the current value, moving the frame away from the root or one bucket along
+  @Override
+  protected void hit(int frame) {
+    int frequency = addReference(frames[frame]);
+    if (tieBreak == TieBreak.LOWEST_FRAME) {
+      frameCount[frame] = frequency;
+      siftDown(heapIndex[frame]);
+    } // end of if
+    else {
+      buckets.increment(frame);
+    } // end of else
+  } // end of method
+
+  // evicted method: the victim leaves its bucket, its count is kept; in the heap its frame waits for the new page
+  @Override
+  protected void evicted(int frame) {
+    if (tieBreak == TieBreak.OLDEST) {
+      buckets.remove(frame);
+    } // end of if
+  } // end of method
+
+  // loaded method: add an occurrence, or start counting a page seen for the first time
+  @Override
+  protected void loaded(int frame) {
+    int frequency = addReference(frames[frame]);
+    if (tieBreak == TieBreak.OLDEST) {
+      buckets.add(frame, frequency);
+      return;
+    } // end of if
+    frameCount[frame] = frequency;
+    if (heapSize < used) {
+      place(frame, heapSize);
+      siftUp(heapSize++);
+    } // end of if
+    else {
+      siftDown(heapIndex[frame]);
+      siftUp(heapIndex[frame]);
+    } // end of else
+  } // end of method
+
+  // selectVictim method: "least frequent" frame becomes victim
+  @Override
+  protected int selectVictim() {
+    return tieBreak == TieBreak.LOWEST_FRAME ? heap[0] : buckets.first();
+  } // end of method
+
+  // writeState method: writes the reference counts and the heap or buckets
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    directCounts.write(out);
+    hashedCounts.write(out);
+    if (tieBreak == TieBreak.OLDEST) {
+      buckets.write(out);
+      return;
+    } // end of if
+    out.writeInt(heapSize);
+    StateIO.writeInts(out, heap);
+    StateIO.writeInts(out, heapIndex);
+    StateIO.writeInts(out, frameCount);
+  } // end of method
+
+  // readState method: restores the reference counts and the heap or buckets
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    directCounts.read(in);
+    hashedCounts.read(in);
+    if (tieBreak == TieBreak.OLDEST) {
+      buckets.read(in);
+      return;
+    } // end of if
+    heapSize = in.readInt();
+    heap = StateIO.readInts(in);
+    heapIndex = StateIO.readInts(in);
+    frameCount = StateIO.readInts(in);
+  } // end of method
+
+  // addReference method: adds a reference to a page's count, returns the new count
+  private int addReference(int page) {
+    return page >= 0 && page < DIRECT_PAGES ? directCounts.increment(page, 1) : hashedCounts.increment(page, 1);
+  } // end of method
+
+  // before method: true if frame a should be replaced before frame b in the heap
+  private boolean before(int a, int b) {
+    return frameCount[a] != frameCount[b] ? frameCount[a] < frameCount[b] : a < b;
+  } // end of method
+
+  // siftUp method: moves a heap entry towards the root while it should be replaced before its parent
+  private void siftUp(int index) {
+    int frame = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!before(frame, heap[parent])) {
+        break;
+      } // end of if
+      place(heap[parent], index);
+      index = parent;
+    } // end of while
+    place(frame, index);
+  } // end of method
+
+  // siftDown method: moves a heap entry away from the root while a child should be replaced first
+  private void siftDown(int index) {
+    int frame = heap[index];
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= heapSize) {
+        break;
+      } // end of if
+      if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+        child++;
+      } // end of if
+      if (!before(heap[child], frame)) {
+        break;
+      } // end of if
+      place(heap[child], index);
+      index = child;
+    } // end of while
+    place(frame, index);
+  } // end of method
+
+  // place method: stores a frame at a heap position
+  private void place(int frame, int index) {
+    heap[index] = frame;
+    heapIndex[frame] = index;
+  } // end of method
+} // end of class
@@ -0,0 +1,200 @@
+/*
+* File: LirsPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: LIRS (Low Inter-reference Recency Set, Jiang and Zhang) page
+* replacement. Pages are ranked by the recency of their previous reference
+* rather than their last one. Pages with a short reuse distance are LIR and
+* hold all but about 1% of memory; the rest hold HIR pages, which are the only
+* candidates for eviction. The stack S keeps pages in recency order down to
+* the oldest LIR page, including HIR pages that are no longer resident; an HIR
+* page referenced again while still on S has a shorter reuse distance than the
+* oldest LIR page and takes its place. The queue Q holds the resident HIR
+* pages in eviction order. Non-resident entries on S are capped at one per
+* frame, the oldest dropped first, so memory stays bounded. Pages leave the
+* bottom of S at most once per time they enter it, so every reference is O(1)
+* amortized.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// LirsPolicy class
+public class LirsPolicy extends AbstractPolicy {
+  private static final int NONE = PageNodes.NONE;
+
+  private PageNodes nodes = new PageNodes(0);
+  private int[] frameNode = new int[0]; // node of the page in each frame
+  private NodeList stack = new NodeList(0); // S, head is the most recent
+  private NodeList queue = new NodeList(0); // Q, resident HIR pages, tail evicted first
+  private NodeList ghosts = new NodeList(0); // non-resident HIR pages on S, tail dropped first
+  private boolean[] lir = new boolean[0];
+  private int lirCount = 0;
+  private int lirLimit = 0;
+  private int ghostLimit = 0;
+  private int returning = NONE; // node of the faulting page if it was a ghost
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "LIRS";
+  } // end of method
+
+  // reset method: clears memory, the stack and the queue
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    int hirLimit = physicalFrames > 1 ? Math.max(1, physicalFrames / 100) : 0;
+    lirLimit = physicalFrames - hirLimit;
+    ghostLimit = physicalFrames;
+    int capacity = physicalFrames + ghostLimit + 2;
+    nodes = new PageNodes(capacity);
+    frameNode = new int[physicalFrames];
+    stack = new NodeList(capacity);
+    queue = new NodeList(capacity);
+    ghosts = new NodeList(capacity);
+    lir = new boolean[capacity];
+    lirCount = 0;
+  } // end of method
+
+  // hit method: LIR pages move to the top of S; an HIR page still on S becomes LIR
+  @Override
+  protected void hit(int frame) {
+    int node = frameNode[frame];
+    if (lir[node]) {
+      stack.moveToFront(node);
+      prune();
+    } // end of if
+    else if (stack.contains(node)) {
+      queue.remove(node);
+      stack.moveToFront(node);
+      lir[node] = true;
+      lirCount++;
+      if (lirCount > lirLimit) {
+        demoteBottom();
+      } // end of if
+    } // end of else if
+    else {
+      stack.addFirst(node);
+      queue.moveToFront(node);
+    } // end of else
+  } // end of method
+
+  // missed method: a page still remembered on S stops being a ghost
+  @Override
+  protected void missed(int page) {
+    returning = nodes.find(page);
+    if (returning != NONE) {
+      ghosts.remove(returning);
+    } // end of if
+  } // end of method
+
+  // selectVictim method: the front of Q, or the bottom LIR page when there are no HIR pages
+  @Override
+  protected int selectVictim() {
+    int node = queue.size() > 0 ? queue.tail() : stack.tail();
+    return pageTable.getFrame(nodes.getPage(node));
+  } // end of method
+
+  // evicted method: an evicted HIR page stays on S as a ghost if it is there
+  @Override
+  protected void evicted(int frame) {
+    int node = frameNode[frame];
+    if (queue.contains(node)) {
+      queue.remove(node);
+      if (stack.contains(node)) {
+        ghosts.addFirst(node);
+        if (ghosts.size() > ghostLimit) {
+          int oldest = ghosts.tail();
+          ghosts.remove(oldest);
+          stack.remove(oldest);
+          nodes.remove(oldest);
+        } // end of if
+      } // end of if
+      else {
+        nodes.remove(node);
+      } // end of else
+    } // end of if
+    else { // LIR page, only when memory holds no HIR pages
+      stack.remove(node);
+      lir[node] = false;
+      lirCount--;
+      nodes.remove(node);
+      prune();
+    } // end of else
+  } // end of method
+
+  // loaded method: a ghost found on S becomes LIR, a new page is LIR only while LIR has room
+  @Override
+  protected void loaded(int frame) {
+    int node = returning != NONE ? returning : nodes.add(frames[frame]);
+    frameNode[frame] = node;
+    if (returning != NONE && stack.contains(node)) {
+      stack.moveToFront(node);
+      lir[node] = true;
+      lirCount++;
+      if (lirCount > lirLimit) {
+        demoteBottom();
+      } // end of if
+    } // end of if
+    else if (lirCount < lirLimit) {
+      stack.addFirst(node);
+      lir[node] = true;
+      lirCount++;
+    } // end of else if
+    else {
+      stack.addFirst(node);
+      queue.addFirst(node);
+    } // end of else
+  } // end of method
+
+  // writeState method: writes the stack, the queue and the ghosts; the limits follow from the frame count
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    out.writeInt(lirCount);
+    nodes.write(out);
+    StateIO.writeInts(out, frameNode);
+    stack.write(out);
+    queue.write(out);
+    ghosts.write(out);
+    StateIO.writeBooleans(out, lir);
+  } // end of method
+
+  // readState method: restores the stack, the queue and the ghosts
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    lirCount = in.readInt();
+    nodes.read(in);
+    frameNode = StateIO.readInts(in);
+    stack.read(in);
+    queue.read(in);
+    ghosts.read(in);
+    lir = StateIO.readBooleans(in);
+  } // end of method
+
+  // demoteBottom method: the LIR page at the bottom of S becomes a resident HIR page
+  private void demoteBottom() {
+    int node = stack.tail();
+    stack.remove(node);
+    lir[node] = false;
+    lirCount--;
+    queue.addFirst(node);
+    prune();
+  } // end of method
+
+  // prune method: removes HIR pages from the bottom of S until an LIR page is there
+  private void prune() {
+    while (stack.tail() != NONE && !lir[stack.tail()]) {
+      int node = stack.tail();
+      stack.remove(node);
+      if (ghosts.contains(node)) {
+        ghosts.remove(node);
+        nodes.remove(node);
+      } // end of if
+    } // end of while
+  } // end of method
+} // end of class
@@ -0,0 +1,116 @@
+/*
+* File: LruPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: LRU (Least Recently Used) page replacement. The page whose last
+* reference is furthest in the past is the victim. Frames are threaded on a
+* doubly linked list in order of use, kept in index arrays, so every reference
+* costs O(1).
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// LruPolicy class
+public class LruPolicy extends AbstractPolicy {
+  private static final int NONE = -1;
+
+  private int[] previous = new int[0]; // next more recently used frame
+  private int[] next = new int[0]; // next less recently used frame
+  private int mostRecent = NONE;
+  private int leastRecent = NONE;
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "LRU";
+  } // end of method
+
+  // reset method: clears memory and recency information
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    previous = new int[physicalFrames];
+    next = new int[physicalFrames];
+    mostRecent = NONE;
+    leastRecent = NONE;
+  } // end of method
+
+  // hit method: move the frame to the most recently used end
+  @Override
+  protected void hit(int frame) {
+    if (frame != mostRecent) {
+      unlink(frame);
+      pushFront(frame);
+    } // end of if
+  } // end of method
+
+  // evicted method: the victim leaves the recency list
+  @Override
+  protected void evicted(int frame) {
+    unlink(frame);
+  } // end of method
+
+  // loaded method: a new page is the most recently used
+  @Override
+  protected void loaded(int frame) {
+    pushFront(frame);
+  } // end of method
+
+  // selectVictim method: "least recent" frame becomes victim
+  @Override
+  protected int selectVictim() {
+    return leastRecent;
+  } // end of method
+
+  // writeState method: writes the recency list
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    out.writeInt(mostRecent);
+    out.writeInt(leastRecent);
+    StateIO.writeInts(out, previous);
+    StateIO.writeInts(out, next);
+  } // end of method
+
+  // readState method: restores the recency list
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    mostRecent = in.readInt();
+    leastRecent = in.readInt();
+    previous = StateIO.readInts(in);
+    next = StateIO.readInts(in);
+  } // end of method
+
+  // unlink method: removes a frame from the recency list
+  private void unlink(int frame) {
+    if (previous[frame] != NONE) {
+      next[previous[frame]] = next[frame];
+    } // end of if
+    else {
+      mostRecent = next[frame];
+    } // end of else
+    if (next[frame] != NONE) {
+      previous[next[frame]] = previous[frame];
+    } // end of if
+    else {
+      leastRecent = previous[frame];
+    } // end of else
+  } // end of method
+
+  // pushFront method: links a frame in as the most recently used
+  private void pushFront(int frame) {
+    previous[frame] = NONE;
+    next[frame] = mostRecent;
+    if (mostRecent != NONE) {
+      previous[mostRecent] = frame;
+    } // end of if
+    else {
+      leastRecent = frame;
+    } // end of else
+    mostRecent = frame;
+  } // end of method
+} // end of class
@@ -0,0 +1,149 @@
+/*
+* File: NodeList.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Doubly linked list of PageNodes nodes, kept in index arrays. The
+* head is the most recent end, the tail the oldest. Every operation is O(1)
+* amortized (the arrays grow with the node pool), and a node can be in several
+* lists at once (LIRS keeps pages on both its stack and its queue).
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import vmsim.util.StateIO;
+
+// NodeList class
+final class NodeList {
+  private static final int NONE = PageNodes.NONE;
+
+  private int[] previous; // neighbour towards the head
+  private int[] next; // neighbour towards the tail
+  private boolean[] member;
+  private int head = NONE;
+  private int tail = NONE;
+  private int size = 0;
+
+  // NodeList constructor: for nodes of a pool of the given capacity
+  NodeList(int capacity) {
+    previous = new int[capacity];
+    next = new int[capacity];
+    member = new boolean[capacity];
+  } // end of method
+
+  // contains method: returns true if the node is in the list
+  boolean contains(int node) {
+    return node < member.length && member[node];
+  } // end of method
+
+  // size method: returns the number of nodes in the list
+  int size() {
+    return size;
+  } // end of method
+
+  // head method: returns the most recent node, or NONE
+  int head() {
+    return head;
+  } // end of method
+
+  // tail method: returns the oldest node, or NONE
+  int tail() {
+    return tail;
+  } // end of method
+
+  // previous method: returns the next more recent node, or NONE
+  int previous(int node) {
+    return previous[node];
+  } // end of method
+
+  // addFirst method: links a node in at the head
+  void addFirst(int node) {
+    ensureCapacity(node);
+    previous[node] = NONE;
+    next[node] = head;
+    if (head != NONE) {
+      previous[head] = node;
+    } // end of if
+    else {
+      tail = node;
+    } // end of else
+    head = node;
+    member[node] = true;
+    size++;
+  } // end of method
+
+  // addLast method: links a node in at the tail
+  void addLast(int node) {
+    ensureCapacity(node);
+    next[node] = NONE;
+    previous[node] = tail;
+    if (tail != NONE) {
+      next[tail] = node;
+    } // end of if
+    else {
+      head = node;
+    } // end of else
+    tail = node;
+    member[node] = true;
+    size++;
+  } // end of method
+
+  // remove method: unlinks a node
+  void remove(int node) {
+    if (previous[node] != NONE) {
+      next[previous[node]] = next[node];
+    } // end of if
+    else {
+      head = next[node];
+    } // end of else
+    if (next[node] != NONE) {
+      previous[next[node]] = previous[node];
+    } // end of if
+    else {
+      tail = previous[node];
+    } // end of else
+    member[node] = false;
+    size--;
+  } // end of method
+
+  // write method: writes the links of every node, for a checkpoint
+  void write(DataOutput out) throws IOException {
+    out.writeInt(head);
+    out.writeInt(tail);
+    out.writeInt(size);
+    StateIO.writeInts(out, previous);
+    StateIO.writeInts(out, next);
+    StateIO.writeBooleans(out, member);
+  } // end of method
+
+  // read method: replaces the list with one written by write
+  void read(DataInput in) throws IOException {
+    head = in.readInt();
+    tail = in.readInt();
+    size = in.readInt();
+    previous = StateIO.readInts(in);
+    next = StateIO.readInts(in);
+    member = StateIO.readBooleans(in);
+  } // end of method
+
+  // ensureCapacity method: grows the arrays to hold a node of a grown pool
+  private void ensureCapacity(int node) {
+    if (node >= member.length) {
+      int capacity = Math.max(node + 1, 2 * member.length);
+      previous = Arrays.copyOf(previous, capacity);
+      next = Arrays.copyOf(next, capacity);
+      member = Arrays.copyOf(member, capacity);
+    } // end of if
+  } // end of method
+
+  // moveToFront method: makes a node of the list the most recent
+  void moveToFront(int node) {
+    if (node != head) {
+      remove(node);
+      addFirst(node);
+    } // end of if
+  } // end of method
+} // end of class
@@ -0,0 +1,136 @@
+/*
+* File: NruPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: NRU (Not Recently Used) page replacement. Each frame is in one of
+* four classes by its reference bit R and its dirty bit M: 0 = not referenced,
+* clean; 1 = not referenced, dirty; 2 = referenced, clean; 3 = referenced,
+* dirty. The victim comes from the lowest nonempty class, the longest there
+* first, so clean pages are preferred over dirty ones that would have to be
+* written back. Reference bits are cleared every physicalFrames references,
+* like a clock interrupt would. Each class is a linked list of frames, so a
+* victim is found in O(1) and clearing costs O(1) amortized per reference.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// NruPolicy class
+public class NruPolicy extends AbstractPolicy {
+  private NodeList[] classes = new NodeList[0]; // frames of each class, longest in the class at the tail
+  private int[] classOf = new int[0];
+  private boolean[] referenced = new boolean[0];
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "NRU";
+  } // end of method
+
+  // reset method: clears memory, the classes and the reference bits
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    classes = new NodeList[4];
+    for (int c = 0; c < classes.length; c++) {
+      classes[c] = new NodeList(physicalFrames);
+    } // end of for
+    classOf = new int[physicalFrames];
+    referenced = new boolean[physicalFrames];
+  } // end of method
+
+  // hit method: set the reference bit, the write may also have set the dirty bit
+  @Override
+  protected void hit(int frame) {
+    tick();
+    referenced[frame] = true;
+    reclassify(frame);
+  } // end of method
+
+  // missed method: the fault counts as a clock tick too
+  @Override
+  protected void missed(int page) {
+    tick();
+  } // end of method
+
+  // evicted method: the victim leaves its class
+  @Override
+  protected void evicted(int frame) {
+    classes[classOf[frame]].remove(frame);
+  } // end of method
+
+  // loaded method: a new page is referenced, and dirty if it was loaded by a write
+  @Override
+  protected void loaded(int frame) {
+    referenced[frame] = true;
+    classOf[frame] = classOf(frame);
+    classes[classOf[frame]].addFirst(frame);
+  } // end of method
+
+  // selectVictim method: the frame longest in the lowest nonempty class
+  @Override
+  protected int selectVictim() {
+    for (NodeList frameClass : classes) {
+      if (frameClass.size() > 0) {
+        return frameClass.tail();
+      } // end of if
+    } // end of for
+    throw new IllegalStateException("No resident pages to replace");
+  } // end of method
+
+  // writeState method: writes the classes and the reference bits
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    for (NodeList frameClass : classes) {
+      frameClass.write(out);
+    } // end of for
+    StateIO.writeInts(out, classOf);
+    StateIO.writeBooleans(out, referenced);
+  } // end of method
+
+  // readState method: restores the classes and the reference bits
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    for (NodeList frameClass : classes) {
+      frameClass.read(in);
+    } // end of for
+    classOf = StateIO.readInts(in);
+    referenced = StateIO.readBooleans(in);
+  } // end of method
+
+  // tick method: clears every reference bit once per physicalFrames references
+  private void tick() {
+    if (time % frames.length != 0) {
+      return;
+    } // end of if
+    for (int c = 2; c < 4; c++) {
+      // Move referenced frames to the unreferenced class of the same dirty bit, oldest first
+      while (classes[c].size() > 0) {
+        int frame = classes[c].tail();
+        classes[c].remove(frame);
+        referenced[frame] = false;
+        classOf[frame] = c - 2;
+        classes[c - 2].addFirst(frame);
+      } // end of while
+    } // end of for
+  } // end of method
+
+  // reclassify method: moves a frame to the class of its current bits, if it changed
+  private void reclassify(int frame) {
+    int newClass = classOf(frame);
+    if (newClass != classOf[frame]) {
+      classes[classOf[frame]].remove(frame);
+      classOf[frame] = newClass;
+      classes[newClass].addFirst(frame);
+    } // end of if
+  } // end of method
+
+  // classOf method: the class of a frame's reference and dirty bits
+  private int classOf(int frame) {
+    return (referenced[frame] ? 2 : 0) + (dirty[frame] ? 1 : 0);
+  } // end of method
+} // end of class
@@ -0,0 +1,159 @@
+/*
+* File: OptPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: OPT (Optimal Page-Replacement) policy. It "looks into the future" of
+* the reference string and replaces the page that will be referenced latest,
+* or the lowest frame whose page is never referenced again. The next use of
+* every reference is precomputed in one backward pass, and resident frames are
+* kept in a max-heap keyed on next use, so each reference costs O(log frames).
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.trace.ReferenceTrace;
+import vmsim.util.IntIntMap;
+import vmsim.util.StateIO;
+
+// OptPolicy class
+public class OptPolicy extends AbstractPolicy {
+  // Next use of a page that is never referenced again
+  public static final int NEVER = Integer.MAX_VALUE;
+
+  private final int[] nextUse; // position of the next reference to the same page, or NEVER; an array, so int
+  private int[] heap = new int[0]; // frames, the one used latest at the root
+  private int[] heapIndex = new int[0]; // position of each frame in heap
+  private int[] key = new int[0]; // next use of the page in each frame
+  private int heapSize = 0;
+
+  // OptPolicy constructor: OPT needs the reference string it will be run on
+  public OptPolicy(ReferenceTrace referenceString) {
+    this(nextUseIndex(referenceString));
+  } // end of method
+
+  // OptPolicy constructor: with a next-use index from nextUseIndex, which may be shared read-only
+  public OptPolicy(int[] nextUse) {
+    this.nextUse = nextUse;
+  } // end of method
+
+  // nextUseIndex method: for every position, the position the same page is referenced next, or NEVER
+  public static int[] nextUseIndex(ReferenceTrace referenceString) {
+    int[] nextUse = new int[referenceString.size()];
+    IntIntMap following = new IntIntMap(1024, NEVER);
+
+    // Walk the reference string backwards, remembering where each page is referenced next
+    for (int i = referenceString.size() - 1; i >= 0; i--) {
+      nextUse[i] = following.put(referenceString.get(i), i);
+    } // end of for
+    return nextUse;
+  } // end of method
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "OPT";
+  } // end of method
+
+  // reset method: clears memory and the next-use heap
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    heap = new int[physicalFrames];
+    heapIndex = new int[physicalFrames];
+    key = new int[physicalFrames];
+    heapSize = 0;
+  } // end of method
+
+  // hit method: the page is next used later than before, so it can only move up
+  @Override
+  protected void hit(int frame) {
+    key[frame] = nextUse[(int) time];
+    siftUp(heapIndex[frame]);
+  } // end of method
+
+  // loaded method: add a newly filled frame to the heap, or re-place the replaced root
+  @Override
+  protected void loaded(int frame) {
+    key[frame] = nextUse[(int) time];
+    if (heapSize < used) {
+      place(frame, heapSize);
+      siftUp(heapSize++);
+    } // end of if
+    else {
+      siftDown(heapIndex[frame]);
+      siftUp(heapIndex[frame]);
+    } // end of else
+  } // end of method
+
+  // selectVictim method: replaces the value that will be referenced LATEST
+  @Override
+  protected int selectVictim() {
+    return heap[0];
+  } // end of method
+
+  // writeState method: writes the next-use heap; the next-use index comes from the reference string
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    out.writeInt(heapSize);
+    StateIO.writeInts(out, heap);
+    StateIO.writeInts(out, heapIndex);
+    StateIO.writeInts(out, key);
+  } // end of method
+
+  // readState method: restores the next-use heap
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    heapSize = in.readInt();
+    heap = StateIO.readInts(in);
+    heapIndex = StateIO.readInts(in);
+    key = StateIO.readInts(in);
+  } // end of method
+
+  // later method: true if frame a should be replaced before frame b
+  private boolean later(int a, int b) {
+    return key[a] > key[b] || (key[a] == key[b] && a < b);
+  } // end of method
+
+  // siftUp method: moves a heap entry towards the root while it is used later than its parent
+  private void siftUp(int index) {
+    int frame = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!later(frame, heap[parent])) {
+        break;
+      } // end of if
+      place(heap[parent], index);
+      index = parent;
+    } // end of while
+    place(frame, index);
+  } // end of method
+
+  // siftDown method: moves a heap entry away from the root while a child is used later
+  private void siftDown(int index) {
+    int frame = heap[index];
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= heapSize) {
+        break;
+      } // end of if
+      if (child + 1 < heapSize && later(heap[child + 1], heap[child])) {
+        child++;
+      } // end of if
+      if (!later(heap[child], frame)) {
+        break;
+      } // end of if
+      place(heap[child], index);
+      index = child;
+    } // end of while
+    place(frame, index);
+  } // end of method
+
+  // place method: stores a frame at a heap position
+  private void place(int frame, int index) {
+    heap[index] = frame;
+    heapIndex[frame] = index;
+  } // end of method
+} // end of class
@@ -0,0 +1,105 @@
+/*
+* File: PageNodes.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Pool of per-page nodes for policies that remember pages after
+* evicting them (ARC, 2Q, LIRS, CLOCK-Pro) or whose resident set has no fixed
+* size (working set, PFF). A node is found from its page in O(1) and its index
+* is shared by every NodeList and per-node array of the policy, so no objects
+* are allocated per reference. The pool doubles when it runs out of nodes.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import vmsim.util.IntIntMap;
+import vmsim.util.StateIO;
+
+// PageNodes class
+final class PageNodes {
+  // Result of find for pages without a node
+  static final int NONE = -1;
+
+  private int[] pageOf;
+  private int[] nextFree;
+  private final IntIntMap nodeOf;
+  private int free = 0;
+
+  // PageNodes constructor: room for capacity pages before growing
+  PageNodes(int capacity) {
+    pageOf = new int[0];
+    nextFree = new int[0];
+    nodeOf = new IntIntMap(capacity, NONE);
+    free = NONE;
+    grow(capacity);
+  } // end of method
+
+  // find method: returns the node of a page, or NONE
+  int find(int page) {
+    return nodeOf.get(page);
+  } // end of method
+
+  // add method: returns a new node for a page that has none
+  int add(int page) {
+    if (free == NONE) {
+      grow(Math.max(16, 2 * pageOf.length));
+    } // end of if
+    int node = free;
+    free = nextFree[node];
+    pageOf[node] = page;
+    nodeOf.put(page, node);
+    return node;
+  } // end of method
+
+  // remove method: forgets a node's page and frees the node
+  void remove(int node) {
+    nodeOf.remove(pageOf[node]);
+    nextFree[node] = free;
+    free = node;
+  } // end of method
+
+  // getPage method: returns the page of a node
+  int getPage(int node) {
+    return pageOf[node];
+  } // end of method
+
+  // capacity method: returns the number of nodes before the pool grows again; node indices stay below it
+  int capacity() {
+    return pageOf.length;
+  } // end of method
+
+  // write method: writes every node and the free chain, for a checkpoint
+  void write(DataOutput out) throws IOException {
+    out.writeInt(free);
+    StateIO.writeInts(out, pageOf);
+    StateIO.writeInts(out, nextFree);
+    nodeOf.write(out);
+  } // end of method
+
+  // read method: replaces the pool with one written by write
+  void read(DataInput in) throws IOException {
+    free = in.readInt();
+    pageOf = StateIO.readInts(in);
+    nextFree = StateIO.readInts(in);
+    nodeOf.read(in);
+  } // end of method
+
+  // grow method: enlarges the pool to the given number of nodes, chaining the new ones as free
+  private void grow(int capacity) {
+    int old = pageOf.length;
+    pageOf = Arrays.copyOf(pageOf, capacity);
+    nextFree = Arrays.copyOf(nextFree, capacity);
+    for (int node = capacity - 1; node >= old; node--) {
+      nextFree[node] = free;
+      free = node;
+    } // end of for
+  } // end of method
+
+  // size method: returns the number of pages with a node
+  int size() {
+    return nodeOf.size();
+  } // end of method
+} // end of class
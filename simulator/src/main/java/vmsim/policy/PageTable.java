@@ -0,0 +1,81 @@
+/*
+* File: PageTable.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Page-to-frame index shared by every policy, so checking whether a
+* page is resident costs O(1) however many physical frames are simulated. Dense
+* small page ids are looked up in a direct-mapped array; larger ids fall back
+* to an open-addressing hash map.
+*/
+
+package vmsim.policy;
+
+import java.util.Arrays;
+import vmsim.util.IntIntMap;
+
+// PageTable class
+public final class PageTable {
+  // Result of getFrame for pages that are not resident
+  public static final int NOT_RESIDENT = -1;
+
+  private static final int MIN_DIRECT_LIMIT = 1 << 16; // pages always direct-mapped
+
+  private final int directLimit; // pages below this are direct-mapped
+  private int[] direct = new int[64]; // frame of each small page, grown on demand
+  private final IntIntMap hashed; // frame of each page at or above directLimit
+
+  // PageTable constructor: sized for the number of physical frames
+  public PageTable(int physicalFrames) {
+    directLimit = (int) Math.min(Integer.MAX_VALUE, Math.max(MIN_DIRECT_LIMIT, 4L * physicalFrames));
+    hashed = new IntIntMap(Math.min(physicalFrames, 1024), NOT_RESIDENT);
+    Arrays.fill(direct, NOT_RESIDENT);
+  } // end of method
+
+  // getFrame method: returns the frame holding a page, or NOT_RESIDENT
+  public int getFrame(int page) {
+    if (page < direct.length) {
+      return direct[page];
+    } // end of if
+    return page < directLimit ? NOT_RESIDENT : hashed.get(page);
+  } // end of method
+
+  // map method: records that a page is now held by a frame
+  public void map(int page, int frame) {
+    if (page < directLimit) {
+      if (page >= direct.length) {
+        grow(page);
+      } // end of if
+      direct[page] = frame;
+    } // end of if
+    else {
+      hashed.put(page, frame);
+    } // end of else
+  } // end of method
+
+  // unmap method: records that a page is no longer resident
+  public void unmap(int page) {
+    if (page < direct.length) {
+      direct[page] = NOT_RESIDENT;
+    } // end of if
+    else if (page >= directLimit) {
+      hashed.remove(page);
+    } // end of else if
+  } // end of method
+
+  // clear method: marks every page as not resident
+  public void clear() {
+    Arrays.fill(direct, NOT_RESIDENT);
+    hashed.clear();
+  } // end of method
+
+  // grow method: doubles the direct-mapped array until it covers a page
+  private void grow(int page) {
+    int length = direct.length;
+    while (length <= page) {
+      length = (int) Math.min(directLimit, length * 2L);
+    } // end of while
+    int oldLength = direct.length;
+    direct = Arrays.copyOf(direct, length);
+    Arrays.fill(direct, oldLength, length, NOT_RESIDENT);
+  } // end of method
+} // end of class
@@ -0,0 +1,49 @@
+/*
+* File: PffPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Page-fault-frequency policy (Chu and Opderbeck). The resident set
+* only changes at faults: when faults come more often than once per critical
+* interval the faulting page is simply added and the set grows; when the last
+* fault was longer ago than that, every page not referenced since the last
+* fault is released first and the set shrinks.
+*/
+
+package vmsim.policy;
+
+// PffPolicy class
+public class PffPolicy extends AbstractVariablePolicy {
+  private final long interval; // critical inter-fault interval in references
+  private long lastFault;
+
+  // PffPolicy constructor: interval is the critical time between faults in references
+  public PffPolicy(long interval) {
+    if (interval <= 0) {
+      throw new IllegalArgumentException("Critical interval must be positive: " + interval);
+    } // end of if
+    this.interval = interval;
+    lastFault = -1;
+  } // end of method
+
+  // getName method: returns the name of the algorithm with its interval
+  @Override
+  public String getName() {
+    return "PFF(T=" + interval + ")";
+  } // end of method
+
+  // reset method: empties the resident set and forgets the last fault
+  @Override
+  public void reset() {
+    super.reset();
+    lastFault = -1;
+  } // end of method
+
+  // faulted method: IF faults are infrequent, release the pages unused since the last fault
+  @Override
+  protected void faulted() {
+    if (time - lastFault > interval) {
+      releaseUnusedSince(lastFault);
+    } // end of if
+    lastFault = time;
+  } // end of method
+} // end of class
@@ -0,0 +1,92 @@
+/*
+* File: Policies.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Looks up page-replacement policies by name so command line modes can
+* create them without knowing the individual classes.
+*/
+
+package vmsim.policy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import vmsim.ReplacementPolicy;
+import vmsim.VariableAllocationPolicy;
+import vmsim.trace.ReferenceTrace;
+
+// Policies class
+public final class Policies {
+  // Names of the policies, the menu algorithms first; create also accepts "lfu-oldest"
+  public static final List<String> NAMES = Collections.unmodifiableList(
+      Arrays.asList("fifo", "opt", "lru", "lfu", "clock", "clock-pro", "arc", "2q", "lirs", "nru", "esc", "lfu-aging",
+          "aging", "w-tinylfu"));
+
+  // Names of the variable-allocation policies, which take a window instead of a frame count
+  public static final List<String> VARIABLE_NAMES = Collections.unmodifiableList(Arrays.asList("ws", "pff"));
+
+  // Policies constructor: static utility, not instantiated
+  private Policies() {
+  } // end of method
+
+  // needsWholeTrace method: returns true if the policy must see the reference string in advance
+  public static boolean needsWholeTrace(String name) {
+    return name.equalsIgnoreCase("opt");
+  } // end of method
+
+  // isVariable method: returns true if the name is one of VARIABLE_NAMES
+  public static boolean isVariable(String name) {
+    return VARIABLE_NAMES.contains(name.toLowerCase(Locale.ROOT));
+  } // end of method
+
+  // create method: returns a new policy by name; OPT needs the reference string it will see
+  public static ReplacementPolicy create(String name, ReferenceTrace referenceString) {
+    switch (name.toLowerCase(Locale.ROOT)) {
+      case "fifo":
+        return new FifoPolicy();
+      case "opt":
+        return new OptPolicy(referenceString);
+      case "lru":
+        return new LruPolicy();
+      case "lfu":
+        return new LfuPolicy();
+      case "lfu-oldest":
+        return new LfuPolicy(LfuPolicy.TieBreak.OLDEST);
+      case "clock":
+        return new ClockPolicy();
+      case "clock-pro":
+        return new ClockProPolicy();
+      case "arc":
+        return new ArcPolicy();
+      case "2q":
+        return new TwoQueuePolicy();
+      case "lirs":
+        return new LirsPolicy();
+      case "nru":
+        return new NruPolicy();
+      case "esc":
+        return new EnhancedClockPolicy();
+      case "lfu-aging":
+        return new LfuAgingPolicy();
+      case "aging":
+        return new AgingPolicy();
+      case "w-tinylfu":
+        return new WTinyLfuPolicy();
+      default:
+        throw new IllegalArgumentException("Unknown policy: " + name + ". Expected one of " + NAMES);
+    } // end of switch
+  } // end of method
+
+  // createVariable method: returns a new variable-allocation policy by name with its window in references
+  public static VariableAllocationPolicy createVariable(String name, long window) {
+    switch (name.toLowerCase(Locale.ROOT)) {
+      case "ws":
+        return new WorkingSetPolicy(window);
+      case "pff":
+        return new PffPolicy(window);
+      default:
+        throw new IllegalArgumentException("Unknown policy: " + name + ". Expected one of " + VARIABLE_NAMES);
+    } // end of switch
+  } // end of method
+} // end of class
@@ -0,0 +1,130 @@
+/*
+* File: TwoQueuePolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: 2Q page replacement (Johnson and Shasha, full version). A page seen
+* for the first time enters A1in, a FIFO of about a quarter of memory; when it
+* leaves A1in only its number is remembered, in the A1out ghost FIFO of up to
+* half as many pages as frames. A page that faults again while remembered has
+* proven itself and enters Am, which is managed as LRU. A one-time scan
+* therefore only churns A1in and never pushes the hot pages out of Am. All
+* queues are linked lists of PageNodes, so every reference is O(1).
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.StateIO;
+
+// TwoQueuePolicy class
+public class TwoQueuePolicy extends AbstractPolicy {
+  private static final int NONE = PageNodes.NONE;
+
+  private PageNodes nodes = new PageNodes(0);
+  private int[] frameNode = new int[0]; // node of the page in each frame
+  private NodeList in = new NodeList(0); // A1in, resident, FIFO
+  private NodeList out = new NodeList(0); // A1out, ghosts, FIFO
+  private NodeList main = new NodeList(0); // Am, resident, LRU
+  private int inLimit; // Kin
+  private int outLimit; // Kout
+  private int returning = NONE; // node of the faulting page if it was in A1out
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "2Q";
+  } // end of method
+
+  // reset method: clears memory and all three queues
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    inLimit = Math.max(1, physicalFrames / 4);
+    outLimit = Math.max(1, physicalFrames / 2);
+    int capacity = physicalFrames + outLimit + 1;
+    nodes = new PageNodes(capacity);
+    frameNode = new int[physicalFrames];
+    in = new NodeList(capacity);
+    out = new NodeList(capacity);
+    main = new NodeList(capacity);
+  } // end of method
+
+  // hit method: pages in Am move to its head, pages in A1in stay where they are
+  @Override
+  protected void hit(int frame) {
+    int node = frameNode[frame];
+    if (main.contains(node)) {
+      main.moveToFront(node);
+    } // end of if
+  } // end of method
+
+  // missed method: a page remembered in A1out will go to Am
+  @Override
+  protected void missed(int page) {
+    returning = nodes.find(page);
+    if (returning != NONE) {
+      out.remove(returning);
+    } // end of if
+  } // end of method
+
+  // selectVictim method: the oldest of A1in while it is over its share, otherwise the LRU page of Am
+  @Override
+  protected int selectVictim() {
+    int node = in.size() > inLimit || main.size() == 0 ? in.tail() : main.tail();
+    return pageTable.getFrame(nodes.getPage(node));
+  } // end of method
+
+  // evicted method: pages leaving A1in are remembered in A1out, pages leaving Am are forgotten
+  @Override
+  protected void evicted(int frame) {
+    int node = frameNode[frame];
+    if (in.contains(node)) {
+      in.remove(node);
+      out.addFirst(node);
+      if (out.size() > outLimit) {
+        int oldest = out.tail();
+        out.remove(oldest);
+        nodes.remove(oldest);
+      } // end of if
+    } // end of if
+    else {
+      main.remove(node);
+      nodes.remove(node);
+    } // end of else
+  } // end of method
+
+  // writeState method: writes the three queues; their limits follow from the frame count
+  @Override
+  protected void writeState(DataOutput output) throws IOException {
+    nodes.write(output);
+    StateIO.writeInts(output, frameNode);
+    in.write(output);
+    out.write(output);
+    main.write(output);
+  } // end of method
+
+  // readState method: restores the three queues
+  @Override
+  protected void readState(DataInput input) throws IOException {
+    nodes.read(input);
+    frameNode = StateIO.readInts(input);
+    in.read(input);
+    out.read(input);
+    main.read(input);
+  } // end of method
+
+  // loaded method: into Am if the page was remembered, otherwise into A1in
+  @Override
+  protected void loaded(int frame) {
+    if (returning != NONE) {
+      frameNode[frame] = returning;
+      main.addFirst(returning);
+    } // end of if
+    else {
+      frameNode[frame] = nodes.add(frames[frame]);
+      in.addFirst(frameNode[frame]);
+    } // end of else
+  } // end of method
+} // end of class
@@ -0,0 +1,147 @@
+/*
+* File: WTinyLfuPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: W-TinyLFU page replacement (Einziger, Friedman and Manes). A
+* faulting page enters the window, an LRU list of about 1% of memory. The
+* page pushed out of a full window is a candidate for the main area, an SLRU
+* of a probation list and a protected list of about 80% of it: the candidate
+* only takes the place of the main area's victim if it has been referenced
+* more often recently, otherwise it is the one evicted. A hit in probation
+* promotes the page to protected, whose least recent page drops back to
+* probation when it is over its share. Recent reference counts come from a
+* count-min sketch of every page referenced, whose counters are halved every
+* ten references per frame, so its memory is fixed by the frame count
+* however many pages the trace touches. A burst of new pages therefore only
+* churns the window, and pages popular long ago lose their place once their
+* counts have decayed. Each list is a linked list of frames, so every
+* reference is O(1) apart from the sketch's periodic halving.
+*/
+
+package vmsim.policy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import vmsim.util.CountMinSketch;
+
+// WTinyLfuPolicy class
+public class WTinyLfuPolicy extends AbstractPolicy {
+  private CountMinSketch sketch = new CountMinSketch(1);
+  private NodeList window = new NodeList(0); // new pages, LRU
+  private NodeList probation = new NodeList(0); // main pages referenced once there, LRU
+  private NodeList protectedPages = new NodeList(0); // main pages referenced again, LRU
+  private int windowLimit;
+  private int protectedLimit;
+
+  // getName method: returns the short name of the algorithm
+  @Override
+  public String getName() {
+    return "W-TINYLFU";
+  } // end of method
+
+  // reset method: clears memory, the three lists and the sketch
+  @Override
+  public void reset(int physicalFrames) {
+    super.reset(physicalFrames);
+    windowLimit = Math.max(1, physicalFrames / 100);
+    protectedLimit = (physicalFrames - windowLimit) * 8 / 10;
+    sketch = new CountMinSketch(physicalFrames);
+    window = new NodeList(physicalFrames);
+    probation = new NodeList(physicalFrames);
+    protectedPages = new NodeList(physicalFrames);
+  } // end of method
+
+  // hit method: count the reference; a page on probation is promoted, others move to the head of their list
+  @Override
+  protected void hit(int frame) {
+    sketch.increment(frames[frame]);
+    if (probation.contains(frame)) {
+      probation.remove(frame);
+      protectedPages.addFirst(frame);
+      if (protectedPages.size() > protectedLimit) {
+        int demoted = protectedPages.tail();
+        protectedPages.remove(demoted);
+        probation.addFirst(demoted);
+      } // end of if
+    } // end of if
+    else if (protectedPages.contains(frame)) {
+      protectedPages.moveToFront(frame);
+    } // end of else if
+    else {
+      window.moveToFront(frame);
+    } // end of else
+  } // end of method
+
+  // missed method: count the reference of the faulting page
+  @Override
+  protected void missed(int page) {
+    sketch.increment(page);
+  } // end of method
+
+  // selectVictim method: the window's candidate or the main area's victim, whichever is referenced less
+  @Override
+  protected int selectVictim() {
+    int candidate = window.tail();
+    if (window.size() < windowLimit || candidate == PageNodes.NONE) {
+      return mainVictim();
+    } // end of if
+    int victim = mainVictim();
+    if (victim == PageNodes.NONE || sketch.frequency(frames[candidate]) <= sketch.frequency(frames[victim])) {
+      return candidate;
+    } // end of if
+
+    // The candidate is admitted to the main area in the victim's place
+    window.remove(candidate);
+    probation.addFirst(candidate);
+    return victim;
+  } // end of method
+
+  // evicted method: the victim leaves its list
+  @Override
+  protected void evicted(int frame) {
+    if (window.contains(frame)) {
+      window.remove(frame);
+    } // end of if
+    else if (probation.contains(frame)) {
+      probation.remove(frame);
+    } // end of else if
+    else {
+      protectedPages.remove(frame);
+    } // end of else
+  } // end of method
+
+  // loaded method: a new page enters the window; while memory fills, the window's overflow goes to probation
+  @Override
+  protected void loaded(int frame) {
+    window.addFirst(frame);
+    if (window.size() > windowLimit) {
+      int oldest = window.tail();
+      window.remove(oldest);
+      probation.addFirst(oldest);
+    } // end of if
+  } // end of method
+
+  // writeState method: writes the sketch and the three lists; their limits follow from the frame count
+  @Override
+  protected void writeState(DataOutput out) throws IOException {
+    sketch.write(out);
+    window.write(out);
+    probation.write(out);
+    protectedPages.write(out);
+  } // end of method
+
+  // readState method: restores the sketch and the three lists
+  @Override
+  protected void readState(DataInput in) throws IOException {
+    sketch.read(in);
+    window.read(in);
+    probation.read(in);
+    protectedPages.read(in);
+  } // end of method
+
+  // mainVictim method: the least recent page on probation, else the least recent protected page, else NONE
+  private int mainVictim() {
+    return probation.size() > 0 ? probation.tail() : protectedPages.tail();
+  } // end of method
+} // end of class
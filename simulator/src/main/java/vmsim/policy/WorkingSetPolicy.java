@@ -0,0 +1,36 @@
+/*
+* File: WorkingSetPolicy.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Working-set policy (Denning). The resident set is exactly the pages
+* referenced in the last tau references, so it grows when the program moves to
+* a new locality and shrinks as the old one goes unused. A reference faults
+* when its page was not referenced in the tau references before it.
+*/
+
+package vmsim.policy;
+
+// WorkingSetPolicy class
+public class WorkingSetPolicy extends AbstractVariablePolicy {
+  private final long tau; // window size in references
+
+  // WorkingSetPolicy constructor: tau is the window size in references
+  public WorkingSetPolicy(long tau) {
+    if (tau <= 0) {
+      throw new IllegalArgumentException("Working set window must be positive: " + tau);
+    } // end of if
+    this.tau = tau;
+  } // end of method
+
+  // getName method: returns the name of the algorithm with its window
+  @Override
+  public String getName() {
+    return "WS(tau=" + tau + ")";
+  } // end of method
+
+  // referenced method: pages last referenced tau or more references ago leave the working set
+  @Override
+  protected void referenced() {
+    releaseUnusedSince(time - tau + 1);
+  } // end of method
+} // end of class
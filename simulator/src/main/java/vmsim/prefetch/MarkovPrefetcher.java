@@ -0,0 +1,104 @@
+/*
+* File: MarkovPrefetcher.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Markov prefetching (Joseph and Grunwald). A table remembers, for
+* each page of the miss stream (faults and first uses of prefetched pages),
+* the pages that followed it there, most recent first. When a page is missed
+* again its successors are prefetched. The table is direct-mapped with a
+* fixed number of entries, like a hardware predictor, so its memory does not
+* grow with the trace.
+*/
+
+package vmsim.prefetch;
+
+import java.util.Arrays;
+
+// MarkovPrefetcher class
+public class MarkovPrefetcher implements Prefetcher {
+  private static final int NONE = -1;
+
+  private final int width; // successors remembered and prefetched per page
+  private final int mask; // table entries - 1
+  private final int shift; // hash bits dropped to index the table
+  private final int[] tags; // page of each entry, NONE if empty
+  private final int[] successors; // width successors of each entry, most recent first, NONE if unused
+  private int lastMiss = NONE;
+
+  // MarkovPrefetcher constructor: entries must be a power of two
+  public MarkovPrefetcher(int width, int entries) {
+    if (width <= 0) {
+      throw new IllegalArgumentException("Markov prefetch width must be positive: " + width);
+    } // end of if
+    if (entries <= 0 || Integer.bitCount(entries) != 1) {
+      throw new IllegalArgumentException("Markov table entries must be a power of two: " + entries);
+    } // end of if
+    this.width = width;
+    this.mask = entries - 1;
+    this.shift = 32 - Integer.numberOfTrailingZeros(entries);
+    tags = new int[entries];
+    successors = new int[entries * width];
+    reset();
+  } // end of method
+
+  // getName method: returns the name with the width
+  @Override
+  public String getName() {
+    return "markov:" + width;
+  } // end of method
+
+  // reset method: empties the table
+  @Override
+  public void reset() {
+    Arrays.fill(tags, NONE);
+    Arrays.fill(successors, NONE);
+    lastMiss = NONE;
+  } // end of method
+
+  // predict method: records the page as a successor of the previous miss, then predicts its own successors
+  @Override
+  public int predict(int page, int outcome, int[] candidates) {
+    if (outcome == HIT) {
+      return 0;
+    } // end of if
+    if (lastMiss != NONE) {
+      record(lastMiss, page);
+    } // end of if
+    lastMiss = page;
+
+    int entry = entry(page);
+    if (tags[entry] != page) {
+      return 0;
+    } // end of if
+    int count = 0;
+    for (int i = entry * width; i < (entry + 1) * width && count < candidates.length; i++) {
+      if (successors[i] != NONE) {
+        candidates[count++] = successors[i];
+      } // end of if
+    } // end of for
+    return count;
+  } // end of method
+
+  // record method: makes next the most recent successor of page, replacing the entry of another page
+  private void record(int page, int next) {
+    int entry = entry(page);
+    int first = entry * width;
+    if (tags[entry] != page) {
+      tags[entry] = page;
+      Arrays.fill(successors, first, first + width, NONE);
+    } // end of if
+
+    // Shift the successors before next (or all but the last) back one and put next in front
+    int i = first;
+    while (i < first + width - 1 && successors[i] != next) {
+      i++;
+    } // end of while
+    System.arraycopy(successors, first, successors, first + 1, i - first);
+    successors[first] = next;
+  } // end of method
+
+  // entry method: the table entry a page maps to
+  private int entry(int page) {
+    return (page * 0x9E3779B9) >>> shift & mask; // Fibonacci hashing, top bits
+  } // end of method
+} // end of class
@@ -0,0 +1,87 @@
+/*
+* File: PrefetchResult.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Statistics of a run with prefetching: demand faults with and
+* without the prefetcher, and how many prefetched pages were used, evicted
+* unused, or still unused at the end.
+*/
+
+package vmsim.prefetch;
+
+// PrefetchResult class
+public class PrefetchResult {
+  private final String policyName;
+  private final String prefetcherName;
+  private final int physicalFrames;
+  private final long references;
+  private final long faults;
+  private final long baselineFaults;
+  private final long prefetches;
+  private final long useful;
+  private final long wasted;
+  private final long unused; // still resident and unreferenced at the end
+
+  // PrefetchResult constructor
+  public PrefetchResult(String policyName, String prefetcherName, int physicalFrames, long references, long faults,
+      long baselineFaults, long prefetches, long useful, long wasted, long unused) {
+    this.policyName = policyName;
+    this.prefetcherName = prefetcherName;
+    this.physicalFrames = physicalFrames;
+    this.references = references;
+    this.faults = faults;
+    this.baselineFaults = baselineFaults;
+    this.prefetches = prefetches;
+    this.useful = useful;
+    this.wasted = wasted;
+    this.unused = unused;
+  } // end of method
+
+  // getFaults method: returns the demand faults with prefetching
+  public long getFaults() {
+    return faults;
+  } // end of method
+
+  // getBaselineFaults method: returns the demand faults of the same policy without prefetching
+  public long getBaselineFaults() {
+    return baselineFaults;
+  } // end of method
+
+  // getPrefetches method: returns the number of pages prefetched
+  public long getPrefetches() {
+    return prefetches;
+  } // end of method
+
+  // getUseful method: returns the number of prefetched pages referenced before eviction
+  public long getUseful() {
+    return useful;
+  } // end of method
+
+  // getWasted method: returns the number of prefetched pages evicted unreferenced
+  public long getWasted() {
+    return wasted;
+  } // end of method
+
+  // getUnused method: returns the number of prefetched pages still unreferenced at the end
+  public long getUnused() {
+    return unused;
+  } // end of method
+
+  // getFaultReduction method: returns the fraction of the baseline faults removed, negative if faults grew
+  public double getFaultReduction() {
+    return baselineFaults == 0 ? 0.0 : (double) (baselineFaults - faults) / baselineFaults;
+  } // end of method
+
+  // getAccuracy method: returns the fraction of prefetches that were useful
+  public double getAccuracy() {
+    return prefetches == 0 ? 0.0 : (double) useful / prefetches;
+  } // end of method
+
+  // toString method: one line summary of the run
+  @Override
+  public String toString() {
+    return String.format("%s+%s frames=%d references=%d faults=%d baselineFaults=%d faultReduction=%.4f "
+        + "prefetches=%d useful=%d wasted=%d unused=%d accuracy=%.4f", policyName, prefetcherName, physicalFrames,
+        references, faults, baselineFaults, getFaultReduction(), prefetches, useful, wasted, unused, getAccuracy());
+  } // end of method
+} // end of class
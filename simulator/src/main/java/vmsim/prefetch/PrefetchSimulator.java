@@ -0,0 +1,95 @@
+/*
+* File: PrefetchSimulator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Demand paging with a prefetcher in front of the replacement policy.
+* After every demand reference the prefetcher's candidates that are not
+* resident are loaded through the same policy, as if referenced, and may
+* evict other pages. Prefetches complete at once; there is no I/O timing. A
+* second copy of the policy runs on the demand references alone in the same
+* pass, so the net change in faults is measured against the same trace. A
+* prefetched page is useful if it is referenced before it is evicted and
+* wasted if it is evicted first.
+*/
+
+package vmsim.prefetch;
+
+import java.io.IOException;
+import vmsim.ReplacementPolicy;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceSource;
+import vmsim.util.IntIntMap;
+
+// PrefetchSimulator class
+public final class PrefetchSimulator {
+  private static final int CHUNK_SIZE = 1 << 16; // references read from a source at a time
+  private static final int MAX_CANDIDATES = 256; // pages prefetched after one reference at most
+
+  // PrefetchSimulator constructor: static utility, not instantiated
+  private PrefetchSimulator() {
+  } // end of method
+
+  // run method: simulates every reference of a source with and without the prefetcher
+  public static PrefetchResult run(String policyName, Prefetcher prefetcher, ReferenceSource source,
+      int physicalFrames) throws IOException {
+    if (Policies.needsWholeTrace(policyName)) {
+      throw new IllegalArgumentException(policyName + " needs the whole reference string and cannot prefetch");
+    } // end of if
+
+    // Variable Initialization
+    ReplacementPolicy policy = Policies.create(policyName, null);
+    ReplacementPolicy baseline = Policies.create(policyName, null);
+    IntIntMap unused = new IntIntMap(1024, 0); // prefetched pages not referenced yet
+    long numReferences = 0;
+    long numFaults = 0;
+    long numBaselineFaults = 0;
+    long numPrefetches = 0;
+    long numUseful = 0;
+    long numWasted = 0;
+    int[] chunk = new int[CHUNK_SIZE];
+    int[] candidates = new int[MAX_CANDIDATES];
+    int count;
+    policy.reset(physicalFrames);
+    baseline.reset(physicalFrames);
+    prefetcher.reset();
+
+    while ((count = source.read(chunk)) > 0) {
+      for (int i = 0; i < count; i++) {
+        int page = chunk[i];
+        if (baseline.reference(page) != ReplacementPolicy.HIT) {
+          numBaselineFaults++;
+        } // end of if
+
+        // Demand reference: a hit on a prefetched page makes the prefetch useful
+        int result = policy.reference(page);
+        int outcome;
+        if (result == ReplacementPolicy.HIT) {
+          outcome = unused.remove(page) != 0 ? Prefetcher.PREFETCH_HIT : Prefetcher.HIT;
+          numUseful += outcome == Prefetcher.PREFETCH_HIT ? 1 : 0;
+        } // end of if
+        else {
+          numFaults++;
+          numWasted += result >= 0 && unused.remove(result) != 0 ? 1 : 0;
+          outcome = Prefetcher.FAULT;
+        } // end of else
+
+        // Load the predicted pages that are not resident
+        int predicted = prefetcher.predict(page, outcome, candidates);
+        for (int k = 0; k < predicted; k++) {
+          int candidate = candidates[k];
+          if (policy.contains(candidate)) {
+            continue;
+          } // end of if
+          numPrefetches++;
+          int victim = policy.reference(candidate);
+          numWasted += victim >= 0 && unused.remove(victim) != 0 ? 1 : 0;
+          unused.put(candidate, 1);
+        } // end of for
+      } // end of for
+      numReferences += count;
+    } // end of while
+
+    return new PrefetchResult(policy.getName(), prefetcher.getName(), physicalFrames, numReferences, numFaults,
+        numBaselineFaults, numPrefetches, numUseful, numWasted, unused.size());
+  } // end of method
+} // end of class
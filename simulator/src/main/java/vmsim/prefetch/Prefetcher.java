@@ -0,0 +1,28 @@
+/*
+* File: Prefetcher.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Defines the interface of prefetchers, which watch the demand
+* references and predict pages that will be referenced soon, so they can be
+* loaded before they fault.
+*/
+
+package vmsim.prefetch;
+
+// Prefetcher interface
+public interface Prefetcher {
+  // Outcomes of a demand reference passed to predict
+  int HIT = 0; // the page was resident
+  int PREFETCH_HIT = 1; // the page was resident because it had been prefetched, first use
+  int FAULT = 2; // the page had to be loaded
+
+  // getName method: returns the name of the prefetcher with its parameter, e.g. "sequential:4"
+  String getName();
+
+  // reset method: forgets everything learned
+  void reset();
+
+  // predict method: observes a demand reference and its outcome, stores up to candidates.length pages
+  // to prefetch into candidates and returns how many
+  int predict(int page, int outcome, int[] candidates);
+} // end of interface
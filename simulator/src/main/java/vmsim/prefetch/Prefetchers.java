@@ -0,0 +1,44 @@
+/*
+* File: Prefetchers.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Looks up prefetchers by a command line spec "name[:degree]", e.g.
+* sequential:8, stride:4 or markov:2, so runs can compare read-ahead sizes.
+*/
+
+package vmsim.prefetch;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+// Prefetchers class
+public final class Prefetchers {
+  // Names of the prefetchers, as accepted by create
+  public static final List<String> NAMES = Collections.unmodifiableList(
+      Arrays.asList("sequential", "stride", "markov"));
+
+  private static final int MARKOV_ENTRIES = 1 << 16; // pages the Markov table remembers successors of
+
+  // Prefetchers constructor: static utility, not instantiated
+  private Prefetchers() {
+  } // end of method
+
+  // create method: returns a new prefetcher from a spec "name[:degree]"
+  public static Prefetcher create(String spec) {
+    String[] parts = spec.trim().split(":", 2);
+    String name = parts[0].trim().toLowerCase(Locale.ROOT);
+    int degree = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : name.equals("markov") ? 2 : 4;
+    switch (name) {
+      case "sequential":
+        return new SequentialPrefetcher(degree);
+      case "stride":
+        return new StridePrefetcher(degree);
+      case "markov":
+        return new MarkovPrefetcher(degree, MARKOV_ENTRIES);
+      default:
+        throw new IllegalArgumentException("Unknown prefetcher: " + parts[0] + ". Expected one of " + NAMES);
+    } // end of switch
+  } // end of method
+} // end of class
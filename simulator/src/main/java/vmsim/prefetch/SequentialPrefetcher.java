@@ -0,0 +1,47 @@
+/*
+* File: SequentialPrefetcher.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Sequential read-ahead. A fault, or the first use of a prefetched
+* page, reads the next degree pages ahead, so a sequential scan that keeps
+* hitting prefetched pages keeps its read-ahead window ahead of it.
+*/
+
+package vmsim.prefetch;
+
+// SequentialPrefetcher class
+public class SequentialPrefetcher implements Prefetcher {
+  private final int degree; // pages read ahead
+
+  // SequentialPrefetcher constructor: degree is the read-ahead window in pages
+  public SequentialPrefetcher(int degree) {
+    if (degree <= 0) {
+      throw new IllegalArgumentException("Read-ahead degree must be positive: " + degree);
+    } // end of if
+    this.degree = degree;
+  } // end of method
+
+  // getName method: returns the name with the window
+  @Override
+  public String getName() {
+    return "sequential:" + degree;
+  } // end of method
+
+  // reset method: nothing is learned
+  @Override
+  public void reset() {
+  } // end of method
+
+  // predict method: the pages following a fault or a prefetched page
+  @Override
+  public int predict(int page, int outcome, int[] candidates) {
+    if (outcome == HIT) {
+      return 0;
+    } // end of if
+    int count = 0;
+    for (int k = 1; k <= degree && count < candidates.length && page + (long) k <= Integer.MAX_VALUE; k++) {
+      candidates[count++] = page + k;
+    } // end of for
+    return count;
+  } // end of method
+} // end of class
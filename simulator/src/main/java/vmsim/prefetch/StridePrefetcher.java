@@ -0,0 +1,61 @@
+/*
+* File: StridePrefetcher.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Stride prefetching. When two successive demand references are the
+* same distance apart, the stream is taken to continue with that stride, and
+* the next degree pages along it are prefetched. Traces carry no instruction
+* addresses, so a single stream is tracked over all references.
+*/
+
+package vmsim.prefetch;
+
+// StridePrefetcher class
+public class StridePrefetcher implements Prefetcher {
+  private final int degree; // pages prefetched along a confirmed stride
+  private long lastPage = -1;
+  private long lastStride = 0;
+
+  // StridePrefetcher constructor: degree is the number of strides prefetched ahead
+  public StridePrefetcher(int degree) {
+    if (degree <= 0) {
+      throw new IllegalArgumentException("Stride prefetch degree must be positive: " + degree);
+    } // end of if
+    this.degree = degree;
+  } // end of method
+
+  // getName method: returns the name with the degree
+  @Override
+  public String getName() {
+    return "stride:" + degree;
+  } // end of method
+
+  // reset method: forgets the stream
+  @Override
+  public void reset() {
+    lastPage = -1;
+    lastStride = 0;
+  } // end of method
+
+  // predict method: the next pages along the stride IF it repeated
+  @Override
+  public int predict(int page, int outcome, int[] candidates) {
+    long stride = lastPage < 0 ? 0 : page - lastPage;
+    boolean confirmed = stride != 0 && stride == lastStride;
+    lastPage = page;
+    lastStride = stride;
+    if (!confirmed) {
+      return 0;
+    } // end of if
+
+    int count = 0;
+    for (int k = 1; k <= degree && count < candidates.length; k++) {
+      long next = page + stride * k;
+      if (next < 0 || next > Integer.MAX_VALUE) {
+        break;
+      } // end of if
+      candidates[count++] = (int) next;
+    } // end of for
+    return count;
+  } // end of method
+} // end of class
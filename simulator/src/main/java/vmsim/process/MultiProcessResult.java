@@ -0,0 +1,180 @@
+/*
+* File: MultiProcessResult.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Statistics of a multi-process run: references, faults, resident
+* set sizes and thrashing windows of every process and of the whole system.
+* Pages a process lost to other processes' faults are counted separately,
+* since under global replacement they are what one process costs another.
+*/
+
+package vmsim.process;
+
+import java.io.PrintStream;
+
+// MultiProcessResult class
+public class MultiProcessResult {
+  private final String policyName;
+  private final MultiProcessSimulator.Replacement replacement;
+  private final int physicalFrames;
+  private final int window;
+  private final String[] processNames;
+  private final long[] references;
+  private final long[] faults;
+  private final long[] stolen; // pages evicted by other processes' faults
+  private final int[] resident;
+  private final int[] maxResident;
+  private final long[] windows;
+  private final long[] thrashingWindows;
+  private long systemWindows = 0;
+  private long systemThrashingWindows = 0;
+  private long firstThrashing = -1; // end of the first thrashing system window, -1 if none
+
+  // MultiProcessResult constructor: filled in by MultiProcessSimulator as it runs
+  MultiProcessResult(String policyName, MultiProcessSimulator.Replacement replacement, int physicalFrames, int window,
+      String[] processNames) {
+    int n = processNames.length;
+    this.policyName = policyName;
+    this.replacement = replacement;
+    this.physicalFrames = physicalFrames;
+    this.window = window;
+    this.processNames = processNames.clone();
+    references = new long[n];
+    faults = new long[n];
+    stolen = new long[n];
+    resident = new int[n];
+    maxResident = new int[n];
+    windows = new long[n];
+    thrashingWindows = new long[n];
+  } // end of method
+
+  // referenced method: counts a reference of a process
+  void referenced(int process) {
+    references[process]++;
+  } // end of method
+
+  // fault method: counts a fault of a process that evicted a page of victimProcess, -1 for none
+  void fault(int process, int victimProcess) {
+    faults[process]++;
+    if (victimProcess >= 0) {
+      resident[victimProcess]--;
+      if (victimProcess != process) {
+        stolen[victimProcess]++;
+      } // end of if
+    } // end of if
+    resident[process]++;
+    maxResident[process] = Math.max(maxResident[process], resident[process]);
+  } // end of method
+
+  // processWindow method: counts a full window of a process's references
+  void processWindow(int process, boolean thrashing) {
+    windows[process]++;
+    thrashingWindows[process] += thrashing ? 1 : 0;
+  } // end of method
+
+  // systemWindow method: counts a full window of all references, ending at position end
+  void systemWindow(long end, boolean thrashing) {
+    systemWindows++;
+    if (thrashing) {
+      systemThrashingWindows++;
+      if (firstThrashing < 0) {
+        firstThrashing = end;
+      } // end of if
+    } // end of if
+  } // end of method
+
+  // getProcessCount method: returns the number of processes
+  public int getProcessCount() {
+    return processNames.length;
+  } // end of method
+
+  // getProcessName method: returns the name of a process
+  public String getProcessName(int process) {
+    return processNames[process];
+  } // end of method
+
+  // getReferences method: returns the number of references of a process
+  public long getReferences(int process) {
+    return references[process];
+  } // end of method
+
+  // getFaults method: returns the number of faults of a process
+  public long getFaults(int process) {
+    return faults[process];
+  } // end of method
+
+  // getFaultRate method: returns faults per reference of a process
+  public double getFaultRate(int process) {
+    return references[process] == 0 ? 0.0 : (double) faults[process] / references[process];
+  } // end of method
+
+  // getStolen method: returns the number of a process's pages evicted by other processes
+  public long getStolen(int process) {
+    return stolen[process];
+  } // end of method
+
+  // getResident method: returns the number of frames a process holds at the end
+  public int getResident(int process) {
+    return resident[process];
+  } // end of method
+
+  // getMaxResident method: returns the most frames a process held at once
+  public int getMaxResident(int process) {
+    return maxResident[process];
+  } // end of method
+
+  // getThrashingWindows method: returns the number of a process's windows at or above the threshold
+  public long getThrashingWindows(int process) {
+    return thrashingWindows[process];
+  } // end of method
+
+  // getTotalReferences method: returns the number of references of all processes
+  public long getTotalReferences() {
+    long total = 0;
+    for (long count : references) {
+      total += count;
+    } // end of for
+    return total;
+  } // end of method
+
+  // getTotalFaults method: returns the number of faults of all processes
+  public long getTotalFaults() {
+    long total = 0;
+    for (long count : faults) {
+      total += count;
+    } // end of for
+    return total;
+  } // end of method
+
+  // getSystemThrashingWindows method: returns the number of system windows at or above the threshold
+  public long getSystemThrashingWindows() {
+    return systemThrashingWindows;
+  } // end of method
+
+  // isThrashing method: returns true if any system window reached the threshold
+  public boolean isThrashing() {
+    return systemThrashingWindows > 0;
+  } // end of method
+
+  // print method: prints the summary line and one line per process
+  public void print(PrintStream out) {
+    out.println(this);
+    out.printf("%-20s %12s %12s %10s %10s %10s %12s %12s%n", "Process", "References", "Faults", "FaultRate",
+        "Resident", "MaxRes", "Stolen", "Thrashing");
+    for (int p = 0; p < processNames.length; p++) {
+      out.printf("%-20s %12d %12d %10.4f %10d %10d %12d %12s%n", processNames[p], references[p], faults[p],
+          getFaultRate(p), resident[p], maxResident[p], stolen[p], thrashingWindows[p] + "/" + windows[p]);
+    } // end of for
+  } // end of method
+
+  // toString method: one line summary of the whole system
+  @Override
+  public String toString() {
+    long total = getTotalReferences();
+    String thrashing = firstThrashing < 0 ? "no" : "from reference " + firstThrashing;
+    return String.format("%s %s frames=%d processes=%d references=%d faults=%d faultRate=%.4f "
+        + "thrashingWindows=%d/%d (window %d) thrashing=%s", replacement, policyName, physicalFrames,
+        processNames.length, total, getTotalFaults(), total == 0 ? 0.0 : (double) getTotalFaults() / total,
+        systemThrashingWindows, systemWindows, window, thrashing);
+  } // end of method
+} // end of class
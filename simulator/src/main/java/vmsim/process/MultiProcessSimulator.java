@@ -0,0 +1,159 @@
+/*
+* File: MultiProcessSimulator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Simulates several processes sharing one pool of physical frames.
+* Under global replacement one policy manages the whole pool, so a fault of
+* one process may evict another process's page. Under local replacement the
+* pool is split evenly and every process replaces only within its own share.
+* Each process translates its pages to dense ids through its own small hash
+* table, sized by the pages it has touched rather than by its address space,
+* so hundreds of processes fit in little memory. A process, or the system as
+* a whole, is counted as thrashing in every window of references whose fault
+* rate reaches a threshold.
+*/
+
+package vmsim.process;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import vmsim.ReplacementPolicy;
+import vmsim.policy.Policies;
+import vmsim.util.IntIntMap;
+
+// MultiProcessSimulator class
+public class MultiProcessSimulator {
+  // Replacement enum: which pages a faulting process may evict
+  public enum Replacement {
+    GLOBAL,
+    LOCAL;
+
+    // parse method: looks up a replacement scope by its command line name
+    public static Replacement parse(String name) {
+      try {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+      } // end of try
+      catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Unknown replacement: " + name + ". Expected global or local");
+      } // end of catch
+    } // end of method
+  } // end of enum
+
+  private static final int CHUNK_SIZE = 1 << 16; // references read from the schedule at a time
+
+  private final String policyName;
+  private final int physicalFrames;
+  private final Replacement replacement;
+  private final int window; // references per thrashing window
+  private final double threshold; // fault rate at which a window is thrashing
+
+  // MultiProcessSimulator constructor: window and threshold define thrashing
+  public MultiProcessSimulator(String policyName, int physicalFrames, Replacement replacement, int window,
+      double threshold) {
+    if (Policies.needsWholeTrace(policyName)) {
+      throw new IllegalArgumentException(policyName + " needs the whole reference string and cannot run interleaved processes");
+    } // end of if
+    Policies.create(policyName, null); // fails on unknown names before any trace is read
+    if (physicalFrames <= 0) {
+      throw new IllegalArgumentException("Number of physical frames must be positive: " + physicalFrames);
+    } // end of if
+    if (window <= 0) {
+      throw new IllegalArgumentException("Thrashing window must be positive: " + window);
+    } // end of if
+    if (!(threshold > 0 && threshold <= 1)) {
+      throw new IllegalArgumentException("Thrashing threshold must be a fault rate in (0, 1]: " + threshold);
+    } // end of if
+    this.policyName = policyName;
+    this.physicalFrames = physicalFrames;
+    this.replacement = replacement;
+    this.window = window;
+    this.threshold = threshold;
+  } // end of method
+
+  // run method: simulates every reference of the schedule, processes named in order
+  public MultiProcessResult run(ProcessSchedule schedule, String[] processNames) throws IOException {
+    // Variable Initialization
+    int n = schedule.getProcessCount();
+    if (processNames.length != n) {
+      throw new IllegalArgumentException(processNames.length + " names for " + n + " processes");
+    } // end of if
+    if (replacement == Replacement.LOCAL && physicalFrames < n) {
+      throw new IllegalArgumentException("Local replacement needs at least one frame per process: "
+          + physicalFrames + " frames for " + n + " processes");
+    } // end of if
+    IntIntMap[] pageIds = new IntIntMap[n]; // dense id of every page each process has touched
+    ReplacementPolicy[] policies = new ReplacementPolicy[replacement == Replacement.GLOBAL ? 1 : n];
+    int[] owner = new int[1024]; // process of every global page id
+    int nextId = 0; // next global page id
+    long thresholdFaults = (long) Math.ceil(threshold * window); // faults that make a window thrashing
+    long[] windowReferences = new long[n];
+    long[] windowFaults = new long[n];
+    long systemWindowFaults = 0;
+    int[] processes = new int[CHUNK_SIZE];
+    int[] pages = new int[CHUNK_SIZE];
+    int count;
+
+    for (int p = 0; p < n; p++) {
+      pageIds[p] = new IntIntMap(16, -1);
+      if (replacement == Replacement.LOCAL) {
+        // Share the frames evenly, the first processes taking the remainder
+        policies[p] = Policies.create(policyName, null);
+        policies[p].reset(physicalFrames / n + (p < physicalFrames % n ? 1 : 0));
+      } // end of if
+    } // end of for
+    if (replacement == Replacement.GLOBAL) {
+      policies[0] = Policies.create(policyName, null);
+      policies[0].reset(physicalFrames);
+    } // end of if
+    MultiProcessResult result = new MultiProcessResult(policies[0].getName(), replacement, physicalFrames, window,
+        processNames);
+
+    long position = 0;
+    while ((count = schedule.read(processes, pages)) > 0) {
+      for (int i = 0; i < count; i++, position++) {
+        int process = processes[i];
+
+        // Translate the page to its dense id: per process for local, shared for global replacement
+        IntIntMap ids = pageIds[process];
+        int id = ids.get(pages[i]);
+        if (id < 0) {
+          if (replacement == Replacement.LOCAL) {
+            id = ids.size();
+          } // end of if
+          else {
+            if (nextId == owner.length) {
+              owner = Arrays.copyOf(owner, 2 * nextId);
+            } // end of if
+            id = nextId++;
+            owner[id] = process;
+          } // end of else
+          ids.put(pages[i], id);
+        } // end of if
+
+        int outcome = policies[replacement == Replacement.GLOBAL ? 0 : process].reference(id);
+        boolean fault = outcome != ReplacementPolicy.HIT;
+        if (fault) {
+          int victimProcess = outcome == ReplacementPolicy.NO_VICTIM ? -1
+              : replacement == Replacement.GLOBAL ? owner[outcome] : process;
+          result.fault(process, victimProcess);
+          windowFaults[process]++;
+          systemWindowFaults++;
+        } // end of if
+        result.referenced(process);
+
+        // Close the process's window and the system's window when they fill
+        if (++windowReferences[process] == window) {
+          result.processWindow(process, windowFaults[process] >= thresholdFaults);
+          windowReferences[process] = 0;
+          windowFaults[process] = 0;
+        } // end of if
+        if ((position + 1) % window == 0) {
+          result.systemWindow(position + 1, systemWindowFaults >= thresholdFaults);
+          systemWindowFaults = 0;
+        } // end of if
+      } // end of for
+    } // end of while
+    return result;
+  } // end of method
+} // end of class
@@ -0,0 +1,22 @@
+/*
+* File: ProcessSchedule.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Interleaves the references of several processes into the single
+* stream seen by physical memory. References are read in chunks of process
+* and page pairs, so the engine never allocates per reference.
+*/
+
+package vmsim.process;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// ProcessSchedule interface
+public interface ProcessSchedule extends Closeable {
+  // getProcessCount method: returns the number of processes, numbered from 0
+  int getProcessCount();
+
+  // read method: copies up to pages.length next references into processes and pages, returns how many or -1 at the end
+  int read(int[] processes, int[] pages) throws IOException;
+} // end of interface
@@ -0,0 +1,99 @@
+/*
+* File: RoundRobinSchedule.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Round-robin scheduling of processes. Each process in turn runs a
+* quantum of references, then the next process runs; a process leaves the
+* rotation when its trace ends.
+*/
+
+package vmsim.process;
+
+import java.io.IOException;
+import java.util.List;
+import vmsim.trace.ReferenceSource;
+
+// RoundRobinSchedule class
+public class RoundRobinSchedule implements ProcessSchedule {
+  private static final int BUFFER_SIZE = 1024; // references buffered per process
+
+  private final ReferenceSource[] sources;
+  private final int quantum;
+  private final int[][] buffers; // references read ahead from each process
+  private final int[] position; // next unread reference of each buffer
+  private final int[] limit; // end of each buffer, -1 once its process has ended
+  private int current = 0; // process whose turn it is
+  private int remaining; // references left in the current quantum
+  private int running; // processes that have not ended
+
+  // RoundRobinSchedule constructor: quantum is the number of references per turn
+  public RoundRobinSchedule(List<? extends ReferenceSource> sources, int quantum) {
+    if (quantum <= 0) {
+      throw new IllegalArgumentException("Quantum must be positive: " + quantum);
+    } // end of if
+    this.sources = sources.toArray(new ReferenceSource[0]);
+    this.quantum = quantum;
+    buffers = new int[this.sources.length][BUFFER_SIZE];
+    position = new int[this.sources.length];
+    limit = new int[this.sources.length];
+    remaining = quantum;
+    running = this.sources.length;
+  } // end of method
+
+  // getProcessCount method: returns the number of processes
+  @Override
+  public int getProcessCount() {
+    return sources.length;
+  } // end of method
+
+  // read method: copies up to pages.length next references into processes and pages
+  @Override
+  public int read(int[] processes, int[] pages) throws IOException {
+    int count = 0;
+    while (count < pages.length && running > 0) {
+      // Refill the current process's buffer, dropping the process at the end of its trace
+      if (position[current] == limit[current]) {
+        limit[current] = sources[current].read(buffers[current]);
+        position[current] = 0;
+        if (limit[current] < 0) {
+          running--;
+          nextProcess();
+          continue;
+        } // end of if
+      } // end of if
+
+      int n = Math.min(Math.min(remaining, limit[current] - position[current]), pages.length - count);
+      System.arraycopy(buffers[current], position[current], pages, count, n);
+      for (int i = count; i < count + n; i++) {
+        processes[i] = current;
+      } // end of for
+      position[current] += n;
+      count += n;
+      remaining -= n;
+      if (remaining == 0) {
+        nextProcess();
+      } // end of if
+    } // end of while
+    return count == 0 ? -1 : count;
+  } // end of method
+
+  // close method: closes every process's trace
+  @Override
+  public void close() throws IOException {
+    for (ReferenceSource source : sources) {
+      source.close();
+    } // end of for
+  } // end of method
+
+  // nextProcess method: gives a new quantum to the next process that has not ended
+  private void nextProcess() {
+    remaining = quantum;
+    if (running == 0) {
+      return;
+    } // end of if
+    current = (current + 1) % sources.length;
+    while (limit[current] < 0) {
+      current = (current + 1) % sources.length;
+    } // end of while
+  } // end of method
+} // end of class
@@ -0,0 +1,109 @@
+/*
+* File: TimestampedSchedule.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Interleaves timestamped process traces in time order. The next
+* reference of every process sits in a binary heap keyed by its timestamp,
+* so each reference costs O(log processes); equal timestamps go to the lower
+* numbered process first.
+*/
+
+package vmsim.process;
+
+import java.io.IOException;
+import java.util.List;
+import vmsim.trace.TimestampedTraceReader;
+
+// TimestampedSchedule class
+public class TimestampedSchedule implements ProcessSchedule {
+  private final TimestampedTraceReader[] readers;
+  private final int[] heap; // processes with a pending reference, earliest first
+  private int heapSize = 0;
+  private boolean started = false;
+
+  // TimestampedSchedule constructor: one trace per process
+  public TimestampedSchedule(List<TimestampedTraceReader> readers) {
+    this.readers = readers.toArray(new TimestampedTraceReader[0]);
+    heap = new int[this.readers.length];
+  } // end of method
+
+  // getProcessCount method: returns the number of processes
+  @Override
+  public int getProcessCount() {
+    return readers.length;
+  } // end of method
+
+  // read method: copies up to pages.length next references into processes and pages
+  @Override
+  public int read(int[] processes, int[] pages) throws IOException {
+    if (!started) {
+      for (int process = 0; process < readers.length; process++) {
+        if (readers[process].next()) {
+          heap[heapSize++] = process;
+          siftUp(heapSize - 1);
+        } // end of if
+      } // end of for
+      started = true;
+    } // end of if
+
+    int count = 0;
+    while (count < pages.length && heapSize > 0) {
+      int process = heap[0];
+      processes[count] = process;
+      pages[count] = readers[process].getPage();
+      count++;
+
+      // Replace the process at the top by its next reference, or remove it at the end of its trace
+      if (!readers[process].next()) {
+        heap[0] = heap[--heapSize];
+      } // end of if
+      siftDown(0);
+    } // end of while
+    return count == 0 ? -1 : count;
+  } // end of method
+
+  // close method: closes every process's trace
+  @Override
+  public void close() throws IOException {
+    for (TimestampedTraceReader reader : readers) {
+      reader.close();
+    } // end of for
+  } // end of method
+
+  // before method: returns true if process a's next reference comes before process b's
+  private boolean before(int a, int b) {
+    long timeA = readers[a].getTime();
+    long timeB = readers[b].getTime();
+    return timeA < timeB || (timeA == timeB && a < b);
+  } // end of method
+
+  // siftUp method: moves a heap entry up until its parent comes before it
+  private void siftUp(int i) {
+    int process = heap[i];
+    while (i > 0 && before(process, heap[(i - 1) / 2])) {
+      heap[i] = heap[(i - 1) / 2];
+      i = (i - 1) / 2;
+    } // end of while
+    heap[i] = process;
+  } // end of method
+
+  // siftDown method: moves a heap entry down until it comes before its children
+  private void siftDown(int i) {
+    if (heapSize == 0) {
+      return;
+    } // end of if
+    int process = heap[i];
+    while (2 * i + 1 < heapSize) {
+      int child = 2 * i + 1;
+      if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+        child++;
+      } // end of if
+      if (!before(heap[child], process)) {
+        break;
+      } // end of if
+      heap[i] = heap[child];
+      i = child;
+    } // end of while
+    heap[i] = process;
+  } // end of method
+} // end of class
@@ -0,0 +1,207 @@
+/*
+* File: CheckpointWriter.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Writes checkpoints of a streaming simulation to disk without
+* holding it up. A checkpoint is captured into memory between two batches,
+* which only copies the state, and is written by a background thread while
+* the simulation goes on. There are two capture buffers, so one checkpoint
+* can be written while the next is captured; a capture waits only if the
+* checkpoint before the last one is still being written. A file holds the
+* magic number, the format version, the length of the state, the state and
+* its CRC-32. The state is binary arrays with booleans packed into bits; it
+* is not deflated, which took several times longer than capturing it and
+* only halved it. Each file is written under a temporary name and then moved
+* into place, so a crash never leaves a partial checkpoint behind. A path
+* containing %d gets the number of references simulated, keeping every
+* checkpoint; otherwise each checkpoint replaces the one before.
+*/
+
+package vmsim.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+// CheckpointWriter class
+public class CheckpointWriter implements Closeable {
+  static final int MAGIC = 0x564D434B; // "VMCK"
+  static final int VERSION = 2; // 2: reference positions are longs
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final String path;
+  private final PrintStream out;
+  private final BlockingQueue<Capture> free = new ArrayBlockingQueue<>(2); // buffers ready to capture into
+  private final BlockingQueue<Capture> pending = new ArrayBlockingQueue<>(3); // captures to write, then stop
+  private final Capture stop = new Capture(); // ends the writing thread
+  private final Thread thread;
+  private long lastReferences = -1; // references of the last capture
+  private boolean closed = false;
+
+  // CheckpointWriter constructor: path may contain %d for the number of references; messages go to out
+  public CheckpointWriter(String path, PrintStream out) {
+    if (path.replace("%d", "").contains("%")) {
+      throw new IllegalArgumentException("A checkpoint path can only contain %d: " + path);
+    } // end of if
+    Path directory = Paths.get(path.replace("%d", "0")).toAbsolutePath().getParent();
+    if (!Files.isDirectory(directory)) {
+      throw new IllegalArgumentException("No such directory for checkpoints: " + directory);
+    } // end of if
+    this.path = path;
+    this.out = out;
+    free.add(new Capture());
+    free.add(new Capture());
+    thread = new Thread(this::writeAll, "vmsim-checkpoint");
+    thread.setDaemon(true);
+    thread.start();
+  } // end of method
+
+  // write method: captures the simulation's state and queues it for writing, unless nothing was simulated since
+  // the last capture; call between batches
+  public void write(StreamingSimulation simulation) {
+    long references = simulation.getSnapshot().getReferences();
+    if (references == lastReferences) {
+      return;
+    } // end of if
+    lastReferences = references;
+    Capture capture = take(free);
+    capture.bytes.reset();
+    capture.references = references;
+    try {
+      DataOutputStream data = new DataOutputStream(capture.bytes);
+      simulation.save(data);
+      data.flush();
+    } // end of try
+    catch (IOException e) { // not thrown by an in-memory stream
+      throw new UncheckedIOException(e);
+    } // end of catch
+    put(capture);
+  } // end of method
+
+  // close method: waits until every captured checkpoint is written
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    } // end of if
+    closed = true;
+    put(stop);
+    try {
+      thread.join();
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } // end of catch
+  } // end of method
+
+  // open method: opens a checkpoint file, checking its header, for reading the state
+  static DataInputStream open(Path file) throws IOException {
+    if (!Files.isRegularFile(file)) {
+      throw new IllegalArgumentException("No such checkpoint: " + file);
+    } // end of if
+    byte[] state;
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file),
+        BUFFER_SIZE))) {
+      if (in.readInt() != MAGIC) {
+        throw new IOException(file + " is not a checkpoint");
+      } // end of if
+      int version = in.readInt();
+      if (version != VERSION) {
+        throw new IOException(file + " is a version " + version + " checkpoint, expected version " + VERSION);
+      } // end of if
+      int length = in.readInt();
+      if (length < 0 || length > Files.size(file)) {
+        throw new IOException(file + " is damaged: invalid length " + length);
+      } // end of if
+      state = new byte[length];
+      in.readFully(state);
+      CRC32 crc = new CRC32();
+      crc.update(state);
+      if (in.readInt() != (int) crc.getValue()) {
+        throw new IOException(file + " is damaged: checksum mismatch");
+      } // end of if
+    } // end of try
+    return new DataInputStream(new ByteArrayInputStream(state));
+  } // end of method
+
+  // writeAll method: writes queued captures in order until stopped
+  private void writeAll() {
+    Capture capture;
+    while ((capture = take(pending)) != stop) {
+      Path file = Paths.get(path.replace("%d", Long.toString(capture.references)));
+      try {
+        writeFile(capture, file);
+        out.println("Checkpoint after " + capture.references + " references written to " + file);
+      } // end of try
+      catch (IOException e) {
+        out.println("Error writing checkpoint " + file + ": " + e.getMessage());
+      } // end of catch
+      free.add(capture);
+    } // end of while
+  } // end of method
+
+  // writeFile method: writes a capture to a temporary file next to the checkpoint, then moves it into place
+  private static void writeFile(Capture capture, Path file) throws IOException {
+    Path directory = file.toAbsolutePath().getParent();
+    Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(temporary), BUFFER_SIZE))) {
+        stream.writeInt(MAGIC);
+        stream.writeInt(VERSION);
+        stream.writeInt(capture.bytes.size());
+        CRC32 crc = new CRC32();
+        capture.bytes.writeTo(new CheckedOutputStream(stream, crc));
+        stream.writeInt((int) crc.getValue());
+      } // end of try
+      Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } // end of try
+    finally {
+      Files.deleteIfExists(temporary);
+    } // end of finally
+  } // end of method
+
+  // take method: takes the next capture from a queue, waiting for one
+  private static Capture take(BlockingQueue<Capture> queue) {
+    try {
+      return queue.take();
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a checkpoint buffer", e);
+    } // end of catch
+  } // end of method
+
+  // put method: queues a capture for writing
+  private void put(Capture capture) {
+    try {
+      pending.put(capture);
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while queueing a checkpoint", e);
+    } // end of catch
+  } // end of method
+
+  // Capture class: one buffer of captured state and the references simulated when it was captured
+  private static final class Capture {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    long references = 0;
+  } // end of class
+} // end of class
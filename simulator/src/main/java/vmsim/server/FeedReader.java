@@ -0,0 +1,165 @@
+/*
+* File: FeedReader.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Reads the references and commands of one feed of a
+* SimulationServer (see its header for the format), filling batches and
+* handing them to the server. A feed that sends something invalid is told
+* why and closed; references it sent since its last full batch are dropped.
+*/
+
+package vmsim.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.Locale;
+import vmsim.trace.TextTokenizer;
+
+// FeedReader class
+final class FeedReader {
+  private static final int END = 0; // nextToken results
+  private static final int REFERENCE = 1;
+  private static final int COMMAND = 2;
+  private static final int MAX_COMMAND_LENGTH = 16;
+
+  private final SimulationServer server;
+  private final InputStream in;
+  private final PrintStream reply;
+  private final byte[] buffer = new byte[1 << 16];
+  private int position = 0;
+  private int limit = 0;
+  private long offset = 0; // stream offset of buffer[0]
+  private SimulationServer.Batch batch;
+
+  // Parser state
+  private final TextTokenizer text = new TextTokenizer(true); // the reference parsed by nextToken
+  private final StringBuilder command = new StringBuilder(); // the command parsed by nextToken
+
+  // FeedReader constructor: replies to commands and errors go to reply
+  FeedReader(SimulationServer server, InputStream in, PrintStream reply) {
+    this.server = server;
+    this.in = in;
+    this.reply = reply;
+    batch = server.newBatch();
+  } // end of method
+
+  // run method: reads the feed until it ends, fails or shuts the server down
+  void run() {
+    try {
+      int token;
+      while ((token = nextToken()) != END) {
+        if (token == REFERENCE) {
+          add();
+        } // end of if
+        else if (!execute(command.toString().toLowerCase(Locale.ROOT))) {
+          return;
+        } // end of else if
+      } // end of while
+      submitBatch();
+    } // end of try
+    catch (IOException e) {
+      reply.println("Error: " + e.getMessage());
+    } // end of catch
+  } // end of method
+
+  // execute method: runs a command, returns false IF the feed should stop
+  private boolean execute(String name) throws IOException {
+    switch (name) {
+      case "snapshot":
+        printSnapshot();
+        return true;
+      case "flush":
+        submitBatch();
+        server.await();
+        printSnapshot();
+        return true;
+      case "shutdown":
+        submitBatch();
+        server.shutdown();
+        return false;
+      default:
+        throw error("Unknown command '" + name + "'");
+    } // end of switch
+  } // end of method
+
+  // printSnapshot method: replies with the latest snapshot and an empty line
+  private void printSnapshot() {
+    server.getSnapshot().print(reply);
+    reply.println();
+  } // end of method
+
+  // add method: appends the parsed reference to the batch, handing the batch over once full
+  private void add() throws IOException {
+    long page = text.getValue() >>> server.getPageShift();
+    if (page > Integer.MAX_VALUE) {
+      throw error("Page " + page + " is too large for a page id");
+    } // end of if
+    batch.pages[batch.count] = (int) page;
+    batch.writes[batch.count] = text.isWrite();
+    batch.count++;
+    if (batch.count == batch.pages.length) {
+      submitBatch();
+    } // end of if
+  } // end of method
+
+  // submitBatch method: hands the batch to the server, IF it holds references, and starts a new one
+  private void submitBatch() throws IOException {
+    if (batch.count > 0) {
+      server.submit(batch);
+      batch = server.newBatch();
+    } // end of if
+  } // end of method
+
+  // nextToken method: parses the next reference into text, or the next command, or returns END
+  private int nextToken() throws IOException {
+    command.setLength(0);
+    while (true) {
+      if (position == limit) {
+        // Hand over a partial batch before waiting for input, so a quiet feed is not left unsimulated
+        if (in.available() == 0) {
+          submitBatch();
+        } // end of if
+        offset += limit;
+        limit = Math.max(0, in.read(buffer));
+        position = 0;
+        if (limit == 0) {
+          int token = text.finish();
+          if (token == TextTokenizer.ERROR) {
+            throw error(text.getError());
+          } // end of if
+          return token == TextTokenizer.NUMBER ? REFERENCE : command.length() > 0 ? COMMAND : END;
+        } // end of if
+      } // end of if
+      char c = (char) (buffer[position++] & 0xFF);
+
+      // A command word runs to the next separator, which the tokenizer then takes
+      if (command.length() > 0 && !TextTokenizer.isSeparator(c)) {
+        if (!Character.isLetter(c) || command.length() == MAX_COMMAND_LENGTH) {
+          throw error("Invalid command");
+        } // end of if
+        command.append(c);
+        continue;
+      } // end of if
+
+      int token = text.accept(c);
+      if (token == TextTokenizer.ERROR) {
+        throw error(text.getError());
+      } // end of if
+      if (token == TextTokenizer.NUMBER) {
+        return REFERENCE;
+      } // end of if
+      if (token == TextTokenizer.WORD) {
+        command.append(c);
+      } // end of if
+      else if (command.length() > 0) {
+        return COMMAND;
+      } // end of else if
+    } // end of while
+  } // end of method
+
+  // error method: creates an exception pointing at the current byte of the feed
+  private IOException error(String message) {
+    return new IOException(message + " at byte " + (offset + position - 1));
+  } // end of method
+} // end of class
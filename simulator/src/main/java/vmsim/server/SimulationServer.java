@@ -0,0 +1,261 @@
+/*
+* File: SimulationServer.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Long-running mode of the simulator, fed live references over a
+* local socket or a named pipe. Feeds use the text trace format: page numbers
+* (or addresses when a page size is given), decimal or 0x-prefixed
+* hexadecimal, each optionally ending in r or w, separated by whitespace or
+* commas, with # starting a comment. Feeds can also send these commands:
+*   snapshot - replies with the latest snapshot at once, then an empty line
+*   flush    - waits until everything the feed sent is simulated, then replies
+*              like snapshot
+*   shutdown - stops the server after the references queued so far; feeds
+*              sending references or flush after it are told the server is
+*              shutting down
+* Every feed fills fixed-size batches. A feed hands over a partial batch when
+* no more input is waiting, so quiet feeds are still simulated promptly.
+* Batches go through a bounded queue to the simulation. When the queue is
+* full, a feed's reader blocks and stops reading its input, so a producer
+* that outruns the simulation is slowed down instead of using more memory.
+* The socket only listens on the loopback address. A named pipe is reopened
+* for each new writer; a regular file is read once.
+*/
+
+package vmsim.server;
+
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+// SimulationServer class
+public class SimulationServer {
+  // References per batch unless given
+  public static final int DEFAULT_BATCH_SIZE = 4096;
+
+  // Batches waiting to be simulated before feeds are blocked, unless given
+  public static final int DEFAULT_QUEUE_BATCHES = 16;
+
+  private final StreamingSimulation simulation;
+  private final int batchSize;
+  private final int pageShift; // address bits within a page, 0 for page numbers
+  private final BlockingQueue<Batch> queue;
+  private final PrintStream out;
+  private final Batch stop = new Batch(0, null); // ends the simulation
+  private volatile boolean running = true;
+
+  // SimulationServer constructor: pageSize is 1 for page numbers, or a power of two for addresses
+  public SimulationServer(StreamingSimulation simulation, int batchSize, int queueBatches, long pageSize,
+      PrintStream out) {
+    if (batchSize <= 0 || queueBatches <= 0) {
+      throw new IllegalArgumentException("Batch size and queue length must be positive: " + batchSize + ", "
+          + queueBatches);
+    } // end of if
+    if (pageSize <= 0 || Long.bitCount(pageSize) != 1) {
+      throw new IllegalArgumentException("Page size must be a power of two: " + pageSize);
+    } // end of if
+    this.simulation = simulation;
+    this.batchSize = batchSize;
+    this.pageShift = Long.numberOfTrailingZeros(pageSize);
+    this.queue = new ArrayBlockingQueue<>(queueBatches);
+    this.out = out;
+  } // end of method
+
+  // serve method: accepts feeds on a local port and simulates them until one sends shutdown
+  public void serve(int port) throws IOException {
+    try (ServerSocket server = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+      out.println("Listening on " + server.getInetAddress().getHostAddress() + ":" + server.getLocalPort());
+      start("vmsim-accept", () -> accept(server));
+      simulate();
+    } // end of try
+  } // end of method
+
+  // servePipe method: simulates every writer of a named pipe in turn until one sends shutdown
+  public void servePipe(Path pipe) {
+    if (!Files.exists(pipe)) {
+      throw new IllegalArgumentException("No such pipe: " + pipe);
+    } // end of if
+    out.println("Reading " + pipe);
+    start("vmsim-pipe", () -> readPipe(pipe));
+    simulate();
+  } // end of method
+
+  // getSnapshot method: returns the state after the last simulated batch
+  public SimulationSnapshot getSnapshot() {
+    return simulation.getSnapshot();
+  } // end of method
+
+  // newBatch method: returns an empty batch for a feed to fill
+  Batch newBatch() {
+    return new Batch(batchSize, null);
+  } // end of method
+
+  // getPageShift method: returns the address bits within a page, 0 for page numbers
+  int getPageShift() {
+    return pageShift;
+  } // end of method
+
+  // submit method: queues a batch for simulation, blocking while the queue is full
+  synchronized void submit(Batch batch) throws IOException {
+    // Checked under the lock shutdown takes, so no batch is queued after stop
+    if (!running) {
+      throw new IOException("Server is shutting down");
+    } // end of if
+    put(batch);
+  } // end of method
+
+  // await method: blocks until every batch queued before the call is simulated
+  void await() throws IOException {
+    Batch barrier = new Batch(0, new CountDownLatch(1));
+    submit(barrier);
+    try {
+      barrier.done.await();
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the simulation");
+    } // end of catch
+  } // end of method
+
+  // shutdown method: stops the simulation once the batches already queued are simulated
+  synchronized void shutdown() throws IOException {
+    if (running) {
+      running = false;
+      put(stop);
+    } // end of if
+  } // end of method
+
+  // simulate method: simulates queued batches in order until shutdown, then prints the final snapshot
+  private void simulate() {
+    try {
+      Batch batch;
+      while ((batch = queue.take()) != stop) {
+        if (batch.count > 0) {
+          simulation.simulate(batch.pages, batch.writes, batch.count);
+        } // end of if
+        if (batch.done != null) {
+          batch.done.countDown();
+        } // end of if
+      } // end of while
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } // end of catch
+    release();
+    out.println("Shutting down");
+    simulation.getSnapshot().print(out);
+  } // end of method
+
+  // release method: refuses further batches, and lets go of feeds waiting on batches that will not be simulated
+  private void release() {
+    // Nothing is queued after stop; only a simulation interrupted early leaves batches behind
+    running = false;
+    discardQueued();
+    synchronized (this) {
+      discardQueued(); // a feed that was blocked on the full queue has queued its batch by now
+    } // end of synchronized
+  } // end of method
+
+  // discardQueued method: empties the queue, counting down the batches feeds wait for
+  private void discardQueued() {
+    Batch batch;
+    while ((batch = queue.poll()) != null) {
+      if (batch.done != null) {
+        batch.done.countDown();
+      } // end of if
+    } // end of while
+  } // end of method
+
+  // accept method: serves every connection on its own thread until the server socket is closed
+  private void accept(ServerSocket server) {
+    while (running) {
+      Socket socket;
+      try {
+        socket = server.accept();
+      } // end of try
+      catch (IOException e) { // closed by serve after shutdown
+        return;
+      } // end of catch
+      start("vmsim-feed-" + socket.getPort(), () -> readSocket(socket));
+    } // end of while
+  } // end of method
+
+  // readSocket method: reads one connection's feed, replying over the same connection
+  private void readSocket(Socket socket) {
+    try (Socket client = socket;
+        PrintStream reply = new PrintStream(new BufferedOutputStream(client.getOutputStream()), true,
+            StandardCharsets.US_ASCII.name())) {
+      new FeedReader(this, client.getInputStream(), reply).run();
+    } // end of try
+    catch (IOException e) { // the client went away
+    } // end of catch
+  } // end of method
+
+  // readPipe method: reads the pipe once per writer, replying on the server's output
+  private void readPipe(Path pipe) {
+    try {
+      while (running) {
+        // A FileInputStream can tell how much a pipe holds, where a channel stream fails trying to seek
+        try (InputStream in = new FileInputStream(pipe.toFile())) {
+          new FeedReader(this, in, out).run();
+        } // end of try
+        if (Files.isRegularFile(pipe)) {
+          shutdown();
+        } // end of if
+      } // end of while
+    } // end of try
+    catch (IOException e) {
+      out.println("Error reading " + pipe + ": " + e.getMessage());
+      try {
+        shutdown();
+      } // end of try
+      catch (IOException ignored) { // already interrupted
+      } // end of catch
+    } // end of catch
+  } // end of method
+
+  // put method: queues a batch, blocking while the queue is full
+  private void put(Batch batch) throws IOException {
+    try {
+      queue.put(batch);
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while queueing references");
+    } // end of catch
+  } // end of method
+
+  // start method: runs a task on a new daemon thread, so open feeds do not keep the program alive
+  private static void start(String name, Runnable task) {
+    Thread thread = new Thread(task, name);
+    thread.setDaemon(true);
+    thread.start();
+  } // end of method
+
+  // Batch class: references of one feed, simulated in the order the batches were queued
+  static final class Batch {
+    final int[] pages;
+    final boolean[] writes;
+    final CountDownLatch done; // counted down once simulated, null unless a feed waits for it
+    int count = 0;
+
+    // Batch constructor: room for capacity references
+    Batch(int capacity, CountDownLatch done) {
+      pages = new int[capacity];
+      writes = new boolean[capacity];
+      this.done = done;
+    } // end of method
+  } // end of class
+} // end of class
@@ -0,0 +1,59 @@
+/*
+* File: SimulationSnapshot.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Immutable state of a streaming simulation after one batch: the
+* totals of every policy since the stream began, and each policy's fault
+* rate over the most recent references.
+*/
+
+package vmsim.server;
+
+import java.io.PrintStream;
+import vmsim.SimulationResult;
+
+// SimulationSnapshot class
+public class SimulationSnapshot {
+  private final SimulationResult[] results;
+  private final long rollingWindow; // references the rolling fault rates aim to cover
+  private final long recentReferences; // references they actually cover
+  private final double[] rollingFaultRates;
+
+  // SimulationSnapshot constructor: the arrays are owned by the new object
+  SimulationSnapshot(SimulationResult[] results, long rollingWindow, long recentReferences,
+      double[] rollingFaultRates) {
+    this.results = results;
+    this.rollingWindow = rollingWindow;
+    this.recentReferences = recentReferences;
+    this.rollingFaultRates = rollingFaultRates;
+  } // end of method
+
+  // getPolicies method: returns the number of policies simulated
+  public int getPolicies() {
+    return results.length;
+  } // end of method
+
+  // getResult method: returns the totals of a policy since the stream began
+  public SimulationResult getResult(int policy) {
+    return results[policy];
+  } // end of method
+
+  // getRollingFaultRate method: returns the fault rate of a policy over the most recent references
+  public double getRollingFaultRate(int policy) {
+    return rollingFaultRates[policy];
+  } // end of method
+
+  // getReferences method: returns the number of references simulated so far
+  public long getReferences() {
+    return results[0].getReferences();
+  } // end of method
+
+  // print method: prints a header and one line per policy
+  public void print(PrintStream out) {
+    out.println("Snapshot after " + getReferences() + " references, rolling fault rates over the last "
+        + recentReferences + " (window " + rollingWindow + ")");
+    for (int p = 0; p < results.length; p++) {
+      out.println(results[p] + String.format(" rollingFaultRate=%.4f", rollingFaultRates[p]));
+    } // end of for
+  } // end of method
+} // end of class
@@ -0,0 +1,431 @@
+/*
+* File: StreamingSimulation.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Keeps several replacement policies simulating one endless
+* reference stream, a batch at a time. Every policy simulates a batch in
+* parallel with the others; then the totals and the fault rate of each
+* policy over the most recent references are published as an immutable
+* snapshot. Any thread can read the snapshot at any time without stopping
+* the simulation. The recent references are counted in BUCKETS parts of the
+* rolling window. The oldest part is dropped once the newest fills up, which
+* is checked after every batch, so a rolling rate covers the window to within
+* about a part and a batch. A snapshot reports the references it covers.
+*
+* While checkpointing, the simulation saves its state through a
+* CheckpointWriter at the first batch boundary after every given number of
+* references, and keeps a ring of the most recent references. A checkpoint
+* can be resumed exactly, totals included, or forked, with totals starting
+* at the checkpoint. A fork into the saved number of frames loads the saved
+* policies; with another number it cannot, so its policies are warmed up by
+* the references in the ring, without counting them.
+*/
+
+package vmsim.server;
+
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import vmsim.ReplacementPolicy;
+import vmsim.SimulationResult;
+import vmsim.policy.Policies;
+import vmsim.util.StateIO;
+
+// StreamingSimulation class
+public class StreamingSimulation implements Closeable {
+  // References the rolling fault rates cover unless given
+  public static final long DEFAULT_ROLLING_WINDOW = 100000;
+
+  // Most recent references a checkpoint keeps for forks unless given
+  public static final int DEFAULT_CHECKPOINT_HISTORY = 1 << 20;
+
+  private static final int BUCKETS = 16; // parts of the rolling window
+
+  private final ReplacementPolicy[] policies;
+  private final int physicalFrames;
+  private final long rollingWindow;
+  private final long bucketSize; // references per part of the rolling window
+  private final ForkJoinPool pool;
+  private final List<Callable<Void>> tasks = new ArrayList<>(); // simulate the current batch, one per policy
+
+  // Totals, written by the thread that calls simulate
+  private long forkPosition = 0; // references of the stream before the totals of a fork began
+  private long references = 0;
+  private long writes = 0;
+  private final long[] faults;
+  private final long[] evictions;
+  private final long[] writeBacks;
+  private final long[] bucketReferences = new long[BUCKETS];
+  private final long[][] bucketFaults; // bucketFaults[policy][bucket]
+  private int bucket = 0; // part of the window being filled
+
+  // Current batch and its counts, one slot per policy for the tasks to write
+  private int[] batchPages;
+  private boolean[] batchWrites;
+  private int batchCount;
+  private final long[] batchFaults;
+  private final long[] batchEvictions;
+  private final long[] batchWriteBacks;
+
+  // Checkpoints and the ring of recent references they keep
+  private CheckpointWriter checkpoints = null;
+  private long checkpointInterval = 0;
+  private long nextCheckpoint = 0;
+  private int[] historyPages = new int[0];
+  private boolean[] historyWrites = new boolean[0];
+  private int historyCount = 0; // references in the ring, at most its length
+  private int historyEnd = 0; // slot of the next reference
+
+  private volatile SimulationSnapshot snapshot;
+
+  // StreamingSimulation constructor: parallelism is the number of worker threads
+  public StreamingSimulation(List<String> policyNames, int physicalFrames, long rollingWindow, int parallelism) {
+    if (policyNames.isEmpty()) {
+      throw new IllegalArgumentException("A streaming simulation needs at least one policy");
+    } // end of if
+    if (rollingWindow <= 0) {
+      throw new IllegalArgumentException("Rolling window must be positive: " + rollingWindow);
+    } // end of if
+    policies = new ReplacementPolicy[policyNames.size()];
+    for (int p = 0; p < policies.length; p++) {
+      String name = policyNames.get(p);
+      if (Policies.needsWholeTrace(name) || Policies.isVariable(name)) {
+        throw new IllegalArgumentException("Streaming simulations need fixed-allocation policies that do not "
+            + "see the reference string in advance: " + name);
+      } // end of if
+      policies[p] = Policies.create(name, null);
+      policies[p].reset(physicalFrames);
+      int policy = p;
+      tasks.add(() -> {
+        simulateBatch(policy);
+        return null;
+      });
+    } // end of for
+    this.physicalFrames = physicalFrames;
+    this.rollingWindow = rollingWindow;
+    bucketSize = Math.max(1, rollingWindow / BUCKETS);
+    pool = new ForkJoinPool(parallelism);
+    faults = new long[policies.length];
+    evictions = new long[policies.length];
+    writeBacks = new long[policies.length];
+    bucketFaults = new long[policies.length][BUCKETS];
+    batchFaults = new long[policies.length];
+    batchEvictions = new long[policies.length];
+    batchWriteBacks = new long[policies.length];
+    snapshot = createSnapshot();
+  } // end of method
+
+  // resume method: continues the simulation saved in a checkpoint exactly, totals included
+  public static StreamingSimulation resume(Path checkpoint, int parallelism) throws IOException {
+    return load(checkpoint, 0, parallelism);
+  } // end of method
+
+  // fork method: continues the policies of a checkpoint with another number of frames, counting from the checkpoint
+  public static StreamingSimulation fork(Path checkpoint, int physicalFrames, int parallelism) throws IOException {
+    if (physicalFrames <= 0) {
+      throw new IllegalArgumentException("Number of physical frames must be positive: " + physicalFrames);
+    } // end of if
+    return load(checkpoint, physicalFrames, parallelism);
+  } // end of method
+
+  // checkpointEvery method: saves a checkpoint with writer every interval references, keeping the last history
+  // references for forks
+  public void checkpointEvery(long interval, int history, CheckpointWriter writer) {
+    if (interval <= 0 || history < 0) {
+      throw new IllegalArgumentException("Checkpoint interval must be positive and history non-negative: "
+          + interval + ", " + history);
+    } // end of if
+    checkpoints = writer;
+    checkpointInterval = interval;
+    nextCheckpoint = (references / interval + 1) * interval;
+    int[] pages = historyPages();
+    boolean[] pageWrites = historyWrites();
+    int keep = Math.min(history, pages.length);
+    historyPages = new int[history];
+    historyWrites = new boolean[history];
+    historyCount = 0;
+    historyEnd = 0;
+    remember(pages, pageWrites, pages.length - keep, keep);
+  } // end of method
+
+  // getForkPosition method: returns the references of the stream before a fork's totals began, 0 unless forked
+  public long getForkPosition() {
+    return forkPosition;
+  } // end of method
+
+  // save method: writes the settings, totals, recent references and every policy's state; call between batches
+  public void save(DataOutput out) throws IOException {
+    out.writeInt(physicalFrames);
+    out.writeLong(rollingWindow);
+    out.writeInt(policies.length);
+    for (ReplacementPolicy policy : policies) {
+      out.writeUTF(policy.getName());
+    } // end of for
+    out.writeLong(forkPosition);
+    out.writeLong(references);
+    out.writeLong(writes);
+    for (int p = 0; p < policies.length; p++) {
+      out.writeLong(faults[p]);
+      out.writeLong(evictions[p]);
+      out.writeLong(writeBacks[p]);
+    } // end of for
+    out.writeInt(bucket);
+    for (int b = 0; b < BUCKETS; b++) {
+      out.writeLong(bucketReferences[b]);
+      for (long[] policyFaults : bucketFaults) {
+        out.writeLong(policyFaults[b]);
+      } // end of for
+    } // end of for
+    StateIO.writeInts(out, historyPages());
+    StateIO.writeBooleans(out, historyWrites());
+    for (ReplacementPolicy policy : policies) {
+      policy.saveState(out);
+    } // end of for
+  } // end of method
+
+  // simulate method: runs every policy over a batch of references, then publishes a new snapshot
+  public void simulate(int[] pages, boolean[] pageWrites, int count) {
+    runPolicies(pages, pageWrites, count);
+    remember(pages, pageWrites, 0, count);
+
+    // Add the batch to the totals and to the newest part of the rolling window
+    references += count;
+    for (int i = 0; i < count; i++) {
+      writes += pageWrites[i] ? 1 : 0;
+    } // end of for
+    bucketReferences[bucket] += count;
+    for (int p = 0; p < policies.length; p++) {
+      faults[p] += batchFaults[p];
+      evictions[p] += batchEvictions[p];
+      writeBacks[p] += batchWriteBacks[p];
+      bucketFaults[p][bucket] += batchFaults[p];
+    } // end of for
+    if (bucketReferences[bucket] >= bucketSize) {
+      bucket = (bucket + 1) % BUCKETS;
+      bucketReferences[bucket] = 0;
+      for (long[] policyFaults : bucketFaults) {
+        policyFaults[bucket] = 0;
+      } // end of for
+    } // end of if
+    snapshot = createSnapshot();
+    if (checkpoints != null && references >= nextCheckpoint) {
+      checkpoints.write(this);
+      nextCheckpoint = (references / checkpointInterval + 1) * checkpointInterval;
+    } // end of if
+  } // end of method
+
+  // getSnapshot method: returns the state after the last simulated batch, from any thread
+  public SimulationSnapshot getSnapshot() {
+    return snapshot;
+  } // end of method
+
+  // close method: stops the worker threads
+  @Override
+  public void close() {
+    pool.shutdown();
+  } // end of method
+
+  // load method: reads a checkpoint, resuming it exactly when physicalFrames is 0, otherwise forking it
+  private static StreamingSimulation load(Path checkpoint, int physicalFrames, int parallelism) throws IOException {
+    try (DataInputStream in = CheckpointWriter.open(checkpoint)) {
+      int savedFrames = in.readInt();
+      long savedWindow = in.readLong();
+      int count = in.readInt();
+      if (savedFrames <= 0 || savedWindow <= 0 || count <= 0) {
+        throw new IOException("Invalid checkpoint " + checkpoint);
+      } // end of if
+      List<String> names = new ArrayList<>();
+      for (int p = 0; p < count; p++) {
+        names.add(in.readUTF());
+      } // end of for
+      StreamingSimulation simulation = new StreamingSimulation(names, physicalFrames == 0 ? savedFrames
+          : physicalFrames, savedWindow, parallelism);
+      try {
+        simulation.read(in, physicalFrames == 0, savedFrames);
+        if (physicalFrames == 0 && in.read() != -1) {
+          throw new IOException("Unexpected data at the end of checkpoint " + checkpoint);
+        } // end of if
+      } // end of try
+      catch (IOException | RuntimeException e) {
+        simulation.close();
+        throw e;
+      } // end of catch
+      return simulation;
+    } // end of try
+  } // end of method
+
+  // read method: restores the totals IF resuming, then the recent references, then the policies' state, which
+  // a fork with another frame count replaces by warming up on the recent references
+  private void read(DataInput in, boolean resuming, int savedFrames) throws IOException {
+    long savedForkPosition = in.readLong();
+    long savedReferences = in.readLong();
+    long savedWrites = in.readLong();
+    long[][] totals = new long[policies.length][3];
+    for (long[] policyTotals : totals) {
+      for (int i = 0; i < policyTotals.length; i++) {
+        policyTotals[i] = in.readLong();
+      } // end of for
+    } // end of for
+    int savedBucket = in.readInt();
+    long[] savedBucketReferences = new long[BUCKETS];
+    long[][] savedBucketFaults = new long[policies.length][BUCKETS];
+    for (int b = 0; b < BUCKETS; b++) {
+      savedBucketReferences[b] = in.readLong();
+      for (long[] policyFaults : savedBucketFaults) {
+        policyFaults[b] = in.readLong();
+      } // end of for
+    } // end of for
+    int[] pages = StateIO.readInts(in);
+    boolean[] pageWrites = StateIO.readBooleans(in);
+    if (pageWrites.length != pages.length || savedBucket < 0 || savedBucket >= BUCKETS) {
+      throw new IOException("Invalid checkpoint state");
+    } // end of if
+
+    forkPosition = resuming ? savedForkPosition : savedForkPosition + savedReferences;
+    if (resuming) {
+      references = savedReferences;
+      writes = savedWrites;
+      for (int p = 0; p < policies.length; p++) {
+        faults[p] = totals[p][0];
+        evictions[p] = totals[p][1];
+        writeBacks[p] = totals[p][2];
+      } // end of for
+      bucket = savedBucket;
+      System.arraycopy(savedBucketReferences, 0, bucketReferences, 0, BUCKETS);
+      for (int p = 0; p < policies.length; p++) {
+        System.arraycopy(savedBucketFaults[p], 0, bucketFaults[p], 0, BUCKETS);
+      } // end of for
+    } // end of if
+    if (physicalFrames == savedFrames) {
+      for (ReplacementPolicy policy : policies) {
+        policy.loadState(in);
+      } // end of for
+    } // end of if
+    else {
+      runPolicies(pages, pageWrites, pages.length);
+    } // end of else
+    historyPages = pages;
+    historyWrites = pageWrites;
+    historyCount = pages.length;
+    historyEnd = 0;
+    snapshot = createSnapshot();
+  } // end of method
+
+  // remember method: adds references to the ring of recent references, IF checkpointing keeps one
+  private void remember(int[] pages, boolean[] pageWrites, int from, int count) {
+    int capacity = historyPages.length;
+    if (capacity == 0) {
+      return;
+    } // end of if
+    if (count > capacity) { // only the last capacity references stay
+      from += count - capacity;
+      count = capacity;
+    } // end of if
+    int first = Math.min(count, capacity - historyEnd);
+    System.arraycopy(pages, from, historyPages, historyEnd, first);
+    System.arraycopy(pageWrites, from, historyWrites, historyEnd, first);
+    System.arraycopy(pages, from + first, historyPages, 0, count - first);
+    System.arraycopy(pageWrites, from + first, historyWrites, 0, count - first);
+    historyEnd = (historyEnd + count) % capacity;
+    historyCount = Math.min(capacity, historyCount + count);
+  } // end of method
+
+  // historyPages method: returns the recent references, oldest first
+  private int[] historyPages() {
+    int[] pages = new int[historyCount];
+    int start = (historyEnd - historyCount + historyPages.length) % Math.max(1, historyPages.length);
+    for (int i = 0; i < historyCount; i++) {
+      pages[i] = historyPages[(start + i) % historyPages.length];
+    } // end of for
+    return pages;
+  } // end of method
+
+  // historyWrites method: returns whether each recent reference was a write, oldest first
+  private boolean[] historyWrites() {
+    boolean[] pageWrites = new boolean[historyCount];
+    int start = (historyEnd - historyCount + historyWrites.length) % Math.max(1, historyWrites.length);
+    for (int i = 0; i < historyCount; i++) {
+      pageWrites[i] = historyWrites[(start + i) % historyWrites.length];
+    } // end of for
+    return pageWrites;
+  } // end of method
+
+  // runPolicies method: runs every policy over references, counting into the batch slots
+  private void runPolicies(int[] pages, boolean[] pageWrites, int count) {
+    batchPages = pages;
+    batchWrites = pageWrites;
+    batchCount = count;
+    if (policies.length == 1) {
+      simulateBatch(0);
+    } // end of if
+    else {
+      runAll();
+    } // end of else
+  } // end of method
+
+  // simulateBatch method: runs one policy over the current batch, counting into its slot
+  private void simulateBatch(int p) {
+    ReplacementPolicy policy = policies[p];
+    long batchFaultCount = 0;
+    long batchEvictionCount = 0;
+    long batchWriteBackCount = 0;
+    for (int i = 0; i < batchCount; i++) {
+      int result = policy.reference(batchPages[i], batchWrites[i]);
+      if (result != ReplacementPolicy.HIT) {
+        batchFaultCount++;
+        if (result != ReplacementPolicy.NO_VICTIM) {
+          batchEvictionCount++;
+          batchWriteBackCount += policy.victimWasDirty() ? 1 : 0;
+        } // end of if
+      } // end of if
+    } // end of for
+    batchFaults[p] = batchFaultCount;
+    batchEvictions[p] = batchEvictionCount;
+    batchWriteBacks[p] = batchWriteBackCount;
+  } // end of method
+
+  // runAll method: runs every policy's task in parallel and waits for all of them
+  private void runAll() {
+    try {
+      for (Future<Void> future : pool.invokeAll(tasks)) {
+        future.get();
+      } // end of for
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while simulating a batch", e);
+    } // end of catch
+    catch (ExecutionException e) {
+      throw new IllegalStateException("Batch simulation failed", e.getCause());
+    } // end of catch
+  } // end of method
+
+  // createSnapshot method: copies the totals and sums the rolling window
+  private SimulationSnapshot createSnapshot() {
+    SimulationResult[] results = new SimulationResult[policies.length];
+    double[] rollingFaultRates = new double[policies.length];
+    long recentReferences = 0;
+    for (long bucketReferenceCount : bucketReferences) {
+      recentReferences += bucketReferenceCount;
+    } // end of for
+    for (int p = 0; p < policies.length; p++) {
+      results[p] = new SimulationResult(policies[p].getName(), physicalFrames, references, faults[p], evictions[p],
+          writes, writeBacks[p]);
+      long recentFaults = 0;
+      for (long bucketFaultCount : bucketFaults[p]) {
+        recentFaults += bucketFaultCount;
+      } // end of for
+      rollingFaultRates[p] = recentReferences == 0 ? 0.0 : (double) recentFaults / recentReferences;
+    } // end of for
+    return new SimulationSnapshot(results, rollingWindow, recentReferences, rollingFaultRates);
+  } // end of method
+} // end of class
@@ -0,0 +1,119 @@
+/*
+* File: AccessSource.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Stream of page references that are each a read or a write, read in
+* chunks like a ReferenceSource. Plain reference streams are all reads, or
+* can have writes drawn at random with a given probability.
+*/
+
+package vmsim.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+// AccessSource interface
+public interface AccessSource extends Closeable {
+  // read method: copies up to pages.length next pages into pages and their write flags into writes,
+  // returns how many or -1 at the end
+  int read(int[] pages, boolean[] writes) throws IOException;
+
+  // length method: returns the total number of references, or ReferenceSource.UNKNOWN_LENGTH
+  default long length() {
+    return ReferenceSource.UNKNOWN_LENGTH;
+  } // end of method
+
+  // close method: releases the underlying file, if any
+  @Override
+  default void close() throws IOException {
+  } // end of method
+
+  // of method: the references of a source, all reads
+  static AccessSource of(ReferenceSource source) {
+    return new AccessSource() {
+      // read method: copies the next pages, none of them writes
+      @Override
+      public int read(int[] pages, boolean[] flags) throws IOException {
+        int count = source.read(pages);
+        Arrays.fill(flags, 0, Math.max(count, 0), false);
+        return count;
+      } // end of method
+
+      // length method: the length of the source
+      @Override
+      public long length() {
+        return source.length();
+      } // end of method
+
+      // close method: closes the source
+      @Override
+      public void close() throws IOException {
+        source.close();
+      } // end of method
+    };
+  } // end of method
+
+  // of method: the references of a source, writes where the bit of their position is set
+  static AccessSource of(ReferenceSource source, BitSet writes) {
+    return new AccessSource() {
+      private int position = 0;
+
+      // read method: copies the next pages and looks up their write bits
+      @Override
+      public int read(int[] pages, boolean[] flags) throws IOException {
+        int count = source.read(pages);
+        for (int i = 0; i < count; i++) {
+          flags[i] = writes.get(position + i);
+        } // end of for
+        position += Math.max(count, 0);
+        return count;
+      } // end of method
+
+      // length method: the length of the source
+      @Override
+      public long length() {
+        return source.length();
+      } // end of method
+
+      // close method: closes the source
+      @Override
+      public void close() throws IOException {
+        source.close();
+      } // end of method
+    };
+  } // end of method
+
+  // withRandomWrites method: the references of a source, each a write with the given probability
+  static AccessSource withRandomWrites(ReferenceSource source, double writeFraction, long seed) {
+    if (!(writeFraction >= 0 && writeFraction <= 1)) {
+      throw new IllegalArgumentException("Write fraction must be in [0, 1]: " + writeFraction);
+    } // end of if
+    SplittableRandom random = new SplittableRandom(seed);
+    return new AccessSource() {
+      // read method: copies the next pages and draws their write flags
+      @Override
+      public int read(int[] pages, boolean[] flags) throws IOException {
+        int count = source.read(pages);
+        for (int i = 0; i < count; i++) {
+          flags[i] = random.nextDouble() < writeFraction;
+        } // end of for
+        return count;
+      } // end of method
+
+      // length method: the length of the source
+      @Override
+      public long length() {
+        return source.length();
+      } // end of method
+
+      // close method: closes the source
+      @Override
+      public void close() throws IOException {
+        source.close();
+      } // end of method
+    };
+  } // end of method
+} // end of interface
@@ -0,0 +1,42 @@
+/*
+* File: AddressSource.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Stream of raw virtual addresses read in chunks, the input of the
+* address translation model, which splits them into pages itself.
+*/
+
+package vmsim.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// AddressSource interface
+public interface AddressSource extends Closeable {
+  // read method: copies up to buffer.length next addresses into buffer, returns how many or -1 at the end
+  int read(long[] buffer) throws IOException;
+
+  // close method: releases the underlying file, if any
+  @Override
+  default void close() throws IOException {
+  } // end of method
+
+  // of method: an in-memory source of the given addresses
+  static AddressSource of(long[] addresses) {
+    return new AddressSource() {
+      private int position = 0;
+
+      // read method: copies the next addresses of the array
+      @Override
+      public int read(long[] buffer) {
+        if (position == addresses.length) {
+          return -1;
+        } // end of if
+        int count = Math.min(buffer.length, addresses.length - position);
+        System.arraycopy(addresses, position, buffer, 0, count);
+        position += count;
+        return count;
+      } // end of method
+    };
+  } // end of method
+} // end of interface
@@ -0,0 +1,437 @@
+/*
+* File: MappedTraceReader.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Streams page references out of a trace file through memory-mapped
+* windows of the file, so multi-GB traces are simulated without loading them
+* onto the heap. Values are page numbers, or virtual addresses when a page
+* size is given. Page numbers of any size can be remapped to dense ids in
+* order of first reference, which keeps 64-bit address traces within the int
+* page ids the policies use. The raw values can also be read as addresses,
+* untouched, for the address translation model. In text traces a number may
+* end in r or w to mark a read or a write, e.g. "7w 0 1r", and packed traces
+* keep those marks; U32 and U64 traces are all reads. Packed traces are mapped
+* whole chunks at a time, and a reader can be limited to a range of chunks, so
+* parallel workers can each decode their own part of one file.
+*/
+
+package vmsim.trace;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import vmsim.util.LongIntMap;
+
+// MappedTraceReader class
+public class MappedTraceReader implements ReferenceSource, AccessSource, AddressSource {
+  private static final long WINDOW_SIZE = 64L << 20; // bytes mapped at a time, a multiple of 8
+
+  private final FileChannel channel;
+  private final long fileSize;
+  private final long dataEnd; // end of the values, the footer of a packed trace
+  private final TraceFormat format;
+  private final int pageShift; // address bits within a page, 0 for page numbers
+  private final LongIntMap remap; // dense id of every page seen, null when not remapping
+  private ByteBuffer window = ByteBuffer.allocate(0);
+  private long windowStart = 0; // file offset of the current window
+  private long windowEnd = 0; // file offset of the next window
+
+  private final TextTokenizer text = new TextTokenizer(true); // text parser state, carried across windows
+  private boolean write = false; // the number ended in w, or the packed reference is a write
+
+  // Packed trace index and decoder state
+  private long[] chunkOffsets = new long[0]; // file offset of every chunk, then of the footer
+  private int[] chunkLengths = new int[0]; // references in every chunk
+  private int chunk = 0; // next chunk to decode
+  private int mappedChunk = 0; // next chunk to map
+  private int endChunk = 0; // end of the chunks this reader decodes
+  private int chunkRemaining = 0; // references left in the chunk being decoded
+  private long previous = 0; // last value decoded from the chunk
+
+  // MappedTraceReader constructor: pageSize is 1 for page numbers, or a power of two for addresses
+  public MappedTraceReader(Path file, TraceFormat format, long pageSize, boolean remap) throws IOException {
+    this(file, format, pageSize, remap, 0, Integer.MAX_VALUE);
+  } // end of method
+
+  // MappedTraceReader constructor: reads only the chunks fromChunk (inclusive) to toChunk (exclusive) of a
+  // packed trace
+  public MappedTraceReader(Path file, long pageSize, boolean remap, int fromChunk, int toChunk)
+      throws IOException {
+    this(file, TraceFormat.PACKED, pageSize, remap, fromChunk, toChunk);
+  } // end of method
+
+  // MappedTraceReader constructor: toChunk is Integer.MAX_VALUE for the whole file
+  private MappedTraceReader(Path file, TraceFormat format, long pageSize, boolean remap, int fromChunk,
+      int toChunk) throws IOException {
+    if (pageSize <= 0 || Long.bitCount(pageSize) != 1) {
+      throw new IllegalArgumentException("Page size must be a power of two: " + pageSize);
+    } // end of if
+    this.format = format;
+    this.pageShift = Long.numberOfTrailingZeros(pageSize);
+    this.remap = remap ? new LongIntMap(1 << 16, -1) : null;
+    channel = FileChannel.open(file, StandardOpenOption.READ);
+    fileSize = channel.size();
+    try {
+      if (fileSize % elementSize() != 0) {
+        throw new IOException(file + " is not a whole number of " + elementSize() + "-byte " + format + " values");
+      } // end of if
+      if (format == TraceFormat.PACKED) {
+        readIndex(file);
+        if (fromChunk < 0 || fromChunk > toChunk || (toChunk != Integer.MAX_VALUE && toChunk > getChunks())) {
+          throw new IllegalArgumentException("Chunks " + fromChunk + " to " + toChunk + " of " + getChunks());
+        } // end of if
+        chunk = fromChunk;
+        mappedChunk = fromChunk;
+        endChunk = Math.min(toChunk, getChunks());
+        windowEnd = chunkOffsets[chunk];
+      } // end of if
+    } // end of try
+    catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    } // end of catch
+    dataEnd = format == TraceFormat.PACKED ? chunkOffsets[endChunk] : fileSize;
+  } // end of method
+
+  // read method: copies up to buffer.length next pages into buffer, returns how many or -1 at the end
+  @Override
+  public int read(int[] buffer) throws IOException {
+    return read(buffer, null, null, buffer.length);
+  } // end of method
+
+  // read method: copies up to pages.length next pages into pages and their write flags into writes
+  @Override
+  public int read(int[] pages, boolean[] writes) throws IOException {
+    return read(pages, writes, null, pages.length);
+  } // end of method
+
+  // read method: copies up to buffer.length next raw values into buffer, ignoring page size and remapping
+  @Override
+  public int read(long[] buffer) throws IOException {
+    return read(null, null, buffer, buffer.length);
+  } // end of method
+
+  // read method: copies up to values.length next raw values into values and their write flags into writes
+  public int read(long[] values, boolean[] writes) throws IOException {
+    return read(null, writes, values, values.length);
+  } // end of method
+
+  // length method: binary traces know their length up front, text traces do not
+  @Override
+  public long length() {
+    if (format == TraceFormat.PACKED) {
+      long length = 0;
+      for (int i = chunk; i < endChunk; i++) {
+        length += chunkLengths[i];
+      } // end of for
+      return length + chunkRemaining;
+    } // end of if
+    return format == TraceFormat.TEXT ? UNKNOWN_LENGTH : fileSize / elementSize();
+  } // end of method
+
+  // getChunks method: returns the number of chunks in the whole of a packed trace, 0 for other formats
+  public int getChunks() {
+    return Math.max(chunkOffsets.length - 1, 0);
+  } // end of method
+
+  // getChunkLength method: returns the number of references in a chunk of a packed trace
+  public int getChunkLength(int chunk) {
+    return chunkLengths[chunk];
+  } // end of method
+
+  // getDistinctPages method: returns the number of distinct pages remapped so far, or -1 when not remapping
+  public int getDistinctPages() {
+    return remap == null ? -1 : remap.size();
+  } // end of method
+
+  // close method: closes the file
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  } // end of method
+
+  // readAll method: loads a whole packed trace into memory, with up to threads workers each decoding a range
+  // of chunks; pages are not remapped, as ids in order of first reference need a single pass
+  public static ReferenceTrace readAll(Path file, long pageSize, int threads) throws IOException {
+    int[] starts; // first chunk of each worker, then the end
+    long[] positions; // first reference of each worker, then the length
+    try (MappedTraceReader index = new MappedTraceReader(file, TraceFormat.PACKED, pageSize, false)) {
+      long length = index.length();
+      if (length > Integer.MAX_VALUE) {
+        throw new IOException("Trace of " + length + " references is too long to hold in memory");
+      } // end of if
+
+      // Split the chunks into ranges of about the same number of references
+      int workers = Math.max(1, Math.min(threads, index.getChunks()));
+      starts = new int[workers + 1];
+      positions = new long[workers + 1];
+      int worker = 1;
+      long position = 0;
+      for (int c = 0; c < index.getChunks() && worker < workers; c++) {
+        position += index.getChunkLength(c);
+        while (worker < workers && position * workers >= length * worker) {
+          starts[worker] = c + 1;
+          positions[worker] = position;
+          worker++;
+        } // end of while
+      } // end of for
+      starts[workers] = index.getChunks();
+      positions[workers] = length;
+    } // end of try
+
+    int[] pages = new int[(int) positions[positions.length - 1]];
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int w = 0; w + 1 < starts.length; w++) {
+      int from = starts[w];
+      int to = starts[w + 1];
+      int offset = (int) positions[w];
+      tasks.add(() -> {
+        try (MappedTraceReader reader = new MappedTraceReader(file, pageSize, false, from, to)) {
+          int[] buffer = new int[1 << 16];
+          int position = offset;
+          int count;
+          while ((count = reader.read(buffer)) > 0) {
+            System.arraycopy(buffer, 0, pages, position, count);
+            position += count;
+          } // end of while
+        } // end of try
+        return null;
+      });
+    } // end of for
+
+    ForkJoinPool pool = new ForkJoinPool(tasks.size());
+    try {
+      for (Future<Void> future : pool.invokeAll(tasks)) {
+        future.get();
+      } // end of for
+    } // end of try
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while reading " + file, e);
+    } // end of catch
+    catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      } // end of if
+      throw new IllegalStateException("Reading " + file + " failed", e.getCause());
+    } // end of catch
+    finally {
+      pool.shutdown();
+    } // end of finally
+    return ReferenceTrace.of(pages);
+  } // end of method
+
+  // nextWindow method: maps the next part of the file, whole chunks of a packed trace, returns false at the end
+  private boolean nextWindow() throws IOException {
+    if (windowEnd >= dataEnd) {
+      return false;
+    } // end of if
+    windowStart = windowEnd;
+    windowEnd = Math.min(dataEnd, windowStart + WINDOW_SIZE);
+    if (format == TraceFormat.PACKED) {
+      // At least one chunk, and as many more as fit in the window
+      int last = mappedChunk + 1;
+      while (last < endChunk && chunkOffsets[last + 1] <= windowEnd) {
+        last++;
+      } // end of while
+      mappedChunk = last;
+      windowEnd = chunkOffsets[last];
+    } // end of if
+    window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    return true;
+  } // end of method
+
+  // read method: fills pages with page ids (and writes, if given), or else addresses with raw values
+  private int read(int[] pages, boolean[] writes, long[] addresses, int length) throws IOException {
+    int count = 0;
+    while (count < length) {
+      if (!window.hasRemaining() && !nextWindow()) {
+        // End of file also ends the last number of a text trace
+        if (format == TraceFormat.TEXT) {
+          count = storeText(text.finish(), pages, writes, addresses, count);
+        } // end of if
+        break;
+      } // end of if
+      if (format == TraceFormat.TEXT) {
+        count = readText(pages, writes, addresses, count, length);
+      } // end of if
+      else if (format == TraceFormat.PACKED) {
+        count = readPacked(pages, writes, addresses, count, length);
+      } // end of else if
+      else {
+        count = readBinary(pages, writes, addresses, count, length);
+      } // end of else
+    } // end of while
+    return count == 0 ? -1 : count;
+  } // end of method
+
+  // readBinary method: reads fixed-width values until length are stored or the window is empty
+  private int readBinary(int[] pages, boolean[] writes, long[] addresses, int count, int length)
+      throws IOException {
+    while (count < length && window.hasRemaining()) {
+      long raw = format == TraceFormat.U32 ? window.getInt() & 0xFFFFFFFFL : window.getLong();
+      count = store(pages, writes, addresses, count, raw);
+    } // end of while
+    return count;
+  } // end of method
+
+  // readPacked method: decodes references until length are stored or the window is empty
+  private int readPacked(int[] pages, boolean[] writes, long[] addresses, int count, int length)
+      throws IOException {
+    while (count < length && window.hasRemaining()) {
+      // Every chunk starts over from 0
+      if (chunkRemaining == 0) {
+        if (chunk == mappedChunk) {
+          throw error("Chunk " + (chunk - 1) + " has more bytes than its " + chunkLengths[chunk - 1] + " references");
+        } // end of if
+        chunkRemaining = chunkLengths[chunk++];
+        previous = 0;
+      } // end of if
+
+      // The first byte holds the write flag and 6 bits of the zigzag difference, the others 7 bits each
+      int b = window.get();
+      write = (b & 1) != 0;
+      long zigzag = (b >>> 1) & 0x3F;
+      int shift = 6;
+      while (b < 0) { // continuation bit
+        if (shift > 62) {
+          throw error("Varint too long");
+        } // end of if
+        b = window.get();
+        zigzag |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } // end of while
+      previous += (zigzag >>> 1) ^ -(zigzag & 1);
+      chunkRemaining--;
+      count = store(pages, writes, addresses, count, previous);
+    } // end of while
+    if (!window.hasRemaining() && chunkRemaining > 0) {
+      throw error("Chunk " + (chunk - 1) + " ends " + chunkRemaining + " references early");
+    } // end of if
+    return count;
+  } // end of method
+
+  // readText method: parses numbers until length are stored or the window is empty
+  private int readText(int[] pages, boolean[] writes, long[] addresses, int count, int length)
+      throws IOException {
+    while (count < length && window.hasRemaining()) {
+      char c = (char) (window.get() & 0xFF);
+      int token = text.accept(c);
+      if (token == TextTokenizer.WORD) {
+        throw error("Invalid character '" + c + "'");
+      } // end of if
+      count = storeText(token, pages, writes, addresses, count);
+    } // end of while
+    return count;
+  } // end of method
+
+  // storeText method: stores the number the tokenizer ended, IF it ended one; returns the new count
+  private int storeText(int token, int[] pages, boolean[] writes, long[] addresses, int count) throws IOException {
+    if (token == TextTokenizer.ERROR) {
+      throw error(text.getError());
+    } // end of if
+    if (token != TextTokenizer.NUMBER) {
+      return count;
+    } // end of if
+    write = text.isWrite();
+    return store(pages, writes, addresses, count, text.getValue());
+  } // end of method
+
+  // store method: stores a value as the next page id, or as the next raw address, and its write flag IF asked
+  // for; returns the new count
+  private int store(int[] pages, boolean[] writes, long[] addresses, int count, long raw) throws IOException {
+    if (pages != null) {
+      pages[count] = page(raw);
+    } // end of if
+    else {
+      addresses[count] = raw;
+    } // end of else
+    if (writes != null) {
+      writes[count] = write;
+    } // end of if
+    return count + 1;
+  } // end of method
+
+  // page method: converts a value of the trace into the page id given to the policies
+  private int page(long raw) throws IOException {
+    long page = raw >>> pageShift;
+    if (remap != null) {
+      int id = remap.get(page);
+      if (id < 0) {
+        id = remap.size();
+        remap.put(page, id);
+      } // end of if
+      return id;
+    } // end of if
+    if (page < 0 || page > Integer.MAX_VALUE) {
+      throw new IOException("Page " + Long.toUnsignedString(page) + " is too large for a page id; remap the trace");
+    } // end of if
+    return (int) page;
+  } // end of method
+
+  // error method: creates an exception pointing at the current byte of a text trace
+  private IOException error(String message) {
+    return new IOException(message + " at byte " + (windowStart + window.position() - 1));
+  } // end of method
+
+  // readIndex method: reads the header and the footer index of a packed trace
+  private void readIndex(Path file) throws IOException {
+    if (fileSize < PackedTraceWriter.HEADER_SIZE + PackedTraceWriter.TRAILER_SIZE) {
+      throw new IOException(file + " is too short for a packed trace");
+    } // end of if
+    ByteBuffer header = readAt(0, PackedTraceWriter.HEADER_SIZE);
+    ByteBuffer trailer = readAt(fileSize - PackedTraceWriter.TRAILER_SIZE, PackedTraceWriter.TRAILER_SIZE);
+    long footer = trailer.getLong();
+    int chunks = trailer.getInt();
+    if (header.getInt() != PackedTraceWriter.MAGIC || trailer.getInt() != PackedTraceWriter.MAGIC) {
+      throw new IOException(file + " is not a packed trace");
+    } // end of if
+    int version = header.getInt();
+    if (version != PackedTraceWriter.VERSION) {
+      throw new IOException(file + " is a packed trace of unknown version " + version);
+    } // end of if
+    if (chunks < 0 || footer + (long) chunks * PackedTraceWriter.INDEX_ENTRY_SIZE
+        != fileSize - PackedTraceWriter.TRAILER_SIZE) {
+      throw new IOException(file + " has a corrupt packed trace index");
+    } // end of if
+
+    ByteBuffer index = readAt(footer, chunks * PackedTraceWriter.INDEX_ENTRY_SIZE);
+    chunkOffsets = new long[chunks + 1];
+    chunkLengths = new int[chunks];
+    for (int i = 0; i < chunks; i++) {
+      chunkOffsets[i] = index.getLong();
+      chunkLengths[i] = index.getInt();
+      if (chunkOffsets[i] < (i == 0 ? PackedTraceWriter.HEADER_SIZE : chunkOffsets[i - 1] + 1)
+          || chunkLengths[i] <= 0) {
+        throw new IOException(file + " has a corrupt packed trace index at chunk " + i);
+      } // end of if
+    } // end of for
+    chunkOffsets[chunks] = footer;
+  } // end of method
+
+  // readAt method: reads length bytes from a file offset
+  private ByteBuffer readAt(long position, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of file at byte " + (position + buffer.position()));
+      } // end of if
+    } // end of while
+    return buffer.flip();
+  } // end of method
+
+  // elementSize method: bytes per value of a binary trace, 1 for text and packed traces
+  private int elementSize() {
+    return format == TraceFormat.U32 ? 4 : format == TraceFormat.U64 ? 8 : 1;
+  } // end of method
+} // end of class
@@ -0,0 +1,176 @@
+/*
+* File: PackedTraceWriter.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Writes traces in the packed format read by MappedTraceReader, so a
+* large trace is parsed once and then replayed quickly by every policy. The
+* file is a header, the chunks and a footer index:
+*   header - magic "VMPT" and version, two little-endian ints
+*   chunk  - up to chunkSize references, each the difference from the value
+*            before it in the chunk (the first from 0), zigzag encoded and
+*            written as a varint whose lowest bit is the write flag
+*   footer - the file offset (long) and number of references (int) of every
+*            chunk, then the footer's own offset (long), the number of chunks
+*            (int) and the magic again
+* Chunks are decoded on their own, so a reader can seek to any chunk through
+* the footer and parallel workers can each map a range of chunks.
+*/
+
+package vmsim.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// PackedTraceWriter class
+public class PackedTraceWriter implements Closeable {
+  // References per chunk unless given
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+  static final int MAGIC = 0x54504D56; // "VMPT" in little-endian byte order
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 8;
+  static final int TRAILER_SIZE = 16; // footer offset, chunk count and magic
+  static final int INDEX_ENTRY_SIZE = 12; // chunk offset and length
+  static final int MAX_ENCODED_SIZE = 10; // bytes of the longest varint, 65 bits
+
+  private final FileChannel channel;
+  private final int chunkSize;
+  private final ByteBuffer chunk; // encoded references of the current chunk
+  private int chunkReferences = 0;
+  private long previous = 0; // value of the last reference of the current chunk
+  private long offset = HEADER_SIZE; // file offset of the current chunk
+  private long[] chunkOffsets = new long[64];
+  private int[] chunkLengths = new int[64];
+  private int chunks = 0;
+  private long references = 0;
+
+  // PackedTraceWriter constructor: creates or replaces a file with DEFAULT_CHUNK_SIZE references per chunk
+  public PackedTraceWriter(Path file) throws IOException {
+    this(file, DEFAULT_CHUNK_SIZE);
+  } // end of method
+
+  // PackedTraceWriter constructor: creates or replaces a file with chunkSize references per chunk
+  public PackedTraceWriter(Path file, int chunkSize) throws IOException {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+    } // end of if
+    this.chunkSize = chunkSize;
+    chunk = ByteBuffer.allocate(chunkSize * MAX_ENCODED_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(MAGIC).putInt(VERSION).flip();
+    writeFully(header);
+  } // end of method
+
+  // write method: appends a reference, a raw value as in a U64 trace
+  public void write(long value, boolean write) throws IOException {
+    // Zigzag maps small differences of either sign to small numbers, then the write flag takes the lowest bit
+    long delta = value - previous;
+    long zigzag = (delta << 1) ^ (delta >> 63);
+    int first = (write ? 1 : 0) | (int) (zigzag & 0x3F) << 1;
+    long rest = zigzag >>> 6;
+    if (rest == 0) {
+      chunk.put((byte) first);
+    } // end of if
+    else {
+      chunk.put((byte) (first | 0x80));
+      while ((rest & ~0x7FL) != 0) {
+        chunk.put((byte) ((rest & 0x7F) | 0x80));
+        rest >>>= 7;
+      } // end of while
+      chunk.put((byte) rest);
+    } // end of else
+    previous = value;
+    references++;
+    if (++chunkReferences == chunkSize) {
+      flushChunk();
+    } // end of if
+  } // end of method
+
+  // getReferences method: returns the number of references written so far
+  public long getReferences() {
+    return references;
+  } // end of method
+
+  // close method: writes the last chunk and the footer index, then closes the file
+  @Override
+  public void close() throws IOException {
+    try {
+      flushChunk();
+      ByteBuffer footer = ByteBuffer.allocate(chunks * INDEX_ENTRY_SIZE + TRAILER_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      for (int i = 0; i < chunks; i++) {
+        footer.putLong(chunkOffsets[i]).putInt(chunkLengths[i]);
+      } // end of for
+      footer.putLong(offset).putInt(chunks).putInt(MAGIC).flip();
+      writeFully(footer);
+    } // end of try
+    finally {
+      channel.close();
+    } // end of finally
+  } // end of method
+
+  // write method: writes every page and write flag of a source, e.g. a synthetic workload; returns how many
+  public static long write(AccessSource source, Path file) throws IOException {
+    try (PackedTraceWriter writer = new PackedTraceWriter(file)) {
+      int[] pages = new int[DEFAULT_CHUNK_SIZE];
+      boolean[] writes = new boolean[DEFAULT_CHUNK_SIZE];
+      int count;
+      while ((count = source.read(pages, writes)) > 0) {
+        for (int i = 0; i < count; i++) {
+          writer.write(pages[i], writes[i]);
+        } // end of for
+      } // end of while
+      return writer.getReferences();
+    } // end of try
+  } // end of method
+
+  // convert method: writes the raw values and write flags of a trace file in another format; returns how many
+  public static long convert(MappedTraceReader reader, Path file) throws IOException {
+    try (PackedTraceWriter writer = new PackedTraceWriter(file)) {
+      long[] values = new long[DEFAULT_CHUNK_SIZE];
+      boolean[] writes = new boolean[DEFAULT_CHUNK_SIZE];
+      int count;
+      while ((count = reader.read(values, writes)) > 0) {
+        for (int i = 0; i < count; i++) {
+          writer.write(values[i], writes[i]);
+        } // end of for
+      } // end of while
+      return writer.getReferences();
+    } // end of try
+  } // end of method
+
+  // flushChunk method: writes the current chunk, if it has references, and records it in the index
+  private void flushChunk() throws IOException {
+    if (chunkReferences == 0) {
+      return;
+    } // end of if
+    if (chunks == chunkOffsets.length) {
+      chunkOffsets = Arrays.copyOf(chunkOffsets, chunks * 2);
+      chunkLengths = Arrays.copyOf(chunkLengths, chunks * 2);
+    } // end of if
+    chunkOffsets[chunks] = offset;
+    chunkLengths[chunks] = chunkReferences;
+    chunks++;
+    chunk.flip();
+    offset += chunk.remaining();
+    writeFully(chunk);
+    chunk.clear();
+    chunkReferences = 0;
+    previous = 0;
+  } // end of method
+
+  // writeFully method: writes every remaining byte of a buffer
+  private void writeFully(ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    } // end of while
+  } // end of method
+} // end of class
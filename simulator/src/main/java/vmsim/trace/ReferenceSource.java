@@ -0,0 +1,31 @@
+/*
+* File: ReferenceSource.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Stream of page references read in chunks into a caller-supplied
+* buffer, so the engine can simulate traces far larger than the heap.
+*/
+
+package vmsim.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// ReferenceSource interface
+public interface ReferenceSource extends Closeable {
+  // Length of a source that does not know how many references it holds
+  long UNKNOWN_LENGTH = -1;
+
+  // read method: copies up to buffer.length next pages into buffer, returns how many or -1 at the end
+  int read(int[] buffer) throws IOException;
+
+  // length method: returns the total number of references, or UNKNOWN_LENGTH
+  default long length() {
+    return UNKNOWN_LENGTH;
+  } // end of method
+
+  // close method: releases the underlying file, if any
+  @Override
+  default void close() throws IOException {
+  } // end of method
+} // end of interface
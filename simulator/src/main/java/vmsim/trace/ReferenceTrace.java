@@ -0,0 +1,291 @@
+/*
+* File: ReferenceTrace.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Compact, immutable reference string of primitive page numbers. Pages
+* are stored in the narrowest width that fits the largest page (1, 2 or 4 bytes
+* per reference), so long traces of small page ids take little memory and are
+* read by the policies without boxing.
+*/
+
+package vmsim.trace;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+// ReferenceTrace class
+public abstract class ReferenceTrace {
+  private static final ReferenceTrace EMPTY_TRACE = new ByteTrace(new byte[0], -1);
+
+  private final int maxPage;
+
+  // ReferenceTrace constructor: only the packed subclasses below exist
+  private ReferenceTrace(int maxPage) {
+    this.maxPage = maxPage;
+  } // end of method
+
+  // size method: returns the number of references
+  public abstract int size();
+
+  // get method: returns the page referenced at a position
+  public abstract int get(int index);
+
+  // isEmpty method: returns true if there are no references
+  public boolean isEmpty() {
+    return size() == 0;
+  } // end of method
+
+  // getMaxPage method: returns the largest page referenced (by the whole trace for a slice), -1 if empty
+  public int getMaxPage() {
+    return maxPage;
+  } // end of method
+
+  // slice method: returns a view of the references from position from (inclusive) to to (exclusive)
+  public ReferenceTrace slice(int from, int to) {
+    if (from < 0 || to > size() || from > to) {
+      throw new IndexOutOfBoundsException("Slice " + from + " to " + to + " of " + size() + " references");
+    } // end of if
+    return new SliceTrace(this, from, to);
+  } // end of method
+
+  // toArray method: returns a copy of the pages as an int[]
+  public int[] toArray() {
+    int[] pages = new int[size()];
+    for (int i = 0; i < pages.length; i++) {
+      pages[i] = get(i);
+    } // end of for
+    return pages;
+  } // end of method
+
+  // toString method: formats the pages like a list, e.g. [7, 0, 1]
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder("[");
+    for (int i = 0; i < size(); i++) {
+      if (i > 0) {
+        text.append(", ");
+      } // end of if
+      text.append(get(i));
+    } // end of for
+    return text.append(']').toString();
+  } // end of method
+
+  // open method: returns a source that streams the references from the start
+  public ReferenceSource open() {
+    return new ReferenceSource() {
+      private int position = 0;
+
+      @Override
+      public int read(int[] buffer) {
+        int count = Math.min(buffer.length, size() - position);
+        if (count <= 0) {
+          return -1;
+        } // end of if
+        for (int i = 0; i < count; i++) {
+          buffer[i] = get(position + i);
+        } // end of for
+        position += count;
+        return count;
+      } // end of method
+
+      @Override
+      public long length() {
+        return size();
+      } // end of method
+    };
+  } // end of method
+
+  // readAll method: packs every remaining reference of a source, e.g. for OPT which needs the future
+  public static ReferenceTrace readAll(ReferenceSource source) throws IOException {
+    long length = source.length();
+    if (length > Integer.MAX_VALUE) {
+      throw new IOException("Trace of " + length + " references is too long to hold in memory");
+    } // end of if
+    Builder builder = new Builder(length > 0 ? (int) length : 1 << 16);
+    int[] buffer = new int[1 << 16];
+    int count;
+    while ((count = source.read(buffer)) > 0) {
+      for (int i = 0; i < count; i++) {
+        builder.add(buffer[i]);
+      } // end of for
+    } // end of while
+    return builder.build();
+  } // end of method
+
+  // empty method: returns the reference string with no references
+  public static ReferenceTrace empty() {
+    return EMPTY_TRACE;
+  } // end of method
+
+  // of method: packs a copy of the given pages
+  public static ReferenceTrace of(int... pages) {
+    return pack(pages, pages.length);
+  } // end of method
+
+  // pack method: packs the first length pages into the narrowest storage that fits
+  private static ReferenceTrace pack(int[] pages, int length) {
+    int maxPage = -1;
+    for (int i = 0; i < length; i++) {
+      if (pages[i] < 0) {
+        throw new IllegalArgumentException("Page numbers must not be negative: " + pages[i]);
+      } // end of if
+      maxPage = Math.max(maxPage, pages[i]);
+    } // end of for
+
+    // 1 byte per reference
+    if (maxPage <= 0xFF) {
+      byte[] packed = new byte[length];
+      for (int i = 0; i < length; i++) {
+        packed[i] = (byte) pages[i];
+      } // end of for
+      return new ByteTrace(packed, maxPage);
+    } // end of if
+
+    // 2 bytes per reference
+    if (maxPage <= 0xFFFF) {
+      short[] packed = new short[length];
+      for (int i = 0; i < length; i++) {
+        packed[i] = (short) pages[i];
+      } // end of for
+      return new ShortTrace(packed, maxPage);
+    } // end of if
+
+    // 4 bytes per reference
+    return new IntTrace(Arrays.copyOf(pages, length), maxPage);
+  } // end of method
+
+  // Builder class: growable buffer used while a reference string is read or generated
+  public static final class Builder {
+    private int[] pages;
+    private int size = 0;
+
+    // Builder constructor
+    public Builder() {
+      this(16);
+    } // end of method
+
+    // Builder constructor: with an expected number of references
+    public Builder(int expectedSize) {
+      pages = new int[Math.max(expectedSize, 1)];
+    } // end of method
+
+    // add method: appends a page
+    public Builder add(int page) {
+      if (page < 0) {
+        throw new IllegalArgumentException("Page numbers must not be negative: " + page);
+      } // end of if
+      if (size == pages.length) {
+        pages = Arrays.copyOf(pages, pages.length * 2);
+      } // end of if
+      pages[size++] = page;
+      return this;
+    } // end of method
+
+    // size method: returns the number of pages added so far
+    public int size() {
+      return size;
+    } // end of method
+
+    // build method: packs the pages added so far
+    public ReferenceTrace build() {
+      return pack(pages, size);
+    } // end of method
+
+    // toString method: formats the pages added so far like a list
+    @Override
+    public String toString() {
+      return Arrays.toString(Arrays.copyOf(pages, size));
+    } // end of method
+  } // end of class
+
+  // SliceTrace class: part of another trace, sharing its storage
+  private static final class SliceTrace extends ReferenceTrace {
+    private final ReferenceTrace trace;
+    private final int from;
+    private final int size;
+
+    // SliceTrace constructor
+    SliceTrace(ReferenceTrace trace, int from, int to) {
+      super(trace.getMaxPage());
+      this.trace = trace;
+      this.from = from;
+      this.size = to - from;
+    } // end of method
+
+    @Override
+    public int size() {
+      return size;
+    } // end of method
+
+    @Override
+    public int get(int index) {
+      if (index >= size) {
+        throw new IndexOutOfBoundsException("Index " + index + " of " + size + " references");
+      } // end of if
+      return trace.get(from + index);
+    } // end of method
+  } // end of class
+
+  // ByteTrace class: pages 0 to 255
+  private static final class ByteTrace extends ReferenceTrace {
+    private final byte[] pages;
+
+    // ByteTrace constructor
+    ByteTrace(byte[] pages, int maxPage) {
+      super(maxPage);
+      this.pages = pages;
+    } // end of method
+
+    @Override
+    public int size() {
+      return pages.length;
+    } // end of method
+
+    @Override
+    public int get(int index) {
+      return pages[index] & 0xFF;
+    } // end of method
+  } // end of class
+
+  // ShortTrace class: pages 0 to 65535
+  private static final class ShortTrace extends ReferenceTrace {
+    private final short[] pages;
+
+    // ShortTrace constructor
+    ShortTrace(short[] pages, int maxPage) {
+      super(maxPage);
+      this.pages = pages;
+    } // end of method
+
+    @Override
+    public int size() {
+      return pages.length;
+    } // end of method
+
+    @Override
+    public int get(int index) {
+      return pages[index] & 0xFFFF;
+    } // end of method
+  } // end of class
+
+  // IntTrace class: any non-negative page
+  private static final class IntTrace extends ReferenceTrace {
+    private final int[] pages;
+
+    // IntTrace constructor
+    IntTrace(int[] pages, int maxPage) {
+      super(maxPage);
+      this.pages = pages;
+    } // end of method
+
+    @Override
+    public int size() {
+      return pages.length;
+    } // end of method
+
+    @Override
+    public int get(int index) {
+      return pages[index];
+    } // end of method
+  } // end of class
+} // end of class
@@ -0,0 +1,125 @@
+/*
+* File: TextTokenizer.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Parses the numbers of a text trace one character at a time, for
+* every reader of text references: trace files, timestamped traces and
+* server feeds. Numbers are decimal or 0x-prefixed hexadecimal separated by
+* whitespace or commas, and # starts a comment to the end of the line. Where
+* suffixes are allowed a number may end in r or w to mark a read or a write,
+* e.g. "7w 0 1r". Characters are fed in as they are read, so a number may
+* span buffers, and a letter where a number could start is handed back to
+* the caller, which takes it as a command word or rejects it.
+*/
+
+package vmsim.trace;
+
+// TextTokenizer class
+public final class TextTokenizer {
+  public static final int MORE = 0; // accept results: the character was taken, no number ended
+  public static final int NUMBER = 1; // a number ended, see getValue and isWrite
+  public static final int WORD = 2; // a letter where a number could start, not taken
+  public static final int ERROR = 3; // the character is not valid here, see getError
+
+  private final boolean suffixes; // whether a number may end in r or w
+
+  // The number being parsed
+  private long value = 0;
+  private int digits = 0;
+  private boolean hex = false;
+  private boolean flagged = false; // the number ended in r or w
+  private boolean write = false; // the number ended in w
+  private boolean comment = false;
+
+  // The number that last ended
+  private long number = 0;
+  private boolean numberWrite = false;
+  private String error = null;
+
+  // TextTokenizer constructor: suffixes tells whether numbers may end in r or w
+  public TextTokenizer(boolean suffixes) {
+    this.suffixes = suffixes;
+  } // end of method
+
+  // isSeparator method: true for the characters that end a number or a word
+  public static boolean isSeparator(char c) {
+    return Character.isWhitespace(c) || c == ',' || c == '#';
+  } // end of method
+
+  // accept method: takes the next character, returns MORE, NUMBER, WORD or ERROR
+  public int accept(char c) {
+    // Skip comments to the end of the line
+    if (comment) {
+      comment = c != '\n';
+      return MORE;
+    } // end of if
+
+    if (isSeparator(c)) {
+      comment = c == '#';
+      return finish();
+    } // end of if
+    if (flagged) {
+      return fail("Invalid character '" + c + "' after r or w");
+    } // end of if
+    int digit = Character.digit(c, hex ? 16 : 10);
+    if (digit >= 0) {
+      if ((hex && digits >= 16) || (!hex && value > (Long.MAX_VALUE - digit) / 10)) {
+        return fail("Number too large");
+      } // end of if
+      value = hex ? (value << 4) | digit : value * 10 + digit;
+      digits++;
+      return MORE;
+    } // end of if
+    if ((c == 'x' || c == 'X') && !hex && digits == 1 && value == 0) {
+      hex = true; // "0x" prefix
+      digits = 0;
+      return MORE;
+    } // end of if
+    if (suffixes && digits > 0 && (c == 'r' || c == 'R' || c == 'w' || c == 'W')) {
+      flagged = true; // access suffix
+      write = c == 'w' || c == 'W';
+      return MORE;
+    } // end of if
+    if (digits == 0 && !hex && Character.isLetter(c)) {
+      return WORD;
+    } // end of if
+    return fail("Invalid character '" + c + "'");
+  } // end of method
+
+  // finish method: ends the number in progress at a separator or the end of the input, returns MORE, NUMBER or ERROR
+  public int finish() {
+    if (hex && digits == 0) {
+      return fail("Missing digits after 0x");
+    } // end of if
+    boolean ended = digits > 0;
+    number = value;
+    numberWrite = write;
+    value = 0;
+    digits = 0;
+    hex = false;
+    flagged = false;
+    write = false;
+    return ended ? NUMBER : MORE;
+  } // end of method
+
+  // getValue method: returns the number that last ended
+  public long getValue() {
+    return number;
+  } // end of method
+
+  // isWrite method: returns whether the number that last ended was marked w
+  public boolean isWrite() {
+    return numberWrite;
+  } // end of method
+
+  // getError method: returns why the last character was rejected
+  public String getError() {
+    return error;
+  } // end of method
+
+  // fail method: keeps the reason a character was rejected, returns ERROR
+  private int fail(String message) {
+    error = message;
+    return ERROR;
+  } // end of method
+} // end of class
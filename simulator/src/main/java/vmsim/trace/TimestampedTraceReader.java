@@ -0,0 +1,111 @@
+/*
+* File: TimestampedTraceReader.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Reads the text trace of one process in which every reference is a
+* timestamp followed by a page number (or an address when a page size is
+* given), e.g. "1043 0x7f3a2000". Numbers are decimal or 0x-prefixed
+* hexadecimal separated by whitespace or commas, and # starts a comment.
+* Timestamps must not decrease, so several processes' traces can be merged
+* in time order reading each only once.
+*/
+
+package vmsim.trace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// TimestampedTraceReader class
+public class TimestampedTraceReader implements Closeable {
+  private final InputStream in;
+  private final int pageShift; // address bits within a page, 0 for page numbers
+  private final byte[] buffer = new byte[1 << 16];
+  private int position = 0;
+  private int limit = 0;
+  private long offset = 0; // file offset of buffer[0]
+  private long time = Long.MIN_VALUE;
+  private int page = -1;
+
+  private final TextTokenizer text = new TextTokenizer(false); // parser state
+  private long value = 0; // the number parsed by nextNumber
+
+  // TimestampedTraceReader constructor: pageSize is 1 for page numbers, or a power of two for addresses
+  public TimestampedTraceReader(Path file, long pageSize) throws IOException {
+    if (pageSize <= 0 || Long.bitCount(pageSize) != 1) {
+      throw new IllegalArgumentException("Page size must be a power of two: " + pageSize);
+    } // end of if
+    this.pageShift = Long.numberOfTrailingZeros(pageSize);
+    in = Files.newInputStream(file);
+  } // end of method
+
+  // next method: reads the next reference, returns false at the end of the trace
+  public boolean next() throws IOException {
+    long previous = time;
+    if (!nextNumber()) {
+      return false;
+    } // end of if
+    time = value;
+    if (time < previous) {
+      throw error("Timestamp " + time + " is before the previous timestamp " + previous);
+    } // end of if
+    if (!nextNumber()) {
+      throw error("Missing page after timestamp " + time);
+    } // end of if
+    long number = value >>> pageShift;
+    if (number > Integer.MAX_VALUE) {
+      throw error("Page " + number + " is too large for a page id");
+    } // end of if
+    page = (int) number;
+    return true;
+  } // end of method
+
+  // getTime method: returns the timestamp of the current reference
+  public long getTime() {
+    return time;
+  } // end of method
+
+  // getPage method: returns the page of the current reference
+  public int getPage() {
+    return page;
+  } // end of method
+
+  // close method: closes the file
+  @Override
+  public void close() throws IOException {
+    in.close();
+  } // end of method
+
+  // nextNumber method: parses the next number into value, returns false at the end of the file
+  private boolean nextNumber() throws IOException {
+    int token = TextTokenizer.MORE;
+    while (token == TextTokenizer.MORE) {
+      if (position == limit) {
+        offset += limit;
+        limit = Math.max(0, in.read(buffer));
+        position = 0;
+        if (limit == 0) {
+          token = text.finish();
+          break;
+        } // end of if
+      } // end of if
+      char c = (char) (buffer[position++] & 0xFF);
+      token = text.accept(c);
+      if (token == TextTokenizer.WORD) {
+        throw error("Invalid character '" + c + "'");
+      } // end of if
+    } // end of while
+    if (token == TextTokenizer.ERROR) {
+      throw error(text.getError());
+    } // end of if
+    value = text.getValue();
+    return token == TextTokenizer.NUMBER;
+  } // end of method
+
+  // error method: creates an exception pointing at the current byte of the trace
+  private IOException error(String message) {
+    return new IOException(message + " at byte " + (offset + position - 1));
+  } // end of method
+} // end of class
@@ -0,0 +1,32 @@
+/*
+* File: TraceFormat.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: File formats understood by MappedTraceReader.
+*/
+
+package vmsim.trace;
+
+import java.util.Locale;
+
+// TraceFormat enum
+public enum TraceFormat {
+  // Decimal or 0x-prefixed hexadecimal numbers separated by whitespace or commas, # starts a comment
+  TEXT,
+  // Unsigned 32-bit little-endian numbers
+  U32,
+  // Unsigned 64-bit little-endian numbers, e.g. raw virtual addresses
+  U64,
+  // Delta and varint encoded chunks with a footer index, written by PackedTraceWriter
+  PACKED;
+
+  // parse method: looks up a format by its command line name
+  public static TraceFormat parse(String name) {
+    try {
+      return valueOf(name.toUpperCase(Locale.ROOT));
+    } // end of try
+    catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown trace format: " + name + ". Expected text, u32, u64 or packed");
+    } // end of catch
+  } // end of method
+} // end of enum
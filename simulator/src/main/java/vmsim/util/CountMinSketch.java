@@ -0,0 +1,136 @@
+/*
+* File: CountMinSketch.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Approximate reference counts of ints in fixed memory, sized by the
+* number of items worth telling apart rather than by the range of the ints
+* counted. Each item has a 4-bit counter in each of DEPTH rows, picked by
+* independent hashes, and its estimate is the smallest of them, so collisions
+* only ever overestimate. All counters live in one long array, sixteen to a
+* long, with a long per item of capacity. Once the counters have been
+* incremented ten times per item of capacity, every one is halved, so the
+* counts follow recent references and old popularity fades.
+* Counters stop at 15: the estimates only need to rank items, not count them.
+*/
+
+package vmsim.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+// CountMinSketch class
+public final class CountMinSketch {
+  // Largest estimate, where a counter stops
+  public static final int MAX_COUNT = 15;
+
+  private static final int DEPTH = 4;
+  private static final int MAX_TABLE = 1 << 24; // longs, 128 MiB
+  private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+      0xcbf29ce484222325L};
+  private static final long HALF_MASK = 0x7777777777777777L; // clears the top bit of each counter after a shift
+  private static final long ONE_MASK = 0x1111111111111111L; // the low bit of each counter
+
+  private long[] table;
+  private final int tableMask;
+  private final long sampleSize; // increments between halvings
+  private long additions = 0; // increments since the last halving, less what halving took off
+
+  // CountMinSketch constructor: for telling apart about capacity items
+  public CountMinSketch(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Sketch capacity must be positive: " + capacity);
+    } // end of if
+    int length = 8;
+    while (length < capacity && length < MAX_TABLE) {
+      length <<= 1;
+    } // end of while
+    table = new long[length];
+    tableMask = length - 1;
+    sampleSize = 10L * capacity;
+  } // end of method
+
+  // frequency method: returns the estimated recent references to an item, at most MAX_COUNT
+  public int frequency(int item) {
+    int hash = spread(item);
+    int start = (hash & 3) << 2;
+    int frequency = MAX_COUNT;
+    for (int i = 0; i < DEPTH; i++) {
+      int shift = (start + i) << 2;
+      frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> shift) & 0xF));
+    } // end of for
+    return frequency;
+  } // end of method
+
+  // increment method: counts a reference to an item, halving every counter once the sample is full
+  public void increment(int item) {
+    int hash = spread(item);
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < DEPTH; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    } // end of for
+    if (added && ++additions == sampleSize) {
+      halve();
+    } // end of if
+  } // end of method
+
+  // clear method: sets every counter back to 0
+  public void clear() {
+    Arrays.fill(table, 0);
+    additions = 0;
+  } // end of method
+
+  // write method: writes the counters, for a checkpoint
+  public void write(DataOutput out) throws IOException {
+    out.writeLong(additions);
+    StateIO.writeLongs(out, table);
+  } // end of method
+
+  // read method: replaces the counters with ones written by write for a sketch of the same capacity
+  public void read(DataInput in) throws IOException {
+    long savedAdditions = in.readLong();
+    long[] savedTable = StateIO.readLongs(in);
+    if (savedTable.length != table.length) {
+      throw new IOException("Sketch of " + savedTable.length + " counters read into one of " + table.length);
+    } // end of if
+    additions = savedAdditions;
+    table = savedTable;
+  } // end of method
+
+  // incrementAt method: adds one to a counter of a long unless it is full, returns true if it was added
+  private boolean incrementAt(int index, int counter) {
+    int shift = counter << 2;
+    long mask = 0xFL << shift;
+    if ((table[index] & mask) == mask) {
+      return false;
+    } // end of if
+    table[index] += 1L << shift;
+    return true;
+  } // end of method
+
+  // halve method: halves every counter, dropping the increments lost to odd counters from the sample
+  private void halve() {
+    long odd = 0;
+    for (int i = 0; i < table.length; i++) {
+      odd += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & HALF_MASK;
+    } // end of for
+    additions = (additions - (odd >>> 2)) >>> 1;
+  } // end of method
+
+  // indexOf method: returns the long holding an item's counter of a row
+  private int indexOf(int hash, int row) {
+    long h = (hash + SEEDS[row]) * SEEDS[row];
+    h += h >>> 32;
+    return (int) h & tableMask;
+  } // end of method
+
+  // spread method: mixes the bits of an item, so nearby ints hash far apart
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  } // end of method
+} // end of class
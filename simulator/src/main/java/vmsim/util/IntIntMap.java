@@ -0,0 +1,195 @@
+/*
+* File: IntIntMap.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Open-addressing hash map from int keys to int values. Keys live in
+* one int[] and values in another, probed linearly, so lookups never box and
+* the map allocates nothing except when it grows. Removal shifts the following
+* entries back instead of leaving tombstones, so probe chains stay short.
+*/
+
+package vmsim.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+// IntIntMap class
+public final class IntIntMap {
+  private static final int FREE = Integer.MIN_VALUE; // marks an unused slot, not a valid key
+
+  private final int missingValue;
+  private int[] keys;
+  private int[] values;
+  private int mask;
+  private int size = 0;
+
+  // IntIntMap constructor: get returns missingValue for keys that are not present
+  public IntIntMap(int expectedSize, int missingValue) {
+    this.missingValue = missingValue;
+    allocate(capacityFor(expectedSize));
+  } // end of method
+
+  // get method: returns the value of a key, or missingValue
+  public int get(int key) {
+    int slot = find(key);
+    return slot < 0 ? missingValue : values[slot];
+  } // end of method
+
+  // containsKey method: returns true if the key is present
+  public boolean containsKey(int key) {
+    return find(key) >= 0;
+  } // end of method
+
+  // put method: sets the value of a key, returns the previous value or missingValue
+  public int put(int key, int value) {
+    checkKey(key);
+    int slot = slot(key);
+    while (keys[slot] != FREE) {
+      if (keys[slot] == key) {
+        int previous = values[slot];
+        values[slot] = value;
+        return previous;
+      } // end of if
+      slot = (slot + 1) & mask;
+    } // end of while
+    keys[slot] = key;
+    values[slot] = value;
+    size++;
+
+    // Keep the table at most half full
+    if (size * 2 > keys.length) {
+      rehash(keys.length * 2);
+    } // end of if
+    return missingValue;
+  } // end of method
+
+  // increment method: adds delta to a key's value (missing counts as 0), returns the new value
+  public int increment(int key, int delta) {
+    int slot = find(key);
+    if (slot >= 0) {
+      values[slot] += delta;
+      return values[slot];
+    } // end of if
+    put(key, delta);
+    return delta;
+  } // end of method
+
+  // remove method: removes a key, returns its value or missingValue
+  public int remove(int key) {
+    int slot = find(key);
+    if (slot < 0) {
+      return missingValue;
+    } // end of if
+    int previous = values[slot];
+
+    // Shift back every following entry that probed past the freed slot
+    int free = slot;
+    int next = (free + 1) & mask;
+    while (keys[next] != FREE) {
+      int home = slot(keys[next]);
+      if (((next - home) & mask) >= ((next - free) & mask)) {
+        keys[free] = keys[next];
+        values[free] = values[next];
+        free = next;
+      } // end of if
+      next = (next + 1) & mask;
+    } // end of while
+    keys[free] = FREE;
+    size--;
+    return previous;
+  } // end of method
+
+  // size method: returns the number of keys present
+  public int size() {
+    return size;
+  } // end of method
+
+  // clear method: removes every key, keeping the current capacity
+  public void clear() {
+    Arrays.fill(keys, FREE);
+    size = 0;
+  } // end of method
+
+  // write method: writes the table as it is, so read restores the same slots
+  public void write(DataOutput out) throws IOException {
+    out.writeInt(size);
+    StateIO.writeInts(out, keys);
+    StateIO.writeInts(out, values);
+  } // end of method
+
+  // read method: replaces the contents with a table written by write
+  public void read(DataInput in) throws IOException {
+    int newSize = in.readInt();
+    int[] newKeys = StateIO.readInts(in);
+    int[] newValues = StateIO.readInts(in);
+    if (Integer.bitCount(newKeys.length) != 1 || newValues.length != newKeys.length || newSize < 0
+        || newSize * 2 > newKeys.length) {
+      throw new IOException("Invalid hash table of " + newSize + " keys in " + newKeys.length + " slots");
+    } // end of if
+    size = newSize;
+    keys = newKeys;
+    values = newValues;
+    mask = keys.length - 1;
+  } // end of method
+
+  // find method: returns the slot holding a key, or -1
+  private int find(int key) {
+    int slot = slot(key);
+    while (keys[slot] != FREE) {
+      if (keys[slot] == key) {
+        return slot;
+      } // end of if
+      slot = (slot + 1) & mask;
+    } // end of while
+    return -1;
+  } // end of method
+
+  // slot method: home slot of a key, spreading nearby keys across the table
+  private int slot(int key) {
+    int h = key * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & mask;
+  } // end of method
+
+  // rehash method: moves every entry into a table of the given capacity
+  private void rehash(int capacity) {
+    int[] oldKeys = keys;
+    int[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        int slot = slot(oldKeys[i]);
+        while (keys[slot] != FREE) {
+          slot = (slot + 1) & mask;
+        } // end of while
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      } // end of if
+    } // end of for
+  } // end of method
+
+  // allocate method: creates empty arrays of the given power-of-two capacity
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    values = new int[capacity];
+    Arrays.fill(keys, FREE);
+    mask = capacity - 1;
+  } // end of method
+
+  // capacityFor method: smallest power of two keeping expectedSize entries at most half full
+  private static int capacityFor(int expectedSize) {
+    int capacity = 8;
+    while (capacity < expectedSize * 2L && capacity < (1 << 30)) {
+      capacity <<= 1;
+    } // end of while
+    return capacity;
+  } // end of method
+
+  // checkKey method: rejects the one key value reserved for free slots
+  private static void checkKey(int key) {
+    if (key == FREE) {
+      throw new IllegalArgumentException("Key " + FREE + " is reserved");
+    } // end of if
+  } // end of method
+} // end of class
@@ -0,0 +1,106 @@
+/*
+* File: LongIntMap.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Open-addressing hash map from long keys to int values, the long-key
+* counterpart of IntIntMap for page numbers of 64-bit address traces. Entries
+* are only ever added, so there is no removal.
+*/
+
+package vmsim.util;
+
+import java.util.Arrays;
+
+// LongIntMap class
+public final class LongIntMap {
+  private static final long FREE = Long.MIN_VALUE; // marks an unused slot, not a valid key
+
+  private final int missingValue;
+  private long[] keys;
+  private int[] values;
+  private int mask;
+  private int size = 0;
+
+  // LongIntMap constructor: get returns missingValue for keys that are not present
+  public LongIntMap(int expectedSize, int missingValue) {
+    this.missingValue = missingValue;
+    int capacity = 8;
+    while (capacity < expectedSize * 2L && capacity < (1 << 30)) {
+      capacity <<= 1;
+    } // end of while
+    allocate(capacity);
+  } // end of method
+
+  // get method: returns the value of a key, or missingValue
+  public int get(long key) {
+    int slot = slot(key);
+    while (keys[slot] != FREE) {
+      if (keys[slot] == key) {
+        return values[slot];
+      } // end of if
+      slot = (slot + 1) & mask;
+    } // end of while
+    return missingValue;
+  } // end of method
+
+  // put method: sets the value of a key, returns the previous value or missingValue
+  public int put(long key, int value) {
+    if (key == FREE) {
+      throw new IllegalArgumentException("Key " + FREE + " is reserved");
+    } // end of if
+    int slot = slot(key);
+    while (keys[slot] != FREE) {
+      if (keys[slot] == key) {
+        int previous = values[slot];
+        values[slot] = value;
+        return previous;
+      } // end of if
+      slot = (slot + 1) & mask;
+    } // end of while
+    keys[slot] = key;
+    values[slot] = value;
+    size++;
+
+    // Keep the table at most half full
+    if (size * 2 > keys.length) {
+      rehash(keys.length * 2);
+    } // end of if
+    return missingValue;
+  } // end of method
+
+  // size method: returns the number of keys present
+  public int size() {
+    return size;
+  } // end of method
+
+  // slot method: home slot of a key, spreading nearby keys across the table
+  private int slot(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32)) & mask;
+  } // end of method
+
+  // rehash method: moves every entry into a table of the given capacity
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE) {
+        int slot = slot(oldKeys[i]);
+        while (keys[slot] != FREE) {
+          slot = (slot + 1) & mask;
+        } // end of while
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      } // end of if
+    } // end of for
+  } // end of method
+
+  // allocate method: creates empty arrays of the given power-of-two capacity
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new int[capacity];
+    Arrays.fill(keys, FREE);
+    mask = capacity - 1;
+  } // end of method
+} // end of class
@@ -0,0 +1,124 @@
+/*
+* File: OffHeapIntArray.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Array of ints indexed by non-negative int, stored outside the Java
+* heap in direct buffers of CHUNK ints each. A chunk is allocated the first
+* time an index in it is written, and indices in chunks never written read as
+* 0, so memory follows the ranges of indices used rather than the largest
+* one. Clearing keeps the chunks for the next run instead of leaving them to
+* the garbage collector: it only marks them unused, so they read as 0 and are
+* not checkpointed, and a chunk is zeroed in one bulk copy when it is first
+* written again. The array never copies its contents to grow, and the
+* garbage collector sees one small buffer object per chunk instead of any
+* per-entry objects.
+* Indices that are far apart each cost a whole chunk, so it suits dense ids
+* such as page numbers, not arbitrary hash keys.
+*/
+
+package vmsim.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+// OffHeapIntArray class
+public final class OffHeapIntArray {
+  private static final int CHUNK_BITS = 12;
+  private static final int CHUNK = 1 << CHUNK_BITS; // ints per chunk, 16 KiB
+  private static final int CHUNK_MASK = CHUNK - 1;
+  private static final int[] ZEROS = new int[CHUNK];
+
+  private IntBuffer[] chunks = new IntBuffer[16]; // null until written
+  private boolean[] inUse = new boolean[16]; // chunks written since the last clear
+  private int allocated = 0; // chunks not null
+  private int used = 0; // chunks in use
+
+  // get method: returns the value at an index, 0 if it was never set
+  public int get(int index) {
+    int chunk = index >>> CHUNK_BITS;
+    if (chunk >= chunks.length || !inUse[chunk]) {
+      return 0;
+    } // end of if
+    return chunks[chunk].get(index & CHUNK_MASK);
+  } // end of method
+
+  // set method: sets the value at an index
+  public void set(int index, int value) {
+    chunk(index).put(index & CHUNK_MASK, value);
+  } // end of method
+
+  // increment method: adds delta to the value at an index, returns the new value
+  public int increment(int index, int delta) {
+    IntBuffer chunk = chunk(index);
+    int value = chunk.get(index & CHUNK_MASK) + delta;
+    chunk.put(index & CHUNK_MASK, value);
+    return value;
+  } // end of method
+
+  // allocatedBytes method: returns the off-heap memory held by the chunks, in use or kept from before a clear
+  public long allocatedBytes() {
+    return (long) allocated * CHUNK * Integer.BYTES;
+  } // end of method
+
+  // clear method: sets every value back to 0, keeping the chunks for reuse
+  public void clear() {
+    Arrays.fill(inUse, false);
+    used = 0;
+  } // end of method
+
+  // write method: writes the chunks in use, for a checkpoint
+  public void write(DataOutput out) throws IOException {
+    out.writeInt(used);
+    int[] values = new int[CHUNK];
+    for (int c = 0; c < chunks.length; c++) {
+      if (inUse[c]) {
+        out.writeInt(c);
+        chunks[c].get(0, values);
+        StateIO.writeInts(out, values);
+      } // end of if
+    } // end of for
+  } // end of method
+
+  // read method: replaces the contents with chunks written by write
+  public void read(DataInput in) throws IOException {
+    clear();
+    int count = in.readInt();
+    for (int i = 0; i < count; i++) {
+      int c = in.readInt();
+      int[] values = StateIO.readInts(in);
+      if (c < 0 || c > (Integer.MAX_VALUE >>> CHUNK_BITS) || values.length != CHUNK) {
+        throw new IOException("Invalid chunk " + c + " of " + values.length + " values");
+      } // end of if
+      chunk(c << CHUNK_BITS).put(0, values);
+    } // end of for
+  } // end of method
+
+  // chunk method: returns the chunk holding an index, allocating it if it was never written or zeroing it if unused
+  private IntBuffer chunk(int index) {
+    if (index < 0) {
+      throw new IllegalArgumentException("Negative index: " + index);
+    } // end of if
+    int chunk = index >>> CHUNK_BITS;
+    if (chunk >= chunks.length) {
+      chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, 2 * chunks.length));
+      inUse = Arrays.copyOf(inUse, chunks.length);
+    } // end of if
+    if (!inUse[chunk]) {
+      if (chunks[chunk] == null) {
+        chunks[chunk] = ByteBuffer.allocateDirect(CHUNK * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        allocated++;
+      } // end of if
+      else {
+        chunks[chunk].put(0, ZEROS);
+      } // end of else
+      inUse[chunk] = true;
+      used++;
+    } // end of if
+    return chunks[chunk];
+  } // end of method
+} // end of class
@@ -0,0 +1,156 @@
+/*
+* File: PredecessorSet.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Set of non-negative ints that finds the largest member below any
+* value in O(1), however far apart the members are. The members are the
+* leaves of a trie of 64-bit words, six levels deep: a bit of a level-0 word
+* marks a member, and a bit of a level-k word marks a non-empty word below
+* it. Only non-empty words exist, each found through a hash map per level,
+* so memory follows the number of members rather than the range of values.
+* Adding, removing and finding a predecessor each touch at most two words
+* per level.
+*/
+
+package vmsim.util;
+
+import java.util.Arrays;
+
+// PredecessorSet class
+public final class PredecessorSet {
+  private static final int BITS = 6; // bits of a value each level resolves, 64 to a word
+  private static final int LEVELS = 6; // enough for 31-bit values
+  private static final int NONE = -1;
+
+  private final IntIntMap[] wordAt = new IntIntMap[LEVELS]; // word index of each level to its slot in words
+  private long[] words = new long[16];
+  private int[] freeSlots = new int[16]; // slots of words freed, reused first
+  private int freeCount = 0;
+  private int slotsUsed = 0; // slots handed out so far, freed or not
+
+  // PredecessorSet constructor: an empty set
+  public PredecessorSet() {
+    for (int level = 0; level < LEVELS; level++) {
+      wordAt[level] = new IntIntMap(16, NONE);
+    } // end of for
+  } // end of method
+
+  // add method: adds a value, marking the words above it non-empty as far as they were empty
+  public void add(int value) {
+    checkValue(value);
+    for (int level = 0; level < LEVELS; level++) {
+      int index = index(value, level);
+      int slot = wordAt[level].get(index);
+      if (slot == NONE) {
+        slot = newSlot();
+        wordAt[level].put(index, slot);
+      } // end of if
+      boolean wasEmpty = words[slot] == 0;
+      words[slot] |= 1L << bit(value, level);
+      if (!wasEmpty) {
+        return;
+      } // end of if
+    } // end of for
+  } // end of method
+
+  // remove method: removes a value, unmarking the words above it as far as they become empty
+  public void remove(int value) {
+    checkValue(value);
+    for (int level = 0; level < LEVELS; level++) {
+      int index = index(value, level);
+      int slot = wordAt[level].get(index);
+      if (slot == NONE) {
+        return;
+      } // end of if
+      words[slot] &= ~(1L << bit(value, level));
+      if (words[slot] != 0) {
+        return;
+      } // end of if
+      wordAt[level].remove(index);
+      freeSlot(slot);
+    } // end of for
+  } // end of method
+
+  // lower method: returns the largest member below a value, or -1 if there is none
+  public int lower(int value) {
+    if (value <= 0) {
+      return -1;
+    } // end of if
+
+    // Climb until a word holds a bit below the path to the value
+    int level = 0;
+    int index = 0;
+    long lowerBits = 0;
+    while (level < LEVELS) {
+      index = index(value, level);
+      int slot = wordAt[level].get(index);
+      lowerBits = slot == NONE ? 0 : words[slot] & ((1L << bit(value, level)) - 1);
+      if (lowerBits != 0) {
+        break;
+      } // end of if
+      level++;
+    } // end of while
+    if (level == LEVELS) {
+      return -1;
+    } // end of if
+
+    // Descend along the highest bit of each word, which is the word index of the level below
+    int prefix = (index << BITS) | highestBit(lowerBits);
+    while (level > 0) {
+      level--;
+      prefix = (prefix << BITS) | highestBit(words[wordAt[level].get(prefix)]);
+    } // end of while
+    return prefix;
+  } // end of method
+
+  // clear method: removes every value, keeping the current capacity
+  public void clear() {
+    for (IntIntMap map : wordAt) {
+      map.clear();
+    } // end of for
+    freeCount = 0;
+    slotsUsed = 0;
+  } // end of method
+
+  // newSlot method: returns a slot holding an empty word, reusing a freed one if there is any
+  private int newSlot() {
+    if (freeCount > 0) {
+      return freeSlots[--freeCount];
+    } // end of if
+    if (slotsUsed == words.length) {
+      words = Arrays.copyOf(words, words.length * 2);
+    } // end of if
+    words[slotsUsed] = 0;
+    return slotsUsed++;
+  } // end of method
+
+  // freeSlot method: keeps the slot of an emptied word for reuse
+  private void freeSlot(int slot) {
+    if (freeCount == freeSlots.length) {
+      freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+    } // end of if
+    freeSlots[freeCount++] = slot;
+  } // end of method
+
+  // index method: index of the word holding a value's bit at a level
+  private static int index(int value, int level) {
+    return (int) ((long) value >>> (BITS * (level + 1)));
+  } // end of method
+
+  // bit method: the value's bit within its word at a level
+  private static int bit(int value, int level) {
+    return (value >>> (BITS * level)) & 63;
+  } // end of method
+
+  // highestBit method: position of the highest set bit of a non-zero word
+  private static int highestBit(long word) {
+    return 63 - Long.numberOfLeadingZeros(word);
+  } // end of method
+
+  // checkValue method: rejects negative values, which the trie does not cover
+  private static void checkValue(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Value must not be negative: " + value);
+    } // end of if
+  } // end of method
+} // end of class
@@ -0,0 +1,121 @@
+/*
+* File: StateIO.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Reads and writes the arrays that make up the state of a policy,
+* for checkpoints. Every array is written as its length followed by its
+* elements, so it is read back without knowing its size in advance. Int and
+* long arrays are converted through a small byte buffer rather than one call
+* per element, and boolean arrays are packed eight to a byte.
+*/
+
+package vmsim.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+// StateIO class
+public final class StateIO {
+  private static final int CHUNK = 1 << 12; // elements converted per write or read
+
+  // StateIO constructor: static utility, not instantiated
+  private StateIO() {
+  } // end of method
+
+  // writeInts method: writes the length and elements of an int array
+  public static void writeInts(DataOutput out, int[] values) throws IOException {
+    out.writeInt(values.length);
+    ByteBuffer buffer = ByteBuffer.allocate(4 * Math.min(CHUNK, values.length));
+    for (int start = 0; start < values.length; start += CHUNK) {
+      int end = Math.min(values.length, start + CHUNK);
+      buffer.clear();
+      buffer.asIntBuffer().put(values, start, end - start);
+      out.write(buffer.array(), 0, 4 * (end - start));
+    } // end of for
+  } // end of method
+
+  // readInts method: reads an int array written by writeInts
+  public static int[] readInts(DataInput in) throws IOException {
+    int[] values = new int[readLength(in)];
+    ByteBuffer buffer = ByteBuffer.allocate(4 * Math.min(CHUNK, values.length));
+    for (int start = 0; start < values.length; start += CHUNK) {
+      int end = Math.min(values.length, start + CHUNK);
+      in.readFully(buffer.array(), 0, 4 * (end - start));
+      buffer.clear();
+      buffer.asIntBuffer().get(values, start, end - start);
+    } // end of for
+    return values;
+  } // end of method
+
+  // writeLongs method: writes the length and elements of a long array
+  public static void writeLongs(DataOutput out, long[] values) throws IOException {
+    out.writeInt(values.length);
+    ByteBuffer buffer = ByteBuffer.allocate(8 * Math.min(CHUNK, values.length));
+    for (int start = 0; start < values.length; start += CHUNK) {
+      int end = Math.min(values.length, start + CHUNK);
+      buffer.clear();
+      buffer.asLongBuffer().put(values, start, end - start);
+      out.write(buffer.array(), 0, 8 * (end - start));
+    } // end of for
+  } // end of method
+
+  // readLongs method: reads a long array written by writeLongs
+  public static long[] readLongs(DataInput in) throws IOException {
+    long[] values = new long[readLength(in)];
+    ByteBuffer buffer = ByteBuffer.allocate(8 * Math.min(CHUNK, values.length));
+    for (int start = 0; start < values.length; start += CHUNK) {
+      int end = Math.min(values.length, start + CHUNK);
+      in.readFully(buffer.array(), 0, 8 * (end - start));
+      buffer.clear();
+      buffer.asLongBuffer().get(values, start, end - start);
+    } // end of for
+    return values;
+  } // end of method
+
+  // writeBooleans method: writes the length and elements of a boolean array, eight to a byte
+  public static void writeBooleans(DataOutput out, boolean[] values) throws IOException {
+    out.writeInt(values.length);
+    byte[] packed = new byte[(values.length + 7) / 8];
+    for (int i = 0; i < values.length; i++) {
+      if (values[i]) {
+        packed[i >>> 3] |= (byte) (1 << (i & 7));
+      } // end of if
+    } // end of for
+    out.write(packed);
+  } // end of method
+
+  // readBooleans method: reads a boolean array written by writeBooleans
+  public static boolean[] readBooleans(DataInput in) throws IOException {
+    boolean[] values = new boolean[readLength(in)];
+    byte[] packed = new byte[(values.length + 7) / 8];
+    in.readFully(packed);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (packed[i >>> 3] & (1 << (i & 7))) != 0;
+    } // end of for
+    return values;
+  } // end of method
+
+  // writeBytes method: writes the length and elements of a byte array
+  public static void writeBytes(DataOutput out, byte[] values) throws IOException {
+    out.writeInt(values.length);
+    out.write(values);
+  } // end of method
+
+  // readBytes method: reads a byte array written by writeBytes
+  public static byte[] readBytes(DataInput in) throws IOException {
+    byte[] values = new byte[readLength(in)];
+    in.readFully(values);
+    return values;
+  } // end of method
+
+  // readLength method: reads an array length, rejecting a negative one from a damaged file
+  private static int readLength(DataInput in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      throw new IOException("Invalid array length " + length);
+    } // end of if
+    return length;
+  } // end of method
+} // end of class
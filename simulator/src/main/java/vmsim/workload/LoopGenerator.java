@@ -0,0 +1,30 @@
+/*
+* File: LoopGenerator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: The whole page space referenced in order, over and over, like a
+* program looping over an array. With fewer frames than pages, LRU and FIFO
+* fault on every reference while OPT keeps most of the loop resident.
+*/
+
+package vmsim.workload;
+
+import java.util.SplittableRandom;
+
+// LoopGenerator class
+public class LoopGenerator extends WorkloadGenerator {
+  private int page = 0;
+
+  // LoopGenerator constructor: a loop over all pages; random is unused but kept for a uniform API
+  public LoopGenerator(int pages, long length, SplittableRandom random) {
+    super(pages, length, random);
+  } // end of method
+
+  // nextPage method: the page after the previous one
+  @Override
+  protected int nextPage() {
+    int next = page;
+    page = page + 1 < pages ? page + 1 : 0;
+    return next;
+  } // end of method
+} // end of class
@@ -0,0 +1,62 @@
+/*
+* File: MarkovGenerator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: A random walk on a sparse Markov chain. Every page has a fixed list
+* of successor pages, derived by hashing the page with the seed rather than
+* stored, so the chain costs no memory for any page space. The first
+* successor is taken half the time, the second a quarter, and so on, which
+* gives the recurring paths of real programs; with a small probability the
+* walk restarts at a random page.
+*/
+
+package vmsim.workload;
+
+import java.util.SplittableRandom;
+
+// MarkovGenerator class
+public class MarkovGenerator extends WorkloadGenerator {
+  private final int successors; // out-degree of every page
+  private final double restart; // probability of jumping to a random page
+  private final long chainSeed; // fixes the successors of every page
+  private int page;
+
+  // MarkovGenerator constructor: successors per page, restart probability per reference
+  public MarkovGenerator(int pages, int successors, double restart, long length, SplittableRandom random) {
+    super(pages, length, random);
+    if (successors <= 0) {
+      throw new IllegalArgumentException("Successors must be positive: " + successors);
+    } // end of if
+    if (!(restart >= 0 && restart <= 1)) {
+      throw new IllegalArgumentException("Restart probability must be between 0 and 1: " + restart);
+    } // end of if
+    this.successors = successors;
+    this.restart = restart;
+    chainSeed = random.nextLong();
+    page = random.nextInt(pages);
+  } // end of method
+
+  // nextPage method: follows a successor of the current page, or restarts
+  @Override
+  protected int nextPage() {
+    int current = page;
+    if (random.nextDouble() < restart) {
+      page = random.nextInt(pages);
+    } // end of if
+    else {
+      // Successor i is taken with probability 1 / 2^(i + 1), the rest goes to the last one
+      int i = Math.min(Long.numberOfTrailingZeros(random.nextLong() | Long.MIN_VALUE), successors - 1);
+      page = successor(current, i);
+    } // end of else
+    return current;
+  } // end of method
+
+  // successor method: the i-th successor of a page
+  private int successor(int from, int i) {
+    long h = chainSeed ^ ((long) from << 20) ^ i;
+    h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+    h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return (int) Math.floorMod(h, (long) pages);
+  } // end of method
+} // end of class
@@ -0,0 +1,46 @@
+/*
+* File: ScanGenerator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: A hot set interleaved with a sequential scan. A fraction of the
+* references go uniformly to the hot pages 0 to hotPages - 1; the rest walk
+* through the other pages in order, wrapping around at the end. Every scanned
+* page is used once per pass, so a policy that lets the scan flush the hot
+* set (as LRU does) faults far more than one that resists it.
+*/
+
+package vmsim.workload;
+
+import java.util.SplittableRandom;
+
+// ScanGenerator class
+public class ScanGenerator extends WorkloadGenerator {
+  private final int hotPages;
+  private final double hotFraction;
+  private int scanPage;
+
+  // ScanGenerator constructor: hotFraction of the references go to hotPages pages, the rest scan
+  public ScanGenerator(int pages, int hotPages, double hotFraction, long length, SplittableRandom random) {
+    super(pages, length, random);
+    if (hotPages < 0 || hotPages >= pages) {
+      throw new IllegalArgumentException("Hot pages must be between 0 and " + (pages - 1) + ": " + hotPages);
+    } // end of if
+    if (!(hotFraction >= 0 && hotFraction <= 1)) {
+      throw new IllegalArgumentException("Hot fraction must be between 0 and 1: " + hotFraction);
+    } // end of if
+    this.hotPages = hotPages;
+    this.hotFraction = hotPages == 0 ? 0 : hotFraction;
+    scanPage = hotPages;
+  } // end of method
+
+  // nextPage method: a hot page, or the next page of the scan
+  @Override
+  protected int nextPage() {
+    if (hotFraction > 0 && random.nextDouble() < hotFraction) {
+      return random.nextInt(hotPages);
+    } // end of if
+    int page = scanPage;
+    scanPage = scanPage + 1 < pages ? scanPage + 1 : hotPages;
+    return page;
+  } // end of method
+} // end of class
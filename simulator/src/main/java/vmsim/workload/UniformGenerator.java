@@ -0,0 +1,25 @@
+/*
+* File: UniformGenerator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Every page of the page space is equally likely on every reference,
+* as in the menu's generated reference strings. There is no locality at all.
+*/
+
+package vmsim.workload;
+
+import java.util.SplittableRandom;
+
+// UniformGenerator class
+public class UniformGenerator extends WorkloadGenerator {
+  // UniformGenerator constructor
+  public UniformGenerator(int pages, long length, SplittableRandom random) {
+    super(pages, length, random);
+  } // end of method
+
+  // nextPage method: any page
+  @Override
+  protected int nextPage() {
+    return random.nextInt(pages);
+  } // end of method
+} // end of class
@@ -0,0 +1,55 @@
+/*
+* File: WorkingSetGenerator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Phase-shifting working sets. The workload runs in phases of a fixed
+* number of references; each phase picks a contiguous working set at a random
+* place in the page space and references it uniformly, except for a fraction
+* of references that go anywhere. A policy sized for one working set faults
+* in bursts at every phase change.
+*/
+
+package vmsim.workload;
+
+import java.util.SplittableRandom;
+
+// WorkingSetGenerator class
+public class WorkingSetGenerator extends WorkloadGenerator {
+  private final int setSize;
+  private final long phaseLength;
+  private final double locality; // fraction of references inside the working set
+  private int setStart = 0;
+  private long phaseLeft = 0;
+
+  // WorkingSetGenerator constructor: working sets of setSize pages, changing every phaseLength references
+  public WorkingSetGenerator(int pages, int setSize, long phaseLength, double locality, long length, SplittableRandom random) {
+    super(pages, length, random);
+    if (setSize <= 0 || setSize > pages) {
+      throw new IllegalArgumentException("Working set size must be between 1 and " + pages + ": " + setSize);
+    } // end of if
+    if (phaseLength <= 0) {
+      throw new IllegalArgumentException("Phase length must be positive: " + phaseLength);
+    } // end of if
+    if (!(locality >= 0 && locality <= 1)) {
+      throw new IllegalArgumentException("Locality must be between 0 and 1: " + locality);
+    } // end of if
+    this.setSize = setSize;
+    this.phaseLength = phaseLength;
+    this.locality = locality;
+  } // end of method
+
+  // nextPage method: a page of the current working set, or any page
+  @Override
+  protected int nextPage() {
+    // IF the phase is over, move the working set
+    if (phaseLeft == 0) {
+      setStart = random.nextInt(pages - setSize + 1);
+      phaseLeft = phaseLength;
+    } // end of if
+    phaseLeft--;
+    if (random.nextDouble() < locality) {
+      return setStart + random.nextInt(setSize);
+    } // end of if
+    return random.nextInt(pages);
+  } // end of method
+} // end of class
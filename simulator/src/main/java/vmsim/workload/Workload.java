@@ -0,0 +1,137 @@
+/*
+* File: Workload.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: A synthetic workload model with its parameters, parsed from a
+* command line spec such as
+*   zipf:pages=1000000,s=0.9
+*   workingset:pages=65536,set=512,phase=200000,locality=0.95
+* Models and parameters (defaults in brackets; every model takes pages [1024]):
+*   uniform    - no locality
+*   zipf       - s [1.0], the skew
+*   workingset - set [pages/16], phase [100000] references, locality [0.95]
+*   scan       - hot [pages/16] pages, hotfraction [0.5] of references
+*   loop       - no parameters
+*   markov     - successors [4] per page, restart [0.01] probability
+* A workload is only a description: open creates a new generator each time,
+* so every thread can stream its own copy. Opening with the same seed replays
+* the same references; opening with random.split() gives independent streams.
+*/
+
+package vmsim.workload;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Workload class
+public final class Workload {
+  // Names of the models, as accepted by parse
+  public static final List<String> MODELS = Collections.unmodifiableList(
+      Arrays.asList("uniform", "zipf", "workingset", "scan", "loop", "markov"));
+
+  private final String spec;
+  private final String model;
+  private final Map<String, String> parameters;
+
+  // Workload constructor: use parse
+  private Workload(String spec, String model, Map<String, String> parameters) {
+    this.spec = spec;
+    this.model = model;
+    this.parameters = parameters;
+  } // end of method
+
+  // parse method: reads a spec "model[:name=value,...]", checking the model and every parameter
+  public static Workload parse(String spec) {
+    String[] parts = spec.trim().split(":", 2);
+    String model = parts[0].trim().toLowerCase(Locale.ROOT);
+    if (!MODELS.contains(model)) {
+      throw new IllegalArgumentException("Unknown workload: " + parts[0] + ". Expected one of " + MODELS);
+    } // end of if
+    Map<String, String> parameters = new LinkedHashMap<>();
+    if (parts.length > 1 && !parts[1].trim().isEmpty()) {
+      for (String parameter : parts[1].split(",")) {
+        String[] pair = parameter.split("=", 2);
+        if (pair.length != 2) {
+          throw new IllegalArgumentException("Workload parameter is not name=value: " + parameter);
+        } // end of if
+        parameters.put(pair[0].trim().toLowerCase(Locale.ROOT), pair[1].trim());
+      } // end of for
+    } // end of if
+    Workload workload = new Workload(spec.trim(), model, Collections.unmodifiableMap(parameters));
+    workload.open(0, new SplittableRandom(0)); // fails on bad parameters now rather than in a worker
+    return workload;
+  } // end of method
+
+  // getModel method: returns the name of the model
+  public String getModel() {
+    return model;
+  } // end of method
+
+  // open method: a generator of length references, seeded
+  public WorkloadGenerator open(long length, long seed) {
+    return open(length, new SplittableRandom(seed));
+  } // end of method
+
+  // open method: a generator of length references drawing from random
+  public WorkloadGenerator open(long length, SplittableRandom random) {
+    Map<String, String> unused = new LinkedHashMap<>(parameters);
+    int pages = intValue(unused, "pages", 1024);
+    WorkloadGenerator generator;
+    switch (model) {
+      case "uniform":
+        generator = new UniformGenerator(pages, length, random);
+        break;
+      case "zipf":
+        generator = new ZipfGenerator(pages, doubleValue(unused, "s", 1.0), length, random);
+        break;
+      case "workingset":
+        generator = new WorkingSetGenerator(pages, intValue(unused, "set", Math.max(1, pages / 16)),
+            longValue(unused, "phase", 100_000), doubleValue(unused, "locality", 0.95), length, random);
+        break;
+      case "scan":
+        generator = new ScanGenerator(pages, intValue(unused, "hot", pages / 16),
+            doubleValue(unused, "hotfraction", 0.5), length, random);
+        break;
+      case "loop":
+        generator = new LoopGenerator(pages, length, random);
+        break;
+      default: // markov
+        generator = new MarkovGenerator(pages, intValue(unused, "successors", 4),
+            doubleValue(unused, "restart", 0.01), length, random);
+        break;
+    } // end of switch
+    if (!unused.isEmpty()) {
+      throw new IllegalArgumentException("Unknown " + model + " workload parameters: " + unused.keySet());
+    } // end of if
+    return generator;
+  } // end of method
+
+  // toString method: the spec the workload was parsed from
+  @Override
+  public String toString() {
+    return spec;
+  } // end of method
+
+  // intValue method: removes and returns an int parameter, or the default
+  private static int intValue(Map<String, String> parameters, String name, int defaultValue) {
+    String value = parameters.remove(name);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  } // end of method
+
+  // longValue method: removes and returns a long parameter, or the default
+  private static long longValue(Map<String, String> parameters, String name, long defaultValue) {
+    String value = parameters.remove(name);
+    return value == null ? defaultValue : Long.parseLong(value);
+  } // end of method
+
+  // doubleValue method: removes and returns a double parameter, or the default
+  private static double doubleValue(Map<String, String> parameters, String name, double defaultValue) {
+    String value = parameters.remove(name);
+    return value == null ? defaultValue : Double.parseDouble(value);
+  } // end of method
+} // end of class
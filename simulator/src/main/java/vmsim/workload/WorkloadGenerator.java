@@ -0,0 +1,60 @@
+/*
+* File: WorkloadGenerator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Base class of the synthetic workload models. A generator is a
+* ReferenceSource that draws each page as the engine asks for it, so a
+* workload of any length is simulated without being stored. All randomness
+* comes from one SplittableRandom, so a model, a length and a seed always give
+* the same reference string, and threads that each open their own generator
+* can replay or split a workload in parallel.
+*/
+
+package vmsim.workload;
+
+import java.util.SplittableRandom;
+import vmsim.trace.ReferenceSource;
+
+// WorkloadGenerator class
+public abstract class WorkloadGenerator implements ReferenceSource {
+  protected final int pages; // size of the page space, pages are 0 to pages - 1
+  protected final SplittableRandom random;
+  private final long length;
+  private long generated = 0;
+
+  // WorkloadGenerator constructor: length references over a page space, drawn from random
+  protected WorkloadGenerator(int pages, long length, SplittableRandom random) {
+    if (pages <= 0) {
+      throw new IllegalArgumentException("Page space must be positive: " + pages);
+    } // end of if
+    if (length < 0) {
+      throw new IllegalArgumentException("Workload length must not be negative: " + length);
+    } // end of if
+    this.pages = pages;
+    this.length = length;
+    this.random = random;
+  } // end of method
+
+  // read method: generates up to buffer.length next pages, returns how many or -1 at the end
+  @Override
+  public int read(int[] buffer) {
+    if (generated == length) {
+      return -1;
+    } // end of if
+    int count = (int) Math.min(buffer.length, length - generated);
+    for (int i = 0; i < count; i++) {
+      buffer[i] = nextPage();
+    } // end of for
+    generated += count;
+    return count;
+  } // end of method
+
+  // length method: returns the total number of references to generate
+  @Override
+  public long length() {
+    return length;
+  } // end of method
+
+  // nextPage method: draws the next page of the model
+  protected abstract int nextPage();
+} // end of class
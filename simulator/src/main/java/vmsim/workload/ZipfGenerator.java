@@ -0,0 +1,73 @@
+/*
+* File: ZipfGenerator.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Zipfian popularity: page k - 1 is referenced with probability
+* proportional to 1 / k^s, so a few pages are very hot and the rest form a long
+* tail. Pages are drawn by rejection-inversion (Hormann and Derflinger), which
+* takes constant time and memory however large the page space is.
+*/
+
+package vmsim.workload;
+
+import java.util.SplittableRandom;
+
+// ZipfGenerator class
+public class ZipfGenerator extends WorkloadGenerator {
+  private final double exponent;
+  private final double hIntegralX1;
+  private final double hIntegralN;
+  private final double s;
+
+  // ZipfGenerator constructor: exponent is the skew s, 1 for classic Zipf
+  public ZipfGenerator(int pages, double exponent, long length, SplittableRandom random) {
+    super(pages, length, random);
+    if (!(exponent > 0)) {
+      throw new IllegalArgumentException("Zipf exponent must be positive: " + exponent);
+    } // end of if
+    this.exponent = exponent;
+    hIntegralX1 = hIntegral(1.5) - 1;
+    hIntegralN = hIntegral(pages + 0.5);
+    s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+  } // end of method
+
+  // nextPage method: the page of rank k is page k - 1
+  @Override
+  protected int nextPage() {
+    while (true) {
+      double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+      double x = hIntegralInverse(u);
+      long k = Math.max(1, Math.min(pages, (long) (x + 0.5)));
+      if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+        return (int) (k - 1);
+      } // end of if
+    } // end of while
+  } // end of method
+
+  // h method: the unnormalized probability 1 / x^s
+  private double h(double x) {
+    return Math.exp(-exponent * Math.log(x));
+  } // end of method
+
+  // hIntegral method: an integral of h, (x^(1-s) - 1) / (1 - s) or log x
+  private double hIntegral(double x) {
+    double logX = Math.log(x);
+    return expm1OverX((1 - exponent) * logX) * logX;
+  } // end of method
+
+  // hIntegralInverse method: the inverse of hIntegral
+  private double hIntegralInverse(double x) {
+    double t = Math.max(-1, x * (1 - exponent));
+    return Math.exp(log1pOverX(t) * x);
+  } // end of method
+
+  // log1pOverX method: log(1 + x) / x, accurate near 0
+  private static double log1pOverX(double x) {
+    return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+  } // end of method
+
+  // expm1OverX method: (e^x - 1) / x, accurate near 0
+  private static double expm1OverX(double x) {
+    return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x / 3 * (1 + 0.25 * x));
+  } // end of method
+} // end of class
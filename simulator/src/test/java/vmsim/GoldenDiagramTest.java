@@ -0,0 +1,75 @@
+/*
+* File: GoldenDiagramTest.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Checks the four menu algorithms, FIFO, OPT, LRU and LFU, against
+* golden output: the demand paging diagrams of the textbook strings, saved in
+* src/test/resources/golden as the interactive program printed them, and the
+* fault counts the textbooks give.
+*/
+
+package vmsim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceTrace;
+
+// GoldenDiagramTest class
+class GoldenDiagramTest {
+  // drawsGoldenDiagrams method: the textbook string with 3 frames, then Belady's with 3 and 4
+  @ParameterizedTest
+  @ValueSource(strings = {"fifo", "opt", "lru", "lfu"})
+  void drawsGoldenDiagrams(String name) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    PrintStream out = new PrintStream(bytes, true, StandardCharsets.US_ASCII);
+    diagram(name, TestTraces.TEXTBOOK, 3, out);
+    diagram(name, TestTraces.BELADY, 3, out);
+    diagram(name, TestTraces.BELADY, 4, out);
+    assertEquals(golden(name), bytes.toString(StandardCharsets.US_ASCII));
+  } // end of method
+
+  // countsTextbookFaults method: the fault counts every operating systems textbook gives
+  @Test
+  void countsTextbookFaults() {
+    assertEquals(15, faults("fifo", TestTraces.TEXTBOOK, 3));
+    assertEquals(12, faults("lru", TestTraces.TEXTBOOK, 3));
+    assertEquals(9, faults("opt", TestTraces.TEXTBOOK, 3));
+
+    // Belady's anomaly: FIFO faults more with more frames, the stack algorithms never do
+    assertEquals(9, faults("fifo", TestTraces.BELADY, 3));
+    assertEquals(10, faults("fifo", TestTraces.BELADY, 4));
+    assertEquals(10, faults("lru", TestTraces.BELADY, 3));
+    assertEquals(8, faults("lru", TestTraces.BELADY, 4));
+    assertEquals(7, faults("opt", TestTraces.BELADY, 3));
+    assertEquals(6, faults("opt", TestTraces.BELADY, 4));
+  } // end of method
+
+  // diagram method: simulates a string, drawing its diagram to out
+  private static void diagram(String name, ReferenceTrace trace, int frames, PrintStream out) {
+    DiagramObserver observer = new DiagramObserver(name.toUpperCase(), trace, null, out);
+    Simulator.run(Policies.create(name, trace), trace, frames, observer);
+  } // end of method
+
+  // faults method: the number of faults of a policy on a string
+  private static long faults(String name, ReferenceTrace trace, int frames) {
+    return Simulator.run(Policies.create(name, trace), trace, frames).getFaults();
+  } // end of method
+
+  // golden method: the saved diagrams of a policy
+  private static String golden(String name) throws IOException {
+    try (InputStream in = GoldenDiagramTest.class.getResourceAsStream("/golden/" + name + ".txt")) {
+      assertNotNull(in, "No golden output for " + name);
+      return new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+    } // end of try
+  } // end of method
+} // end of class
@@ -0,0 +1,59 @@
+/*
+* File: TestTraces.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Reference strings shared by the tests: the textbook strings whose
+* fault counts are known by heart, and seeded synthetic workloads that mix
+* hot sets, loops, scans and phase changes, so recency, frequency and ghost
+* lists all come into play. Write flags are drawn from their own seed.
+*/
+
+package vmsim;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import vmsim.trace.ReferenceTrace;
+import vmsim.workload.Workload;
+
+// TestTraces class
+public final class TestTraces {
+  // Silberschatz's string: 15 FIFO, 12 LRU and 9 OPT faults with 3 frames
+  public static final ReferenceTrace TEXTBOOK = ReferenceTrace.of(7, 0, 1, 2, 0, 3, 0, 4, 2, 3, 0, 3, 2, 1, 2, 0,
+      1, 7, 0, 1);
+
+  // Belady's string: FIFO faults 9 times with 3 frames and 10 times with 4
+  public static final ReferenceTrace BELADY = ReferenceTrace.of(1, 2, 3, 4, 1, 2, 5, 1, 2, 3, 4, 5);
+
+  // Workloads of the randomized tests, small enough that every frame count below is under pressure
+  public static final List<String> WORKLOADS = List.of("zipf:pages=300,s=0.8", "workingset:pages=400,set=40,phase=3000",
+      "scan:pages=500,hot=30,hotfraction=0.6", "loop:pages=70", "markov:pages=300,successors=3,restart=0.05");
+
+  // Frame counts of the randomized tests, from one frame up to most of a workload
+  public static final int[] FRAMES = {1, 2, 3, 7, 16, 64, 150};
+
+  // TestTraces constructor: static utility, not instantiated
+  private TestTraces() {
+  } // end of method
+
+  // workload method: the first length references of a workload spec, seeded
+  public static ReferenceTrace workload(String spec, int length, long seed) {
+    try {
+      return ReferenceTrace.readAll(Workload.parse(spec).open(length, seed));
+    } // end of try
+    catch (IOException e) { // generators do no I/O
+      throw new UncheckedIOException(e);
+    } // end of catch
+  } // end of method
+
+  // writes method: a seeded write flag for each of length references, about one in four set
+  public static boolean[] writes(int length, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    boolean[] writes = new boolean[length];
+    for (int i = 0; i < length; i++) {
+      writes[i] = random.nextInt(4) == 0;
+    } // end of for
+    return writes;
+  } // end of method
+} // end of class
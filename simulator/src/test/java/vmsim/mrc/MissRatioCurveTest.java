@@ -0,0 +1,78 @@
+/*
+* File: MissRatioCurveTest.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Checks that the exact miss ratio curves, LRU and OPT stack
+* distances in one pass and the sharded LRU curve, give at every frame count
+* the fault count of a plain run with that many frames.
+*/
+
+package vmsim.mrc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import vmsim.Simulator;
+import vmsim.TestTraces;
+import vmsim.parallel.ShardedSimulation;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceTrace;
+
+// MissRatioCurveTest class
+class MissRatioCurveTest {
+  private static final int LENGTH = 20000;
+  private static final int MAX_FRAMES = 160;
+
+  // lruCurveEqualsPlainRuns method: one pass of stack distances against a run per frame count
+  @Test
+  void lruCurveEqualsPlainRuns() throws IOException {
+    long seed = 21;
+    for (String workload : TestTraces.WORKLOADS) {
+      ReferenceTrace trace = TestTraces.workload(workload, LENGTH, seed++);
+      assertEqualsPlainRuns("lru", trace, LruStackDistance.curve(trace.open(), MAX_FRAMES), workload);
+    } // end of for
+  } // end of method
+
+  // optCurveEqualsPlainRuns method: OPT's priority stack against a run per frame count
+  @Test
+  void optCurveEqualsPlainRuns() {
+    long seed = 31;
+    for (String workload : TestTraces.WORKLOADS) {
+      ReferenceTrace trace = TestTraces.workload(workload, LENGTH, seed++);
+      assertEqualsPlainRuns("opt", trace, OptStackDistance.curve(trace, MAX_FRAMES), workload);
+    } // end of for
+  } // end of method
+
+  // shardedLruCurveEqualsPlainRuns method: the curve merged from shards is exact as well
+  @Test
+  void shardedLruCurveEqualsPlainRuns() {
+    long seed = 41;
+    for (String workload : TestTraces.WORKLOADS) {
+      ReferenceTrace trace = TestTraces.workload(workload, LENGTH, seed++);
+      for (int shards : new int[] {2, 7}) {
+        assertEqualsPlainRuns("lru", trace, new ShardedSimulation(shards, 4).lruCurve(trace, MAX_FRAMES),
+            workload + " in " + shards + " shards");
+      } // end of for
+    } // end of for
+  } // end of method
+
+  // textbookCurves method: the short strings, up to more frames than they have pages
+  @Test
+  void textbookCurves() throws IOException {
+    for (ReferenceTrace trace : new ReferenceTrace[] {TestTraces.TEXTBOOK, TestTraces.BELADY}) {
+      int maxFrames = trace.getMaxPage() + 2;
+      assertEqualsPlainRuns("lru", trace, LruStackDistance.curve(trace.open(), maxFrames), trace.toString());
+      assertEqualsPlainRuns("opt", trace, OptStackDistance.curve(trace, maxFrames), trace.toString());
+    } // end of for
+  } // end of method
+
+  // assertEqualsPlainRuns method: the curve's faults at each frame count are those of Simulator.run
+  private static void assertEqualsPlainRuns(String name, ReferenceTrace trace, MissRatioCurve curve, String what) {
+    assertEquals(trace.size(), curve.getReferences(), what);
+    for (int frames = 1; frames <= curve.getMaxFrames(); frames++) {
+      long expected = Simulator.run(Policies.create(name, trace), trace, frames).getFaults();
+      assertEquals(expected, curve.getFaults(frames), name + " on " + what + " with " + frames + " frames");
+    } // end of for
+  } // end of method
+} // end of class
@@ -0,0 +1,95 @@
+/*
+* File: ShardedSimulationTest.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Checks that sharded LRU and FIFO runs give exactly the faults and
+* evictions of a plain run for every test workload, frame count and number of
+* shards, including more shards than a short string has references, and that
+* sharded OPT never undercounts and stays within its error bound.
+*/
+
+package vmsim.parallel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import vmsim.SimulationResult;
+import vmsim.Simulator;
+import vmsim.TestTraces;
+import vmsim.policy.Policies;
+import vmsim.trace.ReferenceTrace;
+
+// ShardedSimulationTest class
+class ShardedSimulationTest {
+  private static final int LENGTH = 40000;
+  private static final int[] SHARDS = {1, 2, 3, 8, 25};
+
+  // equalsPlainRun method: every workload, frame count and number of shards, exact and equal to Simulator.run
+  @ParameterizedTest
+  @ValueSource(strings = {"lru", "fifo"})
+  void equalsPlainRun(String name) {
+    long seed = 11;
+    for (String workload : TestTraces.WORKLOADS) {
+      ReferenceTrace trace = TestTraces.workload(workload, LENGTH, seed++);
+      for (int frames : TestTraces.FRAMES) {
+        SimulationResult expected = Simulator.run(Policies.create(name, trace), trace, frames);
+        for (int shards : SHARDS) {
+          assertSameRun(expected, new ShardedSimulation(shards, 4).run(name, trace, frames),
+              name + " on " + workload + " with " + frames + " frames in " + shards + " shards");
+        } // end of for
+      } // end of for
+    } // end of for
+  } // end of method
+
+  // equalsPlainRunOnTextbookStrings method: short strings, so some shards hold one reference or none
+  @ParameterizedTest
+  @ValueSource(strings = {"lru", "fifo"})
+  void equalsPlainRunOnTextbookStrings(String name) {
+    for (ReferenceTrace trace : new ReferenceTrace[] {TestTraces.TEXTBOOK, TestTraces.BELADY}) {
+      for (int frames = 1; frames <= trace.getMaxPage() + 1; frames++) {
+        SimulationResult expected = Simulator.run(Policies.create(name, trace), trace, frames);
+        for (int shards : SHARDS) {
+          assertSameRun(expected, new ShardedSimulation(shards, 2).run(name, trace, frames),
+              name + " on " + trace + " with " + frames + " frames in " + shards + " shards");
+        } // end of for
+      } // end of for
+    } // end of for
+  } // end of method
+
+  // boundsOpt method: sharded OPT is never below the true count and at most its error bound above it
+  @Test
+  void boundsOpt() {
+    ReferenceTrace trace = TestTraces.workload(TestTraces.WORKLOADS.get(0), LENGTH, 5);
+    for (int frames : TestTraces.FRAMES) {
+      long exact = Simulator.run(Policies.create("opt", trace), trace, frames).getFaults();
+      for (int shards : SHARDS) {
+        ShardedSimulation.Estimate estimate = new ShardedSimulation(shards, 4).run("opt", trace, frames);
+        long faults = estimate.getResult().getFaults();
+        String message = "opt with " + frames + " frames in " + shards + " shards";
+        assertTrue(faults >= exact, message);
+        assertTrue(faults - exact <= estimate.getErrorBound(), message);
+      } // end of for
+    } // end of for
+  } // end of method
+
+  // refusesHistoryDependentPolicies method: a policy whose boundary state cannot be rebuilt is refused
+  @Test
+  void refusesHistoryDependentPolicies() {
+    ShardedSimulation simulation = new ShardedSimulation(4, 1);
+    assertThrows(IllegalArgumentException.class, () -> simulation.run("arc", TestTraces.TEXTBOOK, 3));
+    assertThrows(IllegalArgumentException.class, () -> simulation.run("lfu", TestTraces.TEXTBOOK, 3));
+  } // end of method
+
+  // assertSameRun method: an exact estimate with the faults and evictions of the plain run
+  private static void assertSameRun(SimulationResult expected, ShardedSimulation.Estimate estimate, String message) {
+    assertTrue(estimate.isExact(), message);
+    assertEquals(0, estimate.getErrorBound(), message);
+    assertEquals(expected.getReferences(), estimate.getResult().getReferences(), message);
+    assertEquals(expected.getFaults(), estimate.getResult().getFaults(), message);
+    assertEquals(expected.getEvictions(), estimate.getResult().getEvictions(), message);
+  } // end of method
+} // end of class
@@ -0,0 +1,63 @@
+/*
+* File: DifferentialPolicyTest.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Runs ARC, 2Q, LIRS and CLOCK side by side with their plain list
+* models (see ReferenceModels) over every test workload and frame count, and
+* checks that they agree on the outcome of every single reference, hit or
+* victim, not only on the totals.
+*/
+
+package vmsim.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import vmsim.ReplacementPolicy;
+import vmsim.TestTraces;
+import vmsim.trace.ReferenceTrace;
+
+// DifferentialPolicyTest class
+class DifferentialPolicyTest {
+  private static final int LENGTH = 20000;
+
+  // matchesReferenceModel method: every reference of every workload gives the model's outcome
+  @ParameterizedTest
+  @ValueSource(strings = {"arc", "2q", "lirs", "clock"})
+  void matchesReferenceModel(String name) {
+    long seed = 1;
+    for (String workload : TestTraces.WORKLOADS) {
+      ReferenceTrace trace = TestTraces.workload(workload, LENGTH, seed++);
+      for (int frames : TestTraces.FRAMES) {
+        ReplacementPolicy policy = Policies.create(name, trace);
+        policy.reset(frames);
+        ReferenceModels.Model model = ReferenceModels.create(name, frames);
+        for (int i = 0; i < trace.size(); i++) {
+          int step = i;
+          assertEquals(model.reference(trace.get(i)), policy.reference(trace.get(i)),
+              () -> name + " on " + workload + " with " + frames + " frames, step " + step);
+        } // end of for
+      } // end of for
+    } // end of for
+  } // end of method
+
+  // matchesOnTextbookStrings method: the short strings too, where every frame count up to the pages is tried
+  @ParameterizedTest
+  @ValueSource(strings = {"arc", "2q", "lirs", "clock"})
+  void matchesOnTextbookStrings(String name) {
+    for (ReferenceTrace trace : new ReferenceTrace[] {TestTraces.TEXTBOOK, TestTraces.BELADY}) {
+      for (int size = 1; size <= trace.getMaxPage() + 1; size++) {
+        int frames = size;
+        ReplacementPolicy policy = Policies.create(name, trace);
+        policy.reset(frames);
+        ReferenceModels.Model model = ReferenceModels.create(name, frames);
+        for (int i = 0; i < trace.size(); i++) {
+          int step = i;
+          assertEquals(model.reference(trace.get(i)), policy.reference(trace.get(i)),
+              () -> name + " on " + trace + " with " + frames + " frames, step " + step);
+        } // end of for
+      } // end of for
+    } // end of for
+  } // end of method
+} // end of class
@@ -0,0 +1,305 @@
+/*
+* File: ReferenceModels.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Plain list-based models of the adaptive policies, written from the
+* papers' pseudocode with no attention to speed, for the differential tests.
+* Each list keeps pages with the most recent first; every lookup, move and
+* removal is a linear scan. A model returns the same HIT, NO_VICTIM or victim
+* page as ReplacementPolicy.reference, so the two can be compared step by
+* step. Where the papers leave a choice open, the model makes the one the
+* simulator documents in the policy's header.
+*/
+
+package vmsim.policy;
+
+import java.util.LinkedList;
+import vmsim.ReplacementPolicy;
+
+// ReferenceModels class
+final class ReferenceModels {
+  // Model interface: one reference at a time, answered like ReplacementPolicy.reference
+  interface Model {
+    int reference(int page);
+  } // end of interface
+
+  // ReferenceModels constructor: static utility, not instantiated
+  private ReferenceModels() {
+  } // end of method
+
+  // create method: returns a new model of a policy by name, for the given number of frames
+  static Model create(String name, int frames) {
+    switch (name) {
+      case "arc":
+        return new Arc(frames);
+      case "2q":
+        return new TwoQueue(frames);
+      case "lirs":
+        return new Lirs(frames);
+      case "clock":
+        return new SecondChance(frames);
+      default:
+        throw new IllegalArgumentException("No reference model of " + name);
+    } // end of switch
+  } // end of method
+
+  // Arc class: Megiddo and Modha's ARC(c), figure 4 of the paper
+  private static final class Arc implements Model {
+    private final int c;
+    private final LinkedList<Integer> t1 = new LinkedList<>();
+    private final LinkedList<Integer> t2 = new LinkedList<>();
+    private final LinkedList<Integer> b1 = new LinkedList<>();
+    private final LinkedList<Integer> b2 = new LinkedList<>();
+    private int p = 0;
+
+    // Arc constructor: c frames
+    Arc(int c) {
+      this.c = c;
+    } // end of method
+
+    // reference method: cases I to IV of the paper
+    @Override
+    public int reference(int x) {
+      // Case I: a hit in T1 or T2 moves x to the MRU end of T2
+      if (t1.remove((Integer) x) || t2.remove((Integer) x)) {
+        t2.addFirst(x);
+        return ReplacementPolicy.HIT;
+      } // end of if
+
+      // Case II: a hit in B1 favours recency
+      if (b1.contains(x)) {
+        p = Math.min(c, p + Math.max(b2.size() / b1.size(), 1));
+        b1.remove((Integer) x);
+        int victim = replace(false);
+        t2.addFirst(x);
+        return victim;
+      } // end of if
+
+      // Case III: a hit in B2 favours frequency
+      if (b2.contains(x)) {
+        p = Math.max(0, p - Math.max(b1.size() / b2.size(), 1));
+        b2.remove((Integer) x);
+        int victim = replace(true);
+        t2.addFirst(x);
+        return victim;
+      } // end of if
+
+      // Case IV: a page in none of the lists
+      int victim = ReplacementPolicy.NO_VICTIM;
+      if (t1.size() + b1.size() == c) {
+        if (t1.size() < c) {
+          b1.removeLast();
+          victim = replace(false);
+        } // end of if
+        else {
+          victim = t1.removeLast(); // T1 alone fills L1, its LRU page is dropped with no ghost
+        } // end of else
+      } // end of if
+      else if (t1.size() + t2.size() + b1.size() + b2.size() >= c) {
+        if (t1.size() + t2.size() + b1.size() + b2.size() == 2 * c) {
+          b2.removeLast();
+        } // end of if
+        victim = replace(false);
+      } // end of else if
+      t1.addFirst(x);
+      return victim;
+    } // end of method
+
+    // replace method: REPLACE(x, p), IF memory is full; returns the victim or NO_VICTIM
+    private int replace(boolean inB2) {
+      if (t1.size() + t2.size() < c) {
+        return ReplacementPolicy.NO_VICTIM;
+      } // end of if
+      if (!t1.isEmpty() && (t1.size() > p || (inB2 && t1.size() == p) || t2.isEmpty())) {
+        int victim = t1.removeLast();
+        b1.addFirst(victim);
+        return victim;
+      } // end of if
+      int victim = t2.removeLast();
+      b2.addFirst(victim);
+      return victim;
+    } // end of method
+  } // end of class
+
+  // TwoQueue class: Johnson and Shasha's full 2Q with Kin = c / 4 and Kout = c / 2
+  private static final class TwoQueue implements Model {
+    private final int c;
+    private final int kin;
+    private final int kout;
+    private final LinkedList<Integer> a1in = new LinkedList<>();
+    private final LinkedList<Integer> a1out = new LinkedList<>();
+    private final LinkedList<Integer> am = new LinkedList<>();
+
+    // TwoQueue constructor: c frames
+    TwoQueue(int c) {
+      this.c = c;
+      kin = Math.max(1, c / 4);
+      kout = Math.max(1, c / 2);
+    } // end of method
+
+    // reference method: Am is LRU, A1in is FIFO and a hit there does nothing
+    @Override
+    public int reference(int x) {
+      if (am.remove((Integer) x)) {
+        am.addFirst(x);
+        return ReplacementPolicy.HIT;
+      } // end of if
+      if (a1in.contains(x)) {
+        return ReplacementPolicy.HIT;
+      } // end of if
+
+      // x leaves A1out before reclaiming a frame, so the ghost it pushes out cannot be x itself
+      boolean remembered = a1out.remove((Integer) x);
+      int victim = ReplacementPolicy.NO_VICTIM;
+      if (a1in.size() + am.size() == c) {
+        if (a1in.size() > kin || am.isEmpty()) {
+          victim = a1in.removeLast();
+          a1out.addFirst(victim);
+          if (a1out.size() > kout) {
+            a1out.removeLast();
+          } // end of if
+        } // end of if
+        else {
+          victim = am.removeLast();
+        } // end of else
+      } // end of if
+      if (remembered) {
+        am.addFirst(x);
+      } // end of if
+      else {
+        a1in.addFirst(x);
+      } // end of else
+      return victim;
+    } // end of method
+  } // end of class
+
+  // Lirs class: Jiang and Zhang's LIRS with about 1% of memory for HIR pages and one ghost per frame
+  private static final class Lirs implements Model {
+    private final int c;
+    private final int lirLimit;
+    private final LinkedList<Integer> s = new LinkedList<>(); // the stack S, most recent first
+    private final LinkedList<Integer> q = new LinkedList<>(); // resident HIR pages, most recent first
+    private final LinkedList<Integer> lir = new LinkedList<>();
+    private final LinkedList<Integer> resident = new LinkedList<>();
+    private final LinkedList<Integer> ghosts = new LinkedList<>(); // non-resident pages on S, newest first
+
+    // Lirs constructor: c frames
+    Lirs(int c) {
+      this.c = c;
+      lirLimit = c > 1 ? c - Math.max(1, c / 100) : c;
+    } // end of method
+
+    // reference method: hits on LIR and HIR pages, then misses with or without a ghost on S
+    @Override
+    public int reference(int x) {
+      if (resident.contains(x)) {
+        if (lir.contains(x)) {
+          toTop(x);
+          prune();
+        } // end of if
+        else if (s.contains(x)) { // a reuse distance shorter than the oldest LIR page's
+          toTop(x);
+          q.remove((Integer) x);
+          promote(x);
+        } // end of else if
+        else {
+          s.addFirst(x);
+          q.remove((Integer) x);
+          q.addFirst(x);
+        } // end of else
+        return ReplacementPolicy.HIT;
+      } // end of if
+
+      boolean remembered = ghosts.remove((Integer) x);
+      int victim = ReplacementPolicy.NO_VICTIM;
+      if (resident.size() == c) {
+        victim = q.isEmpty() ? s.getLast() : q.getLast();
+        resident.remove((Integer) victim);
+        if (q.remove((Integer) victim)) {
+          if (s.contains(victim)) {
+            ghosts.addFirst(victim);
+            if (ghosts.size() > c) {
+              s.remove(ghosts.removeLast());
+            } // end of if
+          } // end of if
+        } // end of if
+        else { // only LIR pages are resident
+          s.remove((Integer) victim);
+          lir.remove((Integer) victim);
+          prune();
+        } // end of else
+      } // end of if
+      resident.add(x);
+      if (remembered && s.contains(x)) {
+        toTop(x);
+        promote(x);
+      } // end of if
+      else if (lir.size() < lirLimit) {
+        s.addFirst(x);
+        lir.add(x);
+      } // end of else if
+      else {
+        s.addFirst(x);
+        q.addFirst(x);
+      } // end of else
+      return victim;
+    } // end of method
+
+    // toTop method: moves a page on S to the top
+    private void toTop(int x) {
+      s.remove((Integer) x);
+      s.addFirst(x);
+    } // end of method
+
+    // promote method: makes a page LIR, demoting the bottom LIR page to HIR IF there are too many
+    private void promote(int x) {
+      lir.add(x);
+      if (lir.size() > lirLimit) {
+        int bottom = s.removeLast();
+        lir.remove((Integer) bottom);
+        q.addFirst(bottom);
+        prune();
+      } // end of if
+    } // end of method
+
+    // prune method: pops HIR pages off the bottom of S until an LIR page is there, forgetting ghosts
+    private void prune() {
+      while (!s.isEmpty() && !lir.contains(s.getLast())) {
+        ghosts.remove(s.removeLast());
+      } // end of while
+    } // end of method
+  } // end of class
+
+  // SecondChance class: CLOCK as the FIFO queue it is equivalent to, a referenced head going round once more
+  private static final class SecondChance implements Model {
+    private final int c;
+    private final LinkedList<Integer> queue = new LinkedList<>(); // oldest first
+    private final LinkedList<Integer> referenced = new LinkedList<>();
+
+    // SecondChance constructor: c frames
+    SecondChance(int c) {
+      this.c = c;
+    } // end of method
+
+    // reference method: every reference sets the page's bit; a fault passes over referenced pages once
+    @Override
+    public int reference(int x) {
+      if (queue.contains(x)) {
+        if (!referenced.contains(x)) {
+          referenced.add(x);
+        } // end of if
+        return ReplacementPolicy.HIT;
+      } // end of if
+      int victim = ReplacementPolicy.NO_VICTIM;
+      if (queue.size() == c) {
+        while (referenced.remove(queue.getFirst())) {
+          queue.addLast(queue.removeFirst());
+        } // end of while
+        victim = queue.removeFirst();
+      } // end of if
+      queue.addLast(x);
+      referenced.add(x);
+      return victim;
+    } // end of method
+  } // end of class
+} // end of class
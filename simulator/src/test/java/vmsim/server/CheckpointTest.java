@@ -0,0 +1,154 @@
+/*
+* File: CheckpointTest.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Writes checkpoints of a streaming simulation halfway through a
+* stream and checks that resuming one and simulating the rest gives exactly
+* the totals and rolling rates of a run that never stopped, that a fork
+* counts from the checkpoint, and that a damaged file is refused.
+*/
+
+package vmsim.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import vmsim.SimulationResult;
+import vmsim.TestTraces;
+import vmsim.policy.Policies;
+
+// CheckpointTest class
+class CheckpointTest {
+  private static final int LENGTH = 30000;
+  private static final int HALF = LENGTH / 2; // where the checkpoint is written, a batch boundary
+  private static final int BATCH = 1000;
+  private static final int FRAMES = 64;
+  private static final long WINDOW = 5000;
+
+  private final int[] pages = TestTraces.workload("workingset:pages=600,set=80,phase=4000", LENGTH, 3).toArray();
+  private final boolean[] writes = TestTraces.writes(LENGTH, 4);
+
+  @TempDir
+  Path directory;
+
+  // resumesExactly method: a run resumed from the checkpoint ends where the uninterrupted run does
+  @Test
+  void resumesExactly() throws IOException {
+    SimulationSnapshot expected;
+    try (StreamingSimulation simulation = new StreamingSimulation(policyNames(), FRAMES, WINDOW, 1)) {
+      simulate(simulation, 0, LENGTH);
+      expected = simulation.getSnapshot();
+    } // end of try
+
+    Path checkpoint = writeCheckpoint();
+    try (StreamingSimulation simulation = StreamingSimulation.resume(checkpoint, 1)) {
+      assertEquals(HALF, simulation.getSnapshot().getReferences());
+      simulate(simulation, HALF, LENGTH);
+      SimulationSnapshot actual = simulation.getSnapshot();
+      for (int p = 0; p < expected.getPolicies(); p++) {
+        assertSameTotals(expected.getResult(p), actual.getResult(p));
+        assertEquals(expected.getRollingFaultRate(p), actual.getRollingFaultRate(p), expected.getResult(p)
+            .getPolicyName());
+      } // end of for
+    } // end of try
+  } // end of method
+
+  // forksFromCheckpoint method: a fork counts only what follows the checkpoint, with any number of frames
+  @Test
+  void forksFromCheckpoint() throws IOException {
+    Path checkpoint = writeCheckpoint();
+    for (int frames : new int[] {FRAMES, FRAMES / 2, FRAMES * 2}) {
+      // The checkpoint keeps every reference before it, so warming up a fork replays the whole stream
+      SimulationSnapshot before;
+      SimulationSnapshot after;
+      try (StreamingSimulation simulation = new StreamingSimulation(policyNames(), frames, WINDOW, 1)) {
+        simulate(simulation, 0, HALF);
+        before = simulation.getSnapshot();
+        simulate(simulation, HALF, LENGTH);
+        after = simulation.getSnapshot();
+      } // end of try
+
+      try (StreamingSimulation fork = StreamingSimulation.fork(checkpoint, frames, 1)) {
+        assertEquals(HALF, fork.getForkPosition());
+        simulate(fork, HALF, LENGTH);
+        SimulationSnapshot actual = fork.getSnapshot();
+        for (int p = 0; p < actual.getPolicies(); p++) {
+          String name = actual.getResult(p).getPolicyName() + " with " + frames + " frames";
+          assertEquals(LENGTH - HALF, actual.getResult(p).getReferences(), name);
+          assertEquals(after.getResult(p).getFaults() - before.getResult(p).getFaults(),
+              actual.getResult(p).getFaults(), name);
+          assertEquals(after.getResult(p).getWriteBacks() - before.getResult(p).getWriteBacks(),
+              actual.getResult(p).getWriteBacks(), name);
+        } // end of for
+      } // end of try
+    } // end of for
+  } // end of method
+
+  // refusesDamagedCheckpoint method: a flipped byte of the state fails the checksum
+  @Test
+  void refusesDamagedCheckpoint() throws IOException {
+    Path checkpoint = writeCheckpoint();
+    byte[] bytes = Files.readAllBytes(checkpoint);
+    bytes[bytes.length / 2] ^= 1;
+    Files.write(checkpoint, bytes);
+    IOException e = assertThrows(IOException.class, () -> StreamingSimulation.resume(checkpoint, 1));
+    assertEquals(checkpoint + " is damaged: checksum mismatch", e.getMessage());
+  } // end of method
+
+  // policyNames method: every policy a stream can run, both LFU tie-breaking rules included
+  private static List<String> policyNames() {
+    List<String> names = new ArrayList<>();
+    for (String name : Policies.NAMES) {
+      if (!Policies.needsWholeTrace(name)) {
+        names.add(name);
+      } // end of if
+    } // end of for
+    names.add("lfu-oldest");
+    return names;
+  } // end of method
+
+  // writeCheckpoint method: simulates the first half with checkpoints on, returns the one written at HALF
+  private Path writeCheckpoint() {
+    Path checkpoint = directory.resolve("state-%d.vmck");
+    PrintStream messages = new PrintStream(new ByteArrayOutputStream());
+    CheckpointWriter writer = new CheckpointWriter(checkpoint.toString(), messages);
+    try (StreamingSimulation simulation = new StreamingSimulation(policyNames(), FRAMES, WINDOW, 1)) {
+      simulation.checkpointEvery(HALF, HALF, writer);
+      simulate(simulation, 0, HALF);
+    } // end of try
+    finally {
+      writer.close();
+    } // end of finally
+    return directory.resolve("state-" + HALF + ".vmck");
+  } // end of method
+
+  // simulate method: feeds the references from one position to another in batches
+  private void simulate(StreamingSimulation simulation, int from, int to) {
+    for (int start = from; start < to; start += BATCH) {
+      int end = Math.min(to, start + BATCH);
+      simulation.simulate(Arrays.copyOfRange(pages, start, end), Arrays.copyOfRange(writes, start, end),
+          end - start);
+    } // end of for
+  } // end of method
+
+  // assertSameTotals method: two results count the same references, faults, evictions and write-backs
+  private static void assertSameTotals(SimulationResult expected, SimulationResult actual) {
+    String name = expected.getPolicyName();
+    assertEquals(name, actual.getPolicyName());
+    assertEquals(expected.getReferences(), actual.getReferences(), name);
+    assertEquals(expected.getFaults(), actual.getFaults(), name);
+    assertEquals(expected.getEvictions(), actual.getEvictions(), name);
+    assertEquals(expected.getWrites(), actual.getWrites(), name);
+    assertEquals(expected.getWriteBacks(), actual.getWriteBacks(), name);
+  } // end of method
+} // end of class
@@ -0,0 +1,250 @@
+/*
+* File: TraceFormatTest.java
+* Author: John Kucera
+* Date: 10/18/2026
+* Purpose: Round-trips the same references through every trace format: text
+* (decimal, hexadecimal, r/w suffixes and comments), U32, U64 and packed
+* traces written by PackedTraceWriter, read back by MappedTraceReader as raw
+* values, as pages of a page size and as remapped page ids, including a
+* packed trace read in ranges of chunks and loaded by parallel workers.
+*/
+
+package vmsim.trace;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// TraceFormatTest class
+class TraceFormatTest {
+  private static final int LENGTH = 50000;
+  private static final int PAGE_SIZE = 4096;
+
+  private final long[] addresses = new long[LENGTH]; // 32-bit addresses, so every format can hold them
+  private final boolean[] writes = new boolean[LENGTH];
+
+  @TempDir
+  Path directory;
+
+  // TraceFormatTest constructor: seeded addresses, mostly near the previous one with some long jumps
+  TraceFormatTest() {
+    SplittableRandom random = new SplittableRandom(7);
+    long address = 0x40000000L;
+    for (int i = 0; i < LENGTH; i++) {
+      address = random.nextInt(10) == 0 ? random.nextLong(1L << 32) : Math.max(0, address
+          + random.nextInt(-4 * PAGE_SIZE, 4 * PAGE_SIZE));
+      addresses[i] = address & 0xFFFFFFFFL;
+      writes[i] = random.nextInt(3) == 0;
+    } // end of for
+  } // end of method
+
+  // textRoundTrip method: decimal and hexadecimal numbers, suffixes, commas and comments read back alike
+  @Test
+  void textRoundTrip() throws IOException {
+    StringBuilder text = new StringBuilder("# addresses of the test\n");
+    for (int i = 0; i < LENGTH; i++) {
+      text.append(i % 2 == 0 ? Long.toString(addresses[i]) : "0x" + Long.toHexString(addresses[i]));
+      text.append(writes[i] ? "w" : i % 3 == 0 ? "r" : "");
+      text.append(i % 10 == 9 ? " # ten more\n" : i % 4 == 0 ? "," : " ");
+    } // end of for
+    Path file = directory.resolve("trace.txt");
+    Files.write(file, text.toString().getBytes(StandardCharsets.US_ASCII));
+    assertReadsBack(file, TraceFormat.TEXT, true);
+  } // end of method
+
+  // u32RoundTrip method: little-endian 32-bit values, all reads
+  @Test
+  void u32RoundTrip() throws IOException {
+    ByteBuffer bytes = ByteBuffer.allocate(LENGTH * 4).order(ByteOrder.LITTLE_ENDIAN);
+    for (long address : addresses) {
+      bytes.putInt((int) address);
+    } // end of for
+    Path file = directory.resolve("trace.u32");
+    Files.write(file, bytes.array());
+    assertReadsBack(file, TraceFormat.U32, false);
+  } // end of method
+
+  // u64RoundTrip method: little-endian 64-bit values, all reads
+  @Test
+  void u64RoundTrip() throws IOException {
+    ByteBuffer bytes = ByteBuffer.allocate(LENGTH * 8).order(ByteOrder.LITTLE_ENDIAN);
+    for (long address : addresses) {
+      bytes.putLong(address);
+    } // end of for
+    Path file = directory.resolve("trace.u64");
+    Files.write(file, bytes.array());
+    assertReadsBack(file, TraceFormat.U64, false);
+  } // end of method
+
+  // packedRoundTrip method: small chunks, so the trace spans many of them, with the write flags kept
+  @Test
+  void packedRoundTrip() throws IOException {
+    Path file = writePacked(1000);
+    assertReadsBack(file, TraceFormat.PACKED, true);
+  } // end of method
+
+  // packedChunkRanges method: ranges of chunks read one after another give the whole trace, as do parallel loads
+  @Test
+  void packedChunkRanges() throws IOException {
+    Path file = writePacked(777);
+    int chunks;
+    try (MappedTraceReader reader = new MappedTraceReader(file, TraceFormat.PACKED, 1, false)) {
+      chunks = reader.getChunks();
+    } // end of try
+    assertEquals((LENGTH + 776) / 777, chunks);
+
+    long[] values = new long[LENGTH];
+    int count = 0;
+    for (int from = 0; from < chunks; from += 5) {
+      try (MappedTraceReader reader = new MappedTraceReader(file, 1, false, from, Math.min(chunks, from + 5))) {
+        count += readAll(reader, values, null, count);
+      } // end of try
+    } // end of for
+    assertEquals(LENGTH, count);
+    assertArrayEquals(addresses, values);
+
+    int[] pages = pages(PAGE_SIZE);
+    for (int threads : new int[] {1, 3, 8}) {
+      assertArrayEquals(pages, MappedTraceReader.readAll(file, PAGE_SIZE, threads).toArray());
+    } // end of for
+  } // end of method
+
+  // convertTextToPacked method: PackedTraceWriter.convert keeps every value and suffix of a text trace
+  @Test
+  void convertTextToPacked() throws IOException {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < LENGTH; i++) {
+      text.append(addresses[i]).append(writes[i] ? "w\n" : "\n");
+    } // end of for
+    Path source = directory.resolve("convert.txt");
+    Files.write(source, text.toString().getBytes(StandardCharsets.US_ASCII));
+    Path file = directory.resolve("convert.vmt");
+    try (MappedTraceReader reader = new MappedTraceReader(source, TraceFormat.TEXT, 1, false)) {
+      assertEquals(LENGTH, PackedTraceWriter.convert(reader, file));
+    } // end of try
+    assertReadsBack(file, TraceFormat.PACKED, true);
+  } // end of method
+
+  // rejectsBadText method: malformed text points at the byte it failed on
+  @Test
+  void rejectsBadText() throws IOException {
+    assertEquals("Invalid character 'q' at byte 4", readError("1 2 q"));
+    assertEquals("Invalid character '5' after r or w at byte 3", readError("12r5"));
+    assertEquals("Missing digits after 0x at byte 3", readError("7 0x"));
+    assertEquals("Number too large at byte 18", readError("99999999999999999999"));
+  } // end of method
+
+  // assertReadsBack method: raw values, pages and remapped ids of a file all match what was written
+  private void assertReadsBack(Path file, TraceFormat format, boolean keepsWrites) throws IOException {
+    boolean[] expectedWrites = keepsWrites ? writes : new boolean[LENGTH];
+
+    // Raw values and write flags, read into a buffer of an odd size so reads stop mid-number and mid-chunk
+    long[] values = new long[LENGTH];
+    boolean[] valueWrites = new boolean[LENGTH];
+    try (MappedTraceReader reader = new MappedTraceReader(file, format, 1, false)) {
+      assertEquals(LENGTH, readAll(reader, values, valueWrites, 0));
+    } // end of try
+    assertArrayEquals(addresses, values);
+    assertArrayEquals(expectedWrites, valueWrites);
+
+    // Pages of a page size
+    int[] pages = new int[LENGTH];
+    boolean[] pageWrites = new boolean[LENGTH];
+    try (MappedTraceReader reader = new MappedTraceReader(file, format, PAGE_SIZE, false)) {
+      assertEquals(LENGTH, readAll(reader, pages, pageWrites));
+    } // end of try
+    assertArrayEquals(pages(PAGE_SIZE), pages);
+    assertArrayEquals(expectedWrites, pageWrites);
+
+    // Page ids in order of first reference
+    try (MappedTraceReader reader = new MappedTraceReader(file, format, PAGE_SIZE, true)) {
+      assertEquals(LENGTH, readAll(reader, pages, pageWrites));
+      assertEquals(Arrays.stream(pages(PAGE_SIZE)).distinct().count(), reader.getDistinctPages());
+    } // end of try
+    assertArrayEquals(remapped(pages(PAGE_SIZE)), pages);
+  } // end of method
+
+  // writePacked method: writes the references with PackedTraceWriter in chunks of chunkSize
+  private Path writePacked(int chunkSize) throws IOException {
+    Path file = directory.resolve("trace-" + chunkSize + ".vmt");
+    try (PackedTraceWriter writer = new PackedTraceWriter(file, chunkSize)) {
+      for (int i = 0; i < LENGTH; i++) {
+        writer.write(addresses[i], writes[i]);
+      } // end of for
+      assertEquals(LENGTH, writer.getReferences());
+    } // end of try
+    return file;
+  } // end of method
+
+  // readError method: the message of the exception reading a text trace throws
+  private String readError(String text) throws IOException {
+    Path file = directory.resolve("bad.txt");
+    Files.write(file, text.getBytes(StandardCharsets.US_ASCII));
+    try (MappedTraceReader reader = new MappedTraceReader(file, TraceFormat.TEXT, 1, false)) {
+      return assertThrows(IOException.class, () -> reader.read(new int[16])).getMessage();
+    } // end of try
+  } // end of method
+
+  // pages method: the expected page of every address
+  private int[] pages(long pageSize) {
+    int[] pages = new int[LENGTH];
+    for (int i = 0; i < LENGTH; i++) {
+      pages[i] = (int) (addresses[i] / pageSize);
+    } // end of for
+    return pages;
+  } // end of method
+
+  // remapped method: pages renumbered 0, 1, 2, ... in order of first reference
+  private static int[] remapped(int[] pages) {
+    Map<Integer, Integer> ids = new HashMap<>();
+    int[] remapped = new int[pages.length];
+    for (int i = 0; i < pages.length; i++) {
+      remapped[i] = ids.computeIfAbsent(pages[i], page -> ids.size());
+    } // end of for
+    return remapped;
+  } // end of method
+
+  // readAll method: reads raw values from position on, 97 at a time, returns how many
+  private static int readAll(MappedTraceReader reader, long[] values, boolean[] valueWrites, int position)
+      throws IOException {
+    long[] buffer = new long[97];
+    boolean[] bufferWrites = new boolean[97];
+    int total = 0;
+    int count;
+    while ((count = reader.read(buffer, bufferWrites)) > 0) {
+      System.arraycopy(buffer, 0, values, position + total, count);
+      if (valueWrites != null) {
+        System.arraycopy(bufferWrites, 0, valueWrites, position + total, count);
+      } // end of if
+      total += count;
+    } // end of while
+    return total;
+  } // end of method
+
+  // readAll method: reads pages and write flags, 97 at a time, returns how many
+  private static int readAll(MappedTraceReader reader, int[] pages, boolean[] pageWrites) throws IOException {
+    int[] buffer = new int[97];
+    boolean[] bufferWrites = new boolean[97];
+    int total = 0;
+    int count;
+    while ((count = reader.read(buffer, bufferWrites)) > 0) {
+      System.arraycopy(buffer, 0, pages, total, count);
+      System.arraycopy(bufferWrites, 0, pageWrites, total, count);
+      total += count;
+    } // end of while
+    return total;
+  } // end of method
+} // end of class